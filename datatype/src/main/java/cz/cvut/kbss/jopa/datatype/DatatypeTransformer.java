@@ -32,6 +32,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -41,6 +42,18 @@ public class DatatypeTransformer {
 
     private static final Map<Pair, Function<Object, ?>> TRANSFORMERS = initTransformers();
 
+    /**
+     * Marks pairs of types between which no transformation exists.
+     */
+    private static final Function<Object, ?> UNSUPPORTED = value -> {
+        throw new UnsupportedOperationException();
+    };
+
+    /**
+     * Transformations resolved for (target type, source type) pairs.
+     */
+    private static final Map<Class<?>, Map<Class<?>, Function<Object, ?>>> PLANS = new ConcurrentHashMap<>();
+
     private DatatypeTransformer() {
         throw new AssertionError();
     }
@@ -93,38 +106,69 @@ public class DatatypeTransformer {
         if (value == null) {
             return null;
         }
+        final Function<Object, ?> plan = resolvePlan(value.getClass(), targetType);
+        if (plan == UNSUPPORTED) {
+            throw new UnsupportedTypeTransformationException(
+                    String.format("Cannot transform value %s of type %s to target type %s.", value, value.getClass(),
+                            targetType));
+        }
+        return targetType.cast(plan.apply(value));
+    }
+
+    /**
+     * Gets a function transforming values of the specified source type to the specified target type.
+     * <p>
+     * The transformation is resolved only once for each pair of types, so the returned function can be used to
+     * efficiently transform a large number of values.
+     *
+     * @param sourceType Type of the values to transform
+     * @param targetType The type to which the values should be converted
+     * @param <T>        Target type
+     * @return Transformation function, empty {@code Optional} if values of the source type cannot be transformed to
+     * the target type
+     */
+    public static <T> Optional<Function<Object, T>> getTransformer(Class<?> sourceType, Class<T> targetType) {
+        Objects.requireNonNull(sourceType);
+        Objects.requireNonNull(targetType);
+        final Function<Object, ?> plan = resolvePlan(sourceType, targetType);
+        if (plan == UNSUPPORTED) {
+            return Optional.empty();
+        }
+        return Optional.of(plan.andThen(targetType::cast));
+    }
+
+    private static Function<Object, ?> resolvePlan(Class<?> sourceType, Class<?> targetType) {
+        return PLANS.computeIfAbsent(targetType, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(sourceType, k -> createPlan(sourceType, targetType));
+    }
+
+    private static Function<Object, ?> createPlan(Class<?> sourceType, Class<?> targetType) {
         if (targetType.equals(String.class)) {
-            return targetType.cast(value instanceof LangString ? ((LangString) value).getValue() : value.toString());
+            return LangString.class.isAssignableFrom(sourceType) ? value -> ((LangString) value).getValue() :
+                   Object::toString;
         }
-        final Class<?> sourceType = value.getClass();
         if (targetType.isAssignableFrom(sourceType)) {
-            return targetType.cast(value);
+            return Function.identity();
         }
-        final Pair p = new Pair(sourceType, targetType);
-        if (TRANSFORMERS.containsKey(p)) {
-            return targetType.cast(TRANSFORMERS.get(p).apply(value));
+        final Function<Object, ?> transformer = TRANSFORMERS.get(new Pair(sourceType, targetType));
+        if (transformer != null) {
+            return transformer;
         }
-        final Optional<T> result = tryConversionUsingConstructor(value, targetType);
-        return result.orElseThrow(() -> new UnsupportedTypeTransformationException(
-                String.format("Cannot transform value %s of type %s to target type %s.", value, value.getClass(),
-                        targetType)));
+        return findConstructor(sourceType, targetType).<Function<Object, ?>>map(ctor -> value -> {
+            try {
+                return ctor.newInstance(value);
+            } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
+                throw new DatatypeMappingException("Unable to transform value using target type constructor.", e);
+            }
+        }).orElse(UNSUPPORTED);
     }
 
-    private static <T> Optional<T> tryConversionUsingConstructor(Object value, Class<T> targetType) {
-        try {
-            final Constructor<?>[] ctors = targetType.getDeclaredConstructors();
-            for (Constructor<?> c : ctors) {
-                if (c.getParameterCount() != 1) {
-                    continue;
-                }
-                if (c.getParameterTypes()[0].isAssignableFrom(value.getClass())) {
-                    return Optional.of(targetType.cast(c.newInstance(value)));
-                }
+    private static Optional<Constructor<?>> findConstructor(Class<?> sourceType, Class<?> targetType) {
+        for (Constructor<?> c : targetType.getDeclaredConstructors()) {
+            if (c.getParameterCount() == 1 && c.getParameterTypes()[0].isAssignableFrom(sourceType)) {
+                return Optional.of(c);
             }
-            return Optional.empty();
-        } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
-            throw new DatatypeMappingException("Unable to transform value using target type constructor.", e);
         }
+        return Optional.empty();
     }
-
 }
@@ -25,8 +25,11 @@ import cz.cvut.kbss.ontodriver.model.Literal;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Maps XML Schema types to Java.
@@ -44,6 +47,11 @@ public class XsdDatatypeMapper implements DatatypeMapper {
 
     private static final XsdDatatypeMapper INSTANCE = new XsdDatatypeMapper();
 
+    /**
+     * Lexical form parsers for the supported datatypes.
+     */
+    private static final Map<String, Function<String, ?>> PARSERS = initParsers();
+
     /**
      * Gets an instance of this mapper.
      * <p>
@@ -58,56 +66,59 @@ public class XsdDatatypeMapper implements DatatypeMapper {
     @Override
     public Optional<Object> map(Literal literal) {
         Objects.requireNonNull(literal);
-        final String value = literal.getLexicalForm();
+        final Function<String, ?> parser = PARSERS.get(literal.getDatatype());
+        if (parser == null) {
+            return Optional.empty();
+        }
         try {
-            switch (literal.getDatatype()) {
-                case XSD.BOOLEAN:
-                    return Optional.of(Boolean.parseBoolean(value));
-                case XSD.BYTE:
-                    return Optional.of(Byte.parseByte(value));
-                case XSD.SHORT:
-                case XSD.UNSIGNED_BYTE:
-                    return Optional.of(Short.parseShort(value));
-                case XSD.INT:
-                case XSD.UNSIGNED_SHORT:
-                    return Optional.of(Integer.parseInt(value));
-                case XSD.LONG:
-                case XSD.UNSIGNED_INT:
-                    return Optional.of(Long.parseLong(value));
-                case XSD.FLOAT:
-                    return Optional.of(toFloat(value));
-                case XSD.DOUBLE:
-                    return Optional.of(toDouble(value));
-                case XSD.STRING:
-                case XSD.NORMALIZED_STRING:
-                    return Optional.of(value);
-                case XSD.DATETIME:
-                    return Optional.of(XsdDateTimeMapper.map(value));
-                case XSD.DATE:
-                    return Optional.of(XsdDateMapper.map(value));
-                case XSD.TIME:
-                    return Optional.of(XsdTimeMapper.map(value));
-                case XSD.DURATION:
-                    return Optional.of(XsdDurationMapper.map(value));
-                case XSD.INTEGER:
-                case XSD.NON_NEGATIVE_INTEGER:
-                case XSD.NON_POSITIVE_INTEGER:
-                case XSD.NEGATIVE_INTEGER:
-                case XSD.POSITIVE_INTEGER:
-                case XSD.UNSIGNED_LONG:
-                    return Optional.of(new BigInteger(value));
-                case XSD.DECIMAL:
-                    return Optional.of(new BigDecimal(value));
-                case XSD.ANY_URI:
-                    return Optional.of(URI.create(value));
-                default:
-                    return Optional.empty();
-            }
+            return Optional.of(parser.apply(literal.getLexicalForm()));
         } catch (IllegalArgumentException e) {
             throw new DatatypeMappingException("Unable to map literal " + literal, e);
         }
     }
 
+    /**
+     * Gets a function parsing lexical forms of literals of the specified datatype.
+     * <p>
+     * This allows to resolve the mapping of a datatype once and then apply it to a large number of literals.
+     *
+     * @param datatype Datatype identifier
+     * @return Parser of lexical forms of the datatype, empty {@code Optional} if the datatype is not supported
+     * @see #map(Literal)
+     */
+    public Optional<Function<String, ?>> getParser(String datatype) {
+        return Optional.ofNullable(PARSERS.get(datatype));
+    }
+
+    private static Map<String, Function<String, ?>> initParsers() {
+        final Map<String, Function<String, ?>> map = new HashMap<>();
+        map.put(XSD.BOOLEAN, Boolean::valueOf);
+        map.put(XSD.BYTE, Byte::valueOf);
+        map.put(XSD.SHORT, Short::valueOf);
+        map.put(XSD.UNSIGNED_BYTE, Short::valueOf);
+        map.put(XSD.INT, Integer::valueOf);
+        map.put(XSD.UNSIGNED_SHORT, Integer::valueOf);
+        map.put(XSD.LONG, Long::valueOf);
+        map.put(XSD.UNSIGNED_INT, Long::valueOf);
+        map.put(XSD.FLOAT, XsdDatatypeMapper::toFloat);
+        map.put(XSD.DOUBLE, XsdDatatypeMapper::toDouble);
+        map.put(XSD.STRING, Function.identity());
+        map.put(XSD.NORMALIZED_STRING, Function.identity());
+        map.put(XSD.DATETIME, XsdDateTimeMapper::map);
+        map.put(XSD.DATE, XsdDateMapper::map);
+        map.put(XSD.TIME, XsdTimeMapper::map);
+        map.put(XSD.DURATION, XsdDurationMapper::map);
+        map.put(XSD.INTEGER, BigInteger::new);
+        map.put(XSD.NON_NEGATIVE_INTEGER, BigInteger::new);
+        map.put(XSD.NON_POSITIVE_INTEGER, BigInteger::new);
+        map.put(XSD.NEGATIVE_INTEGER, BigInteger::new);
+        map.put(XSD.POSITIVE_INTEGER, BigInteger::new);
+        map.put(XSD.UNSIGNED_LONG, BigInteger::new);
+        map.put(XSD.DECIMAL, BigDecimal::new);
+        map.put(XSD.ANY_URI, URI::create);
+        return Map.copyOf(map);
+    }
+
     private static Float toFloat(String lexicalForm) {
         if (NEGATIVE_INFINITY.equals(lexicalForm)) {
             return Float.NEGATIVE_INFINITY;
@@ -26,6 +26,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.net.InetAddress;
 import java.net.URL;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -107,4 +109,33 @@ class DatatypeTransformerTest {
         final String result = DatatypeTransformer.transform(value, String.class);
         assertEquals(value.getValue(), result);
     }
+
+    @Test
+    void getTransformerReturnsFunctionTransformingValuesOfSourceTypeToTargetType() {
+        final Optional<Function<Object, Long>> result = DatatypeTransformer.getTransformer(Integer.class, Long.class);
+        assertTrue(result.isPresent());
+        assertEquals(117L, result.get().apply(117));
+        assertEquals(42L, result.get().apply(42));
+    }
+
+    @Test
+    void getTransformerReturnsFunctionUsingTargetTypeConstructor() {
+        final Optional<Function<Object, URL>> result = DatatypeTransformer.getTransformer(String.class, URL.class);
+        assertTrue(result.isPresent());
+        final String value = "https://onto.fel.cvut.cz";
+        assertEquals(value, result.get().apply(value).toString());
+    }
+
+    @Test
+    void getTransformerReturnsEmptyOptionalWhenNoTransformationExists() {
+        assertFalse(DatatypeTransformer.getTransformer(Integer.class, URL.class).isPresent());
+    }
+
+    @Test
+    void transformThrowsUnsupportedTypeConversionRepeatedlyForUnsupportedTransformation() {
+        assertThrows(UnsupportedTypeTransformationException.class,
+                () -> DatatypeTransformer.transform(117, InetAddress.class));
+        assertThrows(UnsupportedTypeTransformationException.class,
+                () -> DatatypeTransformer.transform(118, InetAddress.class));
+    }
 }
@@ -31,6 +31,7 @@ import java.net.URI;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -89,4 +90,16 @@ class XsdDatatypeMapperTest {
         final Literal invalidValue = Literal.from("abcd", XSD.INT);
         assertThrows(DatatypeMappingException.class, () -> sut.map(invalidValue));
     }
+
+    @Test
+    void getParserReturnsParserOfLexicalFormsOfSpecifiedDatatype() {
+        final Optional<Function<String, ?>> result = sut.getParser(XSD.INT);
+        assertTrue(result.isPresent());
+        assertEquals(117, result.get().apply("117"));
+    }
+
+    @Test
+    void getParserReturnsEmptyOptionalForUnknownDatatype() {
+        assertFalse(sut.getParser(XSD.NAMESPACE + "NOTATION").isPresent());
+    }
 }
@@ -32,6 +32,8 @@ public abstract class AbstractDescriptor implements Descriptor {
 
     protected final Set<URI> contexts = new HashSet<>(4);
 
+    private final Set<URI> contextsView = Collections.unmodifiableSet(contexts);
+
     protected final boolean assertionsInSubjectContext;
 
     private String language;
@@ -39,6 +41,10 @@ public abstract class AbstractDescriptor implements Descriptor {
 
     private boolean includeInferred = true;
 
+    private boolean frozen;
+    // Cached hash code, valid only when the descriptor is frozen
+    private int hash;
+
     protected AbstractDescriptor() {
         this(true);
     }
@@ -60,7 +66,7 @@ public abstract class AbstractDescriptor implements Descriptor {
 
     @Override
     public Set<URI> getContexts() {
-        return Collections.unmodifiableSet(contexts);
+        return contextsView;
     }
 
     @Override
@@ -77,6 +83,7 @@ public abstract class AbstractDescriptor implements Descriptor {
 
     @Override
     public Descriptor addContext(URI context) {
+        ensureNotFrozen();
         if (context == null) {
             contexts.clear();
         } else {
@@ -102,6 +109,7 @@ public abstract class AbstractDescriptor implements Descriptor {
 
     @Override
     public Descriptor setLanguage(String languageTag) {
+        ensureNotFrozen();
         this.language = languageTag;
         this.hasLanguage = true;
         return this;
@@ -124,20 +132,70 @@ public abstract class AbstractDescriptor implements Descriptor {
 
     @Override
     public Descriptor disableInference() {
+        ensureNotFrozen();
         this.includeInferred = false;
         return this;
     }
 
     @Override
     public Descriptor enableInference() {
+        ensureNotFrozen();
         this.includeInferred = true;
         return this;
     }
 
     protected void setIncludeInferred(boolean includeInferred) {
+        ensureNotFrozen();
         this.includeInferred = includeInferred;
     }
 
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    public boolean supportsFreezing() {
+        return true;
+    }
+
+    @Override
+    public Descriptor freeze() {
+        if (frozen) {
+            return this;
+        }
+        final AbstractDescriptor copy = createCopy();
+        copy.contexts.addAll(contexts);
+        copy.language = language;
+        copy.hasLanguage = hasLanguage;
+        copy.includeInferred = includeInferred;
+        copy.hash = copy.computeHashCode();
+        copy.frozen = true;
+        return copy;
+    }
+
+    /**
+     * Creates a copy of this descriptor for freezing.
+     * <p>
+     * Attribute descriptors of the copy should be frozen. The state managed by this class (contexts, language, inference
+     * setting) is copied by the caller.
+     *
+     * @return New descriptor instance
+     * @see #freeze()
+     */
+    protected abstract AbstractDescriptor createCopy();
+
+    /**
+     * Ensures this descriptor can be modified.
+     *
+     * @throws UnsupportedOperationException If this descriptor is frozen
+     */
+    protected void ensureNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Descriptor " + this + " is frozen and cannot be modified.");
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -149,21 +207,39 @@ public abstract class AbstractDescriptor implements Descriptor {
 
         AbstractDescriptor that = (AbstractDescriptor) o;
 
+        if (frozen && that.frozen && hash != that.hash) {
+            return false;
+        }
         if (hasLanguage != that.hasLanguage) {
             return false;
         }
         if (assertionsInSubjectContext != that.assertionsInSubjectContext) {
             return false;
         }
+        if (includeInferred != that.includeInferred) {
+            return false;
+        }
         return Objects.equals(contexts, that.contexts) && Objects.equals(language, that.language);
     }
 
     @Override
-    public int hashCode() {
+    public final int hashCode() {
+        return frozen ? hash : computeHashCode();
+    }
+
+    /**
+     * Computes hash code of this descriptor.
+     * <p>
+     * The result is cached once the descriptor is frozen.
+     *
+     * @return Hash code
+     */
+    protected int computeHashCode() {
         int result = contexts.hashCode();
         result = 31 * result + (language != null ? language.hashCode() : 0);
         result = 31 * result + (hasLanguage ? 1 : 0);
         result = 31 * result + (assertionsInSubjectContext ? 1 : 0);
+        result = 31 * result + (includeInferred ? 1 : 0);
         return result;
     }
 
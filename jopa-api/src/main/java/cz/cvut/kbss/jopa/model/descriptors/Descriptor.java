@@ -248,4 +248,48 @@ public interface Descriptor {
      * @see #includeInferred()
      */
     Descriptor enableInference();
+
+    /**
+     * Whether this descriptor is frozen, i.e., it cannot be modified.
+     *
+     * <p>
+     * Descriptors which do not support freezing are never frozen.
+     *
+     * @return {@code true} if this descriptor is frozen, {@code false} otherwise
+     * @see #freeze()
+     */
+    default boolean isFrozen() {
+        return false;
+    }
+
+    /**
+     * Whether this descriptor, including its attribute descriptors, supports freezing.
+     *
+     * @return {@code true} if this descriptor can be frozen, {@code false} otherwise
+     * @see #freeze()
+     */
+    default boolean supportsFreezing() {
+        return false;
+    }
+
+    /**
+     * Gets a frozen copy of this descriptor.
+     * <p>
+     * A frozen descriptor, including its attribute descriptors, cannot be modified. Attempts to modify it result in an
+     * {@link UnsupportedOperationException}. Since a frozen descriptor cannot change, its hash code is computed only
+     * once and descriptors of attributes without explicitly specified descriptor are reused instead of being created on
+     * each request.
+     * <p>
+     * If this descriptor is already frozen, it is returned.
+     * <p>
+     * Freezing is supported by the descriptors provided by JOPA, as long as their attribute descriptors support it as
+     * well. The default implementation throws an {@link UnsupportedOperationException}.
+     *
+     * @return Frozen descriptor equal to this one
+     * @throws UnsupportedOperationException If this descriptor does not support freezing
+     * @see #supportsFreezing()
+     */
+    default Descriptor freeze() {
+        throw new UnsupportedOperationException("Descriptor " + this + " does not support freezing.");
+    }
 }
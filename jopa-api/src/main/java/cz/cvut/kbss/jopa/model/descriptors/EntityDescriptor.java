@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Describes an entity.
@@ -41,6 +42,9 @@ public class EntityDescriptor extends AbstractDescriptor {
 
     private final Map<Field, Descriptor> fieldDescriptors;
 
+    // Descriptors of attributes without explicitly specified descriptor, reused when this descriptor is frozen
+    private Map<Field, Descriptor> derivedDescriptors;
+
     public EntityDescriptor() {
         this.fieldDescriptors = new HashMap<>();
     }
@@ -77,6 +81,7 @@ public class EntityDescriptor extends AbstractDescriptor {
     public EntityDescriptor addAttributeDescriptor(FieldSpecification<?, ?> attribute, Descriptor descriptor) {
         Objects.requireNonNull(attribute);
         Objects.requireNonNull(descriptor);
+        ensureNotFrozen();
 
         fieldDescriptors.put(attribute.getJavaField(), descriptor);
         return this;
@@ -85,6 +90,7 @@ public class EntityDescriptor extends AbstractDescriptor {
     @Override
     public EntityDescriptor addAttributeContext(FieldSpecification<?, ?> attribute, URI context) {
         Objects.requireNonNull(attribute);
+        ensureNotFrozen();
 
         fieldDescriptors.putIfAbsent(attribute.getJavaField(),
                 createDescriptor(attribute, context != null ? Collections.singleton(context) : Collections.emptySet()));
@@ -102,6 +108,7 @@ public class EntityDescriptor extends AbstractDescriptor {
     @Override
     public EntityDescriptor setAttributeLanguage(FieldSpecification<?, ?> attribute, String languageTag) {
         Objects.requireNonNull(attribute);
+        ensureNotFrozen();
 
         fieldDescriptors.putIfAbsent(attribute.getJavaField(), createDescriptor(attribute, getContexts()));
         fieldDescriptors.get(attribute.getJavaField()).setLanguage(languageTag);
@@ -111,12 +118,21 @@ public class EntityDescriptor extends AbstractDescriptor {
     @Override
     public Descriptor getAttributeDescriptor(FieldSpecification<?, ?> attribute) {
         Objects.requireNonNull(attribute);
-        Descriptor d = fieldDescriptors.get(attribute.getJavaField());
-        if (d == null) {
-            d = createDescriptor(attribute, getContexts());
-            if (hasLanguage()) {
-                d.setLanguage(getLanguage());
-            }
+        final Descriptor d = fieldDescriptors.get(attribute.getJavaField());
+        if (d != null) {
+            return d;
+        }
+        if (isFrozen()) {
+            return derivedDescriptors.computeIfAbsent(attribute.getJavaField(),
+                    f -> createDerivedDescriptor(attribute).freeze());
+        }
+        return createDerivedDescriptor(attribute);
+    }
+
+    private Descriptor createDerivedDescriptor(FieldSpecification<?, ?> attribute) {
+        final Descriptor d = createDescriptor(attribute, getContexts());
+        if (hasLanguage()) {
+            d.setLanguage(getLanguage());
         }
         return d;
     }
@@ -156,6 +172,19 @@ public class EntityDescriptor extends AbstractDescriptor {
         return result;
     }
 
+    @Override
+    public boolean supportsFreezing() {
+        return fieldDescriptors.values().stream().allMatch(d -> d == this || d.supportsFreezing());
+    }
+
+    @Override
+    protected EntityDescriptor createCopy() {
+        final EntityDescriptor copy = new EntityDescriptor(assertionsInSubjectContext);
+        fieldDescriptors.forEach((f, d) -> copy.fieldDescriptors.put(f, d == this ? copy : d.freeze()));
+        copy.derivedDescriptors = new ConcurrentHashMap<>();
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -191,8 +220,8 @@ public class EntityDescriptor extends AbstractDescriptor {
     }
 
     @Override
-    public int hashCode() {
-        int result = super.hashCode();
+    protected int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + fieldDescriptors.entrySet().stream()
                                                .map(e -> e.getKey().hashCode() ^
                                                        (e.getValue() == this ? 0 :
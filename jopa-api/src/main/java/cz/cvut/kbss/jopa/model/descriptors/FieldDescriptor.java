@@ -37,6 +37,10 @@ public class FieldDescriptor extends AbstractDescriptor {
         this.field = Objects.requireNonNull(attribute).getJavaField();
     }
 
+    FieldDescriptor(Field field) {
+        this.field = field;
+    }
+
     public FieldDescriptor(URI context, FieldSpecification<?, ?> attribute) {
         super(context);
         this.field = Objects.requireNonNull(attribute).getJavaField();
@@ -102,9 +106,14 @@ public class FieldDescriptor extends AbstractDescriptor {
     }
 
     @Override
-    public int hashCode() {
+    protected FieldDescriptor createCopy() {
+        return new FieldDescriptor(field);
+    }
+
+    @Override
+    protected int computeHashCode() {
         final int prime = 31;
-        int result = super.hashCode();
+        int result = super.computeHashCode();
         result = prime * result + field.hashCode();
         return result;
     }
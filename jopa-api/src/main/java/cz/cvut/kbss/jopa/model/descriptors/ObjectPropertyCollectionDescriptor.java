@@ -19,6 +19,7 @@ package cz.cvut.kbss.jopa.model.descriptors;
 
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 
+import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.Objects;
 import java.util.Set;
@@ -51,6 +52,11 @@ public class ObjectPropertyCollectionDescriptor extends FieldDescriptor {
         this.elementDescriptor = new EntityDescriptor(context, assertionsInSubjectContext);
     }
 
+    private ObjectPropertyCollectionDescriptor(Field field, EntityDescriptor elementDescriptor) {
+        super(field);
+        this.elementDescriptor = elementDescriptor;
+    }
+
     @Override
     public Descriptor getAttributeDescriptor(FieldSpecification<?, ?> attribute) {
         Objects.requireNonNull(attribute);
@@ -92,9 +98,19 @@ public class ObjectPropertyCollectionDescriptor extends FieldDescriptor {
     }
 
     @Override
-    public int hashCode() {
+    public boolean supportsFreezing() {
+        return elementDescriptor.supportsFreezing();
+    }
+
+    @Override
+    protected ObjectPropertyCollectionDescriptor createCopy() {
+        return new ObjectPropertyCollectionDescriptor(getField(), (EntityDescriptor) elementDescriptor.freeze());
+    }
+
+    @Override
+    protected int computeHashCode() {
         final int prime = 31;
-        int result = super.hashCode();
+        int result = super.computeHashCode();
         result = prime * result + ((elementDescriptor == null) ? 0 : elementDescriptor.hashCode());
         return result;
     }
@@ -33,9 +33,12 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -434,4 +437,100 @@ class EntityDescriptorTest {
         attDesc.enableInference();
         assertTrue(attDesc.includeInferred());
     }
+
+    @Test
+    void descriptorsDifferingInInferenceSettingAreNotEqual() {
+        final EntityDescriptor inferred = new EntityDescriptor(CONTEXT_ONE);
+        final EntityDescriptor asserted = new EntityDescriptor(CONTEXT_ONE);
+        asserted.disableInference();
+        assertNotEquals(inferred, asserted);
+        assertNotEquals(inferred.hashCode(), asserted.hashCode());
+    }
+
+    @Test
+    void freezeReturnsEqualDescriptorWithEqualHashCode() throws Exception {
+        when(stringAtt.getJavaField()).thenReturn(TestClass.stringAttField());
+        when(stringAtt.getPersistentAttributeType()).thenReturn(Attribute.PersistentAttributeType.DATA);
+        final EntityDescriptor descriptor = new EntityDescriptor(CONTEXT_ONE);
+        descriptor.addAttributeContext(stringAtt, CONTEXT_TWO);
+        descriptor.setLanguage(LANG);
+
+        final Descriptor result = descriptor.freeze();
+        assertNotSame(descriptor, result);
+        assertTrue(result.isFrozen());
+        assertFalse(descriptor.isFrozen());
+        assertEquals(descriptor, result);
+        assertEquals(result, descriptor);
+        assertEquals(descriptor.hashCode(), result.hashCode());
+        assertTrue(result.getAttributeDescriptor(stringAtt).isFrozen());
+    }
+
+    @Test
+    void freezeReturnsSameInstanceWhenDescriptorIsAlreadyFrozen() {
+        final Descriptor frozen = new EntityDescriptor(CONTEXT_ONE).freeze();
+        assertSame(frozen, frozen.freeze());
+    }
+
+    @Test
+    void frozenDescriptorCannotBeModified() {
+        final Descriptor sut = new EntityDescriptor(CONTEXT_ONE).freeze();
+        assertThrows(UnsupportedOperationException.class, () -> sut.addContext(CONTEXT_TWO));
+        assertThrows(UnsupportedOperationException.class, () -> sut.setLanguage(LANG));
+        assertThrows(UnsupportedOperationException.class, sut::disableInference);
+        assertThrows(UnsupportedOperationException.class, () -> sut.addAttributeContext(stringAtt, CONTEXT_TWO));
+        assertEquals(Collections.singleton(CONTEXT_ONE), sut.getContexts());
+    }
+
+    @Test
+    void frozenDescriptorIsNotAffectedByChangesOfOriginalDescriptor() {
+        final EntityDescriptor descriptor = new EntityDescriptor(CONTEXT_ONE);
+        final Descriptor frozen = descriptor.freeze();
+        descriptor.addContext(CONTEXT_TWO);
+        assertEquals(Collections.singleton(CONTEXT_ONE), frozen.getContexts());
+        assertNotEquals(descriptor, frozen);
+    }
+
+    @Test
+    void getAttributeDescriptorOnFrozenDescriptorReusesDerivedAttributeDescriptor() throws Exception {
+        when(parentAtt.getJavaField()).thenReturn(RecursiveClass.class.getDeclaredField("parent"));
+        when(parentAtt.getPersistentAttributeType()).thenReturn(Attribute.PersistentAttributeType.OBJECT);
+        final EntityDescriptor descriptor = new EntityDescriptor(CONTEXT_ONE);
+        descriptor.disableInference();
+        final Descriptor sut = descriptor.freeze();
+
+        final Descriptor result = sut.getAttributeDescriptor(parentAtt);
+        assertSame(result, sut.getAttributeDescriptor(parentAtt));
+        assertTrue(result.isFrozen());
+        assertFalse(result.includeInferred());
+        assertEquals(descriptor.getAttributeDescriptor(parentAtt), result);
+    }
+
+    @Test
+    void freezeSupportsDescriptorReferencingItselfAsAttributeDescriptor() throws Exception {
+        when(parentAtt.getJavaField()).thenReturn(RecursiveClass.class.getDeclaredField("parent"));
+        final EntityDescriptor descriptor = new EntityDescriptor(CONTEXT_ONE);
+        descriptor.addAttributeDescriptor(parentAtt, descriptor);
+
+        final Descriptor result = descriptor.freeze();
+        assertSame(result, result.getAttributeDescriptor(parentAtt));
+        assertEquals(descriptor, result);
+        assertEquals(descriptor.hashCode(), result.hashCode());
+    }
+
+    @Test
+    void supportsFreezingReturnsFalseWhenAttributeDescriptorDoesNotSupportFreezing() throws Exception {
+        when(stringAtt.getJavaField()).thenReturn(TestClass.stringAttField());
+        final EntityDescriptor descriptor = new EntityDescriptor(CONTEXT_ONE);
+        assertTrue(descriptor.supportsFreezing());
+        descriptor.addAttributeDescriptor(stringAtt, mock(Descriptor.class));
+        assertFalse(descriptor.supportsFreezing());
+    }
+
+    @Test
+    void supportsFreezingHandlesDescriptorReferencingItselfAsAttributeDescriptor() throws Exception {
+        when(parentAtt.getJavaField()).thenReturn(RecursiveClass.class.getDeclaredField("parent"));
+        final EntityDescriptor descriptor = new EntityDescriptor(CONTEXT_ONE);
+        descriptor.addAttributeDescriptor(parentAtt, descriptor);
+        assertTrue(descriptor.supportsFreezing());
+    }
 }
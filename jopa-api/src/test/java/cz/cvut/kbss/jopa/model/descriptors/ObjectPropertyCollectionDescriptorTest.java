@@ -26,6 +26,8 @@ import java.util.Collections;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -42,6 +44,20 @@ class ObjectPropertyCollectionDescriptorTest {
         assertEquals(Collections.singleton(context), descriptor.getAttributeContexts(fs));
     }
 
+    @Test
+    void freezeFreezesElementDescriptor() throws Exception {
+        final URI context = URI.create("http://onto.fel.cvut.cz/ontologies/jopa/test");
+        final FieldSpecification<?, ?> refFs = mock(FieldSpecification.class);
+        when(refFs.getJavaField()).thenReturn(WithReference.class.getDeclaredField("testClass"));
+        final ObjectPropertyCollectionDescriptor descriptor = new ObjectPropertyCollectionDescriptor(context, refFs);
+
+        final ObjectPropertyCollectionDescriptor result = (ObjectPropertyCollectionDescriptor) descriptor.freeze();
+        assertEquals(descriptor, result);
+        assertEquals(descriptor.hashCode(), result.hashCode());
+        assertTrue(result.getElementDescriptor().isFrozen());
+        assertThrows(UnsupportedOperationException.class, () -> result.addAttributeContext(refFs, context));
+    }
+
     @SuppressWarnings("unused")
     private static class WithReference {
 
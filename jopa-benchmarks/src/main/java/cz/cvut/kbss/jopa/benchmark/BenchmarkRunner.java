@@ -0,0 +1,53 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes their results as JSON.
+ * <p>
+ * Accepts the standard JMH command line options, e.g., a regular expression selecting the benchmarks to run or
+ * {@code -p driver=RDF4J} to restrict the drivers. Unless specified otherwise by the {@code -rf} and {@code -rff}
+ * options, results are written into {@value #DEFAULT_RESULT_FILE}.
+ */
+public class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jopa-benchmark-results.json";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        final ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmdOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        if (cmdOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackageName() + ".*");
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bootstrap of the persistence unit, i.e., creation of an entity manager factory (including metamodel
+ * building) and of the first entity manager.
+ * <p>
+ * Each measured invocation runs in a separate fork, so that it represents the application startup time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class BootstrapBenchmark {
+
+    @Param({"RDF4J", "JENA", "OWLAPI"})
+    public Driver driver;
+
+    @Benchmark
+    public boolean bootstrap() {
+        final EntityManagerFactory emf = Persistence.createEntityManagerFactory(getClass().getSimpleName(),
+                driver.createConfiguration(getClass().getSimpleName(), true));
+        try {
+            final EntityManager em = emf.createEntityManager();
+            final boolean open = em.isOpen();
+            em.close();
+            return open;
+        } finally {
+            emf.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.utils.ChangeTrackingMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures transaction commit including change calculation for the specified number of dirty entities.
+ * <p>
+ * The entities are loaded into the persistence context before each invocation, only their modification and the commit
+ * are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommitBenchmark extends PersistenceState {
+
+    @Param({"1", "100", "1000"})
+    public int dirtyEntities;
+
+    @Param({"IMMEDIATE", "ON_COMMIT"})
+    public ChangeTrackingMode changeTracking;
+
+    private List<URI> identifiers;
+
+    private EntityManager em;
+    private List<OWLClassA> loaded;
+    private int version;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        open(false, Map.of(JOPAPersistenceProperties.CHANGE_TRACKING_MODE, changeTracking.name()));
+        final List<OWLClassA> instances = generateInstances(dirtyEntities);
+        persistAll(instances);
+        this.identifiers = identifiers(instances);
+    }
+
+    @Setup(Level.Invocation)
+    public void loadEntities() {
+        this.em = emf.createEntityManager();
+        em.getTransaction().begin();
+        this.loaded = identifiers.stream().map(id -> em.find(OWLClassA.class, id)).toList();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeEntityManager() {
+        em.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        close();
+    }
+
+    @Benchmark
+    public void commitDirtyEntities() {
+        version++;
+        loaded.forEach(a -> a.setStringAttribute("Updated value " + version));
+        em.getTransaction().commit();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import cz.cvut.kbss.jopa.test.environment.JenaStorageConfig;
+import cz.cvut.kbss.jopa.test.environment.OwlapiStorageConfig;
+import cz.cvut.kbss.jopa.test.environment.Rdf4jMemoryStorageConfig;
+import cz.cvut.kbss.jopa.test.environment.StorageConfig;
+import cz.cvut.kbss.jopa.test.environment.TestEnvironment;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * OntoDriver implementations against which the benchmarks are run.
+ * <p>
+ * RDF4J and Jena use in-memory storage and OWLAPI keeps the ontology in memory, so that the results are not skewed by
+ * network access.
+ */
+public enum Driver {
+
+    RDF4J(Rdf4jMemoryStorageConfig::new, Map.of(
+            Rdf4jOntoDriverProperties.USE_VOLATILE_STORAGE, Boolean.TRUE.toString(),
+            Rdf4jOntoDriverProperties.USE_INFERENCE, Boolean.FALSE.toString())),
+    JENA(JenaStorageConfig::new, Map.of(
+            JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.IN_MEMORY,
+            JenaOntoDriverProperties.JENA_TREAT_DEFAULT_GRAPH_AS_UNION, Boolean.TRUE.toString())),
+    OWLAPI(OwlapiStorageConfig::new, Map.of(
+            OntoDriverProperties.REASONER_FACTORY_CLASS, "openllet.owlapi.OpenlletReasonerFactory"));
+
+    private final Supplier<StorageConfig> storageConfig;
+    private final Map<String, String> properties;
+
+    Driver(Supplier<StorageConfig> storageConfig, Map<String, String> properties) {
+        this.storageConfig = storageConfig;
+        this.properties = properties;
+    }
+
+    /**
+     * Creates persistence unit configuration for this driver.
+     *
+     * @param name         Name of the storage, used to separate storages of individual benchmarks
+     * @param cacheEnabled Whether the second level cache should be enabled
+     * @return Persistence unit properties
+     */
+    public Map<String, String> createConfiguration(String name, boolean cacheEnabled) {
+        final StorageConfig storage = storageConfig.get();
+        storage.setName(name);
+        storage.setDirectory(TestEnvironment.TEST_RESULTS_DIR);
+        final Map<String, String> config = new HashMap<>(storage.createStorageConfiguration(1));
+        config.putAll(properties);
+        config.put(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY, Boolean.TRUE.toString());
+        config.put(JOPAPersistenceProperties.LANG, TestEnvironment.PERSISTENCE_LANGUAGE);
+        config.put(JOPAPersistenceProperties.CACHE_ENABLED, Boolean.toString(cacheEnabled));
+        config.put(JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.test");
+        config.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER, JOPAPersistenceProvider.class.getName());
+        return config;
+    }
+}
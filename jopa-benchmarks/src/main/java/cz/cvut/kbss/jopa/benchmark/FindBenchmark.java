@@ -0,0 +1,105 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassD;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading of an entity by its identifier.
+ * <p>
+ * In the {@code COLD} mode, the second level cache is evicted before each invocation, so the entity has to be loaded
+ * from the repository. In the {@code WARM} mode, the entity is already present in the second level cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindBenchmark extends PersistenceState {
+
+    private static final int ENTITY_COUNT = 1000;
+
+    public enum CacheState {
+        COLD, WARM
+    }
+
+    @Param({"COLD", "WARM"})
+    public CacheState cache;
+
+    private List<URI> identifiers;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        open(true, Map.of());
+        final List<OWLClassA> instances = generateInstances(ENTITY_COUNT);
+        final List<OWLClassD> owners = new ArrayList<>(ENTITY_COUNT);
+        for (OWLClassA a : instances) {
+            final OWLClassD d = new OWLClassD(URI.create(a.getUri() + "-owner"));
+            d.setOwlClassA(a);
+            owners.add(d);
+        }
+        persistAll(instances);
+        persistAll(owners);
+        this.identifiers = owners.stream().map(OWLClassD::getUri).toList();
+        if (cache == CacheState.WARM) {
+            identifiers.forEach(this::find);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareInvocation() {
+        if (cache == CacheState.COLD) {
+            emf.getCache().evictAll();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        close();
+    }
+
+    @Benchmark
+    public OWLClassD findById() {
+        final URI id = identifiers.get(next);
+        next = (next + 1) % identifiers.size();
+        return find(id);
+    }
+
+    private OWLClassD find(URI id) {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(OWLClassD.class, id);
+        } finally {
+            em.close();
+        }
+    }
+}
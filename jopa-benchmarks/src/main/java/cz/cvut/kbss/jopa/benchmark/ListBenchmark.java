@@ -0,0 +1,117 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassC;
+import cz.cvut.kbss.jopa.test.environment.Generators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading and updating of simple and referenced lists.
+ * <p>
+ * Updates replace a single element of the list, so that the list size stays the same across invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ListBenchmark extends PersistenceState {
+
+    @Param({"10", "100", "1000"})
+    public int listSize;
+
+    private URI owner;
+    private List<URI> elements;
+    private List<URI> replacements;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        open(false, Map.of());
+        final List<OWLClassA> instances = generateInstances(listSize);
+        final List<OWLClassA> replacementInstances = generateInstances(listSize);
+        persistAll(instances);
+        persistAll(replacementInstances);
+        final OWLClassC c = new OWLClassC(Generators.generateUri());
+        c.setSimpleList(new ArrayList<>(instances));
+        c.setReferencedList(new ArrayList<>(instances));
+        inTransaction(em -> em.persist(c));
+        this.owner = c.getUri();
+        this.elements = identifiers(instances);
+        this.replacements = identifiers(replacementInstances);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        close();
+    }
+
+    @Benchmark
+    public int loadSimpleList() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(OWLClassC.class, owner).getSimpleList().size();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public int loadReferencedList() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(OWLClassC.class, owner).getReferencedList().size();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void updateSimpleList() {
+        inTransaction(em -> replaceElement(em.find(OWLClassC.class, owner).getSimpleList(), em));
+    }
+
+    @Benchmark
+    public void updateReferencedList() {
+        inTransaction(em -> replaceElement(em.find(OWLClassC.class, owner).getReferencedList(), em));
+    }
+
+    /**
+     * Alternately replaces elements with their counterparts from the replacement list and back.
+     */
+    private void replaceElement(List<OWLClassA> list, EntityManager em) {
+        final int index = next % listSize;
+        final URI current = list.get(index).getUri();
+        final URI replacement = current.equals(elements.get(index)) ? replacements.get(index) : elements.get(index);
+        list.set(index, em.getReference(OWLClassA.class, replacement));
+        next++;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassC;
+import cz.cvut.kbss.jopa.test.OWLClassD;
+import cz.cvut.kbss.jopa.test.environment.Generators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures persist and merge of entity graphs.
+ * <p>
+ * The graph consists of an instance of {@link OWLClassC} referencing {@code graphSize} instances of {@link OWLClassA}
+ * in lists, each of them referenced by an instance of {@link OWLClassD}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistMergeBenchmark extends PersistenceState {
+
+    @Param({"10", "100"})
+    public int graphSize;
+
+    private Graph persisted;
+    private int version;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        open(false, Map.of());
+        this.persisted = generateGraph();
+        inTransaction(persisted::persist);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        close();
+    }
+
+    @Benchmark
+    public OWLClassC persistGraph() {
+        final Graph graph = generateGraph();
+        inTransaction(graph::persist);
+        return graph.root;
+    }
+
+    @Benchmark
+    public OWLClassC mergeGraph() {
+        version++;
+        persisted.instances.forEach(a -> a.setStringAttribute("Merged value " + version));
+        inTransaction(persisted::merge);
+        return persisted.root;
+    }
+
+    private Graph generateGraph() {
+        final List<OWLClassA> instances = generateInstances(graphSize);
+        final OWLClassC root = new OWLClassC(Generators.generateUri());
+        root.setSimpleList(new ArrayList<>(instances));
+        root.setReferencedList(new ArrayList<>(instances));
+        final List<OWLClassD> owners = instances.stream().map(a -> {
+            final OWLClassD d = new OWLClassD(Generators.generateUri());
+            d.setOwlClassA(a);
+            return d;
+        }).toList();
+        return new Graph(root, instances, owners);
+    }
+
+    private record Graph(OWLClassC root, List<OWLClassA> instances, List<OWLClassD> owners) {
+
+        void persist(EntityManager em) {
+            instances.forEach(em::persist);
+            owners.forEach(em::persist);
+            em.persist(root);
+        }
+
+        void merge(EntityManager em) {
+            instances.forEach(em::merge);
+            owners.forEach(em::merge);
+            em.merge(root);
+        }
+    }
+}
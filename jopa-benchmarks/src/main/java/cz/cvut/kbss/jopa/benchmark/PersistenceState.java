@@ -0,0 +1,120 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.environment.Generators;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Base benchmark state providing an entity manager factory for the configured driver.
+ * <p>
+ * Subclasses are responsible for calling {@link #open(boolean, Map)} and {@link #close()} in their setup and tear down
+ * methods.
+ */
+@State(Scope.Benchmark)
+public abstract class PersistenceState {
+
+    /**
+     * Number of entities persisted in one transaction when benchmark data are generated.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"RDF4J", "JENA", "OWLAPI"})
+    public Driver driver;
+
+    protected EntityManagerFactory emf;
+
+    protected void open(boolean cacheEnabled, Map<String, String> properties) {
+        final Map<String, String> config = driver.createConfiguration(getClass().getSimpleName(), cacheEnabled);
+        config.putAll(properties);
+        this.emf = Persistence.createEntityManagerFactory(getClass().getSimpleName(), config);
+    }
+
+    protected void close() {
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    /**
+     * Executes the specified procedure in a transaction.
+     *
+     * @param procedure Procedure to execute
+     */
+    protected void inTransaction(Consumer<EntityManager> procedure) {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            procedure.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Persists the specified entities, splitting them into batches so that a single transaction does not grow too
+     * large.
+     *
+     * @param entities Entities to persist
+     */
+    protected void persistAll(Collection<?> entities) {
+        final List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        for (Object e : entities) {
+            batch.add(e);
+            if (batch.size() == BATCH_SIZE) {
+                inTransaction(em -> batch.forEach(em::persist));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            inTransaction(em -> batch.forEach(em::persist));
+        }
+    }
+
+    /**
+     * Generates the specified number of instances of {@link OWLClassA}.
+     *
+     * @param count Number of instances to generate
+     * @return List of new instances
+     */
+    protected static List<OWLClassA> generateInstances(int count) {
+        final List<OWLClassA> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new OWLClassA(Generators.generateUri(), "String value " + i));
+        }
+        return result;
+    }
+
+    protected static List<URI> identifiers(Collection<OWLClassA> instances) {
+        return instances.stream().map(OWLClassA::getUri).toList();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.Vocabulary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures execution of queries and materialization of their results for various result sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueryBenchmark extends PersistenceState {
+
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private EntityManager em;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        open(false, Map.of());
+        persistAll(generateInstances(rows));
+    }
+
+    @Setup(Level.Invocation)
+    public void openEntityManager() {
+        this.em = emf.createEntityManager();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeEntityManager() {
+        em.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        close();
+    }
+
+    @Benchmark
+    public List<OWLClassA> soqlEntityQuery() {
+        return em.createQuery("SELECT a FROM OWLClassA a", OWLClassA.class).getResultList();
+    }
+
+    @Benchmark
+    public List<OWLClassA> sparqlEntityQuery() {
+        return em.createNativeQuery("SELECT ?x WHERE { ?x a ?type . }", OWLClassA.class)
+                 .setParameter("type", URI.create(Vocabulary.C_OWL_CLASS_A))
+                 .getResultList();
+    }
+
+    @Benchmark
+    public List<?> sparqlScalarQuery() {
+        return em.createNativeQuery("SELECT ?x ?value WHERE { ?x ?hasString ?value . }")
+                 .setParameter("hasString", URI.create(Vocabulary.P_A_STRING_ATTRIBUTE))
+                 .getResultList();
+    }
+}
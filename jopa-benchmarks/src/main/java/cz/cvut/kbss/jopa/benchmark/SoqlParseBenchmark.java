@@ -0,0 +1,87 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassD;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures SOQL query parsing and its translation to SPARQL.
+ * <p>
+ * Queries are only created, not executed, so the benchmark does not depend on the driver. The query plan cache
+ * capacity can be configured to compare parsing with cached query plans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SoqlParseBenchmark {
+
+    @Param({"0", "256"})
+    public int queryPlanCacheCapacity;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, String> config = Driver.RDF4J.createConfiguration(getClass().getSimpleName(), false);
+        config.put(JOPAPersistenceProperties.QUERY_PLAN_CACHE_CAPACITY, Integer.toString(queryPlanCacheCapacity));
+        this.emf = Persistence.createEntityManagerFactory(getClass().getSimpleName(), config);
+        this.em = emf.createEntityManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Benchmark
+    public TypedQuery<OWLClassA> parseSimpleQuery() {
+        return em.createQuery("SELECT a FROM OWLClassA a WHERE a.stringAttribute = :value", OWLClassA.class);
+    }
+
+    @Benchmark
+    public TypedQuery<OWLClassD> parseQueryWithJoin() {
+        return em.createQuery("SELECT d FROM OWLClassD d WHERE d.owlClassA.stringAttribute = :value", OWLClassD.class);
+    }
+
+    @Benchmark
+    public TypedQuery<OWLClassA> parseQueryWithFilterAndOrdering() {
+        return em.createQuery("SELECT a FROM OWLClassA a WHERE a.stringAttribute LIKE :value " +
+                "AND NOT a.stringAttribute = :excluded ORDER BY a.stringAttribute DESC", OWLClassA.class);
+    }
+}
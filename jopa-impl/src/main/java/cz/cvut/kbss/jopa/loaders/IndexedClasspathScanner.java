@@ -0,0 +1,65 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.loaders;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Processes classes listed in a {@link PersistenceUnitClassIndex} instead of scanning the classpath.
+ */
+class IndexedClasspathScanner implements ClasspathScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedClasspathScanner.class);
+
+    private final List<Consumer<Class<?>>> listeners = new ArrayList<>();
+
+    private final ClassLoader classLoader;
+    private final List<String> classNames;
+
+    IndexedClasspathScanner(ClassLoader classLoader, List<String> classNames) {
+        this.classLoader = Objects.requireNonNull(classLoader);
+        this.classNames = Objects.requireNonNull(classNames);
+    }
+
+    @Override
+    public void addListener(Consumer<Class<?>> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void processClasses(String scanPackage) {
+        final String prefix = scanPackage.isEmpty() ? "" : scanPackage + '.';
+        classNames.stream().filter(name -> name.startsWith(prefix)).forEach(this::processClass);
+    }
+
+    private void processClass(String className) {
+        try {
+            final Class<?> cls = Class.forName(className, true, classLoader);
+            listeners.forEach(listener -> listener.accept(cls));
+        } catch (Exception | NoClassDefFoundError e) {
+            LOG.debug("Unable to load indexed class {}, got error {}: {}. Skipping the class.", className,
+                    e.getClass().getName(), e.getMessage());
+        }
+    }
+}
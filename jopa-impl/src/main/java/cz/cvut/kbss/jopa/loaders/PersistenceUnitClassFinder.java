@@ -23,9 +23,14 @@ import cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMapping;
 import cz.cvut.kbss.jopa.oom.converter.ConverterWrapper;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.utils.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -33,9 +38,14 @@ import java.util.stream.Stream;
  * Scans classpath to discover classes relevant to persistence unit building.
  * <p>
  * Only classes under the package configured via {@link JOPAPersistenceProperties#SCAN_PACKAGE} are processed.
+ * <p>
+ * If enabled via {@link JOPAPersistenceProperties#USE_BUILD_TIME_INDEX}, classes listed in a
+ * {@link PersistenceUnitClassIndex} created at build time are processed instead of scanning the classpath.
  */
 public class PersistenceUnitClassFinder {
 
+    private static final Logger LOG = LoggerFactory.getLogger(PersistenceUnitClassFinder.class);
+
     private final EntityLoader entityLoader = new EntityLoader();
     private final ResultSetMappingLoader resultSetMappingLoader = new ResultSetMappingLoader();
     private final ConverterLoader converterLoader = new ConverterLoader();
@@ -70,6 +80,12 @@ public class PersistenceUnitClassFinder {
     }
 
     private static ClasspathScanner resolveClasspathScanner(Configuration config) {
+        if (config.is(JOPAPersistenceProperties.USE_BUILD_TIME_INDEX)) {
+            final Optional<ClasspathScanner> indexed = resolveIndexedScanner();
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
         try {
             final String scannerType = config.get(JOPAPersistenceProperties.CLASSPATH_SCANNER_CLASS,
                     DefaultClasspathScanner.class.getName());
@@ -80,6 +96,21 @@ public class PersistenceUnitClassFinder {
         }
     }
 
+    private static Optional<ClasspathScanner> resolveIndexedScanner() {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            final Optional<List<String>> index = PersistenceUnitClassIndex.read(classLoader);
+            if (index.isEmpty()) {
+                LOG.warn("Use of build time index is enabled, but no persistence unit class index was found. " +
+                        "Falling back to classpath scanning.");
+            }
+            return index.map(classNames -> new IndexedClasspathScanner(classLoader, classNames));
+        } catch (IOException e) {
+            LOG.error("Unable to read persistence unit class index. Falling back to classpath scanning.", e);
+            return Optional.empty();
+        }
+    }
+
     /**
      * Gets entity classes found during classpath scanning.
      *
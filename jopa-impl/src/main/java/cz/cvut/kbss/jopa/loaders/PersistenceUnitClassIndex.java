@@ -0,0 +1,111 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.loaders;
+
+import cz.cvut.kbss.jopa.model.annotations.Converter;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMapping;
+import cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMappings;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Index of classes relevant for persistence unit building, created at build time.
+ * <p>
+ * The index lists fully qualified names of classes which would otherwise be discovered by classpath scanning, one per
+ * line. It allows to skip scanning of the classpath when the persistence unit is started.
+ *
+ * @see IndexedClasspathScanner
+ */
+public final class PersistenceUnitClassIndex {
+
+    /**
+     * Classpath location of the index.
+     */
+    public static final String INDEX_FILE = "META-INF/jopa/persistence-unit-classes.idx";
+
+    private static final String COMMENT = "#";
+
+    private PersistenceUnitClassIndex() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Checks whether the specified class is relevant for persistence unit building and should thus be indexed.
+     *
+     * @param cls Class to check
+     * @return {@code true} if the class is an entity, result set mapping holder or attribute converter
+     */
+    public static boolean isIndexed(Class<?> cls) {
+        return cls.getAnnotation(OWLClass.class) != null || cls.getAnnotation(Converter.class) != null ||
+                cls.getDeclaredAnnotation(SparqlResultSetMapping.class) != null ||
+                cls.getDeclaredAnnotation(SparqlResultSetMappings.class) != null;
+    }
+
+    /**
+     * Reads class names from all indices available to the specified class loader.
+     *
+     * @param classLoader Class loader to read the index from
+     * @return List of indexed class names, empty {@code Optional} if there is no index available
+     * @throws IOException If unable to read the index
+     */
+    public static Optional<List<String>> read(ClassLoader classLoader) throws IOException {
+        final Enumeration<URL> resources = classLoader.getResources(INDEX_FILE);
+        if (!resources.hasMoreElements()) {
+            return Optional.empty();
+        }
+        final Set<String> classNames = new LinkedHashSet<>();
+        while (resources.hasMoreElements()) {
+            try (final BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                reader.lines().map(String::trim).filter(line -> !line.isEmpty() && !line.startsWith(COMMENT))
+                      .forEach(classNames::add);
+            }
+        }
+        return Optional.of(new ArrayList<>(classNames));
+    }
+
+    /**
+     * Writes the specified class names into an index in the specified output directory.
+     *
+     * @param classNames      Fully qualified names of classes to index
+     * @param outputDirectory Directory into which the index should be written (e.g., the root of compiled classes)
+     * @throws IOException If unable to write the index
+     */
+    public static void write(Collection<String> classNames, File outputDirectory) throws IOException {
+        final File target = new File(outputDirectory, INDEX_FILE);
+        Files.createDirectories(target.getParentFile().toPath());
+        final List<String> lines = new ArrayList<>(classNames.size() + 1);
+        lines.add(COMMENT + " Classes relevant for JOPA persistence unit building, generated at build time");
+        lines.addAll(classNames);
+        Files.write(target.toPath(), lines, StandardCharsets.UTF_8);
+    }
+}
@@ -26,6 +26,7 @@ import cz.cvut.kbss.jopa.query.QueryHolder;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.utils.Procedure;
 import cz.cvut.kbss.jopa.utils.ThrowingConsumer;
+import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -55,6 +56,13 @@ abstract class AbstractQuery implements Query {
     private final Map<String, Object> hints = new HashMap<>();
     private final ConnectionWrapper connection;
 
+    // Prepared statement reused by subsequent executions of the same query string. The connection lives as long as
+    // the persistence context the query belongs to, so the statement does not need to be closed explicitly
+    private PreparedStatement preparedStatement;
+    private String preparedQuery;
+    // Whether the prepared statement is used by an open result stream
+    private boolean preparedStatementInUse;
+
     private Procedure rollbackOnlyMarker;
     private Procedure ensureOpenProcedure = () -> {
     };
@@ -131,6 +139,75 @@ abstract class AbstractQuery implements Query {
         return stmt;
     }
 
+    /**
+     * Creates a statement for evaluating the specified query.
+     * <p>
+     * If there are any parameter bindings, a prepared statement with the bindings set is returned, so that the driver
+     * receives the same query string regardless of the parameter values. The prepared statement is reused by
+     * subsequent executions of the same query string, unless it is still used by an open result stream.
+     * <p>
+     * The returned statement has to be released via {@link #releaseStatement(Statement, ResultSet)}.
+     */
+    private Statement initQueryStatement(String sparql, Map<String, Object> bindings) throws OntoDriverException {
+        if (bindings.isEmpty()) {
+            return initQueryStatement();
+        }
+        final PreparedStatement stmt = acquirePreparedStatement(sparql);
+        try {
+            for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+                stmt.setObject(binding.getKey(), binding.getValue());
+            }
+        } catch (OntoDriverException | RuntimeException e) {
+            releaseStatement(stmt, null);
+            throw e;
+        }
+        applyQueryHints(stmt);
+        logQuery();
+        return stmt;
+    }
+
+    private PreparedStatement acquirePreparedStatement(String sparql) throws OntoDriverException {
+        if (preparedStatementInUse) {
+            return connection.prepareStatement(sparql);
+        }
+        if (preparedStatement != null && preparedStatement.isOpen() && sparql.equals(preparedQuery)) {
+            preparedStatement.clearParameters();
+        } else {
+            if (preparedStatement != null) {
+                preparedStatement.close();
+            }
+            this.preparedStatement = connection.prepareStatement(sparql);
+            this.preparedQuery = sparql;
+        }
+        this.preparedStatementInUse = true;
+        return preparedStatement;
+    }
+
+    /**
+     * Releases the specified statement after its results have been processed.
+     * <p>
+     * The reusable prepared statement is kept open for subsequent executions, only its result set is closed. Other
+     * statements are closed together with their result set.
+     *
+     * @param stmt Statement to release
+     * @param rs   Result set of the statement, possibly {@code null}
+     */
+    private void releaseStatement(Statement stmt, ResultSet rs) throws OntoDriverException {
+        if (stmt == preparedStatement) {
+            this.preparedStatementInUse = false;
+            if (rs != null) {
+                rs.close();
+            }
+        } else {
+            stmt.close();
+        }
+    }
+
+    private static ResultSet executeQuery(Statement stmt, String sparql, Map<String, Object> bindings)
+            throws OntoDriverException {
+        return bindings.isEmpty() ? stmt.executeQuery(sparql) : ((PreparedStatement) stmt).executeQuery();
+    }
+
     public boolean hasParameter(String name) {
         return query.hasParameter(name);
     }
@@ -275,11 +352,17 @@ abstract class AbstractQuery implements Query {
      * @throws OntoDriverException When something goes wrong during query evaluation or result set processing
      */
     void executeQuery(ThrowingConsumer<ResultRow, OntoDriverException> consumer) throws OntoDriverException {
-        try (final Statement stmt = initQueryStatement()) {
-            final ResultSet rs = stmt.executeQuery(query.assembleQuery());
+        final Map<String, Object> bindings = new HashMap<>();
+        final String sparql = query.assembleQuery(bindings);
+        final Statement stmt = initQueryStatement(sparql, bindings);
+        ResultSet rs = null;
+        try {
+            rs = executeQuery(stmt, sparql, bindings);
             for (ResultRow row : rs) {
                 consumer.accept(row);
             }
+        } finally {
+            releaseStatement(stmt, rs);
         }
     }
 
@@ -288,16 +371,25 @@ abstract class AbstractQuery implements Query {
     }
 
     <R> Stream<R> executeQueryForStream(Function<ResultRow, Optional<R>> function) throws OntoDriverException {
-        final Statement stmt = initQueryStatement();
-        final ResultSet rs = stmt.executeQuery(query.assembleQuery());
-        return StreamSupport.stream(new QueryResultSpliterator<>(rs.spliterator(), function, () -> {
+        final Map<String, Object> bindings = new HashMap<>();
+        final String sparql = query.assembleQuery(bindings);
+        final Statement stmt = initQueryStatement(sparql, bindings);
+        final ResultSet rs;
+        try {
+            rs = executeQuery(stmt, sparql, bindings);
+        } catch (OntoDriverException | RuntimeException e) {
+            releaseStatement(stmt, null);
+            throw e;
+        }
+        final QueryResultSpliterator<R> spliterator = new QueryResultSpliterator<>(rs.spliterator(), function, () -> {
             try {
-                stmt.close();
+                releaseStatement(stmt, rs);
             } catch (OntoDriverException e) {
                 markTransactionForRollback();
                 throw new OWLPersistenceException(e);
             }
-        }), false);
+        });
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
     }
 
     boolean exceptionCausesRollback(RuntimeException e) {
@@ -28,6 +28,7 @@ import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaBuilder;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaQuery;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.query.criteria.CriteriaParameterFiller;
 import cz.cvut.kbss.jopa.sessions.ServerSession;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
@@ -293,7 +294,8 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
             LOG.trace("Finding instance of {} with identifier {} in context {}.", cls, identifier, descriptor);
             final URI uri = (identifier instanceof URI) ? (URI) identifier : URI.create(identifier.toString());
 
-            return getCurrentPersistenceContext().readObject(cls, uri, descriptor);
+            return isReadOnly() ? getCurrentPersistenceContext().readObjectWithoutRegistration(cls, uri, descriptor) :
+                   getCurrentPersistenceContext().readObject(cls, uri, descriptor);
         } catch (RuntimeException e) {
             markTransactionForRollback();
             throw e;
@@ -465,6 +467,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         final TypedQueryImpl<T> q = getCurrentPersistenceContext().sparqlQueryFactory().createQuery(soqlQuery, query.getResultType());
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
+        initReadOnly(q);
         parameterFiller.setValuesToRegisteredParameters(q);
 
         return q;
@@ -476,6 +479,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         final TypedQueryImpl<T> q = getCurrentPersistenceContext().sparqlQueryFactory().createQuery(query, resultClass);
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
+        initReadOnly(q);
         return q;
     }
 
@@ -495,6 +499,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
                                                                   .createNativeQuery(sparqlString, resultClass);
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
+        initReadOnly(q);
         return q;
     }
 
@@ -524,9 +529,20 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
                                                                   .createNamedQuery(name, resultClass);
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
+        initReadOnly(q);
         return q;
     }
 
+    private void initReadOnly(TypedQueryImpl<?> query) {
+        if (isReadOnly()) {
+            query.setHint(QueryHints.READ_ONLY, Boolean.TRUE);
+        }
+    }
+
+    private boolean isReadOnly() {
+        return configuration.is(JOPAPersistenceProperties.READ_ONLY);
+    }
+
     @Override
     public boolean isConsistent(URI context) {
         ensureOpen();
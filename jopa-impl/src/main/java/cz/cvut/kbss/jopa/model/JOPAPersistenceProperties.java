@@ -51,6 +51,8 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
 
     /**
      * Cached entity time to live. In seconds.
+     * <p>
+     * Used by the {@literal ttl} and {@literal concurrent} caches.
      */
     public static final String CACHE_TTL = "cz.cvut.jopa.cache.ttl";
 
@@ -60,15 +62,32 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
     public static final String CACHE_SWEEP_RATE = "cz.cvut.jopa.cache.sweepRate";
 
     /**
-     * Type of the second level cache. Currently supported are {@literal ttl} and {@literal lru}.
+     * Type of the second level cache. Currently supported are {@literal ttl}, {@literal lru} and {@literal concurrent}.
      */
     public static final String CACHE_TYPE = "cz.cvut.jopa.cache.type";
 
     /**
      * Capacity of the LRU second level cache.
+     * <p>
+     * Applies also to the {@literal concurrent} second level cache.
      */
     public static final String LRU_CACHE_CAPACITY = "cz.cvut.jopa.cache.lru.capacity";
 
+    /**
+     * Policy determining which cached instances of classes with inferred attributes are evicted from the second level
+     * cache after a transaction commit.
+     * <p>
+     * Supported values are {@literal subject} (evict instances changed or referenced by the transaction),
+     * {@literal context} (evict instances from contexts changed by the transaction) and {@literal all} (evict all
+     * such instances). Alternatively, a fully qualified name of a custom
+     * {@link cz.cvut.kbss.jopa.sessions.cache.InferredObjectEvictionPolicy} implementation can be specified.
+     * <p>
+     * Defaults to {@literal all}. The {@literal subject} and {@literal context} policies should be used only if the
+     * reasoning does not infer values from data not directly related to the changed entities (e.g., via transitive
+     * properties, property chains or rules).
+     */
+    public static final String CACHE_INFERRED_EVICTION_POLICY = "cz.cvut.jopa.cache.inferredEvictionPolicy";
+
     /**
      * Disable integrity constraints validation on entity/field load.
      */
@@ -114,6 +133,77 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String CHANGE_TRACKING_MODE = "cz.cvut.kbss.jopa.changeTrackingMode";
 
+    /**
+     * Whether the {@link cz.cvut.kbss.jopa.utils.ChangeTrackingMode#ON_COMMIT} change tracking mode should calculate
+     * changes only for attributes marked as modified.
+     * <p>
+     * When enabled, entity setters and collections of managed instances record which attributes were modified during a
+     * transaction and only these attributes are compared on commit, instead of comparing all attributes of all managed
+     * instances. This requires entity classes to be subclassed (in the same way as in the
+     * {@link cz.cvut.kbss.jopa.utils.ChangeTrackingMode#IMMEDIATE} mode) and the state of managed instances to be
+     * modified exclusively via setters or the collection/map/multilingual string values. Modifications made by writing
+     * fields directly or outside a transaction are not detected.
+     * <p>
+     * Defaults to {@code false}, in which case all managed instances are compared on commit.
+     */
+    public static final String DIRTY_TRACKING = "cz.cvut.kbss.jopa.changeTracking.dirtyTracking";
+
+    /**
+     * Maximum number of entity references loaded from the repository in a single batch request when an object graph is
+     * loaded.
+     * <p>
+     * Defaults to 100. Setting it to 0 disables batch loading of references.
+     */
+    public static final String REFERENCE_BATCH_SIZE = "cz.cvut.kbss.jopa.referenceLoading.batchSize";
+
+    /**
+     * Number of object graph levels whose entity references are loaded in batches when an entity is loaded.
+     * <p>
+     * References are resolved breadth-first, i.e., all references of one level of the object graph are loaded
+     * together. References beyond the configured depth are loaded when the traversal reaches them.
+     * <p>
+     * Defaults to 3. Setting it to 0 disables batch loading of references.
+     */
+    public static final String REFERENCE_LOADING_DEPTH = "cz.cvut.kbss.jopa.referenceLoading.depth";
+
+    /**
+     * Maximum number of parsed queries kept in the query plan cache.
+     * <p>
+     * Parsed SOQL and SPARQL queries are cached on the persistence unit level, so that repeatedly created queries do
+     * not have to be parsed again. Defaults to 256. Setting it to 0 disables the cache.
+     */
+    public static final String QUERY_PLAN_CACHE_CAPACITY = "cz.cvut.kbss.jopa.query.planCacheCapacity";
+
+    /**
+     * Whether to use the persistence unit class index and entity subclasses generated at build time by the
+     * {@literal generate-entity-classes} goal of the JOPA Maven plugin.
+     * <p>
+     * When enabled and the index is available, classpath scanning is skipped and the indexed classes are used instead.
+     * Similarly, entity subclasses and proxies generated at build time are loaded instead of being generated at
+     * runtime. When the index or a generated class is not available, JOPA falls back to the default behavior.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String USE_BUILD_TIME_INDEX = "cz.cvut.kbss.jopa.useBuildTimeIndex";
+
+    /**
+     * Whether an entity manager should load entities as read-only instances not managed by its persistence context.
+     * <p>
+     * In read-only mode, {@code find} and typed entity queries (unless overridden by the
+     * {@link cz.cvut.kbss.jopa.query.QueryHints#READ_ONLY} hint) return instances which are not cloned and whose
+     * changes are not tracked.
+     * <p>
+     * Such instances may be the very objects stored in the second level cache, so they must not be modified. Modifying
+     * a read-only instance corrupts the cached state seen by all other persistence contexts.
+     * <p>
+     * Lazily loaded attributes of read-only instances are not loaded, not even on access (there are no lazy loading
+     * proxies). They remain {@code null} (or empty), which is indistinguishable from the attribute having no value. Use
+     * a managed instance when values of lazily loaded attributes are needed.
+     * <p>
+     * Can be specified when creating an entity manager. Defaults to {@code false}.
+     */
+    public static final String READ_ONLY = "cz.cvut.kbss.jopa.readOnly";
+
     private JOPAPersistenceProperties() {
         throw new AssertionError();
     }
@@ -25,6 +25,7 @@ import cz.cvut.kbss.jopa.model.metamodel.ManagedType;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
 import cz.cvut.kbss.jopa.model.metamodel.MetamodelBuilder;
 import cz.cvut.kbss.jopa.model.metamodel.StaticMetamodelInitializer;
+import cz.cvut.kbss.jopa.model.metamodel.gen.GeneratedClassIndex;
 import cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxyGenerator;
 import cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxyGenerator;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
@@ -233,7 +234,8 @@ public class MetamodelImpl implements Metamodel, MetamodelProvider {
      */
     public <X> Class<? extends X> getLazyLoadingProxy(Class<X> cls) {
         assert isEntityType(cls);
-        return (Class<? extends X>) lazyLoadingProxyClasses.computeIfAbsent(cls, c -> new LazyLoadingEntityProxyGenerator().generate(c));
+        return (Class<? extends X>) lazyLoadingProxyClasses.computeIfAbsent(cls, c -> GeneratedClassIndex.resolve(
+                GeneratedClassIndex.Kind.LAZY_LOADING_PROXY, c, configuration, new LazyLoadingEntityProxyGenerator()));
     }
 
     /**
@@ -245,6 +247,7 @@ public class MetamodelImpl implements Metamodel, MetamodelProvider {
      */
     public <X> Class<? extends X> getEntityReferenceProxy(Class<X> cls) {
         assert isEntityType(cls);
-        return (Class<? extends X>) referenceProxyClasses.computeIfAbsent(cls, c -> new EntityReferenceProxyGenerator().generate(cls));
+        return (Class<? extends X>) referenceProxyClasses.computeIfAbsent(cls, c -> GeneratedClassIndex.resolve(
+                GeneratedClassIndex.Kind.REFERENCE_PROXY, c, configuration, new EntityReferenceProxyGenerator()));
     }
 }
@@ -95,6 +95,9 @@ public class QueryHintsHandler {
         static {
             registerHint(new DisableInferenceHint());
             registerHint(new TargetOntologyHint());
+            registerHint(new BatchFetchSizeHint());
+            registerHint(new ReadOnlyHint());
+            registerHint(new StreamWindowSizeHint());
         }
 
         Hint(String name, Object defaultValue) {
@@ -201,4 +204,78 @@ public class QueryHintsHandler {
             statement.useOntology((Statement.StatementOntology) hintValue);
         }
     }
+
+    /**
+     * Allows loading entity query results in batches.
+     *
+     * @see QueryHints#BATCH_FETCH_SIZE
+     */
+    protected static class BatchFetchSizeHint extends Hint {
+        BatchFetchSizeHint() {
+            super(QueryHints.BATCH_FETCH_SIZE, 0);
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            final int batchSize;
+            try {
+                batchSize = Integer.parseInt(hintValue.toString());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unsupported value '" + hintValue + "' of hint '" + name + "'.", e);
+            }
+            if (batchSize < 0) {
+                throw new IllegalArgumentException("Value of hint '" + name + "' must not be negative.");
+            }
+            if (query instanceof TypedQueryImpl<?> typedQuery) {
+                typedQuery.setBatchFetchSize(batchSize);
+            }
+        }
+    }
+
+    /**
+     * Allows releasing streamed entity query results from the persistence context.
+     *
+     * @see QueryHints#STREAM_WINDOW_SIZE
+     */
+    protected static class StreamWindowSizeHint extends Hint {
+        StreamWindowSizeHint() {
+            super(QueryHints.STREAM_WINDOW_SIZE, 0);
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            final int windowSize;
+            try {
+                windowSize = Integer.parseInt(hintValue.toString());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unsupported value '" + hintValue + "' of hint '" + name + "'.", e);
+            }
+            if (windowSize < 0) {
+                throw new IllegalArgumentException("Value of hint '" + name + "' must not be negative.");
+            }
+            if (query instanceof TypedQueryImpl<?> typedQuery) {
+                typedQuery.setStreamWindowSize(windowSize);
+            }
+        }
+    }
+
+    /**
+     * Allows loading entity query results as read-only instances.
+     *
+     * @see QueryHints#READ_ONLY
+     */
+    protected static class ReadOnlyHint extends Hint {
+        ReadOnlyHint() {
+            super(QueryHints.READ_ONLY, Boolean.FALSE);
+            this.valueArray =
+                    new Object[][]{{Boolean.TRUE.toString(), Boolean.TRUE}, {Boolean.FALSE.toString(), Boolean.FALSE}};
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            if (query instanceof TypedQueryImpl<?> typedQuery) {
+                typedQuery.setReadOnly(Boolean.TRUE == hintValue);
+            }
+        }
+    }
 }
@@ -32,7 +32,9 @@ import java.util.function.Function;
  * <p>
  * The main responsibilities of this spliterator are extracting result rows using the specified mapper,
  * passing the extraction result to the specified consumer and invoking the {@code onClose} handler once the iteration is finished.
- * This handler releases the underlying statement and result set.
+ * This handler releases the underlying statement and result set. It is invoked at most once, either when the iteration
+ * finishes or when the spliterator is {@link #close() closed} (e.g., when the stream is closed before being fully
+ * consumed).
  *
  * @param <X> The type of the extracted item
  */
@@ -42,6 +44,8 @@ class QueryResultSpliterator<X> extends Spliterators.AbstractSpliterator<X> {
     private final Function<ResultRow, Optional<X>> mapper;
     private final Procedure onClose;
 
+    private boolean closed;
+
     QueryResultSpliterator(Spliterator<ResultRow> resultSetSpliterator, Function<ResultRow, Optional<X>> mapper,
                            Procedure onClose) {
         super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL);
@@ -56,14 +60,17 @@ class QueryResultSpliterator<X> extends Spliterators.AbstractSpliterator<X> {
 
     @Override
     public boolean tryAdvance(Consumer<? super X> action) {
+        if (closed) {
+            return false;
+        }
         try {
             final boolean result = resultSetSpliterator.tryAdvance(row -> mapAndApply(row, action));
             if (!result) {
-                onClose.execute();
+                close();
             }
             return result;
         } catch (RuntimeException e) {
-            onClose.execute();
+            close();
             throw e;
         }
     }
@@ -73,6 +80,16 @@ class QueryResultSpliterator<X> extends Spliterators.AbstractSpliterator<X> {
         try {
             resultSetSpliterator.forEachRemaining(row -> mapAndApply(row, action));
         } finally {
+            close();
+        }
+    }
+
+    /**
+     * Releases the underlying result set, unless it has already been released.
+     */
+    void close() {
+        if (!closed) {
+            this.closed = true;
             onClose.execute();
         }
     }
@@ -0,0 +1,142 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.metamodel.Attribute;
+import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
+import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Detaches entities registered in the persistence context by a query result stream once the stream advances past a
+ * configured number of subsequent results.
+ * <p>
+ * Each result owns the instances registered while it was being loaded, i.e., the result entity (unless it was managed
+ * before) and the entities loaded together with it. When a later result references an instance owned by an earlier
+ * result, the instance is handed over to the later result, so that it is not detached while still reachable from a
+ * result in the window. Instances registered later by lazy loading are not tracked.
+ * <p>
+ * Instances are detached using {@link UnitOfWork#releaseObjects(java.util.Collection)}, so modifications of instances
+ * in the window are either preserved or rejected.
+ */
+class StreamedEntityWindow {
+
+    private final UnitOfWork uow;
+    private final int size;
+
+    private final Deque<Set<Object>> window = new ArrayDeque<>();
+    // Instances registered by the stream which have not been released yet, mapped to instances of their owner
+    private final Map<Object, Set<Object>> owners = new IdentityHashMap<>();
+
+    StreamedEntityWindow(UnitOfWork uow, int size) {
+        assert size > 0;
+        this.uow = uow;
+        this.size = size;
+    }
+
+    /**
+     * Loads the next result of the stream and releases the instances owned by the result which falls out of the window.
+     *
+     * @param cls        Result type
+     * @param identifier Result identifier
+     * @param descriptor Result descriptor
+     * @param <T>        Result type
+     * @return Loaded result, {@code null} if there is no matching entity
+     */
+    <T> T load(Class<T> cls, URI identifier, Descriptor descriptor) {
+        final Set<Object> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+        final T result = uow.readObject(cls, identifier, descriptor, registered::add);
+        registered.forEach(instance -> owners.put(instance, registered));
+        if (result != null) {
+            adoptReachable(result, registered);
+        }
+        window.addLast(registered);
+        while (window.size() > size) {
+            release(window.removeFirst());
+        }
+        return result;
+    }
+
+    private void adoptReachable(Object root, Set<Object> owner) {
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            final Object instance = toVisit.pop();
+            if (!visited.add(instance)) {
+                continue;
+            }
+            final Set<Object> currentOwner = owners.get(instance);
+            if (currentOwner == null && instance != root) {
+                // Instance managed independently of the stream, leave it and its references alone
+                continue;
+            }
+            if (currentOwner != null && currentOwner != owner) {
+                currentOwner.remove(instance);
+                owner.add(instance);
+                owners.put(instance, owner);
+            }
+            addReferences(instance, toVisit);
+        }
+    }
+
+    private void addReferences(Object instance, Deque<Object> toVisit) {
+        for (Attribute<?, ?> att : uow.getMetamodel().entity(instance.getClass()).getAttributes()) {
+            if (!att.isAssociation()) {
+                continue;
+            }
+            Object value = EntityPropertiesUtils.getAttributeValue(att, instance);
+            if (value instanceof LazyLoadingProxy<?> proxy) {
+                if (!proxy.isLoaded()) {
+                    // Do not trigger lazy loading, instances it would register are not tracked anyway
+                    continue;
+                }
+                value = proxy.getLoadedValue();
+            }
+            if (value instanceof Collection<?> col) {
+                col.forEach(item -> addIfEntity(item, toVisit));
+            } else {
+                addIfEntity(value, toVisit);
+            }
+        }
+    }
+
+    private void addIfEntity(Object value, Deque<Object> toVisit) {
+        if (value != null && uow.isEntityType(value.getClass())) {
+            toVisit.push(value);
+        }
+    }
+
+    private void release(Set<Object> instances) {
+        if (instances.isEmpty()) {
+            return;
+        }
+        uow.releaseObjects(instances);
+        instances.forEach(owners::remove);
+    }
+}
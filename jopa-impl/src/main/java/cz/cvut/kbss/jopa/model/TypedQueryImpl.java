@@ -32,19 +32,38 @@ import cz.cvut.kbss.ontodriver.iteration.ResultRow;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
 
+    /**
+     * Default size of batches in which entity query results are loaded.
+     *
+     * @see cz.cvut.kbss.jopa.query.QueryHints#BATCH_FETCH_SIZE
+     */
+    static final int DEFAULT_BATCH_FETCH_SIZE = 100;
+
     private final Class<X> resultType;
 
     private final UnitOfWork uow;
 
     private Descriptor descriptor = new EntityDescriptor();
 
+    private int batchFetchSize = DEFAULT_BATCH_FETCH_SIZE;
+
+    private boolean readOnly;
+
+    private int streamWindowSize;
+
     public TypedQueryImpl(final QueryHolder query, final Class<X> resultType,
                           final ConnectionWrapper connection, UnitOfWork uow) {
         super(query, connection);
@@ -69,13 +88,19 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
     private List<X> getResultListImpl() throws OntoDriverException {
         final boolean isEntityType = uow.isEntityType(resultType);
         final List<X> res = new ArrayList<>();
+        final List<URI> batch = new ArrayList<>();
         executeQuery(rs -> {
-            if (isEntityType) {
-                loadEntityInstance(rs, descriptor).ifPresent(res::add);
+            if (isEntityType && batchFetchSize > 0) {
+                addToBatch(rs, batch, res);
+            } else if (isEntityType) {
+                loadEntityInstance(resultIdentifier(rs)).ifPresent(res::add);
             } else {
                 loadResultValue(rs).ifPresent(res::add);
             }
         });
+        if (!batch.isEmpty()) {
+            res.addAll(readObjects(batch));
+        }
         return res;
     }
 
@@ -83,14 +108,67 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         return descriptor;
     }
 
-    private Optional<X> loadEntityInstance(ResultRow resultRow, Descriptor instanceDescriptor) {
+    /**
+     * Sets the size of batches in which entity query results are loaded.
+     *
+     * @param batchFetchSize Batch size, zero means entities are loaded one by one. Defaults to
+     *                       {@link #DEFAULT_BATCH_FETCH_SIZE}
+     * @see cz.cvut.kbss.jopa.query.QueryHints#BATCH_FETCH_SIZE
+     */
+    void setBatchFetchSize(int batchFetchSize) {
+        this.batchFetchSize = batchFetchSize;
+    }
+
+    /**
+     * Sets whether entity query results should be loaded as read-only instances not managed by the persistence
+     * context.
+     *
+     * @param readOnly Whether to load read-only results
+     * @see cz.cvut.kbss.jopa.query.QueryHints#READ_ONLY
+     */
+    void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Sets the number of most recent entity results of a result stream kept in the persistence context.
+     *
+     * @param streamWindowSize Window size, zero means streamed entities are not released from the persistence context
+     * @see cz.cvut.kbss.jopa.query.QueryHints#STREAM_WINDOW_SIZE
+     */
+    void setStreamWindowSize(int streamWindowSize) {
+        this.streamWindowSize = streamWindowSize;
+    }
+
+    private List<X> readObjects(List<URI> identifiers) {
+        return readOnly ? uow.readObjectsWithoutRegistration(resultType, identifiers, descriptor) :
+               uow.readObjects(resultType, identifiers, descriptor);
+    }
+
+    private void addToBatch(ResultRow resultRow, List<URI> batch, List<X> target) throws OntoDriverException {
+        if (uow == null) {
+            throw new IllegalStateException("Cannot load entity instance without Unit of Work.");
+        }
+        assert resultRow.isBound(0);
+        batch.add(URI.create(resultRow.getString(0)));
+        if (batch.size() >= batchFetchSize) {
+            target.addAll(readObjects(batch));
+            batch.clear();
+        }
+    }
+
+    private Optional<X> loadEntityInstance(URI uri) {
         if (uow == null) {
             throw new IllegalStateException("Cannot load entity instance without Unit of Work.");
         }
+        return Optional.ofNullable(readOnly ? uow.readObjectWithoutRegistration(resultType, uri, descriptor) :
+                                   uow.readObject(resultType, uri, descriptor));
+    }
+
+    private URI resultIdentifier(ResultRow resultRow) {
         try {
             assert resultRow.isBound(0);
-            final URI uri = URI.create(resultRow.getString(0));
-            return Optional.ofNullable(uow.readObject(resultType, uri, instanceDescriptor));
+            return URI.create(resultRow.getString(0));
         } catch (OntoDriverException e) {
             throw new OWLPersistenceException("Unable to load query result as entity of type " + resultType, e);
         }
@@ -131,13 +209,7 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
     public Stream<X> getResultStream() {
         final boolean isEntityType = uow.isEntityType(resultType);
         try {
-            return executeQueryForStream(row -> {
-                if (isEntityType) {
-                    return loadEntityInstance(row, descriptor);
-                } else {
-                    return loadResultValue(row);
-                }
-            });
+            return isEntityType ? getEntityStream() : executeQueryForStream(this::loadResultValue);
         } catch (OntoDriverException e) {
             markTransactionForRollback();
             throw queryEvaluationException(e);
@@ -149,6 +221,42 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         }
     }
 
+    /**
+     * Streams entity results.
+     * <p>
+     * Result identifiers are read from the underlying result set only as the stream advances. Entities are loaded in
+     * batches of the configured size, so that at most one batch is loaded ahead of the stream consumer, unless they
+     * are to be released from the persistence context as they fall out of the stream window.
+     */
+    private Stream<X> getEntityStream() throws OntoDriverException {
+        // Query hints are applied when the query is executed
+        final Stream<URI> identifiers = executeQueryForStream(row -> Optional.of(resultIdentifier(row)));
+        if (batchFetchSize == 0 || (!readOnly && streamWindowSize > 0)) {
+            return identifiers.map(new StreamedEntityLoader()).flatMap(Optional::stream);
+        }
+        final Iterator<URI> it = identifiers.iterator();
+        final Iterator<List<URI>> batches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public List<URI> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final List<URI> batch = new ArrayList<>(batchFetchSize);
+                while (batch.size() < batchFetchSize && it.hasNext()) {
+                    batch.add(it.next());
+                }
+                return batch;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+                            .flatMap(batch -> readObjects(batch).stream()).onClose(identifiers::close);
+    }
+
     @Override
     public TypedQuery<X> setMaxResults(int maxResults) {
         ensureOpen();
@@ -230,4 +338,27 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         this.descriptor = Objects.requireNonNull(descriptor);
         return this;
     }
+
+    /**
+     * Loads entities identified by rows of a query result stream one by one.
+     * <p>
+     * If a {@link cz.cvut.kbss.jopa.query.QueryHints#STREAM_WINDOW_SIZE} is set, entities registered in the persistence
+     * context by the stream are detached from it once they fall out of the window of the most recently loaded
+     * results.
+     */
+    private class StreamedEntityLoader implements Function<URI, Optional<X>> {
+
+        private StreamedEntityWindow window;
+
+        @Override
+        public Optional<X> apply(URI identifier) {
+            if (readOnly || streamWindowSize == 0) {
+                return loadEntityInstance(identifier);
+            }
+            if (window == null) {
+                this.window = new StreamedEntityWindow(uow, streamWindowSize);
+            }
+            return Optional.ofNullable(window.load(resultType, identifier, descriptor));
+        }
+    }
 }
@@ -19,10 +19,12 @@ package cz.cvut.kbss.jopa.model.metamodel;
 
 import cz.cvut.kbss.jopa.exception.MetamodelInitializationException;
 import cz.cvut.kbss.jopa.model.IRI;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.annotations.MappedSuperclass;
 import cz.cvut.kbss.jopa.model.annotations.Namespace;
 import cz.cvut.kbss.jopa.model.annotations.Namespaces;
 import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.metamodel.gen.GeneratedClassIndex;
 import cz.cvut.kbss.jopa.model.metamodel.gen.ManageableClassGenerator;
 import cz.cvut.kbss.jopa.utils.ChangeTrackingMode;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -123,8 +125,11 @@ public class ManagedClassProcessor {
     }
 
     private static  <T> Class<? extends T> resolveInstantiableType(Class<T> cls, Configuration config) {
-        if (ChangeTrackingMode.IMMEDIATE == ChangeTrackingMode.resolve(config)) {
-            return new ManageableClassGenerator(config).generate(cls);
+        // Setter interception is required also for dirty tracking in the on commit mode
+        if (ChangeTrackingMode.IMMEDIATE == ChangeTrackingMode.resolve(config)
+                || config.is(JOPAPersistenceProperties.DIRTY_TRACKING)) {
+            return GeneratedClassIndex.resolve(GeneratedClassIndex.Kind.MANAGEABLE_CLASS, cls, config,
+                    new ManageableClassGenerator(config));
         } else {
             return cls;
         }
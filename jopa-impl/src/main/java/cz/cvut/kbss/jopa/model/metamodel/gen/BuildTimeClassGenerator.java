@@ -0,0 +1,116 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel.gen;
+
+import cz.cvut.kbss.jopa.loaders.ClasspathScanner;
+import cz.cvut.kbss.jopa.loaders.DefaultClasspathScanner;
+import cz.cvut.kbss.jopa.loaders.PersistenceUnitClassIndex;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.util.NonEntity;
+import cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxyGenerator;
+import cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxyGenerator;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Generates the persistence unit class index and entity subclasses at build time.
+ * <p>
+ * Classes are discovered in packages configured via {@link JOPAPersistenceProperties#SCAN_PACKAGE} using the current
+ * thread's context class loader. For every concrete entity class, a manageable subclass, a lazy loading proxy and a
+ * reference proxy are generated and saved together with indices describing them, so that they can be used at runtime
+ * when {@link JOPAPersistenceProperties#USE_BUILD_TIME_INDEX} is enabled.
+ */
+public class BuildTimeClassGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BuildTimeClassGenerator.class);
+
+    private final Configuration configuration;
+
+    private final Map<GeneratedClassIndex.Kind, PersistenceContextAwareClassGenerator> generators;
+
+    public BuildTimeClassGenerator(Configuration configuration) {
+        this.configuration = Objects.requireNonNull(configuration);
+        this.generators = new EnumMap<>(GeneratedClassIndex.Kind.class);
+        generators.put(GeneratedClassIndex.Kind.MANAGEABLE_CLASS, new ManageableClassGenerator(configuration));
+        generators.put(GeneratedClassIndex.Kind.LAZY_LOADING_PROXY, new LazyLoadingEntityProxyGenerator());
+        generators.put(GeneratedClassIndex.Kind.REFERENCE_PROXY, new EntityReferenceProxyGenerator());
+    }
+
+    /**
+     * Discovers persistence unit classes and generates the index and entity subclasses into the specified directory.
+     *
+     * @param outputDirectory Directory into which the generated classes and indices should be saved (typically the
+     *                        root of compiled classes)
+     * @return Number of entity classes for which subclasses were generated
+     * @throws IOException If unable to save the generated classes or indices
+     */
+    public int generate(File outputDirectory) throws IOException {
+        Objects.requireNonNull(outputDirectory);
+        final Set<Class<?>> classes = discoverClasses();
+        PersistenceUnitClassIndex.write(classes.stream().map(Class::getName).toList(), outputDirectory);
+
+        final Map<GeneratedClassIndex.Kind, Map<String, String>> generated = new EnumMap<>(
+                GeneratedClassIndex.Kind.class);
+        int entityCount = 0;
+        for (Class<?> cls : classes) {
+            if (!isConcreteEntity(cls)) {
+                continue;
+            }
+            LOG.debug("Generating classes for entity class {}.", cls);
+            for (Map.Entry<GeneratedClassIndex.Kind, PersistenceContextAwareClassGenerator> e : generators.entrySet()) {
+                generated.computeIfAbsent(e.getKey(), k -> new TreeMap<>())
+                         .put(cls.getName(), e.getValue().generateInto(cls, outputDirectory));
+            }
+            entityCount++;
+        }
+        GeneratedClassIndex.write(generated, outputDirectory);
+        return entityCount;
+    }
+
+    private Set<Class<?>> discoverClasses() {
+        final Set<Class<?>> classes = new TreeSet<>(Comparator.comparing(Class::getName));
+        final ClasspathScanner scanner = new DefaultClasspathScanner();
+        scanner.addListener(cls -> {
+            if (PersistenceUnitClassIndex.isIndexed(cls)) {
+                classes.add(cls);
+            }
+        });
+        final String scanPackage = configuration.get(JOPAPersistenceProperties.SCAN_PACKAGE, "");
+        Stream.of(scanPackage.split(",")).map(String::trim).forEach(scanner::processClasses);
+        return classes;
+    }
+
+    private static boolean isConcreteEntity(Class<?> cls) {
+        return cls.getAnnotation(OWLClass.class) != null && cls.getAnnotation(NonEntity.class) == null &&
+                !cls.isInterface() && !Modifier.isAbstract(cls.getModifiers());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel.gen;
+
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.type.PackageDescription;
+import net.bytebuddy.description.type.TypeDescription;
+
+/**
+ * Names classes generated at build time.
+ * <p>
+ * The generated class is placed into the package of the entity class it extends and its name is derived from the
+ * binary name of the entity class, so that classes generated for different entity classes do not clash.
+ */
+public class EntityPackageNamingStrategy extends NamingStrategy.AbstractBase {
+
+    private final String prefix;
+    private final String suffix;
+
+    public EntityPackageNamingStrategy(String prefix, String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    @Override
+    protected String name(TypeDescription superClass) {
+        final PackageDescription pkg = superClass.getPackage();
+        final String packageName = pkg != null ? pkg.getName() : "";
+        final String localName = packageName.isEmpty() ? superClass.getName() :
+                                 superClass.getName().substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + prefix + localName + suffix;
+    }
+}
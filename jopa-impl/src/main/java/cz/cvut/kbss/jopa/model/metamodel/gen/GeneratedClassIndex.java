@@ -0,0 +1,176 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel.gen;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.WeakHashMap;
+
+/**
+ * Index of classes generated at build time.
+ * <p>
+ * The index maps entity classes to subclasses generated for them (manageable entity classes, lazy loading and
+ * reference proxies), so that these classes can be loaded instead of being generated when the persistence unit is
+ * started. The index is stored in {@link #INDEX_FILE} as a properties file.
+ */
+public final class GeneratedClassIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GeneratedClassIndex.class);
+
+    /**
+     * Classpath location of the index.
+     */
+    public static final String INDEX_FILE = "META-INF/jopa/generated-classes.properties";
+
+    /**
+     * Kinds of generated classes.
+     */
+    public enum Kind {
+        MANAGEABLE_CLASS, LAZY_LOADING_PROXY, REFERENCE_PROXY
+    }
+
+    private static final Map<ClassLoader, GeneratedClassIndex> INDICES = Collections.synchronizedMap(
+            new WeakHashMap<>());
+
+    private final ClassLoader classLoader;
+    private final Properties mapping;
+
+    private GeneratedClassIndex(ClassLoader classLoader, Properties mapping) {
+        this.classLoader = classLoader;
+        this.mapping = mapping;
+    }
+
+    /**
+     * Gets index of generated classes available to the specified class loader.
+     *
+     * @param classLoader Class loader to read the index from
+     * @return Generated class index, empty if there are no generated classes available
+     */
+    public static GeneratedClassIndex forClassLoader(ClassLoader classLoader) {
+        Objects.requireNonNull(classLoader);
+        return INDICES.computeIfAbsent(classLoader, GeneratedClassIndex::load);
+    }
+
+    private static GeneratedClassIndex load(ClassLoader classLoader) {
+        final Properties mapping = new Properties();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(INDEX_FILE);
+            while (resources.hasMoreElements()) {
+                final URL url = resources.nextElement();
+                LOG.trace("Reading generated class index {}.", url);
+                try (final InputStream in = url.openStream()) {
+                    mapping.load(in);
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Unable to read generated class index, classes will be generated at runtime.", e);
+            mapping.clear();
+        }
+        return new GeneratedClassIndex(classLoader, mapping);
+    }
+
+    /**
+     * Finds a class of the specified kind generated for the specified entity class.
+     *
+     * @param kind        Kind of the generated class
+     * @param entityClass Entity class
+     * @param <T>         Entity type
+     * @return Matching generated class, empty {@code Optional} if there is no such class or it cannot be loaded
+     */
+    public <T> Optional<Class<? extends T>> find(Kind kind, Class<T> entityClass) {
+        final String className = mapping.getProperty(key(kind, entityClass.getName()));
+        if (className == null) {
+            return Optional.empty();
+        }
+        try {
+            final Class<?> cls = Class.forName(className, true, classLoader);
+            if (cls.getSuperclass() != entityClass) {
+                LOG.warn("Generated class {} does not extend entity class {}, it will be ignored.", cls, entityClass);
+                return Optional.empty();
+            }
+            return Optional.of(cls.asSubclass(entityClass));
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOG.warn("Unable to load generated class {}, it will be generated at runtime.", className, e);
+            return Optional.empty();
+        }
+    }
+
+    private static String key(Kind kind, String entityClassName) {
+        return kind.name() + '.' + entityClassName;
+    }
+
+    /**
+     * Resolves class of the specified kind for the specified entity class.
+     * <p>
+     * If the use of build time index is enabled (see {@link JOPAPersistenceProperties#USE_BUILD_TIME_INDEX}) and a
+     * class generated at build time is available, it is returned. Otherwise, the class is generated using the specified
+     * generator.
+     *
+     * @param kind        Kind of the class to resolve
+     * @param entityClass Entity class
+     * @param config      Persistence unit configuration
+     * @param generator   Generator to use when no pre-generated class is available
+     * @param <T>         Entity type
+     * @return Class extending the entity class
+     */
+    public static <T> Class<? extends T> resolve(Kind kind, Class<T> entityClass, Configuration config,
+                                                 PersistenceContextAwareClassGenerator generator) {
+        if (config.is(JOPAPersistenceProperties.USE_BUILD_TIME_INDEX) && entityClass.getClassLoader() != null) {
+            final Optional<Class<? extends T>> generated = forClassLoader(entityClass.getClassLoader()).find(kind,
+                    entityClass);
+            if (generated.isPresent()) {
+                LOG.trace("Using class {} generated at build time for entity class {}.", generated.get(), entityClass);
+                return generated.get();
+            }
+        }
+        return generator.generate(entityClass);
+    }
+
+    /**
+     * Writes index of the specified generated classes into the specified output directory.
+     *
+     * @param generatedClasses Map of generated class kind to mapping of entity class names to generated class names
+     * @param outputDirectory  Directory into which the index should be written (e.g., the root of compiled classes)
+     * @throws IOException If unable to write the index
+     */
+    public static void write(Map<Kind, Map<String, String>> generatedClasses, File outputDirectory) throws IOException {
+        final Properties mapping = new Properties();
+        generatedClasses.forEach((kind, classes) -> classes.forEach(
+                (entityClass, generatedClass) -> mapping.setProperty(key(kind, entityClass), generatedClass)));
+        final File target = new File(outputDirectory, INDEX_FILE);
+        Files.createDirectories(target.getParentFile().toPath());
+        try (final OutputStream out = Files.newOutputStream(target.toPath())) {
+            mapping.store(out, "Classes generated by JOPA at build time");
+        }
+    }
+}
@@ -59,11 +59,13 @@ public class ManageableClassGenerator implements PersistenceContextAwareClassGen
 
     private static final Logger LOG = LoggerFactory.getLogger(ManageableClassGenerator.class);
 
+    private static final String CLASS_NAME_PREFIX = "JOPA_";
+
     private final ByteBuddy byteBuddy = new ByteBuddy().with(new NamingStrategy.AbstractBase() {
 
         @Override
         protected String name(TypeDescription typeDescription) {
-            return "JOPA_" + typeDescription.getSimpleName();
+            return CLASS_NAME_PREFIX + typeDescription.getSimpleName();
         }
     });
 
@@ -75,20 +77,34 @@ public class ManageableClassGenerator implements PersistenceContextAwareClassGen
     public <T> Class<? extends T> generate(Class<T> entityClass) {
         Objects.requireNonNull(entityClass);
         LOG.trace("Generating dynamic type for entity class {}.", entityClass);
-        DynamicType.Unloaded<? extends T> typeDef = byteBuddy.subclass(entityClass)
-                                                             .annotateType(entityClass.getAnnotations())
-                                                             .annotateType(new GeneratedEntityClassImpl())
-                                                             .defineField("persistenceContext", UnitOfWork.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             .implement(Manageable.class)
-                                                             .intercept(FieldAccessor.ofBeanProperty())
-                                                             .method(isSetter().and(new PersistentPropertySetterMatcher<>(entityClass)))
-                                                             .intercept(SuperMethodCall.INSTANCE.andThen(MethodDelegation.to(SetterInterceptor.class)))
-                                                             .make();
+        DynamicType.Unloaded<? extends T> typeDef = define(byteBuddy, entityClass);
         LOG.debug("Generated dynamic type {} for entity class {}.", typeDef, entityClass);
         outputGeneratedClass(typeDef);
         return typeDef.load(getClass().getClassLoader()).getLoaded();
     }
 
+    @Override
+    public String generateInto(Class<?> entityClass, File outputDirectory) throws IOException {
+        Objects.requireNonNull(entityClass);
+        final ByteBuddy bb = new ByteBuddy().with(new EntityPackageNamingStrategy(CLASS_NAME_PREFIX, ""));
+        final DynamicType.Unloaded<?> typeDef = define(bb, entityClass);
+        LOG.trace("Saving generated class '{}' to '{}'.", typeDef, outputDirectory);
+        typeDef.saveIn(outputDirectory);
+        return typeDef.getTypeDescription().getName();
+    }
+
+    private static <T> DynamicType.Unloaded<? extends T> define(ByteBuddy byteBuddy, Class<T> entityClass) {
+        return byteBuddy.subclass(entityClass)
+                        .annotateType(entityClass.getAnnotations())
+                        .annotateType(new GeneratedEntityClassImpl())
+                        .defineField("persistenceContext", UnitOfWork.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        .implement(Manageable.class)
+                        .intercept(FieldAccessor.ofBeanProperty())
+                        .method(isSetter().and(new PersistentPropertySetterMatcher<>(entityClass)))
+                        .intercept(SuperMethodCall.INSTANCE.andThen(MethodDelegation.to(SetterInterceptor.class)))
+                        .make();
+    }
+
     private <T> void outputGeneratedClass(DynamicType.Unloaded<? extends T> typeDef) {
         final String outputDir = config.get(JOPAPersistenceProperties.CLASS_GENERATOR_OUTPUT_DIR, "");
         if (!outputDir.isBlank()) {
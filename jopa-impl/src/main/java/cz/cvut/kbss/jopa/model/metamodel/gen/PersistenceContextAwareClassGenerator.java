@@ -17,6 +17,9 @@
  */
 package cz.cvut.kbss.jopa.model.metamodel.gen;
 
+import java.io.File;
+import java.io.IOException;
+
 /**
  * Generates classes corresponding to entity classes, but able to be connected to a persistence context.
  */
@@ -30,4 +33,18 @@ public interface PersistenceContextAwareClassGenerator {
      * @return Entity class subtype
      */
     <T> Class<? extends T> generate(Class<T> entityClass);
+
+    /**
+     * Generates a class extending the specified {@code entityClass} and saves it into the specified directory instead
+     * of loading it.
+     * <p>
+     * The class is generated into the package of the entity class, so that it can be loaded by the class loader of
+     * the entity class at runtime.
+     *
+     * @param entityClass     Entity class for which to generate the subclass
+     * @param outputDirectory Directory into which the generated class file should be saved
+     * @return Fully qualified name of the generated class
+     * @throws IOException If unable to save the generated class
+     */
+    String generateInto(Class<?> entityClass, File outputDirectory) throws IOException;
 }
@@ -36,14 +36,21 @@ import cz.cvut.kbss.ontodriver.Connection;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException.individualAlreadyManaged;
 
 /**
  * Root of the entity loading strategies.
@@ -59,6 +66,8 @@ abstract class EntityInstanceLoader {
 
     final LoadStateDescriptorRegistry loadStateRegistry;
 
+    private final ReferencePrefetcher referencePrefetcher;
+
     EntityInstanceLoader(EntityInstanceLoaderBuilder builder) {
         assert builder.storageConnection != null;
         assert builder.metamodel != null;
@@ -72,6 +81,7 @@ abstract class EntityInstanceLoader {
         this.descriptorFactory = builder.descriptorFactory;
         this.entityBuilder = builder.entityBuilder;
         this.loadStateRegistry = builder.loadStateRegistry;
+        this.referencePrefetcher = builder.referencePrefetcher;
     }
 
     /**
@@ -90,7 +100,7 @@ abstract class EntityInstanceLoader {
         }
         final AxiomDescriptor axiomDescriptor = descriptorFactory.createForEntityLoading(loadingParameters, et);
         try {
-            final Collection<Axiom<?>> axioms = storageConnection.find(axiomDescriptor);
+            final Collection<Axiom<?>> axioms = findAxioms(axiomDescriptor, et, descriptor);
             return axioms.isEmpty() ? null : entityBuilder.reconstructEntity(
                     new EntityConstructor.EntityConstructionParameters<>(identifier, et, descriptor, loadingParameters.isForceEager()),
                     axioms);
@@ -101,6 +111,78 @@ abstract class EntityInstanceLoader {
         }
     }
 
+    private Collection<Axiom<?>> findAxioms(AxiomDescriptor axiomDescriptor, IdentifiableEntityType<?> et,
+                                            Descriptor descriptor) throws OntoDriverException {
+        return referencePrefetcher != null ? referencePrefetcher.find(axiomDescriptor, et, descriptor) :
+               storageConnection.find(axiomDescriptor);
+    }
+
+    /**
+     * Loads instances of the specified entity type with the specified identifiers.
+     * <p>
+     * Axioms of all the instances which are not in the cache are retrieved from the storage in a single batch.
+     * References of all the retrieved instances are then prefetched together, not separately for each instance.
+     *
+     * @param et              Entity type of the instances to load
+     * @param identifiers     Identifiers of the instances to load
+     * @param descriptor      Descriptor of the loaded instances
+     * @param loadedInstances Provides instances already reconstructed during the current loading (e.g., as references
+     *                        of other instances in the batch)
+     * @return Map of identifiers to loaded instances, identifiers of instances that do not exist are not present in it
+     */
+    <T> Map<URI, T> loadInstances(IdentifiableEntityType<T> et, Collection<URI> identifiers, Descriptor descriptor,
+                                  Function<URI, Object> loadedInstances) {
+        final Map<URI, T> result = new HashMap<>(identifiers.size());
+        final List<AxiomDescriptor> toLoad = new ArrayList<>(identifiers.size());
+        for (URI identifier : identifiers) {
+            final LoadingParameters<T> loadingParameters =
+                    new LoadingParameters<>(et.getJavaType(), identifier, descriptor);
+            if (isCached(loadingParameters, et)) {
+                result.put(identifier, loadCached(et, identifier, descriptor));
+            } else {
+                toLoad.add(descriptorFactory.createForEntityLoading(loadingParameters, et));
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return result;
+        }
+        try {
+            final Map<NamedResource, Collection<Axiom<?>>> axioms = storageConnection.findAll(toLoad);
+            if (referencePrefetcher != null) {
+                final Map<AxiomDescriptor, Collection<Axiom<?>>> roots = new HashMap<>(toLoad.size());
+                toLoad.forEach(d -> roots.put(d, axioms.getOrDefault(d.getSubject(), Collections.emptyList())));
+                referencePrefetcher.prefetchReferences(et, descriptor, roots);
+            }
+            for (AxiomDescriptor axiomDescriptor : toLoad) {
+                final URI identifier = axiomDescriptor.getSubject().getIdentifier();
+                final Object existing = loadedInstances.apply(identifier);
+                if (existing != null) {
+                    if (!et.getJavaType().isInstance(existing)) {
+                        throw individualAlreadyManaged(identifier);
+                    }
+                    result.put(identifier, et.getJavaType().cast(existing));
+                    continue;
+                }
+                final Collection<Axiom<?>> instanceAxioms =
+                        axioms.getOrDefault(axiomDescriptor.getSubject(), Collections.emptyList());
+                if (instanceAxioms.isEmpty()) {
+                    continue;
+                }
+                final T instance = entityBuilder.reconstructEntity(
+                        new EntityConstructor.EntityConstructionParameters<>(identifier, et, descriptor, false),
+                        instanceAxioms);
+                if (instance != null) {
+                    result.put(identifier, instance);
+                }
+            }
+            return result;
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        } catch (cz.cvut.kbss.jopa.exception.InstantiationException e) {
+            throw new EntityReconstructionException(e);
+        }
+    }
+
     <T> boolean isCached(LoadingParameters<T> loadingParameters, EntityType<? extends T> et) {
         return !loadingParameters.shouldBypassCache() &&
                 cache.contains(et.getJavaType(), loadingParameters.getIdentifier(), loadingParameters.getDescriptor());
@@ -159,6 +241,8 @@ abstract class EntityInstanceLoader {
 
         private LoadStateDescriptorRegistry loadStateRegistry;
 
+        private ReferencePrefetcher referencePrefetcher;
+
         EntityInstanceLoaderBuilder connection(Connection connection) {
             this.storageConnection = Objects.requireNonNull(connection);
             return this;
@@ -189,6 +273,11 @@ abstract class EntityInstanceLoader {
             return this;
         }
 
+        EntityInstanceLoaderBuilder referencePrefetcher(ReferencePrefetcher referencePrefetcher) {
+            this.referencePrefetcher = referencePrefetcher;
+            return this;
+        }
+
         abstract EntityInstanceLoader build();
     }
 }
@@ -20,15 +20,18 @@ package cz.cvut.kbss.jopa.oom;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.ListAttributeImpl;
+import cz.cvut.kbss.jopa.proxy.change.ChangeTrackingIndirectList;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
 import cz.cvut.kbss.ontodriver.descriptor.ListDescriptor;
+import cz.cvut.kbss.ontodriver.descriptor.ListEdit;
 import cz.cvut.kbss.ontodriver.descriptor.ListValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 abstract class ListPropertyStrategy<L extends ListDescriptor, V extends ListValueDescriptor, X>
@@ -53,17 +56,21 @@ abstract class ListPropertyStrategy<L extends ListDescriptor, V extends ListValu
         if (list == null) {
             return;
         }
+        final Function<Object, ?> toValue = listElementToValue();
+        list.stream().filter(Objects::nonNull).forEach(item -> listDescriptor.addValue(toValue.apply(item)));
+        addListEditsToListValueDescriptor(listDescriptor, list, toValue);
+    }
+
+    private Function<Object, ?> listElementToValue() {
         final Class<?> elemType = attribute.getBindableJavaType();
         if (IdentifierTransformer.isValidIdentifierType(elemType)) {
-            list.stream().filter(Objects::nonNull)
-                .forEach(item -> listDescriptor.addValue(NamedResource.create(IdentifierTransformer.valueAsUri(item))));
+            return item -> NamedResource.create(IdentifierTransformer.valueAsUri(item));
         } else if (elemType.isEnum()) {
             assert attribute.getConverter() != null;
-            list.stream().filter(Objects::nonNull)
-                .forEach(item -> listDescriptor.addValue(attribute.getConverter().convertToAxiomValue(item)));
+            return item -> attribute.getConverter().convertToAxiomValue(item);
         } else {
             final EntityType<?> valueType = mapper.getEntityType(elemType);
-            addIndividualsToDescriptor(listDescriptor, list, valueType);
+            return item -> NamedResource.create(EntityPropertiesUtils.getIdentifier(item, valueType));
         }
     }
 
@@ -72,6 +79,31 @@ abstract class ListPropertyStrategy<L extends ListDescriptor, V extends ListValu
                 .addValue(NamedResource.create(EntityPropertiesUtils.getIdentifier(item, valueType))));
     }
 
+    /**
+     * Adds edits recorded by the list (if it records them) to the value descriptor, so that the driver can rewrite only
+     * the affected list nodes.
+     * <p>
+     * Edits are added only if the list contains no {@code null} elements, as these are not persisted and positions in
+     * the list would thus not correspond to positions in the repository.
+     *
+     * @param listDescriptor Descriptor already containing the list values
+     * @param list           The list whose edits to add
+     * @param toValue        Transforms list elements to values used by the descriptor
+     */
+    static void addListEditsToListValueDescriptor(ListValueDescriptor listDescriptor, List<?> list,
+                                                  Function<Object, ?> toValue) {
+        if (!(list instanceof ChangeTrackingIndirectList<?> trackingList) || listDescriptor.getValues()
+                                                                                          .size() != list.size()) {
+            return;
+        }
+        final List<? extends ListEdit<?>> edits = trackingList.getEdits().orElse(Collections.emptyList());
+        if (edits.stream().anyMatch(e -> e.values().contains(null))) {
+            return;
+        }
+        edits.forEach(e -> listDescriptor.addEdit(
+                new ListEdit<>(e.type(), e.index(), e.values().stream().map(toValue).collect(Collectors.toList()))));
+    }
+
     <K> List<K> resolveUnpersistedItems(List<K> list) {
         assert attribute.isAssociation();
         if (list == null || IdentifierTransformer.isValidIdentifierType(attribute.getBindableJavaType()) || attribute.getBindableJavaType()
@@ -25,6 +25,8 @@ import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 public interface ObjectOntologyMapper {
@@ -47,6 +49,19 @@ public interface ObjectOntologyMapper {
      */
     <T> T loadEntity(LoadingParameters<T> loadingParameters);
 
+    /**
+     * Loads and reconstructs entities with the specified identifiers from the ontology.
+     * <p>
+     * Axioms of the entities are retrieved from the storage in a single batch, so this method should be preferred to
+     * repeated calls of {@link #loadEntity(LoadingParameters)} when multiple entities of the same type are needed.
+     *
+     * @param cls         Entity class
+     * @param identifiers Identifiers of the entities to load
+     * @param descriptor  Descriptor of the loaded entities
+     * @return Map of identifiers to reconstructed entities. Identifiers of non-existent entities are not present in it
+     */
+    <T> Map<URI, T> loadEntities(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor);
+
     /**
      * Gets a reference to an entity corresponding to the specified parameters.
      * <p>
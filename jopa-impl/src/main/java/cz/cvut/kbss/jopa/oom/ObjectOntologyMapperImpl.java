@@ -79,6 +79,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
     private final EntityInstanceLoader defaultInstanceLoader;
     private final EntityInstanceLoader twoStepInstanceLoader;
+    private final ReferencePrefetcher referencePrefetcher;
 
     private final EntityReferenceFactory referenceFactory;
 
@@ -90,17 +91,21 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         this.pendingReferences = new PendingReferenceRegistry();
         this.entityBuilder = new EntityConstructor(this, uow.getLoadStateRegistry());
         this.entityBreaker = new EntityDeconstructor(this);
+        this.referencePrefetcher = new ReferencePrefetcher(this, storageConnection, uow.getMetamodel(),
+                descriptorFactory, uow.getConfiguration());
 
         this.defaultInstanceLoader = DefaultInstanceLoader.builder().connection(storageConnection)
                                                           .metamodel(uow.getMetamodel())
                                                           .descriptorFactory(descriptorFactory)
                                                           .entityBuilder(entityBuilder).cache(getCache())
-                                                          .loadStateRegistry(uow.getLoadStateRegistry()).build();
+                                                          .loadStateRegistry(uow.getLoadStateRegistry())
+                                                          .referencePrefetcher(referencePrefetcher).build();
         this.twoStepInstanceLoader = TwoStepInstanceLoader.builder().connection(storageConnection)
                                                           .metamodel(uow.getMetamodel())
                                                           .descriptorFactory(descriptorFactory)
                                                           .entityBuilder(entityBuilder).cache(getCache())
-                                                          .loadStateRegistry(uow.getLoadStateRegistry()).build();
+                                                          .loadStateRegistry(uow.getLoadStateRegistry())
+                                                          .referencePrefetcher(referencePrefetcher).build();
         this.referenceFactory = new EntityReferenceFactory(uow.getMetamodel(), uow);
     }
 
@@ -130,7 +135,11 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         assert loadingParameters != null;
 
         this.instanceRegistry = new HashMap<>();
-        return loadEntityInternal(loadingParameters);
+        try {
+            return loadEntityInternal(loadingParameters);
+        } finally {
+            referencePrefetcher.clear();
+        }
     }
 
     private <T> T loadEntityInternal(LoadingParameters<T> loadingParameters) {
@@ -142,13 +151,54 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
             result = defaultInstanceLoader.loadEntity(loadingParameters);
         }
         if (result != null) {
-            final LoadStateDescriptor<T> loadStateDescriptor = uow.getLoadStateRegistry().get(result);
-            assert loadStateDescriptor != null;
-            getCache().add(loadingParameters.getIdentifier(), result, new Descriptors(loadingParameters.getDescriptor(), loadStateDescriptor));
+            addToCache(loadingParameters.getIdentifier(), result, loadingParameters.getDescriptor());
         }
         return result;
     }
 
+    private <T> void addToCache(URI identifier, T instance, Descriptor descriptor) {
+        final LoadStateDescriptor<T> loadStateDescriptor = uow.getLoadStateRegistry().get(instance);
+        assert loadStateDescriptor != null;
+        getCache().add(identifier, instance, new Descriptors(descriptor, loadStateDescriptor));
+    }
+
+    @Override
+    public <T> Map<URI, T> loadEntities(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor) {
+        assert cls != null;
+        assert identifiers != null;
+        assert descriptor != null;
+
+        this.instanceRegistry = new HashMap<>();
+        try {
+            return loadEntitiesInternal(cls, identifiers, descriptor);
+        } finally {
+            referencePrefetcher.clear();
+        }
+    }
+
+    private <T> Map<URI, T> loadEntitiesInternal(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor) {
+        final IdentifiableEntityType<T> et = getEntityType(cls);
+        if (et.hasSubtypes()) {
+            // Polymorphic loading needs to resolve the actual type of each individual first, so load them one by one
+            final Map<URI, T> result = new HashMap<>(identifiers.size());
+            for (URI identifier : identifiers) {
+                final T instance = loadEntityInternal(new LoadingParameters<>(cls, identifier, descriptor));
+                if (instance != null) {
+                    result.put(identifier, instance);
+                }
+            }
+            return result;
+        }
+        final Map<URI, T> result = defaultInstanceLoader.loadInstances(et, identifiers, descriptor, instanceRegistry::get);
+        result.forEach((identifier, instance) -> {
+            // Instances taken from the cache (or cached as references of other instances) are already there
+            if (!getCache().contains(cls, identifier, descriptor)) {
+                addToCache(identifier, instance, descriptor);
+            }
+        });
+        return result;
+    }
+
     @Override
     public <T> T getReference(LoadingParameters<T> loadingParameters) {
         assert loadingParameters != null;
@@ -192,6 +242,8 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
             throw new StorageAccessException(e);
         } catch (IllegalArgumentException e) {
             throw new EntityReconstructionException(e);
+        } finally {
+            referencePrefetcher.clear();
         }
     }
 
@@ -268,6 +320,15 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         }
     }
 
+    /**
+     * Checks whether an instance with the specified identifier is already available without loading it from the
+     * storage, i.e., it is managed by the persistence context, cached or has been loaded during the current operation.
+     */
+    boolean isLoaded(Class<?> cls, URI identifier, Descriptor descriptor) {
+        return instanceRegistry.containsKey(identifier) || uow.getManagedOriginal(cls, identifier, descriptor) != null
+                || getCache().contains(cls, identifier, descriptor);
+    }
+
     @Override
     public <T> T getOriginalInstance(T clone) {
         assert clone != null;
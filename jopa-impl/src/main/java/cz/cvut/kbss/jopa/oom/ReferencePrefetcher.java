@@ -0,0 +1,256 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.model.annotations.FetchType;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.metamodel.Attribute;
+import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
+import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
+import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
+import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads axioms of entities referenced by a loaded entity in batches.
+ * <p>
+ * When axioms of an entity are loaded from the storage, identifiers of entities referenced by its eagerly loaded object
+ * property attributes are collected and axioms of all of them are retrieved in one batch request. The same is then
+ * done for the newly retrieved entities, i.e., the object graph is traversed breadth-first, level by level, up to the
+ * configured depth. The prefetched axioms are then used when the references are reconstructed, so that the entity
+ * construction does not have to query the storage for each reference separately.
+ * <p>
+ * Only references whose target type has no subtypes are prefetched, because polymorphic references require the actual
+ * type of the individual to be resolved first.
+ *
+ * @see JOPAPersistenceProperties#REFERENCE_BATCH_SIZE
+ * @see JOPAPersistenceProperties#REFERENCE_LOADING_DEPTH
+ */
+class ReferencePrefetcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReferencePrefetcher.class);
+
+    /**
+     * Default maximum number of references loaded in one batch request.
+     */
+    static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * Default number of object graph levels prefetched when an entity is loaded.
+     */
+    static final int DEFAULT_DEPTH = 3;
+
+    private final ObjectOntologyMapperImpl mapper;
+    private final Connection storageConnection;
+    private final MetamodelImpl metamodel;
+    private final AxiomDescriptorFactory descriptorFactory;
+
+    private final int batchSize;
+    private final int depth;
+
+    private final Map<AxiomDescriptor, PrefetchedAxioms> prefetched = new HashMap<>();
+
+    ReferencePrefetcher(ObjectOntologyMapperImpl mapper, Connection storageConnection, MetamodelImpl metamodel,
+                        AxiomDescriptorFactory descriptorFactory, Configuration configuration) {
+        this.mapper = mapper;
+        this.storageConnection = storageConnection;
+        this.metamodel = metamodel;
+        this.descriptorFactory = descriptorFactory;
+        this.batchSize = resolveSetting(configuration, JOPAPersistenceProperties.REFERENCE_BATCH_SIZE,
+                DEFAULT_BATCH_SIZE);
+        this.depth = resolveSetting(configuration, JOPAPersistenceProperties.REFERENCE_LOADING_DEPTH, DEFAULT_DEPTH);
+    }
+
+    private static int resolveSetting(Configuration configuration, String property, int defaultValue) {
+        final String value = configuration.get(property, Integer.toString(defaultValue));
+        try {
+            final int result = Integer.parseInt(value);
+            if (result < 0) {
+                LOG.warn("Invalid value {} of setting {}. Using default value {}.", value, property, defaultValue);
+                return defaultValue;
+            }
+            return result;
+        } catch (NumberFormatException e) {
+            LOG.warn("Unable to parse value {} of setting {}. Using default value {}.", value, property, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    private boolean isEnabled() {
+        return batchSize > 0 && depth > 0;
+    }
+
+    /**
+     * Finds axioms of an entity corresponding to the specified descriptor.
+     * <p>
+     * Prefetched axioms are used if available, otherwise the axioms are loaded from the storage. Axioms of entities
+     * referenced by the loaded entity are then prefetched, unless they have already been prefetched together with the
+     * entity itself.
+     *
+     * @param axiomDescriptor  Entity loading descriptor
+     * @param et               Type of the loaded entity
+     * @param entityDescriptor Descriptor of the loaded entity
+     * @return Axioms of the entity
+     * @throws OntoDriverException If unable to load the axioms from the storage
+     */
+    Collection<Axiom<?>> find(AxiomDescriptor axiomDescriptor, IdentifiableEntityType<?> et,
+                              Descriptor entityDescriptor) throws OntoDriverException {
+        final PrefetchedAxioms result = prefetched.remove(axiomDescriptor);
+        if (result != null) {
+            if (!result.referencesPrefetched) {
+                prefetchReferences(axiomDescriptor, et, entityDescriptor, result.axioms);
+            }
+            return result.axioms;
+        }
+        final Collection<Axiom<?>> axioms = storageConnection.find(axiomDescriptor);
+        prefetchReferences(axiomDescriptor, et, entityDescriptor, axioms);
+        return axioms;
+    }
+
+    private void prefetchReferences(AxiomDescriptor rootDescriptor, IdentifiableEntityType<?> et,
+                                    Descriptor entityDescriptor, Collection<Axiom<?>> axioms) throws OntoDriverException {
+        prefetchReferences(et, entityDescriptor, Map.of(rootDescriptor, axioms));
+    }
+
+    /**
+     * Prefetches axioms of entities referenced by the specified entities loaded together in one batch.
+     * <p>
+     * References of all the entities are collected first, so that they are retrieved in shared batch requests instead
+     * of separately for each of the entities.
+     *
+     * @param et               Type of the loaded entities
+     * @param entityDescriptor Descriptor of the loaded entities
+     * @param roots            Map of loading descriptors of the loaded entities to their axioms
+     * @throws OntoDriverException If unable to load the axioms from the storage
+     */
+    void prefetchReferences(IdentifiableEntityType<?> et, Descriptor entityDescriptor,
+                            Map<AxiomDescriptor, Collection<Axiom<?>>> roots) throws OntoDriverException {
+        if (!isEnabled()) {
+            return;
+        }
+        final Set<AxiomDescriptor> visited = new HashSet<>(roots.keySet());
+        List<Reference> level = new ArrayList<>();
+        for (Collection<Axiom<?>> axioms : roots.values()) {
+            collectReferences(et, entityDescriptor, axioms, visited, level);
+        }
+        for (int i = 1; i <= depth && !level.isEmpty(); i++) {
+            final boolean lastLevel = i == depth;
+            final List<Reference> nextLevel = new ArrayList<>();
+            for (int start = 0; start < level.size(); start += batchSize) {
+                final List<Reference> batch = level.subList(start, Math.min(start + batchSize, level.size()));
+                final Map<NamedResource, Collection<Axiom<?>>> batchAxioms =
+                        storageConnection.findAll(batch.stream().map(Reference::axiomDescriptor).toList());
+                for (Reference ref : batch) {
+                    final Collection<Axiom<?>> refAxioms =
+                            batchAxioms.getOrDefault(ref.axiomDescriptor.getSubject(), Collections.emptyList());
+                    prefetched.put(ref.axiomDescriptor, new PrefetchedAxioms(refAxioms, !lastLevel));
+                    if (!lastLevel) {
+                        collectReferences(ref.et, ref.descriptor, refAxioms, visited, nextLevel);
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+    }
+
+    private void collectReferences(IdentifiableEntityType<?> et, Descriptor entityDescriptor,
+                                   Collection<Axiom<?>> axioms, Set<AxiomDescriptor> visited, List<Reference> result) {
+        final Map<URI, Attribute<?, ?>> attributes = new HashMap<>();
+        et.getAttributes().stream().filter(ReferencePrefetcher::isPrefetchable)
+          .forEach(att -> attributes.put(att.getIRI().toURI(), att));
+        if (attributes.isEmpty()) {
+            return;
+        }
+        for (Axiom<?> ax : axioms) {
+            final Attribute<?, ?> att = attributes.get(ax.getAssertion().getIdentifier());
+            if (att == null || !(ax.getValue().getValue() instanceof NamedResource value)) {
+                continue;
+            }
+            final Class<?> targetType =
+                    att.isCollection() ? ((PluralAttribute<?, ?, ?>) att).getBindableJavaType() : att.getJavaType();
+            if (!metamodel.isEntityType(targetType)) {
+                continue;
+            }
+            final IdentifiableEntityType<?> targetEt = metamodel.entity(targetType);
+            final Descriptor targetDescriptor = entityDescriptor.getAttributeDescriptor(att);
+            if (targetEt.hasSubtypes() ||
+                    mapper.isLoaded(targetType, value.getIdentifier(), targetDescriptor)) {
+                continue;
+            }
+            final AxiomDescriptor targetAxiomDescriptor = descriptorFactory.createForEntityLoading(
+                    new LoadingParameters<>(targetType, value.getIdentifier(), targetDescriptor), targetEt);
+            if (visited.add(targetAxiomDescriptor) && !prefetched.containsKey(targetAxiomDescriptor)) {
+                result.add(new Reference(targetAxiomDescriptor, targetEt, targetDescriptor));
+            }
+        }
+    }
+
+    private static boolean isPrefetchable(Attribute<?, ?> att) {
+        if (att.getPersistentAttributeType() != Attribute.PersistentAttributeType.OBJECT ||
+                att.getFetchType() == FetchType.LAZY) {
+            return false;
+        }
+        if (!att.isCollection()) {
+            return true;
+        }
+        final PluralAttribute<?, ?, ?> pluralAtt = (PluralAttribute<?, ?, ?>) att;
+        return !pluralAtt.isRdfContainer() && (pluralAtt.getCollectionType() == CollectionType.SET ||
+                pluralAtt.getCollectionType() == CollectionType.COLLECTION);
+    }
+
+    /**
+     * Discards all prefetched axioms.
+     */
+    void clear() {
+        prefetched.clear();
+    }
+
+    private record Reference(AxiomDescriptor axiomDescriptor, IdentifiableEntityType<?> et, Descriptor descriptor) {
+    }
+
+    private record PrefetchedAxioms(Collection<Axiom<?>> axioms, boolean referencesPrefetched) {
+    }
+}
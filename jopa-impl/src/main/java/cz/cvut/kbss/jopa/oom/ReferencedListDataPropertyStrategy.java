@@ -91,6 +91,7 @@ class ReferencedListDataPropertyStrategy<X> extends DataPropertyFieldStrategy<Li
         if (list != null) {
             list.stream().filter(Objects::nonNull)
                 .forEach(v -> listDescriptor.addValue(converter.convertToAxiomValue(v)));
+            ListPropertyStrategy.addListEditsToListValueDescriptor(listDescriptor, list, converter::convertToAxiomValue);
         }
         valueBuilder.addReferencedListValues(listDescriptor);
     }
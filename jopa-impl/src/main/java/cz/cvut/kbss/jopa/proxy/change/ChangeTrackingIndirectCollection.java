@@ -53,10 +53,17 @@ public abstract class ChangeTrackingIndirectCollection<T> implements IndirectWra
         this.persistenceContext = persistenceContext;
     }
 
-    protected void persistChange() {
+    /**
+     * Propagates change of this collection to the persistence context, if it is currently possible.
+     *
+     * @return {@code true} if the change was propagated to the persistence context, {@code false} otherwise
+     */
+    protected boolean persistChange() {
         assert persistenceContext != null;
         if (persistenceContext.isInTransaction() && !persistenceContext.isFlushingChanges()) {
             persistenceContext.attributeChanged(owner, field);
+            return true;
         }
+        return false;
     }
 }
@@ -18,18 +18,37 @@
 package cz.cvut.kbss.jopa.proxy.change;
 
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.ontodriver.descriptor.ListEdit;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
-
+import java.util.Optional;
+
+/**
+ * Indirect list which, in addition to propagating changes to the persistence context, records a log of edits made to
+ * the list since the last propagated change.
+ * <p>
+ * The edit log allows the list to be updated in the repository by rewriting only the affected nodes. Modifications
+ * whose effect on individual positions is not tracked (e.g., {@link #clear()}, {@link #removeAll(Collection)},
+ * modifications via sublists) invalidate the log, in which case the whole list is merged.
+ *
+ * @param <E> Element type
+ */
 public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollection<List<E>> implements List<E> {
 
     private final List<E> internalList;
 
+    /**
+     * Edits made since the last propagated change. {@code null} if the edits are not known.
+     */
+    private List<ListEdit<E>> edits;
+
     /**
      * Create new indirect list backed by the specified referenced list.
      *
@@ -42,11 +61,54 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
     public ChangeTrackingIndirectList(Object owner, Field f, UnitOfWork uow, List<E> referencedList) {
         super(owner, f, uow);
         this.internalList = Objects.requireNonNull(referencedList);
+        this.edits = new ArrayList<>();
+    }
+
+    private ChangeTrackingIndirectList(ChangeTrackingIndirectList<E> parent, List<E> subList) {
+        super(parent.owner, parent.field, parent.persistenceContext);
+        this.internalList = subList;
+        // Indexes in a sublist do not correspond to the indexes in the whole list
+        this.edits = null;
+    }
+
+    /**
+     * Gets edits made to this list since the last change propagated to the persistence context.
+     * <p>
+     * Outside of change propagation, the log is empty. During change propagation, it contains the edits leading from
+     * the previously propagated state of the list to the current one.
+     *
+     * @return Edit log, empty {@code Optional} if the edits are not known
+     */
+    public Optional<List<ListEdit<E>>> getEdits() {
+        return edits != null ? Optional.of(Collections.unmodifiableList(edits)) : Optional.empty();
+    }
+
+    private void recordEdit(ListEdit<E> edit) {
+        if (edits != null) {
+            edits.add(edit);
+        }
+    }
+
+    private void invalidateEdits() {
+        this.edits = null;
+    }
+
+    @Override
+    protected boolean persistChange() {
+        boolean propagated = false;
+        try {
+            propagated = super.persistChange();
+        } finally {
+            // The edit log is relative to the last propagated state of the list
+            this.edits = propagated ? new ArrayList<>() : null;
+        }
+        return propagated;
     }
 
     @Override
     public boolean add(E arg0) {
         internalList.add(arg0);
+        recordEdit(ListEdit.insert(internalList.size() - 1, Collections.singletonList(arg0)));
         persistChange();    // There is always a change
         return true;
     }
@@ -54,12 +116,15 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
     @Override
     public void add(int arg0, E arg1) {
         internalList.add(arg0, arg1);
+        recordEdit(ListEdit.insert(arg0, Collections.singletonList(arg1)));
         persistChange();
     }
 
     @Override
     public boolean addAll(Collection<? extends E> c) {
+        final int index = internalList.size();
         internalList.addAll(c);
+        recordEdit(ListEdit.insert(index, c));
         persistChange();
         return true;
     }
@@ -68,6 +133,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
     public boolean addAll(int index, Collection<? extends E> c) {
         boolean res = internalList.addAll(index, c);
         if (res) {
+            recordEdit(ListEdit.insert(index, c));
             persistChange();
         }
         return res;
@@ -76,6 +142,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
     @Override
     public void clear() {
         internalList.clear();
+        invalidateEdits();
         persistChange();
     }
 
@@ -126,16 +193,20 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
     @Override
     public boolean remove(Object arg0) {
-        boolean res = internalList.remove(arg0);
-        if (res) {
-            persistChange();
+        final int index = internalList.indexOf(arg0);
+        if (index < 0) {
+            return false;
         }
-        return res;
+        internalList.remove(index);
+        recordEdit(ListEdit.remove(index));
+        persistChange();
+        return true;
     }
 
     @Override
     public E remove(int arg0) {
         E elem = internalList.remove(arg0);
+        recordEdit(ListEdit.remove(arg0));
         persistChange();
         return elem;
     }
@@ -144,6 +215,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
     public boolean removeAll(Collection<?> arg0) {
         boolean res = internalList.removeAll(arg0);
         if (res) {
+            invalidateEdits();
             persistChange();
         }
         return res;
@@ -153,6 +225,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
     public boolean retainAll(Collection<?> arg0) {
         boolean res = internalList.retainAll(arg0);
         if (res) {
+            invalidateEdits();
             persistChange();
         }
         return res;
@@ -161,6 +234,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
     @Override
     public E set(int arg0, E arg1) {
         E elem = internalList.set(arg0, arg1);
+        recordEdit(ListEdit.set(arg0, arg1));
         persistChange();
         return elem;
     }
@@ -172,7 +246,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        return new ChangeTrackingIndirectList<>(owner, field, persistenceContext, internalList.subList(fromIndex, toIndex));
+        return new ChangeTrackingIndirectList<>(this, internalList.subList(fromIndex, toIndex));
     }
 
     @Override
@@ -214,6 +288,7 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
     private class IndirectIterator implements Iterator<E> {
 
         private final Iterator<E> it;
+        private int cursor;
 
         private IndirectIterator(Iterator<E> it) {
             this.it = it;
@@ -226,12 +301,16 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
 
         @Override
         public E next() {
-            return it.next();
+            final E next = it.next();
+            cursor++;
+            return next;
         }
 
         @Override
         public void remove() {
             it.remove();
+            cursor--;
+            recordEdit(ListEdit.remove(cursor));
             ChangeTrackingIndirectList.this.persistChange();
         }
     }
@@ -277,18 +356,22 @@ public class ChangeTrackingIndirectList<E> extends ChangeTrackingIndirectCollect
         @Override
         public void remove() {
             lit.remove();
+            // After removal, the cursor points to the position of the removed element
+            recordEdit(ListEdit.remove(lit.nextIndex()));
             ChangeTrackingIndirectList.this.persistChange();
         }
 
         @Override
         public void set(E e) {
             lit.set(e);
+            invalidateEdits();
             ChangeTrackingIndirectList.this.persistChange();
         }
 
         @Override
         public void add(E e) {
             lit.add(e);
+            recordEdit(ListEdit.insert(lit.previousIndex(), Collections.singletonList(e)));
             ChangeTrackingIndirectList.this.persistChange();
         }
     }
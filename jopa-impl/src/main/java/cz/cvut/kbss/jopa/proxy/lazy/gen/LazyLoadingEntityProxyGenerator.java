@@ -19,6 +19,7 @@ package cz.cvut.kbss.jopa.proxy.lazy.gen;
 
 import cz.cvut.kbss.jopa.exception.LazyLoadingException;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.gen.EntityPackageNamingStrategy;
 import cz.cvut.kbss.jopa.model.metamodel.gen.PersistenceContextAwareClassGenerator;
 import cz.cvut.kbss.jopa.model.metamodel.gen.PersistentPropertySetterMatcher;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
@@ -38,6 +39,8 @@ import net.bytebuddy.implementation.bind.annotation.This;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
@@ -51,10 +54,12 @@ public class LazyLoadingEntityProxyGenerator implements PersistenceContextAwareC
 
     private static final Logger LOG = LoggerFactory.getLogger(LazyLoadingEntityProxyGenerator.class);
 
+    private static final String CLASS_NAME_SUFFIX = "_LazyLoadingProxy";
+
     private final ByteBuddy byteBuddy = new ByteBuddy().with(new NamingStrategy.AbstractBase() {
         @Override
         protected String name(TypeDescription typeDescription) {
-            return typeDescription.getSimpleName() + "_LazyLoadingProxy";
+            return typeDescription.getSimpleName() + CLASS_NAME_SUFFIX;
         }
     });
 
@@ -62,31 +67,45 @@ public class LazyLoadingEntityProxyGenerator implements PersistenceContextAwareC
     public <T> Class<? extends T> generate(Class<T> entityClass) {
         Objects.requireNonNull(entityClass);
         LOG.trace("Generating lazy loading proxy for entity class {}.", entityClass);
-        DynamicType.Unloaded<? extends T> typeDef = byteBuddy.subclass(entityClass)
-                                                             .annotateType(new GeneratedLazyLoadingProxyImpl())
-                                                             .defineField("persistenceContext", UnitOfWork.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             .defineField("owner", Object.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             .defineField("fieldSpec", FieldSpecification.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             // Have to use Object, because otherwise it won't generate a setter for us
-                                                             .defineField("value", entityClass, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             .implement(TypeDescription.Generic.Builder.parameterizedType(LazyLoadingProxyPropertyAccessor.class, entityClass).build())
-                                                             .intercept(FieldAccessor.ofBeanProperty())
-                                                             .implement(LazyLoadingEntityProxy.class)
-                                                             .method(isSetter().and(new PersistentPropertySetterMatcher<>(entityClass)))
-                                                             .intercept(MethodDelegation.to(SetterInterceptor.class))
-                                                             .method(isGetter().and(new PersistentPropertyGetterMatcher<>(entityClass)))
-                                                             .intercept(MethodDelegation.to(GetterInterceptor.class))
-                                                             .method(isToString())
-                                                             .intercept(MethodDelegation.toMethodReturnOf("stringify"))
-                                                             .method(named("isLoaded"))
-                                                             .intercept(MethodDelegation.to(ProxyMethodsInterceptor.class))
-                                                             .method(named("getLoadedValue"))
-                                                             .intercept(MethodDelegation.to(ProxyMethodsInterceptor.class))
-                                                             .make();
+        DynamicType.Unloaded<? extends T> typeDef = define(byteBuddy, entityClass);
         LOG.debug("Generated dynamic type {} for entity class {}.", typeDef, entityClass);
         return typeDef.load(getClass().getClassLoader()).getLoaded();
     }
 
+    @Override
+    public String generateInto(Class<?> entityClass, File outputDirectory) throws IOException {
+        Objects.requireNonNull(entityClass);
+        final ByteBuddy bb = new ByteBuddy().with(new EntityPackageNamingStrategy("", CLASS_NAME_SUFFIX));
+        final DynamicType.Unloaded<?> typeDef = define(bb, entityClass);
+        LOG.trace("Saving generated class '{}' to '{}'.", typeDef, outputDirectory);
+        typeDef.saveIn(outputDirectory);
+        return typeDef.getTypeDescription().getName();
+    }
+
+    private static <T> DynamicType.Unloaded<? extends T> define(ByteBuddy byteBuddy, Class<T> entityClass) {
+        return byteBuddy.subclass(entityClass)
+                        .annotateType(new GeneratedLazyLoadingProxyImpl())
+                        .defineField("persistenceContext", UnitOfWork.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        .defineField("owner", Object.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        .defineField("fieldSpec", FieldSpecification.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        // Have to use Object, because otherwise it won't generate a setter for us
+                        .defineField("value", entityClass, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        .implement(TypeDescription.Generic.Builder.parameterizedType(LazyLoadingProxyPropertyAccessor.class, entityClass).build())
+                        .intercept(FieldAccessor.ofBeanProperty())
+                        .implement(LazyLoadingEntityProxy.class)
+                        .method(isSetter().and(new PersistentPropertySetterMatcher<>(entityClass)))
+                        .intercept(MethodDelegation.to(SetterInterceptor.class))
+                        .method(isGetter().and(new PersistentPropertyGetterMatcher<>(entityClass)))
+                        .intercept(MethodDelegation.to(GetterInterceptor.class))
+                        .method(isToString())
+                        .intercept(MethodDelegation.toMethodReturnOf("stringify"))
+                        .method(named("isLoaded"))
+                        .intercept(MethodDelegation.to(ProxyMethodsInterceptor.class))
+                        .method(named("getLoadedValue"))
+                        .intercept(MethodDelegation.to(ProxyMethodsInterceptor.class))
+                        .make();
+    }
+
     public static class GetterInterceptor {
 
         private GetterInterceptor() {
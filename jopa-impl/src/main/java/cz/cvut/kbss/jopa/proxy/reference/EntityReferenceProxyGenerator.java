@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.exception.LazyLoadingException;
 import cz.cvut.kbss.jopa.exceptions.AttributeModificationForbiddenException;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.AnnotatedAccessor;
+import cz.cvut.kbss.jopa.model.metamodel.gen.EntityPackageNamingStrategy;
 import cz.cvut.kbss.jopa.model.metamodel.gen.PersistenceContextAwareClassGenerator;
 import cz.cvut.kbss.jopa.model.metamodel.gen.PersistentPropertySetterMatcher;
 import cz.cvut.kbss.jopa.proxy.lazy.gen.PersistentPropertyGetterMatcher;
@@ -40,6 +41,8 @@ import net.bytebuddy.implementation.bind.annotation.This;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URI;
@@ -52,10 +55,12 @@ public class EntityReferenceProxyGenerator implements PersistenceContextAwareCla
 
     private static final Logger LOG = LoggerFactory.getLogger(EntityReferenceProxyGenerator.class);
 
+    private static final String CLASS_NAME_SUFFIX = "_ReferenceProxy";
+
     private final ByteBuddy byteBuddy = new ByteBuddy().with(new NamingStrategy.AbstractBase() {
         @Override
         protected String name(TypeDescription typeDescription) {
-            return typeDescription.getSimpleName() + "_ReferenceProxy";
+            return typeDescription.getSimpleName() + CLASS_NAME_SUFFIX;
         }
     });
 
@@ -63,27 +68,41 @@ public class EntityReferenceProxyGenerator implements PersistenceContextAwareCla
     public <T> Class<? extends T> generate(Class<T> entityClass) {
         Objects.requireNonNull(entityClass);
         LOG.trace("Generating reference proxy for entity class {}.", entityClass);
-        DynamicType.Unloaded<? extends T> typeDef = byteBuddy.subclass(entityClass)
-                                                             .annotateType(new GeneratedEntityReferenceProxyImpl())
-                                                             .defineField("identifier", URI.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             .defineField("type", Class.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             .defineField("descriptor", Descriptor.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             .defineField("persistenceContext", UnitOfWork.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             // Have to use Object, because otherwise it won't generate a setter for us
-                                                             .defineField("value", entityClass, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
-                                                             .implement(TypeDescription.Generic.Builder.parameterizedType(EntityReferenceProxyPropertyAccessor.class, entityClass)
-                                                                                                       .build())
-                                                             .intercept(FieldAccessor.ofBeanProperty())
-                                                             .implement(EntityReferenceProxy.class)
-                                                             .method(isSetter().and(new PersistentPropertySetterMatcher<>(entityClass)))
-                                                             .intercept(MethodDelegation.to(SetterInterceptor.class))
-                                                             .method(isGetter().and(new PersistentPropertyGetterMatcher<>(entityClass)))
-                                                             .intercept(MethodDelegation.to(GetterInterceptor.class))
-                                                             .make();
+        DynamicType.Unloaded<? extends T> typeDef = define(byteBuddy, entityClass);
         LOG.debug("Generated dynamic type {} for entity class {}.", typeDef, entityClass);
         return typeDef.load(getClass().getClassLoader()).getLoaded();
     }
 
+    @Override
+    public String generateInto(Class<?> entityClass, File outputDirectory) throws IOException {
+        Objects.requireNonNull(entityClass);
+        final ByteBuddy bb = new ByteBuddy().with(new EntityPackageNamingStrategy("", CLASS_NAME_SUFFIX));
+        final DynamicType.Unloaded<?> typeDef = define(bb, entityClass);
+        LOG.trace("Saving generated class '{}' to '{}'.", typeDef, outputDirectory);
+        typeDef.saveIn(outputDirectory);
+        return typeDef.getTypeDescription().getName();
+    }
+
+    private static <T> DynamicType.Unloaded<? extends T> define(ByteBuddy byteBuddy, Class<T> entityClass) {
+        return byteBuddy.subclass(entityClass)
+                        .annotateType(new GeneratedEntityReferenceProxyImpl())
+                        .defineField("identifier", URI.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        .defineField("type", Class.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        .defineField("descriptor", Descriptor.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        .defineField("persistenceContext", UnitOfWork.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        // Have to use Object, because otherwise it won't generate a setter for us
+                        .defineField("value", entityClass, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+                        .implement(TypeDescription.Generic.Builder.parameterizedType(EntityReferenceProxyPropertyAccessor.class, entityClass)
+                                                                  .build())
+                        .intercept(FieldAccessor.ofBeanProperty())
+                        .implement(EntityReferenceProxy.class)
+                        .method(isSetter().and(new PersistentPropertySetterMatcher<>(entityClass)))
+                        .intercept(MethodDelegation.to(SetterInterceptor.class))
+                        .method(isGetter().and(new PersistentPropertyGetterMatcher<>(entityClass)))
+                        .intercept(MethodDelegation.to(GetterInterceptor.class))
+                        .make();
+    }
+
     public static class GetterInterceptor {
 
         private GetterInterceptor() {
@@ -41,6 +41,59 @@ public class QueryHints {
      */
     public static final String TARGET_ONTOLOGY = "cz.cvut.kbss.jopa.query.targetOntology";
 
+    /**
+     * Allows to load entity query results in batches of the specified size.
+     * <p>
+     * When a positive value is specified, identifiers of the query results are collected and entities corresponding to
+     * them are then loaded from the storage in batches of the specified size (instead of loading each result separately).
+     * This may significantly reduce the number of storage round-trips for larger results.
+     * <p>
+     * Results of {@link cz.cvut.kbss.jopa.model.query.TypedQuery#getResultStream()} are loaded in batches as well, as
+     * the stream advances. Streams with a {@link #STREAM_WINDOW_SIZE} load entities one by one, so that each of them can
+     * be released from the persistence context once it falls out of the window.
+     * <p>
+     * Applies only to typed queries with an entity result type. Defaults to {@literal 100}, zero disables batch loading.
+     */
+    public static final String BATCH_FETCH_SIZE = "cz.cvut.kbss.jopa.query.batchFetchSize";
+
+    /**
+     * Indicates that entity query results should be returned as read-only instances not managed by the persistence
+     * context.
+     * <p>
+     * Such instances are not cloned, their changes are not tracked and lifecycle callbacks are not invoked on them.
+     * Entities already managed by the persistence context are returned as they are.
+     * <p>
+     * The instances may be the very objects stored in the second level cache, so they must not be modified. Modifying
+     * a read-only instance corrupts the cached state seen by all other persistence contexts.
+     * <p>
+     * Lazily loaded attributes of read-only instances are not loaded, not even on access (there are no lazy loading
+     * proxies). They remain {@code null} (or empty), which is indistinguishable from the attribute having no value.
+     * <p>
+     * Applies only to typed queries with an entity result type. Valid values are {@literal true} and {@literal false}
+     * (the default).
+     */
+    public static final String READ_ONLY = "cz.cvut.kbss.jopa.query.readOnly";
+
+    /**
+     * Limits the number of entity results of a query result stream kept in the persistence context.
+     * <p>
+     * When a positive value is specified, entities loaded into the persistence context by
+     * {@link cz.cvut.kbss.jopa.model.query.TypedQuery#getResultStream()} are detached from it once the stream advances
+     * past the specified number of subsequent results. This includes entities referenced by the results which were
+     * loaded together with them, unless they are still referenced by a result in the window. Thus, the memory required
+     * to process the stream does not depend on the size of the result. Entities which were managed before the stream
+     * reached them are not detached.
+     * <p>
+     * Changes of streamed entities are never dropped. With the {@code IMMEDIATE} change tracking mode, modified
+     * entities remain managed, because their changes have already been written into the storage. With the
+     * {@code ON_COMMIT} mode, the stream fails with an {@link IllegalStateException} once a modified entity falls out
+     * of the window. Changes made to an entity after it has been detached are not tracked, so this hint is intended
+     * primarily for processing large results sequentially (e.g., exports). Applies only to typed queries with an entity
+     * result type which are not {@link #READ_ONLY}, whose results are never registered in the persistence context. Zero
+     * (the default) keeps all streamed entities managed.
+     */
+    public static final String STREAM_WINDOW_SIZE = "cz.cvut.kbss.jopa.query.streamWindowSize";
+
     private QueryHints() {
         throw new AssertionError();
     }
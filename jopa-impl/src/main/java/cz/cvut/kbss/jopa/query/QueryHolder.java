@@ -19,6 +19,7 @@ package cz.cvut.kbss.jopa.query;
 
 import cz.cvut.kbss.jopa.model.query.Parameter;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -170,4 +171,17 @@ public interface QueryHolder {
      * @return Assembled query
      */
     String assembleQuery();
+
+    /**
+     * Assembles the query, leaving variables in place of parameters whose values can be bound by the driver.
+     * <p>
+     * Values of such parameters are put into the specified map, keyed by variable name. Values of the other parameters
+     * are inserted into the query string as in {@link #assembleQuery()}.
+     *
+     * @param bindings Map into which driver bindings of parameter values are put
+     * @return Assembled query
+     */
+    default String assembleQuery(Map<String, Object> bindings) {
+        return assembleQuery();
+    }
 }
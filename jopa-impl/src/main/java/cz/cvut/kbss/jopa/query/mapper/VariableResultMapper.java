@@ -34,9 +34,15 @@ class VariableResultMapper implements SparqlResultMapper {
     private final String name;
     private final Class<?> targetType;
 
+    /**
+     * Built-in converter for the target type, resolved once when the mapper is created.
+     */
+    private final ConverterWrapper<?, Object> converter;
+
     VariableResultMapper(VariableResult mapping) {
         this.name = mapping.name();
         this.targetType = mapping.type();
+        this.converter = (ConverterWrapper<?, Object>) Converters.getDefaultConverters().get(targetType);
     }
 
     String getName() {
@@ -63,9 +69,8 @@ class VariableResultMapper implements SparqlResultMapper {
             }
             final Object value = resultRow.getObject(name);
             if (!void.class.equals(targetType)) {
-                if (Converters.getDefaultConverters().containsKey(targetType)) {
-                    return ((ConverterWrapper) Converters.getDefaultConverters()
-                            .get(targetType)).convertToAttribute(value);
+                if (converter != null) {
+                    return converter.convertToAttribute(value);
                 }
                 return DatatypeTransformer.transform(value, targetType);
             }
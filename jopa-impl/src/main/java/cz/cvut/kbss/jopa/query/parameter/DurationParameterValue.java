@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.datatype.xsd.XsdTemporalMapper;
 
 import java.time.temporal.TemporalAmount;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Duration query parameter value representation.
@@ -44,4 +45,9 @@ public class DurationParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return XsdTemporalMapper.map(value).toString();
     }
+
+    @Override
+    public Optional<Object> toBindingValue() {
+        return Optional.of(XsdTemporalMapper.map(value));
+    }
 }
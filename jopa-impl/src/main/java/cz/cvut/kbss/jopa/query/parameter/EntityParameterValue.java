@@ -19,8 +19,10 @@ package cz.cvut.kbss.jopa.query.parameter;
 
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class EntityParameterValue extends AbstractParameterValue {
 
@@ -43,4 +45,10 @@ class EntityParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return "<" + EntityPropertiesUtils.getIdentifier(value, metamodelProvider.getMetamodel()) + ">";
     }
+
+    @Override
+    public Optional<Object> toBindingValue() {
+        return Optional.of(
+                NamedResource.create(EntityPropertiesUtils.getIdentifier(value, metamodelProvider.getMetamodel())));
+    }
 }
@@ -18,8 +18,10 @@
 package cz.cvut.kbss.jopa.query.parameter;
 
 import cz.cvut.kbss.jopa.vocabulary.XSD;
+import cz.cvut.kbss.ontodriver.model.Literal;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class FloatParameterValue extends AbstractParameterValue {
 
@@ -38,4 +40,9 @@ class FloatParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return "\"" + value + "\"^^<" + XSD.FLOAT + ">";
     }
+
+    @Override
+    public Optional<Object> toBindingValue() {
+        return Optional.of(Literal.from(Float.toString(value), XSD.FLOAT));
+    }
 }
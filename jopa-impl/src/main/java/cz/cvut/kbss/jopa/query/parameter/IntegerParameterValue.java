@@ -18,8 +18,10 @@
 package cz.cvut.kbss.jopa.query.parameter;
 
 import cz.cvut.kbss.jopa.vocabulary.XSD;
+import cz.cvut.kbss.ontodriver.model.Literal;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class IntegerParameterValue extends AbstractParameterValue {
 
@@ -38,4 +40,9 @@ class IntegerParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return "\"" + value + "\"^^<" + XSD.INT + ">";
     }
+
+    @Override
+    public Optional<Object> toBindingValue() {
+        return Optional.of(Literal.from(Integer.toString(value), XSD.INT));
+    }
 }
@@ -18,8 +18,10 @@
 package cz.cvut.kbss.jopa.query.parameter;
 
 import cz.cvut.kbss.jopa.vocabulary.XSD;
+import cz.cvut.kbss.ontodriver.model.Literal;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class LongParameterValue extends AbstractParameterValue {
 
@@ -38,4 +40,9 @@ class LongParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return "\"" + value + "\"^^<" + XSD.LONG + ">";
     }
+
+    @Override
+    public Optional<Object> toBindingValue() {
+        return Optional.of(Literal.from(Long.toString(value), XSD.LONG));
+    }
 }
@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.query.sparql.SparqlConstants;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Query parameter value holder.
@@ -83,4 +84,16 @@ public interface ParameterValue {
      * @return Number of values represented by this instance
      */
     default int valueCount() {return 1;}
+
+    /**
+     * Gets the value to which the driver can bind a query variable representing this parameter.
+     * <p>
+     * Values without such representation (e.g., collections or untyped values) have to be inserted directly into the
+     * query string.
+     *
+     * @return Binding value, empty if this value can be used only as part of the query string
+     */
+    default Optional<Object> toBindingValue() {
+        return Optional.empty();
+    }
 }
@@ -20,6 +20,7 @@ package cz.cvut.kbss.jopa.query.parameter;
 import cz.cvut.kbss.ontodriver.model.LangString;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class StringParameterValue extends AbstractParameterValue {
 
@@ -99,4 +100,9 @@ class StringParameterValue extends AbstractParameterValue {
         }
         return sb.toString();
     }
+
+    @Override
+    public Optional<Object> toBindingValue() {
+        return Optional.of(new LangString(value, language));
+    }
 }
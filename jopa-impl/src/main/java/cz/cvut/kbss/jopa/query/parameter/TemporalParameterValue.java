@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.datatype.xsd.XsdTemporalMapper;
 
 import java.time.temporal.TemporalAccessor;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Query parameter value representation for date/time.
@@ -44,4 +45,9 @@ public class TemporalParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return XsdTemporalMapper.map(value).toString();
     }
+
+    @Override
+    public Optional<Object> toBindingValue() {
+        return Optional.of(XsdTemporalMapper.map(value));
+    }
 }
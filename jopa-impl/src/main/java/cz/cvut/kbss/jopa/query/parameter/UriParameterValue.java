@@ -18,9 +18,11 @@
 package cz.cvut.kbss.jopa.query.parameter;
 
 import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Parameter value that will be put as an IRI into the query. I.e. it will be enclosed in &lt; and &gt;.
@@ -47,4 +49,9 @@ class UriParameterValue extends AbstractParameterValue {
     public String toString() {
         return getQueryString();
     }
+
+    @Override
+    public Optional<Object> toBindingValue() {
+        return Optional.of(NamedResource.create(uri));
+    }
 }
@@ -39,6 +39,16 @@ public class SoqlQueryParser implements QueryParser {
 
     @Override
     public QueryHolder parseQuery(String query) {
+        return sparqlParser.parseQuery(translateToSparql(query));
+    }
+
+    /**
+     * Translates the specified SOQL query to SPARQL.
+     *
+     * @param query SOQL query
+     * @return Corresponding SPARQL query string
+     */
+    public String translateToSparql(String query) {
         CharStream cs = CharStreams.fromString(query);
         SoqlLexer lexer = new SoqlLexer(cs);
         final CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -50,6 +60,6 @@ public class SoqlQueryParser implements QueryParser {
         final ParseTreeWalker walker = new ParseTreeWalker();
         walker.walk(listener, tree);
 
-        return sparqlParser.parseQuery(listener.getSparqlQuery());
+        return listener.getSparqlQuery();
     }
 }
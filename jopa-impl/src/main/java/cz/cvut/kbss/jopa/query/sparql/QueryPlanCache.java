@@ -0,0 +1,188 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache of parsed queries shared by all persistence contexts of a persistence unit.
+ * <p>
+ * Parsing a query (and translating it to SPARQL in case of SOQL) is done only once for each distinct query string.
+ * Subsequent query creations only instantiate a {@link SparqlQueryHolder} from the cached {@link SparqlQueryTemplate}.
+ * <p>
+ * The cache is bounded. When its capacity is exceeded, the oldest entries are evicted.
+ *
+ * @see JOPAPersistenceProperties#QUERY_PLAN_CACHE_CAPACITY
+ */
+public class QueryPlanCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryPlanCache.class);
+
+    /**
+     * Default maximum number of cached queries.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Language of a cached query.
+     */
+    public enum Language {
+        SPARQL, SOQL
+    }
+
+    private final int capacity;
+
+    private final ConcurrentMap<Key, SparqlQueryTemplate> templates = new ConcurrentHashMap<>();
+    // Insertion order of the keys, used for eviction
+    private final Queue<Key> keys = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public QueryPlanCache(Map<String, String> properties) {
+        this(resolveCapacity(Objects.requireNonNull(properties)));
+    }
+
+    QueryPlanCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    private static int resolveCapacity(Map<String, String> properties) {
+        if (!properties.containsKey(JOPAPersistenceProperties.QUERY_PLAN_CACHE_CAPACITY)) {
+            return DEFAULT_CAPACITY;
+        }
+        final String value = properties.get(JOPAPersistenceProperties.QUERY_PLAN_CACHE_CAPACITY);
+        try {
+            final int capacity = Integer.parseInt(value);
+            if (capacity < 0) {
+                LOG.warn("Invalid query plan cache capacity value {}. Using default value.", capacity);
+                return DEFAULT_CAPACITY;
+            }
+            return capacity;
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse query plan cache capacity setting {}. Using default capacity {}.", value,
+                    DEFAULT_CAPACITY);
+            return DEFAULT_CAPACITY;
+        }
+    }
+
+    /**
+     * Whether the cache is enabled, i.e., its capacity is greater than zero.
+     *
+     * @return {@code true} if queries are cached, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * Gets a template of the specified query, parsing it using the specified parser if it is not cached.
+     * <p>
+     * If parsing fails, the exception is propagated and nothing is cached.
+     *
+     * @param language Query language
+     * @param query    Query string
+     * @param parser   Parses the query string into a query holder, which is used to create the template
+     * @return Query template
+     */
+    public SparqlQueryTemplate get(Language language, String query, Function<String, SparqlQueryHolder> parser) {
+        final Key key = new Key(language, query);
+        final SparqlQueryTemplate cached = templates.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final SparqlQueryTemplate template = SparqlQueryTemplate.from(parser.apply(query));
+        if (!isEnabled()) {
+            return template;
+        }
+        if (templates.putIfAbsent(key, template) == null) {
+            keys.add(key);
+            evictIfNecessary();
+        }
+        return template;
+    }
+
+    private void evictIfNecessary() {
+        while (templates.size() > capacity) {
+            final Key eldest = keys.poll();
+            if (eldest != null) {
+                templates.remove(eldest);
+            } else {
+                // Key queue got out of sync due to concurrent clearing, evict an arbitrary entry
+                templates.keySet().stream().findAny().ifPresent(templates::remove);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of query lookups which found the query in the cache.
+     *
+     * @return Number of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of query lookups which required the query to be parsed.
+     *
+     * @return Number of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of cached queries.
+     *
+     * @return Cache size
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes all queries from the cache.
+     * <p>
+     * Hit and miss statistics are not reset.
+     */
+    public void clear() {
+        templates.clear();
+        keys.clear();
+    }
+
+    private record Key(Language language, String query) {
+    }
+}
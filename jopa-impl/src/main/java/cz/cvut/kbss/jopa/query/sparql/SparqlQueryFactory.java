@@ -20,7 +20,7 @@ package cz.cvut.kbss.jopa.query.sparql;
 import cz.cvut.kbss.jopa.model.QueryImpl;
 import cz.cvut.kbss.jopa.model.ResultSetMappingQuery;
 import cz.cvut.kbss.jopa.model.TypedQueryImpl;
-import cz.cvut.kbss.jopa.query.QueryParser;
+import cz.cvut.kbss.jopa.query.QueryHolder;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.query.soql.SoqlQueryParser;
@@ -28,6 +28,7 @@ import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Factory for creating SPARQL queries.
@@ -37,16 +38,43 @@ public class SparqlQueryFactory {
     private final UnitOfWork uow;
     private final ConnectionWrapper connection;
 
-    private final QueryParser queryParser;
+    private final ParameterValueFactory parameterValueFactory;
+    private final SparqlQueryParser queryParser;
     private final SoqlQueryParser soqlQueryParser;
 
+    private final QueryPlanCache queryPlanCache;
+
     public SparqlQueryFactory(UnitOfWork uow, ConnectionWrapper connection) {
+        this(uow, connection, new QueryPlanCache(0));
+    }
+
+    public SparqlQueryFactory(UnitOfWork uow, ConnectionWrapper connection, QueryPlanCache queryPlanCache) {
         assert uow != null;
         assert connection != null;
+        assert queryPlanCache != null;
         this.uow = uow;
         this.connection = connection;
-        this.queryParser = new SparqlQueryParser(new ParameterValueFactory(uow));
+        this.parameterValueFactory = new ParameterValueFactory(uow);
+        this.queryParser = new SparqlQueryParser(parameterValueFactory);
         this.soqlQueryParser = new SoqlQueryParser(queryParser, uow.getMetamodel());
+        this.queryPlanCache = queryPlanCache;
+    }
+
+    private QueryHolder parseSparql(String sparql) {
+        return parse(QueryPlanCache.Language.SPARQL, sparql, queryParser::parseQuery);
+    }
+
+    private QueryHolder parseSoql(String soql) {
+        return parse(QueryPlanCache.Language.SOQL, soql,
+                q -> queryParser.parseQuery(soqlQueryParser.translateToSparql(q)));
+    }
+
+    private QueryHolder parse(QueryPlanCache.Language language, String query,
+                              Function<String, SparqlQueryHolder> parser) {
+        if (!queryPlanCache.isEnabled()) {
+            return parser.apply(query);
+        }
+        return queryPlanCache.get(language, query, parser).instantiate(parameterValueFactory);
     }
 
     /**
@@ -59,7 +87,7 @@ public class SparqlQueryFactory {
     public QueryImpl createNativeQuery(String sparql) {
         Objects.requireNonNull(sparql);
 
-        return new QueryImpl(queryParser.parseQuery(sparql), connection);
+        return new QueryImpl(parseSparql(sparql), connection);
     }
 
     /**
@@ -73,13 +101,9 @@ public class SparqlQueryFactory {
     public <T> TypedQueryImpl<T> createNativeQuery(String sparql, Class<T> resultClass) {
         Objects.requireNonNull(sparql);
 
-        return createQueryImpl(sparql, resultClass, queryParser);
-    }
-
-    private <T> TypedQueryImpl<T> createQueryImpl(String query, Class<T> resultClass, QueryParser parser) {
         Objects.requireNonNull(resultClass);
 
-        return new TypedQueryImpl<>(parser.parseQuery(query), resultClass, connection, uow);
+        return new TypedQueryImpl<>(parseSparql(sparql), resultClass, connection, uow);
     }
 
     /**
@@ -94,7 +118,7 @@ public class SparqlQueryFactory {
         Objects.requireNonNull(resultSetMapping);
 
         final SparqlResultMapper mapper = uow.getResultSetMappingManager().getMapper(resultSetMapping);
-        return new ResultSetMappingQuery(queryParser.parseQuery(sparql), connection, mapper, uow);
+        return new ResultSetMappingQuery(parseSparql(sparql), connection, mapper, uow);
     }
 
     /**
@@ -107,7 +131,7 @@ public class SparqlQueryFactory {
     public QueryImpl createQuery(String query) {
         Objects.requireNonNull(query);
 
-        return new QueryImpl(soqlQueryParser.parseQuery(query), connection);
+        return new QueryImpl(parseSoql(query), connection);
     }
 
     /**
@@ -121,7 +145,9 @@ public class SparqlQueryFactory {
      */
     public <T> TypedQueryImpl<T> createQuery(String query, Class<T> resultClass) {
         Objects.requireNonNull(query);
-        return createQueryImpl(query, resultClass, soqlQueryParser);
+        Objects.requireNonNull(resultClass);
+
+        return new TypedQueryImpl<>(parseSoql(query), resultClass, connection, uow);
     }
 
     /**
@@ -44,13 +44,21 @@ public class SparqlQueryHolder implements QueryHolder {
     // These parameters are in order matching the query parts and can appear multiple times in the list
     private final List<QueryParameter<?>> parameters;
     private final List<String> queryParts;
+    // Whether parameter values can be bound by the driver without changing the query semantics
+    private final boolean supportsParameterBinding;
 
     private int offset = 0;
 
     private int limit = Integer.MAX_VALUE;
 
     public SparqlQueryHolder(String query, List<String> parts, List<QueryParameter<?>> parameters) {
+        this(query, parts, parameters, false);
+    }
+
+    public SparqlQueryHolder(String query, List<String> parts, List<QueryParameter<?>> parameters,
+                             boolean supportsParameterBinding) {
         this.query = query;
+        this.supportsParameterBinding = supportsParameterBinding;
         this.parameters = parameters;
         this.queryParts = parts;
         this.parameterSet = new HashMap<>();
@@ -64,6 +72,18 @@ public class SparqlQueryHolder implements QueryHolder {
         return query;
     }
 
+    List<String> getQueryParts() {
+        return queryParts;
+    }
+
+    List<QueryParameter<?>> getParameterOccurrences() {
+        return parameters;
+    }
+
+    boolean supportsParameterBinding() {
+        return supportsParameterBinding;
+    }
+
     @Override
     public Set<Parameter<?>> getParameters() {
         return Collections.unmodifiableSet(parameterSet.keySet());
@@ -163,14 +183,24 @@ public class SparqlQueryHolder implements QueryHolder {
 
     @Override
     public String assembleQuery() {
+        return assembleQuery(null);
+    }
+
+    @Override
+    public String assembleQuery(Map<String, Object> bindings) {
         final StringBuilder sb = new StringBuilder();
         final Set<QueryParameter<?>> projectedParams = new LinkedHashSet<>();
         for (int i = 0; i < parameters.size(); i++) {
             sb.append(queryParts.get(i));
             final QueryParameter<?> qp = parameters.get(i);
+            final Optional<Object> bindingValue = bindings != null ? resolveBindingValue(qp) : Optional.empty();
             if (qp.isProjected() && qp.getValue().isSet()) {
                 projectedParams.add(qp);
                 sb.append(qp.getIdentifierAsQueryString());
+            } else if (bindingValue.isPresent()) {
+                bindings.put(qp.getName(), bindingValue.get());
+                // Trailing space delimits the variable for the driver, which may parse the query less thoroughly
+                sb.append(qp.getIdentifierAsQueryString()).append(' ');
             } else {
                 sb.append(qp.getValue().getQueryString());
             }
@@ -188,6 +218,13 @@ public class SparqlQueryHolder implements QueryHolder {
         return sb.toString();
     }
 
+    private Optional<Object> resolveBindingValue(QueryParameter<?> qp) {
+        if (!supportsParameterBinding || qp.isProjected() || qp.getName() == null) {
+            return Optional.empty();
+        }
+        return qp.getValue().toBindingValue();
+    }
+
     /**
      * Generates a VALUES clause for query parameters that are set and appear in SELECT projection.
      * <p>
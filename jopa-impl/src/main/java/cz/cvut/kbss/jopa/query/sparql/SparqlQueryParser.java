@@ -56,6 +56,8 @@ public class SparqlQueryParser implements QueryParser {
     private boolean inProjection;
     private boolean inComment;
     private boolean inUri;
+    private int selectCount;
+    private boolean wildcardProjection;
 
     public SparqlQueryParser(ParameterValueFactory parameterValueFactory) {
         this.parameterValueFactory = parameterValueFactory;
@@ -117,7 +119,6 @@ public class SparqlQueryParser implements QueryParser {
                 case '[':
                 case ']':
                 case '+':
-                case '*':
                 case '/':
                 case '|':
                     if (inParam) {
@@ -125,6 +126,9 @@ public class SparqlQueryParser implements QueryParser {
                     }
                     wordEnd();
                     break;
+                case '*':
+                    wildcard(i);
+                    break;
                 default:
                     currentWord.append(c);
                     break;
@@ -135,7 +139,7 @@ public class SparqlQueryParser implements QueryParser {
         } else {
             queryParts.add(query.substring(lastParamEndIndex));
         }
-        return new SparqlQueryHolder(query, queryParts, parameters);
+        return new SparqlQueryHolder(query, queryParts, parameters, supportsParameterBinding());
     }
 
     private void resetParser() {
@@ -153,6 +157,8 @@ public class SparqlQueryParser implements QueryParser {
         this.paramStartIndex = 0;
         this.currentParamType = null;
         this.currentWord = new StringBuilder();
+        this.selectCount = 0;
+        this.wildcardProjection = false;
     }
 
     private void startComment(int index, char c) {
@@ -235,8 +241,28 @@ public class SparqlQueryParser implements QueryParser {
         return qp;
     }
 
+    private void wildcard(int index) {
+        if (inProjection && !inComment) {
+            this.wildcardProjection = true;
+        }
+        if (inParam) {
+            parameterEnd(index);
+        }
+        wordEnd();
+    }
+
+    /**
+     * Parameters can be bound by the driver instead of being inserted into the query string only if doing so does not
+     * change the query semantics. That is not the case for subqueries, which do not see values bound outside of them,
+     * and wildcard projections, which would include the bound variables.
+     */
+    private boolean supportsParameterBinding() {
+        return selectCount <= 1 && !wildcardProjection;
+    }
+
     private void wordEnd() {
         if (SparqlConstants.SELECT.equalsIgnoreCase(currentWord.toString())) {
+            selectCount++;
             this.inProjection = true;
         } else if (inProjection && SparqlConstants.WHERE.equalsIgnoreCase(currentWord.toString())) {
             this.inProjection = false;
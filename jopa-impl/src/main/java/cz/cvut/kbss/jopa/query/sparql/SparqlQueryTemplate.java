@@ -0,0 +1,111 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.query.QueryParameter;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable representation of a parsed SPARQL query.
+ * <p>
+ * A template contains the query split into parts delimited by parameter occurrences and descriptors of the parameters.
+ * It can thus be shared by multiple threads and persistence contexts. Query execution uses a {@link SparqlQueryHolder}
+ * created from the template, which holds the parameter values set for the particular query instance.
+ */
+public final class SparqlQueryTemplate {
+
+    private final String query;
+    private final List<String> queryParts;
+    // Distinct parameters of the query
+    private final List<ParameterDescriptor> parameters;
+    // Indexes into parameters, in order matching the query parts. A parameter can appear multiple times
+    private final int[] parameterOccurrences;
+    private final boolean supportsParameterBinding;
+
+    private SparqlQueryTemplate(String query, List<String> queryParts, List<ParameterDescriptor> parameters,
+                                int[] parameterOccurrences, boolean supportsParameterBinding) {
+        this.query = query;
+        this.queryParts = queryParts;
+        this.parameters = parameters;
+        this.parameterOccurrences = parameterOccurrences;
+        this.supportsParameterBinding = supportsParameterBinding;
+    }
+
+    /**
+     * Gets the original query string.
+     *
+     * @return Query string
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Creates a new query holder based on this template.
+     * <p>
+     * The holder has its own parameter instances, so setting their values does not affect other holders created from
+     * this template.
+     *
+     * @param valueFactory Factory for parameter values of the new holder
+     * @return New query holder
+     */
+    public SparqlQueryHolder instantiate(ParameterValueFactory valueFactory) {
+        final List<QueryParameter<?>> distinct = new ArrayList<>(parameters.size());
+        for (ParameterDescriptor pd : parameters) {
+            final QueryParameter<?> qp = pd.name != null ? new QueryParameter<>(pd.name, valueFactory) :
+                                         new QueryParameter<>(pd.position, valueFactory);
+            qp.setProjected(pd.projected);
+            distinct.add(qp);
+        }
+        final List<QueryParameter<?>> occurrences = new ArrayList<>(parameterOccurrences.length);
+        for (int i : parameterOccurrences) {
+            occurrences.add(distinct.get(i));
+        }
+        return new SparqlQueryHolder(query, queryParts, occurrences, supportsParameterBinding);
+    }
+
+    /**
+     * Creates a template from the specified freshly parsed query holder.
+     *
+     * @param holder Query holder produced by a parser, without any parameter values set
+     * @return New query template
+     */
+    public static SparqlQueryTemplate from(SparqlQueryHolder holder) {
+        final Map<QueryParameter<?>, Integer> indexes = new IdentityHashMap<>();
+        final List<ParameterDescriptor> parameters = new ArrayList<>();
+        final List<QueryParameter<?>> occurrences = holder.getParameterOccurrences();
+        final int[] parameterOccurrences = new int[occurrences.size()];
+        for (int i = 0; i < occurrences.size(); i++) {
+            final QueryParameter<?> qp = occurrences.get(i);
+            parameterOccurrences[i] = indexes.computeIfAbsent(qp, p -> {
+                parameters.add(new ParameterDescriptor(p.getName(), p.getPosition(), p.isProjected()));
+                return parameters.size() - 1;
+            });
+        }
+        return new SparqlQueryTemplate(holder.getQuery(), List.copyOf(holder.getQueryParts()),
+                List.copyOf(parameters), parameterOccurrences, holder.supportsParameterBinding());
+    }
+
+    private record ParameterDescriptor(String name, Integer position, boolean projected) {
+    }
+}
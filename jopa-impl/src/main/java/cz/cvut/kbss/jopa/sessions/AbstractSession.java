@@ -19,6 +19,8 @@ package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.sessions.cache.CacheManager;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaBuilder;
+import cz.cvut.kbss.jopa.query.sparql.QueryPlanCache;
+import cz.cvut.kbss.jopa.sessions.descriptor.DescriptorInterner;
 import cz.cvut.kbss.jopa.utils.Configuration;
 
 import java.util.Objects;
@@ -61,4 +63,18 @@ abstract class AbstractSession implements MetamodelProvider, ConfigurationHolder
      * @return Criteria query builder
      */
     public abstract CriteriaBuilder getCriteriaBuilder();
+
+    /**
+     * Gets the cache of parsed queries.
+     *
+     * @return Query plan cache
+     */
+    public abstract QueryPlanCache getQueryPlanCache();
+
+    /**
+     * Gets the interner of entity descriptors.
+     *
+     * @return Descriptor interner
+     */
+    public abstract DescriptorInterner getDescriptorInterner();
 }
@@ -21,9 +21,11 @@ import cz.cvut.kbss.jopa.exceptions.EntityNotFoundException;
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.sessions.cache.CacheManager;
+import cz.cvut.kbss.jopa.sessions.cache.CommittedChanges;
 import cz.cvut.kbss.jopa.model.EntityState;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.LoadState;
+import cz.cvut.kbss.jopa.model.Manageable;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
@@ -32,7 +34,9 @@ import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaBuilder;
+import cz.cvut.kbss.jopa.proxy.IndirectWrapper;
 import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
+import cz.cvut.kbss.jopa.query.sparql.QueryPlanCache;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.cache.Descriptors;
 import cz.cvut.kbss.jopa.sessions.change.Change;
@@ -41,6 +45,7 @@ import cz.cvut.kbss.jopa.sessions.change.ChangeRecord;
 import cz.cvut.kbss.jopa.sessions.change.ChangeSetFactory;
 import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
 import cz.cvut.kbss.jopa.sessions.change.UnitOfWorkChangeSet;
+import cz.cvut.kbss.jopa.sessions.descriptor.DescriptorInterner;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
 import cz.cvut.kbss.jopa.sessions.util.CloneConfiguration;
@@ -58,13 +63,18 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException.individualAlreadyManaged;
 import static cz.cvut.kbss.jopa.sessions.validator.IntegrityConstraintsValidator.getValidator;
@@ -96,6 +106,8 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
     private boolean isActive;
     private boolean flushingChanges;
 
+    private Consumer<Object> registrationListener;
+
     UnitOfWorkChangeSet uowChangeSet = ChangeSetFactory.createUoWChangeSet();
 
     final AbstractSession parent;
@@ -120,7 +132,7 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         this.indirectWrapperHelper = new IndirectWrapperHelper(this);
         this.cloneBuilder = new CloneBuilder(this);
         this.storage = acquireConnection();
-        this.queryFactory = new SparqlQueryFactory(this, storage);
+        this.queryFactory = new SparqlQueryFactory(this, storage, parent.getQueryPlanCache());
         this.mergeManager = new MergeManager(this, cloneBuilder);
         this.changeCalculator = new ChangeCalculator(this);
         this.inferredAttributeChangeValidator = new InferredAttributeChangeValidator(storage);
@@ -171,6 +183,29 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         return parent.getLiveObjectCache();
     }
 
+    @Override
+    public QueryPlanCache getQueryPlanCache() {
+        return parent.getQueryPlanCache();
+    }
+
+    @Override
+    public DescriptorInterner getDescriptorInterner() {
+        return parent.getDescriptorInterner();
+    }
+
+    /**
+     * Gets the canonical instance of the specified descriptor.
+     * <p>
+     * Descriptors entering the persistence context are interned, so that they can be compared by reference in the
+     * persistence context and the second level cache.
+     *
+     * @param descriptor Descriptor to intern
+     * @return Canonical descriptor
+     */
+    Descriptor intern(Descriptor descriptor) {
+        return getDescriptorInterner().intern(descriptor);
+    }
+
     @Override
     public boolean isActive() {
         return isActive;
@@ -212,6 +247,31 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         }
     }
 
+    /**
+     * Removes {@link IndirectWrapper} and {@link LazyLoadingProxy} instances from the specified entity (if present).
+     *
+     * @param entity The entity to remove indirect wrappers from
+     */
+    void removeIndirectWrappersAndProxies(Object entity) {
+        assert entity != null;
+        final EntityType<?> et = entityType(entity.getClass());
+        for (FieldSpecification<?, ?> fs : et.getFieldSpecifications()) {
+            final Object value = EntityPropertiesUtils.getFieldValue(fs.getJavaField(), entity);
+            if (value instanceof IndirectWrapper indirectWrapper) {
+                EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, indirectWrapper.unwrap());
+            } else if (value instanceof LazyLoadingProxy lazyLoadingProxy) {
+                EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, lazyLoadingProxy.unwrap());
+            }
+        }
+    }
+
+    static void deregisterEntityFromPersistenceContext(Object entity) {
+        if (!(entity instanceof Manageable)) {
+            return;
+        }
+        ((Manageable) entity).setPersistenceContext(null);
+    }
+
     /**
      * If there are any changes, commit them to the ontology.
      */
@@ -239,11 +299,12 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
      * Cleans up after the commit.
      */
     private void postCommit() {
-        final boolean changes = hasChanges();
+        final CommittedChanges committedChanges =
+                hasChanges() ? CommittedChangesCollector.collect(uowChangeSet, getMetamodel()) : null;
         clear();
         this.flushingChanges = false;
-        if (changes) {
-            getLiveObjectCache().evictInferredObjects();
+        if (committedChanges != null) {
+            getLiveObjectCache().evictInferredObjects(committedChanges);
         }
     }
 
@@ -269,7 +330,21 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         Objects.requireNonNull(identifier);
         Objects.requireNonNull(descriptor);
 
-        return readObjectInternal(cls, identifier, descriptor);
+        return readObjectInternal(cls, identifier, intern(descriptor));
+    }
+
+    @Override
+    public <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor,
+                            Consumer<Object> registrationListener) {
+        Objects.requireNonNull(registrationListener);
+
+        final Consumer<Object> previous = this.registrationListener;
+        this.registrationListener = previous != null ? previous.andThen(registrationListener) : registrationListener;
+        try {
+            return readObject(cls, identifier, descriptor);
+        } finally {
+            this.registrationListener = previous;
+        }
     }
 
     protected <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor) {
@@ -289,6 +364,49 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         return cls.cast(clone);
     }
 
+    @Override
+    public <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifiers);
+        Objects.requireNonNull(descriptor);
+
+        return readObjectsInternal(cls, identifiers, intern(descriptor));
+    }
+
+    protected <T> List<T> readObjectsInternal(Class<T> cls, List<?> identifiers, Descriptor descriptor) {
+        assert cls != null;
+        assert identifiers != null;
+        assert descriptor != null;
+        return loadObjects(cls, identifiers, descriptor, result -> cls.cast(registerExistingObject(result, new CloneRegistrationDescriptor(descriptor).postCloneHandlers(List.of(new PostLoadInvoker(getMetamodel()))))));
+    }
+
+    private <T> List<T> loadObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor,
+                                    Function<T, T> resultProcessor) {
+        final Map<Object, T> found = new HashMap<>(identifiers.size());
+        final Map<URI, Object> toLoad = new LinkedHashMap<>();
+        for (Object identifier : identifiers) {
+            if (found.containsKey(identifier)) {
+                continue;
+            }
+            final T managed = readManagedObject(cls, identifier, descriptor);
+            if (managed != null) {
+                found.put(identifier, managed);
+            } else {
+                toLoad.put(getValueAsURI(identifier), identifier);
+            }
+        }
+        if (!toLoad.isEmpty()) {
+            final Map<URI, T> loaded = storage.findAll(cls, toLoad.keySet(), descriptor);
+            toLoad.forEach((uri, identifier) -> {
+                final T result = loaded.get(uri);
+                if (result != null) {
+                    found.put(identifier, resultProcessor.apply(result));
+                }
+            });
+        }
+        return identifiers.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
     <T> T readManagedObject(Class<T> cls, Object identifier, Descriptor descriptor) {
         // First try to find the object among new uncommitted objects
         Object result = newObjectsKeyToClone.get(identifier);
@@ -319,11 +437,12 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
     }
 
     @Override
-    public <T> T getReference(Class<T> cls, Object identifier, Descriptor descriptor) {
+    public <T> T getReference(Class<T> cls, Object identifier, Descriptor entityDescriptor) {
         Objects.requireNonNull(cls);
         Objects.requireNonNull(identifier);
-        Objects.requireNonNull(descriptor);
+        Objects.requireNonNull(entityDescriptor);
 
+        final Descriptor descriptor = intern(entityDescriptor);
         final T managed = readManagedObject(cls, identifier, descriptor);
         if (managed != null) {
             return managed;
@@ -339,11 +458,12 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
     }
 
     @Override
-    public <T> T readObjectWithoutRegistration(Class<T> cls, Object identifier, Descriptor descriptor) {
+    public <T> T readObjectWithoutRegistration(Class<T> cls, Object identifier, Descriptor entityDescriptor) {
         Objects.requireNonNull(cls);
         Objects.requireNonNull(identifier);
-        Objects.requireNonNull(descriptor);
+        Objects.requireNonNull(entityDescriptor);
 
+        final Descriptor descriptor = intern(entityDescriptor);
         T result = readManagedObject(cls, identifier, descriptor);
         if (result != null) {
             return result;
@@ -351,6 +471,15 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         return storage.find(new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor));
     }
 
+    @Override
+    public <T> List<T> readObjectsWithoutRegistration(Class<T> cls, List<?> identifiers, Descriptor descriptor) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifiers);
+        Objects.requireNonNull(descriptor);
+
+        return loadObjects(cls, identifiers, intern(descriptor), Function.identity());
+    }
+
     @Override
     public EntityState getState(Object entity) {
         Objects.requireNonNull(entity);
@@ -400,10 +529,11 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
     }
 
     @Override
-    public <T> T mergeDetached(T entity, Descriptor descriptor) {
+    public <T> T mergeDetached(T entity, Descriptor entityDescriptor) {
         Objects.requireNonNull(entity);
-        Objects.requireNonNull(descriptor);
+        Objects.requireNonNull(entityDescriptor);
 
+        final Descriptor descriptor = intern(entityDescriptor);
         final Object id = getIdentifier(entity);
         if (!storage.contains(id, entity.getClass(), descriptor)) {
             registerNewObject(entity, descriptor);
@@ -466,12 +596,52 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         final Object identifier = EntityPropertiesUtils.getIdentifier(clone, getMetamodel());
         keysToClones.put(identifier, clone);
         registerEntityWithOntologyContext(clone, descriptor);
+        if (registrationListener != null) {
+            registrationListener.accept(clone);
+        }
     }
 
     protected <T> IdentifiableEntityType<T> entityType(Class<T> cls) {
         return getMetamodel().entity(cls);
     }
 
+    /**
+     * Check if the specified entity contains a collection. If so, replace it with its indirect representation so that
+     * changes in that collection can be tracked.
+     *
+     * @param entity The entity to check
+     */
+    void checkForIndirectObjects(Object entity) {
+        assert entity != null;
+        final EntityType<?> et = entityType(entity.getClass());
+        for (FieldSpecification<?, ?> fieldSpec : et.getFieldSpecifications()) {
+            setIndirectObjectIfPresent(entity, fieldSpec.getJavaField());
+        }
+    }
+
+    /**
+     * Create and set indirect collection on the specified entity field.
+     * <p>
+     * If the specified field is of Collection type, and it is not already an indirect collection, create new one and
+     * set it as the value of the specified field on the specified entity.
+     *
+     * @param entity The entity collection will be set on
+     * @param field  The field to set
+     * @throws IllegalArgumentException Reflection
+     */
+    void setIndirectObjectIfPresent(Object entity, Field field) {
+        assert entity != null;
+        assert field != null;
+
+        final Object value = EntityPropertiesUtils.getFieldValue(field, entity);
+        if (value instanceof IndirectWrapper) {
+            return;
+        }
+        if (IndirectWrapperHelper.requiresIndirectWrapper(value)) {
+            EntityPropertiesUtils.setFieldValue(field, entity, indirectWrapperHelper.createIndirectWrapper(value, entity, field));
+        }
+    }
+
     /**
      * This method calculates the changes that were to the registered entities and adds these changes into the given
      * change set for future commit to the ontology.
@@ -701,10 +871,11 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
     }
 
     @Override
-    public void registerNewObject(Object entity, Descriptor descriptor) {
+    public void registerNewObject(Object entity, Descriptor entityDescriptor) {
         Objects.requireNonNull(entity);
-        Objects.requireNonNull(descriptor);
+        Objects.requireNonNull(entityDescriptor);
 
+        final Descriptor descriptor = intern(entityDescriptor);
         final IdentifiableEntityType<?> eType = entityType(entity.getClass());
         eType.getLifecycleListenerManager().invokePrePersistCallbacks(entity);
         Object id = initEntityIdentifier(entity, (EntityType<Object>) eType);
@@ -772,9 +943,42 @@ public abstract class AbstractUnitOfWork extends AbstractSession implements Unit
         if (original != null) {
             cloneBuilder.removeVisited(original, repoMap.getEntityDescriptor(object));
         }
+        loadStateRegistry.remove(object);
         unregisterEntityFromOntologyContext(object);
     }
 
+    @Override
+    public void releaseObjects(Collection<?> instances) {
+        Objects.requireNonNull(instances);
+
+        final List<Object> toDetach = new ArrayList<>(instances.size());
+        for (Object instance : instances) {
+            if (!cloneMapping.contains(instance) || deletedObjects.containsKey(instance)) {
+                continue;
+            }
+            if (hasUnwrittenChanges(instance)) {
+                throw new IllegalStateException("Instance " + stringify(instance) + " has been modified and cannot " +
+                        "be detached without losing the changes.");
+            }
+            if (uowChangeSet.getExistingObjectChanges(cloneToOriginals.get(instance)) == null) {
+                toDetach.add(instance);
+            }
+        }
+        toDetach.forEach(instance -> {
+            final Object original = cloneToOriginals.get(instance);
+            unregisterObject(instance);
+            loadStateRegistry.remove(original);
+        });
+    }
+
+    /**
+     * Checks whether the specified managed instance has changes which have not been written into the storage yet.
+     *
+     * @param clone Managed instance
+     * @return {@code true} if detaching the instance would lose changes, {@code false} otherwise
+     */
+    abstract boolean hasUnwrittenChanges(Object clone);
+
     private void unregisterEntityFromOntologyContext(Object entity) {
         assert entity != null;
 
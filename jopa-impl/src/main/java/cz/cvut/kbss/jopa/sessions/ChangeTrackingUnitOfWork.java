@@ -21,11 +21,8 @@ import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.Manageable;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
-import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
-import cz.cvut.kbss.jopa.proxy.IndirectWrapper;
-import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
 import cz.cvut.kbss.jopa.sessions.change.ChangeRecord;
 import cz.cvut.kbss.jopa.sessions.change.ChangeSetFactory;
 import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
@@ -36,6 +33,7 @@ import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.List;
 
 public class ChangeTrackingUnitOfWork extends AbstractUnitOfWork {
 
@@ -52,41 +50,11 @@ public class ChangeTrackingUnitOfWork extends AbstractUnitOfWork {
         return clone;
     }
 
-    /**
-     * Check if the specified entity contains a collection. If so, replace it with its indirect representation so that
-     * changes in that collection can be tracked.
-     *
-     * @param entity The entity to check
-     */
-    private void checkForIndirectObjects(Object entity) {
-        assert entity != null;
-        final EntityType<?> et = entityType(entity.getClass());
-        for (FieldSpecification<?, ?> fieldSpec : et.getFieldSpecifications()) {
-            setIndirectObjectIfPresent(entity, fieldSpec.getJavaField());
-        }
-    }
-
-    /**
-     * Create and set indirect collection on the specified entity field.
-     * <p>
-     * If the specified field is of Collection type, and it is not already an indirect collection, create new one and
-     * set it as the value of the specified field on the specified entity.
-     *
-     * @param entity The entity collection will be set on
-     * @param field  The field to set
-     * @throws IllegalArgumentException Reflection
-     */
-    private void setIndirectObjectIfPresent(Object entity, Field field) {
-        assert entity != null;
-        assert field != null;
-
-        final Object value = EntityPropertiesUtils.getFieldValue(field, entity);
-        if (value instanceof IndirectWrapper) {
-            return;
-        }
-        if (IndirectWrapperHelper.requiresIndirectWrapper(value)) {
-            EntityPropertiesUtils.setFieldValue(field, entity, indirectWrapperHelper.createIndirectWrapper(value, entity, field));
-        }
+    @Override
+    protected <T> List<T> readObjectsInternal(Class<T> cls, List<?> identifiers, Descriptor descriptor) {
+        final List<T> clones = super.readObjectsInternal(cls, identifiers, descriptor);
+        clones.forEach(this::checkForIndirectObjects);
+        return clones;
     }
 
     /**
@@ -123,24 +91,6 @@ public class ChangeTrackingUnitOfWork extends AbstractUnitOfWork {
         newObjectsCloneToOriginal.keySet().forEach(this::removeIndirectWrappersAndProxies);
     }
 
-    /**
-     * Removes {@link IndirectWrapper} and {@link LazyLoadingProxy} instances from the specified entity (if present).
-     *
-     * @param entity The entity to remove indirect wrappers from
-     */
-    private void removeIndirectWrappersAndProxies(Object entity) {
-        assert entity != null;
-        final EntityType<?> et = entityType(entity.getClass());
-        for (FieldSpecification<?, ?> fs : et.getFieldSpecifications()) {
-            final Object value = EntityPropertiesUtils.getFieldValue(fs.getJavaField(), entity);
-            if (value instanceof IndirectWrapper indirectWrapper) {
-                EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, indirectWrapper.unwrap());
-            } else if (value instanceof LazyLoadingProxy lazyLoadingProxy) {
-                EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, lazyLoadingProxy.unwrap());
-            }
-        }
-    }
-
     @Override
     void registerClone(Object clone, Object original, Descriptor descriptor) {
         super.registerClone(clone, original, descriptor);
@@ -155,13 +105,6 @@ public class ChangeTrackingUnitOfWork extends AbstractUnitOfWork {
         ((Manageable) entity).setPersistenceContext(this);
     }
 
-    private static void deregisterEntityFromPersistenceContext(Object entity) {
-        if (!(entity instanceof Manageable)) {
-            return;
-        }
-        ((Manageable) entity).setPersistenceContext(null);
-    }
-
     @Override
     public void attributeChanged(Object entity, Field f) {
         final IdentifiableEntityType<Object> et = entityType((Class<Object>) entity.getClass());
@@ -266,6 +209,12 @@ public class ChangeTrackingUnitOfWork extends AbstractUnitOfWork {
         deregisterEntityFromPersistenceContext(object);
     }
 
+    @Override
+    boolean hasUnwrittenChanges(Object clone) {
+        // Changes are written into the storage immediately
+        return false;
+    }
+
     @Override
     public void removeObject(Object entity) {
         assert entity != null;
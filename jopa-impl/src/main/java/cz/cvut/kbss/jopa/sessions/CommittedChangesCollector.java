@@ -0,0 +1,134 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions;
+
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.model.metamodel.Attribute;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
+import cz.cvut.kbss.jopa.sessions.cache.CommittedChanges;
+import cz.cvut.kbss.jopa.sessions.change.Change;
+import cz.cvut.kbss.jopa.sessions.change.ChangeRecord;
+import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
+import cz.cvut.kbss.jopa.sessions.change.UnitOfWorkChangeSet;
+import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Summarizes a unit of work change set into {@link CommittedChanges} used for second level cache eviction.
+ * <p>
+ * Subjects are identifiers of the new, removed and modified entities together with identifiers of entities referenced
+ * by their (original and new) object property values, as such entities may have inferred values depending on the
+ * changed statements. Lazily loaded references which have not been loaded are not considered.
+ */
+class CommittedChangesCollector {
+
+    private final MetamodelImpl metamodel;
+
+    private final Set<Object> subjects = new HashSet<>();
+    private final Set<URI> contexts = new HashSet<>();
+
+    private CommittedChangesCollector(MetamodelImpl metamodel) {
+        this.metamodel = metamodel;
+    }
+
+    /**
+     * Creates summary of the specified change set.
+     *
+     * @param changeSet Change set to summarize
+     * @param metamodel Metamodel used to resolve entity identifiers
+     * @return Summary of committed changes
+     */
+    static CommittedChanges collect(UnitOfWorkChangeSet changeSet, MetamodelImpl metamodel) {
+        final CommittedChangesCollector collector = new CommittedChangesCollector(metamodel);
+        changeSet.getNewObjects().forEach(collector::addWholeObject);
+        changeSet.getDeletedObjects().forEach(collector::addWholeObject);
+        changeSet.getExistingObjectsChanges().forEach(collector::addChangedObject);
+        return new CommittedChanges(collector.subjects, collector.contexts);
+    }
+
+    private void addWholeObject(Change change) {
+        addSubject(change);
+        for (FieldSpecification<?, ?> fs : metamodel.entity(change.getObjectClass()).getFieldSpecifications()) {
+            if (isObjectProperty(fs)) {
+                addReferences(EntityPropertiesUtils.getAttributeValue(fs, change.getClone()));
+                addContexts(change.getDescriptor().getAttributeContexts(fs));
+            }
+        }
+    }
+
+    private void addChangedObject(ObjectChangeSet changeSet) {
+        addSubject(changeSet);
+        for (ChangeRecord record : changeSet.getChanges()) {
+            final FieldSpecification<?, ?> fs = record.getAttribute();
+            addContexts(changeSet.getDescriptor().getAttributeContexts(fs));
+            if (isObjectProperty(fs)) {
+                addReferences(record.getNewValue());
+                if (changeSet.getOriginal() != null) {
+                    addReferences(EntityPropertiesUtils.getAttributeValue(fs, changeSet.getOriginal()));
+                }
+            }
+        }
+    }
+
+    private void addSubject(Change change) {
+        subjects.add(EntityPropertiesUtils.getIdentifier(change.getClone(), metamodel));
+        addContexts(change.getDescriptor().getContexts());
+    }
+
+    private void addContexts(Set<URI> ctx) {
+        if (ctx.isEmpty()) {
+            contexts.add(null);
+        } else {
+            contexts.addAll(ctx);
+        }
+    }
+
+    private static boolean isObjectProperty(FieldSpecification<?, ?> fs) {
+        return fs instanceof Attribute<?, ?> att && att.isAssociation();
+    }
+
+    private void addReferences(Object value) {
+        if (value == null || value instanceof LazyLoadingProxy<?>) {
+            return;
+        }
+        if (value instanceof Collection<?> col) {
+            col.forEach(this::addReference);
+        } else {
+            addReference(value);
+        }
+    }
+
+    private void addReference(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (metamodel.isEntityType(value.getClass())) {
+            final URI id = EntityPropertiesUtils.getIdentifier(value, metamodel);
+            if (id != null) {
+                subjects.add(id);
+            }
+        } else {
+            subjects.add(value);
+        }
+    }
+}
@@ -27,12 +27,15 @@ import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.Wrapper;
 import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class ConnectionWrapper implements Wrapper {
@@ -61,6 +64,10 @@ public class ConnectionWrapper implements Wrapper {
         return mapper.loadEntity(loadingParameters);
     }
 
+    public <T> Map<URI, T> findAll(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor) {
+        return mapper.loadEntities(cls, identifiers, descriptor);
+    }
+
     public <T> T getReference(LoadingParameters<T> loadingParameters) {
         return mapper.getReference(loadingParameters);
     }
@@ -154,6 +161,14 @@ public class ConnectionWrapper implements Wrapper {
         }
     }
 
+    public PreparedStatement prepareStatement(String sparql) {
+        try {
+            return connection.prepareStatement(sparql);
+        } catch (OntoDriverException e) {
+            throw new OWLPersistenceException(e);
+        }
+    }
+
     @Override
     public <T> T unwrap(Class<T> cls) {
         try {
@@ -18,6 +18,8 @@
 package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.Manageable;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.lifecycle.LifecycleEvent;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
@@ -30,16 +32,68 @@ import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
 
+    private final boolean dirtyTracking;
+
+    /**
+     * Attributes modified in the current transaction, by managed instance. Used only when dirty tracking is enabled.
+     */
+    private final Map<Object, Set<FieldSpecification<?, ?>>> dirtyAttributes = new IdentityHashMap<>();
+
     OnCommitChangePropagatingUnitOfWork(AbstractSession parent, Configuration configuration) {
         super(parent, configuration);
+        this.dirtyTracking = configuration.is(JOPAPersistenceProperties.DIRTY_TRACKING);
+    }
+
+    @Override
+    protected <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor) {
+        final T clone = super.readObjectInternal(cls, identifier, descriptor);
+        if (dirtyTracking && clone != null) {
+            checkForIndirectObjects(clone);
+        }
+        return clone;
+    }
+
+    @Override
+    protected <T> List<T> readObjectsInternal(Class<T> cls, List<?> identifiers, Descriptor descriptor) {
+        final List<T> clones = super.readObjectsInternal(cls, identifiers, descriptor);
+        if (dirtyTracking) {
+            clones.forEach(this::checkForIndirectObjects);
+        }
+        return clones;
     }
 
     @Override
     void detachAllManagedInstances() {
-        cloneMapping.forEach(this::removeLazyLoadingProxies);
+        if (dirtyTracking) {
+            cloneMapping.forEach(instance -> {
+                removeIndirectWrappersAndProxies(instance);
+                deregisterEntityFromPersistenceContext(instance);
+            });
+        } else {
+            cloneMapping.forEach(this::removeLazyLoadingProxies);
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        dirtyAttributes.clear();
+    }
+
+    @Override
+    void registerClone(Object clone, Object original, Descriptor descriptor) {
+        super.registerClone(clone, original, descriptor);
+        if (dirtyTracking && !isFlushingChanges() && clone instanceof Manageable manageable) {
+            manageable.setPersistenceContext(this);
+        }
     }
 
     @Override
@@ -77,21 +131,41 @@ public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
     @Override
     void calculateChanges() {
         super.calculateChanges();
-        cloneToOriginals.entrySet().stream().filter(e -> !deletedObjects.containsKey(e.getKey())).forEach(e -> {
-            final Object original = e.getValue();
-            final Object clone = e.getKey();
-            ObjectChangeSet chSet = ChangeSetFactory.createObjectChangeSet(original, clone, getDescriptor(clone));
-            changeCalculator.calculateChanges(chSet);
-            processInferredValueChanges(chSet);
-            if (chSet.hasChanges()) {
-                uowChangeSet.addObjectChangeSet(chSet);
-            }
-        });
+        if (dirtyTracking) {
+            calculateDirtyAttributeChanges();
+        } else {
+            cloneToOriginals.entrySet().stream().filter(e -> !deletedObjects.containsKey(e.getKey())).forEach(e -> {
+                final Object original = e.getValue();
+                final Object clone = e.getKey();
+                ObjectChangeSet chSet = ChangeSetFactory.createObjectChangeSet(original, clone, getDescriptor(clone));
+                changeCalculator.calculateChanges(chSet);
+                registerCalculatedChanges(chSet);
+            });
+        }
         if (uowChangeSet.hasChanges()) {
             setHasChanges();
         }
     }
 
+    private void calculateDirtyAttributeChanges() {
+        dirtyAttributes.forEach((clone, attributes) -> {
+            final Object original = cloneToOriginals.get(clone);
+            if (original == null || deletedObjects.containsKey(clone)) {
+                return;
+            }
+            ObjectChangeSet chSet = ChangeSetFactory.createObjectChangeSet(original, clone, getDescriptor(clone));
+            changeCalculator.calculateChanges(chSet, attributes);
+            registerCalculatedChanges(chSet);
+        });
+    }
+
+    private void registerCalculatedChanges(ObjectChangeSet chSet) {
+        processInferredValueChanges(chSet);
+        if (chSet.hasChanges()) {
+            uowChangeSet.addObjectChangeSet(chSet);
+        }
+    }
+
     @Override
     <T> T mergeDetachedInternal(T toMerge, Descriptor descriptor) {
         assert toMerge != null;
@@ -107,6 +181,8 @@ public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
                 final DetachedInstanceMerger merger = new DetachedInstanceMerger(this);
                 merger.mergeChangesFromDetachedToManagedInstance(chSet, descriptor);
                 uowChangeSet.addObjectChangeSet(copyChangeSet(chSet, getOriginal(clone), clone, descriptor));
+                // Changes are recalculated from dirty attributes on commit, so the merged ones must be among them
+                chSet.getChanges().forEach(record -> attributeChanged(clone, record.getAttribute()));
             }
         } catch (OWLEntityExistsException e) {
             unregisterObject(clone);
@@ -129,21 +205,47 @@ public class OnCommitChangePropagatingUnitOfWork extends AbstractUnitOfWork {
     @Override
     public void unregisterObject(Object object) {
         super.unregisterObject(object);
-        removeLazyLoadingProxies(object);
+        if (dirtyTracking) {
+            dirtyAttributes.remove(object);
+            removeIndirectWrappersAndProxies(object);
+            deregisterEntityFromPersistenceContext(object);
+        } else {
+            removeLazyLoadingProxies(object);
+        }
+    }
+
+    @Override
+    boolean hasUnwrittenChanges(Object clone) {
+        // Changes are written into the storage only on commit
+        final ObjectChangeSet chSet =
+                ChangeSetFactory.createObjectChangeSet(cloneToOriginals.get(clone), clone, getDescriptor(clone));
+        if (dirtyTracking) {
+            final Set<FieldSpecification<?, ?>> attributes = dirtyAttributes.get(clone);
+            return attributes != null && changeCalculator.calculateChanges(chSet, attributes);
+        }
+        return changeCalculator.calculateChanges(chSet);
     }
 
     @Override
     public void attributeChanged(Object entity, Field f) {
-        // Do nothing
+        if (dirtyTracking) {
+            attributeChanged(entity, entityType(entity.getClass()).getFieldSpecification(f.getName()));
+        }
     }
 
     @Override
     public void attributeChanged(Object entity, FieldSpecification<?, ?> fieldSpec) {
-        // Do nothing
+        if (dirtyTracking) {
+            // Changes are calculated on commit, just remember which attributes have to be compared
+            dirtyAttributes.computeIfAbsent(entity, k -> new HashSet<>()).add(fieldSpec);
+        }
     }
 
     @Override
     public Object createIndirectCollection(Object collection, Object owner, Field field) {
+        if (dirtyTracking) {
+            return indirectWrapperHelper.createIndirectWrapper(collection, owner, field);
+        }
         // Do not create any special kind of collection, just return the argument
         return collection;
     }
@@ -28,6 +28,8 @@ import java.util.Set;
 final class RepositoryMap {
 
     private final Map<Set<URI>, Map<Object, Object>> origsToClones = new HashMap<>();
+    // Shortcut for frozen (canonical) descriptors, which can be compared by reference
+    private final Map<Descriptor, Map<Object, Object>> frozenDescriptorMaps = new IdentityHashMap<>();
     private Map<Object, Descriptor> entityDescriptors;
 
     RepositoryMap() {
@@ -97,7 +99,13 @@ final class RepositoryMap {
     }
 
     private Map<Object, Object> getMap(Descriptor descriptor) {
-        final Set<URI> ctx = descriptor.getContexts();
+        if (descriptor.isFrozen()) {
+            return frozenDescriptorMaps.computeIfAbsent(descriptor, d -> getMap(d.getContexts()));
+        }
+        return getMap(descriptor.getContexts());
+    }
+
+    private Map<Object, Object> getMap(Set<URI> ctx) {
         Map<Object, Object> entities;
         if (!origsToClones.containsKey(ctx)) {
             entities = new IdentityHashMap<>();
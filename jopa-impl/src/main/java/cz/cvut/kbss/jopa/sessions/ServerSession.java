@@ -25,7 +25,9 @@ import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
 import cz.cvut.kbss.jopa.model.query.criteria.CriteriaBuilder;
 import cz.cvut.kbss.jopa.query.criteria.CriteriaBuilderImpl;
+import cz.cvut.kbss.jopa.query.sparql.QueryPlanCache;
 import cz.cvut.kbss.jopa.sessions.cache.CacheFactory;
+import cz.cvut.kbss.jopa.sessions.descriptor.DescriptorInterner;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.utils.ChangeTrackingMode;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -53,6 +55,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
     private CacheManager liveObjectCache;
     private StorageAccessor storageAccessor;
     private final CriteriaBuilder criteriaBuilder;
+    private final QueryPlanCache queryPlanCache;
+    private final DescriptorInterner descriptorInterner = new DescriptorInterner();
 
     private Map<EntityTransaction, AbstractEntityManager> runningTransactions;
 
@@ -60,6 +64,7 @@ public class ServerSession extends AbstractSession implements Wrapper {
         super(new Configuration());
         this.metamodel = metamodel;
         this.criteriaBuilder = new CriteriaBuilderImpl(metamodel);
+        this.queryPlanCache = new QueryPlanCache(configuration.getProperties());
     }
 
     public ServerSession(OntologyStorageProperties storageProperties, Configuration configuration,
@@ -67,6 +72,7 @@ public class ServerSession extends AbstractSession implements Wrapper {
         super(configuration);
         this.metamodel = metamodel;
         this.criteriaBuilder = new CriteriaBuilderImpl(metamodel);
+        this.queryPlanCache = new QueryPlanCache(configuration.getProperties());
         initialize(storageProperties, configuration, metamodel);
     }
 
@@ -117,6 +123,16 @@ public class ServerSession extends AbstractSession implements Wrapper {
         return liveObjectCache;
     }
 
+    @Override
+    public QueryPlanCache getQueryPlanCache() {
+        return queryPlanCache;
+    }
+
+    @Override
+    public DescriptorInterner getDescriptorInterner() {
+        return descriptorInterner;
+    }
+
     public void transactionStarted(EntityTransaction t, AbstractEntityManager em) {
         assert t.isActive();
         runningTransactions.put(t, em);
@@ -146,6 +162,7 @@ public class ServerSession extends AbstractSession implements Wrapper {
             }
         }
         liveObjectCache.close();
+        queryPlanCache.clear();
     }
 
     @Override
@@ -170,6 +187,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
             return cls.cast(this);
         } else if (cls.isAssignableFrom(liveObjectCache.getClass())) {
             return cls.cast(liveObjectCache);
+        } else if (cls.isAssignableFrom(queryPlanCache.getClass())) {
+            return cls.cast(queryPlanCache);
         }
         return storageAccessor.unwrap(cls);
     }
@@ -30,7 +30,9 @@ import cz.cvut.kbss.jopa.utils.Wrapper;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Represents a persistence context.
@@ -163,6 +165,43 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor);
 
+    /**
+     * Retrieves object with the specified identifier and reports all instances registered in this persistence context
+     * by the retrieval.
+     * <p>
+     * Besides the object itself (if it was not managed before), the listener receives all the instances referenced by
+     * the object which were loaded and registered together with it.
+     *
+     * @param cls                  The type of the returned object
+     * @param identifier           Instance identifier
+     * @param descriptor           Entity descriptor
+     * @param registrationListener Receives the newly registered instances
+     * @return The retrieved object or {@code null} if there is no object with the specified identifier in the specified
+     * repository
+     * @throws NullPointerException    If {@code cls}, {@code identifier}, {@code repository} or
+     *                                 {@code registrationListener} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     * @see #readObject(Class, Object, Descriptor)
+     */
+    <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor, Consumer<Object> registrationListener);
+
+    /**
+     * Retrieves objects with the specified identifiers.
+     * <p>
+     * Objects which are not yet managed by this persistence context are loaded from the storage in a single batch.
+     * <p>
+     * The result is ordered in the same way as the specified identifiers. Identifiers for which no object exists are
+     * skipped.
+     *
+     * @param cls         The type of the returned objects
+     * @param identifiers Instance identifiers
+     * @param descriptor  Entity descriptor
+     * @return List of retrieved objects
+     * @throws NullPointerException    If {@code cls}, {@code identifiers} or {@code descriptor} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     */
+    <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor);
+
     /**
      * Reads an object but does not register it with this persistence context.
      * <p>
@@ -176,6 +215,23 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     <T> T readObjectWithoutRegistration(Class<T> cls, Object identifier, Descriptor descriptor);
 
+    /**
+     * Reads objects with the specified identifiers but does not register them with this persistence context.
+     * <p>
+     * Objects already managed by this persistence context are returned as they are, the remaining ones are loaded from
+     * the storage in a single batch.
+     * <p>
+     * The result is ordered in the same way as the specified identifiers. Identifiers for which no object exists are
+     * skipped.
+     *
+     * @param cls         Expected result class
+     * @param identifiers Object identifiers
+     * @param descriptor  Entity descriptor
+     * @return List of retrieved objects
+     * @see #readObjectWithoutRegistration(Class, Object, Descriptor)
+     */
+    <T> List<T> readObjectsWithoutRegistration(Class<T> cls, List<?> identifiers, Descriptor descriptor);
+
     /**
      * Retrieves a reference to an object with the specified identifier.
      * <p>
@@ -293,6 +349,19 @@ public interface UnitOfWork extends ConfigurationHolder, MetamodelProvider, Wrap
      */
     void unregisterObject(Object object);
 
+    /**
+     * Detaches the specified instances loaded by a query result stream from this Unit of Work.
+     * <p>
+     * Unlike {@link #unregisterObject(Object)}, this method does not lose changes. Instances whose changes have already
+     * been written into the storage remain managed so that the changes are merged into the second level cache on
+     * commit. The same holds for removed instances. Instances which are not managed are skipped.
+     *
+     * @param instances Clones to detach
+     * @throws IllegalStateException If any of the instances has been modified and the changes have not been written
+     *                               into the storage yet. No instance is detached in this case
+     */
+    void releaseObjects(Collection<?> instances);
+
     /**
      * Writes any uncommitted changes into the ontology.
      */
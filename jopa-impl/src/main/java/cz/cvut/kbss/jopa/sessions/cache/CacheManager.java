@@ -68,6 +68,16 @@ public interface CacheManager extends Cache {
      */
     void evictInferredObjects();
 
+    /**
+     * Removes objects with (possibly) inferred attributes which may have been affected by the specified changes from
+     * the cache.
+     * <p>
+     * Which objects are evicted is determined by the configured {@link InferredObjectEvictionPolicy}.
+     *
+     * @param changes Changes committed to the repository
+     */
+    void evictInferredObjects(CommittedChanges changes);
+
     /**
      * Set the inferred classes for this cache manager.
      * <p>
@@ -0,0 +1,62 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Summary of changes committed by a transaction.
+ * <p>
+ * Used to determine which cached instances of inferred classes may have been affected by the transaction.
+ *
+ * @param subjects Identifiers of changed (including new and removed) entities and of entities referenced by the changed
+ *                 attribute values
+ * @param contexts Repository contexts in which the changes were made, {@code null} represents the default context
+ */
+public record CommittedChanges(Set<Object> subjects, Set<URI> contexts) {
+
+    public CommittedChanges {
+        Objects.requireNonNull(subjects);
+        Objects.requireNonNull(contexts);
+        subjects = Collections.unmodifiableSet(subjects);
+        contexts = Collections.unmodifiableSet(contexts);
+    }
+
+    /**
+     * Checks whether the specified subject was affected by the committed changes.
+     *
+     * @param subject Subject identifier
+     * @return {@code true} if the subject was changed or referenced by a changed value, {@code false} otherwise
+     */
+    public boolean affectsSubject(Object subject) {
+        return subjects.contains(subject);
+    }
+
+    /**
+     * Checks whether the specified context was changed.
+     *
+     * @param context Context identifier, {@code null} represents the default context
+     * @return {@code true} if the context was changed, {@code false} otherwise
+     */
+    public boolean affectsContext(URI context) {
+        return contexts.contains(context);
+    }
+}
@@ -0,0 +1,465 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Second level cache implementation designed for highly concurrent access.
+ * <p>
+ * The cache is striped by repository context. Reads never block, writes lock only the context they modify. Entries are
+ * kept in an access-ordered list, so when the capacity is reached, the least recently used entries are evicted in
+ * constant time by the thread which caused the overflow. Reads update the access order only if the list is not being
+ * modified concurrently, so the eviction order is an approximation of LRU under heavy contention.
+ * <p>
+ * If time to live is configured ({@link JOPAPersistenceProperties#CACHE_TTL}), entries which have not been accessed
+ * for longer than the time to live are treated as missing and removed lazily, so no sweeper thread is needed.
+ */
+public class ConcurrentCacheManager implements CacheManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentCacheManager.class);
+
+    /**
+     * Default cache size limit in number of entries.
+     */
+    public static final int DEFAULT_CAPACITY = LruCacheManager.DEFAULT_CAPACITY;
+
+    private static final String DEFAULT_CONTEXT_BASE = "http://defaultContext";
+
+    private final int capacity;
+    // Time to live in nanoseconds, 0 means no expiration
+    private final long timeToLive;
+    private final URI defaultContext;
+
+    private final ConcurrentMap<URI, ConcurrentMap<EntryKey, CacheEntry>> repoCache = new ConcurrentHashMap<>();
+    // Need to use identity to cope with entities overriding equals/hashcode
+    final ConcurrentMap<InstanceKey, CacheEntry> instances = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // Guards the access order list
+    private final ReentrantLock lruLock = new ReentrantLock();
+    // Least recently used entry is the head, most recently used is the tail
+    private CacheEntry head;
+    private CacheEntry tail;
+
+    private volatile Set<Class<?>> inferredClasses = Collections.emptySet();
+
+    private final InferredObjectEvictionPolicy evictionPolicy;
+
+    ConcurrentCacheManager() {
+        this(Collections.emptyMap());
+    }
+
+    ConcurrentCacheManager(Map<String, String> properties) {
+        Objects.requireNonNull(properties);
+        this.capacity = resolveCapacity(properties);
+        this.timeToLive = resolveTimeToLive(properties);
+        this.defaultContext = URI.create(DEFAULT_CONTEXT_BASE + System.currentTimeMillis());
+        this.evictionPolicy = InferredObjectEvictionPolicy.fromProperties(properties);
+    }
+
+    private static int resolveCapacity(Map<String, String> properties) {
+        if (!properties.containsKey(JOPAPersistenceProperties.LRU_CACHE_CAPACITY)) {
+            return DEFAULT_CAPACITY;
+        }
+        try {
+            final int capacitySetting = Integer.parseInt(properties.get(JOPAPersistenceProperties.LRU_CACHE_CAPACITY));
+            if (capacitySetting <= 0) {
+                LOG.warn("Invalid cache capacity value {}. Using default value.", capacitySetting);
+                return DEFAULT_CAPACITY;
+            }
+            return capacitySetting;
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse cache capacity setting. Using default capacity {}.", DEFAULT_CAPACITY);
+            return DEFAULT_CAPACITY;
+        }
+    }
+
+    private static long resolveTimeToLive(Map<String, String> properties) {
+        if (!properties.containsKey(JOPAPersistenceProperties.CACHE_TTL)) {
+            return 0L;
+        }
+        final String strCacheTtl = properties.get(JOPAPersistenceProperties.CACHE_TTL);
+        try {
+            // The property is in seconds
+            final long ttl = Long.parseLong(strCacheTtl);
+            return ttl > 0 ? TimeUnit.SECONDS.toNanos(ttl) : 0L;
+        } catch (NumberFormatException e) {
+            LOG.warn("Unable to parse cache time to live setting value {}, entries will not expire.", strCacheTtl);
+            return 0L;
+        }
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    @Override
+    public void add(Object identifier, Object entity, Descriptors descriptors) {
+        Objects.requireNonNull(identifier);
+        Objects.requireNonNull(entity);
+        Objects.requireNonNull(descriptors);
+
+        final Descriptor repoDescriptor = descriptors.repositoryDescriptor();
+        if (repoDescriptor.getContexts().size() > 1) {
+            return;
+        }
+        final URI ctx = repoDescriptor.getSingleContext().orElse(defaultContext);
+        final EntryKey key = new EntryKey(identifier, entity.getClass());
+        final CacheEntry entry = new CacheEntry(ctx, key, entity, descriptors);
+        repoCache.compute(ctx, (c, ctxCache) -> {
+            final ConcurrentMap<EntryKey, CacheEntry> m = ctxCache != null ? ctxCache : new ConcurrentHashMap<>();
+            instances.put(new InstanceKey(entity), entry);
+            final CacheEntry previous = m.put(key, entry);
+            link(entry);
+            if (previous != null) {
+                unlink(previous);
+                instances.remove(new InstanceKey(previous.instance), previous);
+            } else {
+                size.incrementAndGet();
+            }
+            return m;
+        });
+        if (size.get() > capacity) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Removes the least recently used entries so that the cache fits into its capacity.
+     */
+    private void evictLeastRecentlyUsed() {
+        final List<CacheEntry> toEvict = new ArrayList<>();
+        lruLock.lock();
+        try {
+            CacheEntry e = head;
+            for (int overflow = size.get() - capacity; overflow > 0 && e != null; overflow--) {
+                toEvict.add(e);
+                e = e.next;
+            }
+        } finally {
+            lruLock.unlock();
+        }
+        // Removal locks the context, so it has to happen outside the access order lock
+        toEvict.forEach(this::remove);
+    }
+
+    private void remove(CacheEntry entry) {
+        repoCache.computeIfPresent(entry.context, (c, m) -> {
+            if (m.remove(entry.key, entry)) {
+                unlink(entry);
+                instances.remove(new InstanceKey(entry.instance), entry);
+                size.decrementAndGet();
+            }
+            return m.isEmpty() ? null : m;
+        });
+    }
+
+    private void link(CacheEntry entry) {
+        lruLock.lock();
+        try {
+            linkLast(entry);
+        } finally {
+            lruLock.unlock();
+        }
+    }
+
+    private void unlink(CacheEntry entry) {
+        lruLock.lock();
+        try {
+            unlinkEntry(entry);
+        } finally {
+            lruLock.unlock();
+        }
+    }
+
+    /**
+     * Moves the specified entry to the end of the access order list, unless the list is locked by another thread.
+     */
+    private void recordAccess(CacheEntry entry) {
+        entry.touch();
+        if (!lruLock.tryLock()) {
+            return;
+        }
+        try {
+            if (entry.linked && entry != tail) {
+                unlinkEntry(entry);
+                linkLast(entry);
+            }
+        } finally {
+            lruLock.unlock();
+        }
+    }
+
+    private void linkLast(CacheEntry entry) {
+        assert lruLock.isHeldByCurrentThread();
+        entry.prev = tail;
+        entry.next = null;
+        if (tail != null) {
+            tail.next = entry;
+        } else {
+            head = entry;
+        }
+        tail = entry;
+        entry.linked = true;
+    }
+
+    private void unlinkEntry(CacheEntry entry) {
+        assert lruLock.isHeldByCurrentThread();
+        if (!entry.linked) {
+            return;
+        }
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            head = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        } else {
+            tail = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.linked = false;
+    }
+
+    @Override
+    public <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return null;
+        }
+        final CacheEntry entry = find(cls, identifier, descriptor);
+        if (entry == null) {
+            return null;
+        }
+        recordAccess(entry);
+        return cls.cast(entry.instance);
+    }
+
+    private CacheEntry find(Class<?> cls, Object identifier, Descriptor descriptor) {
+        final Set<URI> contexts =
+                descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
+        final EntryKey key = new EntryKey(identifier, cls);
+        for (URI ctx : contexts) {
+            final Map<EntryKey, CacheEntry> m = repoCache.get(ctx);
+            if (m == null) {
+                continue;
+            }
+            final CacheEntry entry = m.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (isExpired(entry)) {
+                remove(entry);
+                continue;
+            }
+            if (entry.descriptors.repositoryDescriptor().equals(descriptor)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private boolean isExpired(CacheEntry entry) {
+        return timeToLive > 0 && System.nanoTime() - entry.lastAccess() > timeToLive;
+    }
+
+    @Override
+    public LoadStateDescriptor<?> getLoadStateDescriptor(Object instance) {
+        if (instance == null) {
+            return null;
+        }
+        final CacheEntry entry = instances.get(new InstanceKey(instance));
+        return entry != null ? entry.descriptors.loadStateDescriptor() : null;
+    }
+
+    @Override
+    public boolean contains(Class<?> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return false;
+        }
+        return find(cls, identifier, descriptor) != null;
+    }
+
+    @Override
+    public void evict(Class<?> cls, Object identifier, URI context) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifier);
+
+        final URI ctx = context != null ? context : defaultContext;
+        final Map<EntryKey, CacheEntry> m = repoCache.get(ctx);
+        if (m == null) {
+            return;
+        }
+        final CacheEntry entry = m.get(new EntryKey(identifier, cls));
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    @Override
+    public void evict(Class<?> cls) {
+        Objects.requireNonNull(cls);
+
+        repoCache.values().forEach(m -> m.values().forEach(e -> {
+            if (e.key.cls.equals(cls)) {
+                remove(e);
+            }
+        }));
+    }
+
+    @Override
+    public void evict(URI context) {
+        final URI ctx = context != null ? context : defaultContext;
+        final Map<EntryKey, CacheEntry> m = repoCache.remove(ctx);
+        if (m == null) {
+            return;
+        }
+        m.values().forEach(e -> {
+            unlink(e);
+            instances.remove(new InstanceKey(e.instance), e);
+            size.decrementAndGet();
+        });
+    }
+
+    @Override
+    public void evictAll() {
+        repoCache.keySet().forEach(this::evict);
+    }
+
+    @Override
+    public void evictInferredObjects() {
+        inferredClasses.forEach(this::evict);
+    }
+
+    @Override
+    public void evictInferredObjects(CommittedChanges changes) {
+        Objects.requireNonNull(changes);
+        final Set<Class<?>> classes = inferredClasses;
+        if (evictionPolicy == StandardEvictionPolicy.ALL) {
+            classes.forEach(this::evict);
+            return;
+        }
+        if (evictionPolicy == StandardEvictionPolicy.SUBJECT) {
+            // Look up the changed subjects directly instead of scanning the whole cache
+            repoCache.values().forEach(m -> changes.subjects().forEach(identifier -> classes.forEach(cls -> {
+                final CacheEntry entry = m.get(new EntryKey(identifier, cls));
+                if (entry != null) {
+                    remove(entry);
+                }
+            })));
+            return;
+        }
+        repoCache.forEach((ctx, m) -> {
+            final URI context = defaultContext.equals(ctx) ? null : ctx;
+            m.values().forEach(e -> {
+                if (classes.contains(e.key.cls) && evictionPolicy.shouldEvict(e.key.cls, e.key.identifier, context,
+                        changes)) {
+                    remove(e);
+                }
+            });
+        });
+    }
+
+    @Override
+    public void setInferredClasses(Set<Class<?>> inferredClasses) {
+        this.inferredClasses = inferredClasses != null ? inferredClasses : Collections.emptySet();
+    }
+
+    @Override
+    public void close() {
+        evictAll();
+    }
+
+    private record EntryKey(Object identifier, Class<?> cls) {
+    }
+
+    /**
+     * Wraps cached instance so that it is compared by identity.
+     */
+    static final class InstanceKey {
+        private final Object instance;
+
+        InstanceKey(Object instance) {
+            this.instance = instance;
+        }
+
+        Object getInstance() {
+            return instance;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof InstanceKey other && instance == other.instance;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(instance);
+        }
+    }
+
+    static final class CacheEntry {
+        private final URI context;
+        private final EntryKey key;
+        private final Object instance;
+        private final Descriptors descriptors;
+        private volatile long lastAccess;
+        // Access order list pointers, guarded by lruLock
+        private CacheEntry prev;
+        private CacheEntry next;
+        private boolean linked;
+
+        private CacheEntry(URI context, EntryKey key, Object instance, Descriptors descriptors) {
+            this.context = context;
+            this.key = key;
+            this.instance = instance;
+            this.descriptors = descriptors;
+            this.lastAccess = System.nanoTime();
+        }
+
+        private void touch() {
+            this.lastAccess = System.nanoTime();
+        }
+
+        private long lastAccess() {
+            return lastAccess;
+        }
+    }
+}
@@ -46,6 +46,11 @@ public class DisabledCacheManager implements CacheManager {
         // Do nothing
     }
 
+    @Override
+    public void evictInferredObjects(CommittedChanges changes) {
+        // Do nothing
+    }
+
     @Override
     public void setInferredClasses(Set<Class<?>> inferredClasses) {
         // Do nothing
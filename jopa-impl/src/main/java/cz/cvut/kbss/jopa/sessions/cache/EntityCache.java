@@ -21,9 +21,11 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -160,6 +162,43 @@ class EntityCache {
         }
     }
 
+    /**
+     * Evicts instances of the specified classes which should be evicted according to the specified policy.
+     *
+     * @param classes Classes whose instances may be evicted
+     * @param policy  Eviction policy
+     * @param changes Committed changes passed to the policy
+     */
+    void evict(Set<Class<?>> classes, InferredObjectEvictionPolicy policy, CommittedChanges changes) {
+        if (policy == StandardEvictionPolicy.ALL) {
+            classes.forEach(this::evict);
+            return;
+        }
+        final List<CacheNode> toEvict = new ArrayList<>();
+        if (policy == StandardEvictionPolicy.SUBJECT) {
+            // Look up the changed subjects directly instead of scanning the whole cache
+            repoCache.forEach((ctx, ctxMap) -> changes.subjects().forEach(identifier -> {
+                final Map<Class<?>, Object> instances = ctxMap.getOrDefault(identifier, Collections.emptyMap());
+                instances.keySet().stream().filter(classes::contains)
+                         .forEach(cls -> toEvict.add(new CacheNode(ctx, cls, identifier)));
+            }));
+            toEvict.forEach(n -> evict(n.cls(), n.identifier(), n.context()));
+            return;
+        }
+        repoCache.forEach((ctx, ctxMap) -> {
+            final URI context = defaultContext.equals(ctx) ? null : ctx;
+            ctxMap.forEach((identifier, instances) -> instances.keySet().forEach(cls -> {
+                if (classes.contains(cls) && policy.shouldEvict(cls, identifier, context, changes)) {
+                    toEvict.add(new CacheNode(ctx, cls, identifier));
+                }
+            }));
+        });
+        toEvict.forEach(n -> evict(n.cls(), n.identifier(), n.context()));
+    }
+
+    private record CacheNode(URI context, Class<?> cls, Object identifier) {
+    }
+
     private Map<Class<?>, Object> getMapForId(URI context, Object identifier) {
         assert identifier != null;
 
@@ -0,0 +1,83 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.exception.InstantiationException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.utils.ReflectionUtils;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Determines which cached instances of inferred classes have to be evicted from the second level cache after a
+ * transaction commit.
+ * <p>
+ * Inferred attribute values may change whenever the repository changes, but most inference is local to the changed
+ * data. Policies allow to trade the precision of the eviction for the number of cache misses.
+ *
+ * @see StandardEvictionPolicy
+ * @see JOPAPersistenceProperties#CACHE_INFERRED_EVICTION_POLICY
+ */
+@FunctionalInterface
+public interface InferredObjectEvictionPolicy {
+
+    /**
+     * Determines whether the specified cached instance of an inferred class should be evicted after a transaction
+     * with the specified changes was committed.
+     *
+     * @param cls        Class of the cached instance
+     * @param identifier Identifier of the cached instance
+     * @param context    Context in which the instance is cached, {@code null} represents the default context
+     * @param changes    Changes committed by the transaction
+     * @return {@code true} if the instance should be evicted, {@code false} otherwise
+     */
+    boolean shouldEvict(Class<?> cls, Object identifier, URI context, CommittedChanges changes);
+
+    /**
+     * Resolves eviction policy from the specified configuration.
+     * <p>
+     * The configured value is either a name of one of the {@link StandardEvictionPolicy} constants (case-insensitive),
+     * or a fully qualified name of a class implementing this interface with a public no-arg constructor. Defaults to
+     * {@link StandardEvictionPolicy#ALL}.
+     *
+     * @param properties Cache configuration
+     * @return Eviction policy
+     */
+    static InferredObjectEvictionPolicy fromProperties(Map<String, String> properties) {
+        final String value = properties.get(JOPAPersistenceProperties.CACHE_INFERRED_EVICTION_POLICY);
+        if (value == null || value.isBlank()) {
+            return StandardEvictionPolicy.ALL;
+        }
+        for (StandardEvictionPolicy p : StandardEvictionPolicy.values()) {
+            if (p.name().equalsIgnoreCase(value.trim())) {
+                return p;
+            }
+        }
+        try {
+            final Class<?> cls = Class.forName(value.trim());
+            if (!InferredObjectEvictionPolicy.class.isAssignableFrom(cls)) {
+                throw new IllegalArgumentException(
+                        "Class " + cls + " does not implement " + InferredObjectEvictionPolicy.class.getSimpleName());
+            }
+            return (InferredObjectEvictionPolicy) ReflectionUtils.instantiateUsingDefaultConstructor(cls);
+        } catch (ClassNotFoundException | InstantiationException e) {
+            throw new IllegalArgumentException("Invalid inferred object eviction policy " + value, e);
+        }
+    }
+}
@@ -57,6 +57,8 @@ public class LruCacheManager implements CacheManager {
 
     private Set<Class<?>> inferredClasses;
 
+    private final InferredObjectEvictionPolicy evictionPolicy;
+
     LruCacheManager() {
         this(Collections.emptyMap());
     }
@@ -69,6 +71,7 @@ public class LruCacheManager implements CacheManager {
         this.readLock = rwLock.readLock();
         this.writeLock = rwLock.writeLock();
         this.entityCache = new LruEntityCache(capacity);
+        this.evictionPolicy = InferredObjectEvictionPolicy.fromProperties(properties);
     }
 
     private static int resolveCapacitySetting(Map<String, String> properties) {
@@ -139,6 +142,17 @@ public class LruCacheManager implements CacheManager {
         }
     }
 
+    @Override
+    public void evictInferredObjects(CommittedChanges changes) {
+        Objects.requireNonNull(changes);
+        writeLock.lock();
+        try {
+            entityCache.evict(getInferredClasses(), evictionPolicy, changes);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     private Set<Class<?>> getInferredClasses() {
         if (inferredClasses == null) {
             return Collections.emptySet();
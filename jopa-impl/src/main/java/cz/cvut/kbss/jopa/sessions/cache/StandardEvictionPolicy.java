@@ -0,0 +1,63 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import java.net.URI;
+
+/**
+ * Built-in inferred object eviction policies.
+ */
+public enum StandardEvictionPolicy implements InferredObjectEvictionPolicy {
+
+    /**
+     * Evicts all instances of inferred classes after any change.
+     * <p>
+     * Suitable for repositories with reasoning whose results may depend on arbitrary parts of the data (e.g.,
+     * transitive properties or property chains).
+     */
+    ALL {
+        @Override
+        public boolean shouldEvict(Class<?> cls, Object identifier, URI context, CommittedChanges changes) {
+            return true;
+        }
+    },
+    /**
+     * Evicts instances of inferred classes cached in contexts changed by the transaction.
+     * <p>
+     * Suitable for repositories where inference is performed separately in each context.
+     */
+    CONTEXT {
+        @Override
+        public boolean shouldEvict(Class<?> cls, Object identifier, URI context, CommittedChanges changes) {
+            return changes.affectsContext(context);
+        }
+    },
+    /**
+     * Evicts instances of inferred classes which were changed by the transaction or were referenced by the changed
+     * attribute values.
+     * <p>
+     * This covers inference based on the statements about the entity itself (e.g., class hierarchy) and on the
+     * statements referencing the entity (e.g., inverse or symmetric properties).
+     */
+    SUBJECT {
+        @Override
+        public boolean shouldEvict(Class<?> cls, Object identifier, URI context, CommittedChanges changes) {
+            return changes.affectsSubject(identifier);
+        }
+    }
+}
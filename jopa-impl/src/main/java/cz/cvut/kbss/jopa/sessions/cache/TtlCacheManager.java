@@ -65,6 +65,8 @@ public class TtlCacheManager implements CacheManager {
 
     private Set<Class<?>> inferredClasses;
 
+    private final InferredObjectEvictionPolicy evictionPolicy;
+
     private TtlCache cache;
 
     // Each repository can have its own lock and they could be acquired by this
@@ -82,6 +84,7 @@ public class TtlCacheManager implements CacheManager {
     public TtlCacheManager(Map<String, String> properties) {
         this.cache = new TtlCache();
         initSettings(properties);
+        this.evictionPolicy = InferredObjectEvictionPolicy.fromProperties(properties);
         final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
         this.readLock = lock.readLock();
         this.writeLock = lock.writeLock();
@@ -179,6 +182,17 @@ public class TtlCacheManager implements CacheManager {
         }
     }
 
+    @Override
+    public void evictInferredObjects(CommittedChanges changes) {
+        Objects.requireNonNull(changes);
+        acquireWriteLock();
+        try {
+            cache.evict(getInferredClasses(), evictionPolicy, changes);
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
     @Override
     public <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
         if (cls == null || identifier == null || descriptor == null) {
@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -131,10 +132,33 @@ public class ChangeCalculator {
      */
     private boolean calculateChangesInternal(ObjectChangeSet changeSet) {
         LOG.trace("Calculating changes for change set {}.", changeSet);
+        return calculateChangesInternal(changeSet, getFields(changeSet.getClone().getClass()));
+    }
+
+    /**
+     * Calculates changes of the specified attributes of the clone object.
+     * <p>
+     * Other attributes are not compared. The changes are written into the {@link Change} passed in as argument.
+     *
+     * @param changeSet  Contains references to the original and clone objects. Into this change set the changes should
+     *                   be propagated
+     * @param attributes Attributes whose values should be compared
+     * @return {@code true} if there were any changes, {@code false} otherwise
+     * @throws NullPointerException If {@code changeSet} or {@code attributes} is {@code null}
+     */
+    public boolean calculateChanges(ObjectChangeSet changeSet, Collection<? extends FieldSpecification<?, ?>> attributes) {
+        Objects.requireNonNull(changeSet);
+        Objects.requireNonNull(attributes);
+        LOG.trace("Calculating changes of attributes {} for change set {}.", attributes, changeSet);
+        return calculateChangesInternal(changeSet, attributes);
+    }
+
+    private boolean calculateChangesInternal(ObjectChangeSet changeSet,
+                                             Collection<? extends FieldSpecification<?, ?>> attributes) {
         Object original = changeSet.getOriginal();
         Object clone = changeSet.getClone();
         boolean changesFound = false;
-        for (FieldSpecification<?, ?> fs : getFields(clone.getClass())) {
+        for (FieldSpecification<?, ?> fs : attributes) {
             if (fs instanceof Identifier<?, ?>) {
                 continue;
             }
@@ -0,0 +1,100 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.descriptor;
+
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps descriptors to their canonical frozen instances.
+ * <p>
+ * Interning descriptors when they enter the persistence context allows the rest of the framework (persistence context,
+ * second level cache, storage access) to compare descriptors mostly by reference. Canonical descriptors are frozen, so
+ * their hash codes are computed only once and descriptors of their attributes are reused.
+ * <p>
+ * The interner is bounded. When its capacity is reached, new descriptors are no longer interned and are returned
+ * unchanged. This prevents unbounded growth when applications use a large number of distinct descriptors (e.g., with
+ * per-request contexts).
+ */
+public class DescriptorInterner {
+
+    /**
+     * Default maximum number of canonical descriptors.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+
+    private final ConcurrentMap<Descriptor, Descriptor> canonical = new ConcurrentHashMap<>();
+
+    public DescriptorInterner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    DescriptorInterner(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the canonical instance of the specified descriptor.
+     * <p>
+     * The canonical instance is a frozen descriptor equal to the specified one. If the capacity of this interner is
+     * exhausted and there is no canonical instance for the specified descriptor, the descriptor is returned unchanged.
+     * The same holds for descriptors which do not support freezing, e.g., custom descriptor implementations or
+     * descriptors with custom attribute descriptors.
+     * <p>
+     * Looking up a descriptor which is not frozen computes its hash code and compares it to the canonical instance,
+     * both of which traverse all its attribute descriptors. Callers which use the same descriptor repeatedly can avoid
+     * this cost by passing the canonical (frozen) instance, whose hash code is cached.
+     *
+     * @param descriptor Descriptor to intern
+     * @return Canonical descriptor equal to the specified one
+     */
+    public Descriptor intern(Descriptor descriptor) {
+        Objects.requireNonNull(descriptor);
+        final Descriptor existing = canonical.get(descriptor);
+        if (existing != null) {
+            return existing;
+        }
+        if (canonical.size() >= capacity || !descriptor.supportsFreezing()) {
+            return descriptor;
+        }
+        final Descriptor frozen = descriptor.freeze();
+        final Descriptor result = canonical.putIfAbsent(frozen, frozen);
+        return result != null ? result : frozen;
+    }
+
+    /**
+     * Gets the number of canonical descriptors held by this interner.
+     *
+     * @return Number of canonical descriptors
+     */
+    public int size() {
+        return canonical.size();
+    }
+
+    /**
+     * Removes all canonical descriptors from this interner.
+     */
+    public void clear() {
+        canonical.clear();
+    }
+}
@@ -52,6 +52,10 @@ public class LoadStateDescriptorRegistry {
         return registry.containsKey(instance);
     }
 
+    public void remove(Object instance) {
+        registry.remove(instance);
+    }
+
     public void clear() {
         registry.clear();
     }
@@ -19,6 +19,8 @@ package cz.cvut.kbss.jopa.environment;
 
 import cz.cvut.kbss.jopa.model.metamodel.gen.PersistenceContextAwareClassGenerator;
 
+import java.io.File;
+
 /**
  * Returns the specified entity class.
  */
@@ -33,4 +35,9 @@ public class NoopInstantiableTypeGenerator implements PersistenceContextAwareCla
     public <T> Class<? extends T> generate(Class<T> entityClass) {
         return entityClass;
     }
+
+    @Override
+    public String generateInto(Class<?> entityClass, File outputDirectory) {
+        return entityClass.getName();
+    }
 }
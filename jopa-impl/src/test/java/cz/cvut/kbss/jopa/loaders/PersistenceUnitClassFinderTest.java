@@ -47,11 +47,16 @@ import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMapping;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -182,6 +187,34 @@ public class PersistenceUnitClassFinderTest {
                 1, "org.example"), TestClasspathScanner.invocations);
     }
 
+    @Test
+    void scanClasspathUsesBuildTimeIndexInsteadOfScanningWhenEnabled(@TempDir File indexDir) throws Exception {
+        PersistenceUnitClassIndex.write(List.of(OWLClassA.class.getName(), OWLClassB.class.getName(),
+                "org.example.Unrelated"), indexDir);
+        final ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{indexDir.toURI().toURL()}, original)) {
+            Thread.currentThread().setContextClassLoader(loader);
+            sut.scanClasspath(new Configuration(Map.of(
+                    JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.environment",
+                    JOPAPersistenceProperties.USE_BUILD_TIME_INDEX, Boolean.TRUE.toString()
+            )));
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+        assertEquals(Set.of(OWLClassA.class, OWLClassB.class), sut.getEntities());
+        assertTrue(sut.getResultSetMappings()
+                      .contains(OWLClassA.class.getDeclaredAnnotation(SparqlResultSetMapping.class)));
+    }
+
+    @Test
+    void scanClasspathFallsBackToClasspathScanningWhenBuildTimeIndexIsNotAvailable() {
+        sut.scanClasspath(new Configuration(Map.of(
+                JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.environment",
+                JOPAPersistenceProperties.USE_BUILD_TIME_INDEX, Boolean.TRUE.toString()
+        )));
+        assertEquals(ENTITY_CLASSES, sut.getEntities());
+    }
+
     public static class TestClasspathScanner implements ClasspathScanner {
 
         private static Map<Integer, String> invocations;
@@ -39,12 +39,14 @@ import cz.cvut.kbss.jopa.model.metamodel.EntityLifecycleListenerManager;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.model.metamodel.Identifier;
 import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingSetProxy;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.sessions.ChangeTrackingUnitOfWork;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.ServerSession;
 import cz.cvut.kbss.jopa.sessions.ServerSessionStub;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
+import cz.cvut.kbss.jopa.sessions.util.CloneRegistrationDescriptor;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -284,6 +286,24 @@ class EntityManagerImplTest {
         assertTrue(tx.isRollbackOnly());
     }
 
+    @Test
+    void findInReadOnlyModeReturnsLoadedInstanceWithoutRegisteringIt() {
+        final OWLClassA original = Generators.generateOwlClassAInstance();
+        when(connectorMock.find(any(LoadingParameters.class))).thenReturn(original);
+        em.setProperty(JOPAPersistenceProperties.READ_ONLY, true);
+        final OWLClassA result = em.find(OWLClassA.class, original.getUri());
+        assertSame(original, result);
+        assertFalse(em.contains(result));
+        verify(uow, never()).registerExistingObject(any(), any(CloneRegistrationDescriptor.class));
+    }
+
+    @Test
+    void createTypedQueryInReadOnlyModeSetsReadOnlyQueryHint() {
+        em.setProperty(JOPAPersistenceProperties.READ_ONLY, true);
+        final TypedQueryImpl<OWLClassA> query = em.createNativeQuery(SELECT_QUERY, OWLClassA.class);
+        assertEquals(Boolean.TRUE, query.getHints().get(QueryHints.READ_ONLY));
+    }
+
     @Test
     void exceptionInMergeMarksTransactionForRollbackOnly() {
         final EntityTransaction tx = em.getTransaction();
@@ -111,6 +111,15 @@ class QueryResultSpliteratorTest {
         verify(closer).execute();
     }
 
+    @Test
+    void tryAdvanceReturnsFalseWithoutAccessingResultSetAfterIterationHasFinished() {
+        when(resultSetSpliterator.tryAdvance(any())).thenReturn(false);
+        assertFalse(sut.tryAdvance(consumer));
+        assertFalse(sut.tryAdvance(consumer));
+        verify(resultSetSpliterator).tryAdvance(any());
+        verify(closer).execute();
+    }
+
     @Test
     void tryAdvanceInvokesClosingProcedureWhenConsumerThrowsException() {
         when(resultSetSpliterator.tryAdvance(any())).then(invocation -> {
@@ -168,4 +177,11 @@ class QueryResultSpliteratorTest {
         assertThrows(OWLPersistenceException.class, () -> sut.forEachRemaining(consumer));
         verify(closer).execute();
     }
+    @Test
+    void closeInvokesClosingProcedureOnlyOnce() {
+        when(resultSetSpliterator.tryAdvance(any())).thenReturn(false);
+        assertFalse(sut.tryAdvance(consumer));
+        sut.close();
+        verify(closer).execute();
+    }
 }
\ No newline at end of file
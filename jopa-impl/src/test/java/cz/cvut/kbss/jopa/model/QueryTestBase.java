@@ -28,10 +28,15 @@ import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import cz.cvut.kbss.jopa.utils.Procedure;
+import cz.cvut.kbss.jopa.vocabulary.XSD;
+import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.iteration.ResultRow;
 import cz.cvut.kbss.ontodriver.iteration.ResultSetIterator;
+import cz.cvut.kbss.ontodriver.model.LangString;
+import cz.cvut.kbss.ontodriver.model.Literal;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -39,6 +44,7 @@ import org.mockito.Mock;
 import java.net.URI;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.StringContains.containsString;
@@ -51,6 +57,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -67,6 +74,8 @@ abstract class QueryTestBase {
     @Mock
     Statement statementMock;
     @Mock
+    PreparedStatement preparedStatementMock;
+    @Mock
     ResultSet resultSetMock;
     @Mock
     ResultRow resultRow;
@@ -85,6 +94,8 @@ abstract class QueryTestBase {
     void setUp() throws Exception {
         when(connectionWrapperMock.createStatement()).thenReturn(statementMock);
         when(statementMock.executeQuery(any())).thenReturn(resultSetMock);
+        when(connectionWrapperMock.prepareStatement(any())).thenReturn(preparedStatementMock);
+        when(preparedStatementMock.executeQuery()).thenReturn(resultSetMock);
         doAnswer((invocationOnMock) -> {
             resultSetMock.close();
             return null;
@@ -115,8 +126,62 @@ abstract class QueryTestBase {
         final Query q = createQuery(query, Object.class);
         q.setParameter("x", "Individual");
         q.getResultList();
+        verify(connectionWrapperMock).prepareStatement("SELECT ?y ?z WHERE { ?x  ?y ?z . ?z ?y ?x  . }");
+        verify(preparedStatementMock).setObject("x", new LangString("Individual"));
+        verify(preparedStatementMock).executeQuery();
+    }
+
+    @Test
+    void setParameterInsertsValueIntoQueryStringWhenQueryContainsSubquery() throws Exception {
+        final String query = "SELECT ?y WHERE { { SELECT ?y WHERE { ?x ?y ?z . } } }";
+        final Query q = createQuery(query, Object.class);
+        q.setParameter("x", URI.create("http://krizik.felk.cvut.cz"));
+        q.getResultList();
         verify(connectionWrapperMock).createStatement();
-        verify(statementMock).executeQuery("SELECT ?y ?z WHERE { \"Individual\" ?y ?z . ?z ?y \"Individual\" . }");
+        verify(statementMock).executeQuery(
+                "SELECT ?y WHERE { { SELECT ?y WHERE { <http://krizik.felk.cvut.cz> ?y ?z . } } }");
+    }
+
+    @Test
+    void setParameterBindsTypedLiteralValue() throws Exception {
+        final String query = "SELECT ?x WHERE { ?x ?y ?z .}";
+        final Query q = createQuery(query, Object.class);
+        q.setParameter("z", 117);
+        q.getResultList();
+        verify(preparedStatementMock).setObject("z", Literal.from("117", XSD.INT));
+    }
+
+    @Test
+    void repeatedExecutionWithBoundParametersReusesPreparedStatement() throws Exception {
+        when(preparedStatementMock.isOpen()).thenReturn(true);
+        final Query q = createQuery("SELECT ?x WHERE { ?x ?y ?z .}", Object.class);
+        q.setParameter("z", 117);
+        q.getResultList();
+        q.setParameter("z", 118);
+        q.getResultList();
+        verify(connectionWrapperMock).prepareStatement(any());
+        verify(preparedStatementMock).clearParameters();
+        verify(preparedStatementMock).setObject("z", Literal.from("118", XSD.INT));
+        verify(resultSetMock, times(2)).close();
+        verify(preparedStatementMock, never()).close();
+    }
+
+    @Test
+    void executionWhileResultStreamIsOpenUsesSeparatePreparedStatement() throws Exception {
+        when(preparedStatementMock.isOpen()).thenReturn(true);
+        when(resultSetMock.isOpen()).thenReturn(true);
+        final PreparedStatement otherStatementMock = mock(PreparedStatement.class);
+        when(otherStatementMock.executeQuery()).thenReturn(resultSetMock);
+        when(connectionWrapperMock.prepareStatement(any())).thenReturn(preparedStatementMock, otherStatementMock);
+        final AbstractQuery q = createQuery("SELECT ?x WHERE { ?x ?y ?z .}", Object.class);
+        q.setParameter("z", 117);
+        try (final Stream<Object> ignored = q.executeQueryForStream(r -> Optional.empty())) {
+            q.getResultList();
+            verify(otherStatementMock).close();
+            verify(preparedStatementMock, never()).clearParameters();
+        }
+        q.getResultList();
+        verify(preparedStatementMock).clearParameters();
     }
 
     @Test
@@ -126,7 +191,8 @@ abstract class QueryTestBase {
         final Parameter<URI> p = (Parameter<URI>) q.getParameter("z");
         q.setParameter(p, URI.create("http://krizik.felk.cvut.cz"));
         q.getResultList();
-        verify(statementMock).executeQuery("SELECT ?x ?y WHERE { ?x ?y <http://krizik.felk.cvut.cz> .}");
+        verify(connectionWrapperMock).prepareStatement("SELECT ?x ?y WHERE { ?x ?y ?z  .}");
+        verify(preparedStatementMock).setObject("z", NamedResource.create(URI.create("http://krizik.felk.cvut.cz")));
     }
 
     @Test
@@ -136,7 +202,7 @@ abstract class QueryTestBase {
         q.setParameter("z", "Object", "en");
         assertEquals("Object", q.getParameterValue("z"));
         q.getResultList();
-        verify(statementMock).executeQuery("SELECT ?x ?y WHERE { ?x ?y \"Object\"@en .}");
+        verify(preparedStatementMock).setObject("z", new LangString("Object", "en"));
     }
 
     @Test
@@ -146,7 +212,7 @@ abstract class QueryTestBase {
         final Parameter<String> p = (Parameter<String>) q.getParameter("z");
         q.setParameter(p, "Object", "cs");
         q.getResultList();
-        verify(statementMock).executeQuery("SELECT ?x ?y WHERE { ?x ?y \"Object\"@cs .}");
+        verify(preparedStatementMock).setObject("z", new LangString("Object", "cs"));
     }
 
     @Test
@@ -298,7 +364,7 @@ abstract class QueryTestBase {
         final AbstractQuery q = createQuery("SELECT ?x WHERE { ?x ?hasA ?a . }", OWLClassD.class);
         q.setParameter("a", a);
         q.getResultList();
-        verify(statementMock).executeQuery("SELECT ?x WHERE { ?x ?hasA <" + a.getUri() + "> . }");
+        verify(preparedStatementMock).setObject("a", NamedResource.create(a.getUri()));
     }
 
     @Test
@@ -0,0 +1,141 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassD;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StreamedEntityWindowTest {
+
+    @Mock
+    private UnitOfWork uowMock;
+
+    private final Descriptor descriptor = new EntityDescriptor();
+
+    // Instances registered when loading the corresponding entity
+    private final Map<URI, List<Object>> registrations = new HashMap<>();
+
+    private StreamedEntityWindow sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final MetamodelImpl metamodel = mock(MetamodelImpl.class);
+        new MetamodelMocks().setMocks(metamodel);
+        when(uowMock.getMetamodel()).thenReturn(metamodel);
+        when(uowMock.isEntityType(any())).thenReturn(true);
+        when(uowMock.readObject(any(), any(), eq(descriptor), any())).thenAnswer(inv -> {
+            final List<Object> registered = registrations.getOrDefault(inv.getArgument(1, URI.class), List.of());
+            registered.forEach(inv.<Consumer<Object>>getArgument(3));
+            return registered.isEmpty() ? null : registered.get(0);
+        });
+        this.sut = new StreamedEntityWindow(uowMock, 1);
+    }
+
+    private OWLClassD entityD(OWLClassA reference, boolean referenceRegistered) {
+        final OWLClassD d = new OWLClassD(Generators.createIndividualIdentifier());
+        d.setOwlClassA(reference);
+        registrations.put(d.getUri(), referenceRegistered ? List.of(d, reference) : List.of(d));
+        return d;
+    }
+
+    private List<Collection<?>> releasedInstances(int times) {
+        final ArgumentCaptor<Collection<?>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(uowMock, times(times)).releaseObjects(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    void loadReleasesResultFallingOutOfWindowTogetherWithReferencesRegisteredWithIt() {
+        final OWLClassA aOne = Generators.generateOwlClassAInstance();
+        final OWLClassD dOne = entityD(aOne, true);
+        final OWLClassD dTwo = entityD(Generators.generateOwlClassAInstance(), true);
+
+        sut.load(OWLClassD.class, dOne.getUri(), descriptor);
+        verify(uowMock, never()).releaseObjects(any());
+        sut.load(OWLClassD.class, dTwo.getUri(), descriptor);
+        final Collection<?> released = releasedInstances(1).get(0);
+        assertEquals(2, released.size());
+        assertTrue(released.contains(dOne));
+        assertTrue(released.contains(aOne));
+    }
+
+    @Test
+    void loadKeepsReferenceRegisteredWithEarlierResultWhileLaterResultInWindowReferencesIt() {
+        final OWLClassA sharedA = Generators.generateOwlClassAInstance();
+        final OWLClassD dOne = entityD(sharedA, true);
+        final OWLClassD dTwo = entityD(sharedA, false);
+        final OWLClassD dThree = entityD(Generators.generateOwlClassAInstance(), true);
+
+        sut.load(OWLClassD.class, dOne.getUri(), descriptor);
+        sut.load(OWLClassD.class, dTwo.getUri(), descriptor);
+        final Collection<?> releasedFirst = releasedInstances(1).get(0);
+        assertTrue(releasedFirst.contains(dOne));
+        assertFalse(releasedFirst.contains(sharedA));
+
+        sut.load(OWLClassD.class, dThree.getUri(), descriptor);
+        final Collection<?> releasedSecond = releasedInstances(2).get(1);
+        assertTrue(releasedSecond.contains(dTwo));
+        assertTrue(releasedSecond.contains(sharedA));
+    }
+
+    @Test
+    void loadDoesNotReleaseInstancesManagedBeforeStreamReachedThem() {
+        final OWLClassA managedA = Generators.generateOwlClassAInstance();
+        final OWLClassD managedD = new OWLClassD(Generators.createIndividualIdentifier());
+        managedD.setOwlClassA(managedA);
+        when(uowMock.readObject(eq(OWLClassD.class), eq(managedD.getUri()), eq(descriptor), any())).thenReturn(managedD);
+        final OWLClassD dTwo = entityD(Generators.generateOwlClassAInstance(), true);
+
+        sut.load(OWLClassD.class, managedD.getUri(), descriptor);
+        sut.load(OWLClassD.class, dTwo.getUri(), descriptor);
+        verify(uowMock, never()).releaseObjects(any());
+    }
+}
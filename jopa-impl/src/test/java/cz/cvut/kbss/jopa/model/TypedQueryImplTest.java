@@ -19,6 +19,7 @@ package cz.cvut.kbss.jopa.model;
 
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.exceptions.NoResultException;
 import cz.cvut.kbss.jopa.exceptions.NoUniqueResultException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
@@ -26,6 +27,7 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -40,8 +42,12 @@ import org.mockito.quality.Strictness;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -52,10 +58,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -82,6 +90,16 @@ class TypedQueryImplTest extends QueryTestBase {
     void setUp() throws Exception {
         super.setUp();
         when(uowMock.isEntityType(OWLClassA.class)).thenReturn(true);
+        // Batches are resolved using the single entity loading stubs
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(
+                inv -> inv.<List<URI>>getArgument(1).stream()
+                          .map(uri -> uowMock.readObject(OWLClassA.class, uri, inv.getArgument(2, Descriptor.class)))
+                          .filter(Objects::nonNull).toList());
+        when(uowMock.readObjectsWithoutRegistration(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(
+                inv -> inv.<List<URI>>getArgument(1).stream()
+                          .map(uri -> uowMock.readObjectWithoutRegistration(OWLClassA.class, uri,
+                                  inv.getArgument(2, Descriptor.class)))
+                          .filter(Objects::nonNull).toList());
     }
 
     @Test
@@ -125,6 +143,94 @@ class TypedQueryImplTest extends QueryTestBase {
         }
     }
 
+    @Test
+    void getResultListWithBatchFetchSizeHintLoadsEntitiesInBatches() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForQuery(5);
+        final List<Integer> batchSizes = new ArrayList<>();
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(inv -> {
+            final List<URI> ids = inv.getArgument(1);
+            batchSizes.add(ids.size());
+            return ids.stream().map(OWLClassA::new).collect(Collectors.toList());
+        });
+        query.setHint(QueryHints.BATCH_FETCH_SIZE, 2);
+        final List<OWLClassA> res = query.getResultList();
+        verifyResults(uris, res, 5);
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        verify(uowMock, never()).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+    }
+
+    @Test
+    void getResultListLoadsEntitiesInBatchesByDefault() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForQuery(5);
+        final List<OWLClassA> res = query.getResultList();
+        verifyResults(uris, res, 5);
+        verify(uowMock).readObjects(eq(OWLClassA.class), eq(uris.stream().map(URI::create).toList()),
+                any(Descriptor.class));
+    }
+
+    @Test
+    void getResultListWithZeroBatchFetchSizeHintLoadsEntitiesOneByOne() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForQuery(5);
+        query.setHint(QueryHints.BATCH_FETCH_SIZE, 0);
+        final List<OWLClassA> res = query.getResultList();
+        verifyResults(uris, res, 5);
+        verify(uowMock, never()).readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class));
+        verify(uowMock, times(5)).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+    }
+
+    @Test
+    void getResultStreamWithBatchFetchSizeHintLoadsEntitiesInBatches() throws Exception {
+        final List<String> uris = initDataForStream(3);
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<Integer> batchSizes = new ArrayList<>();
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(inv -> {
+            final List<URI> ids = inv.getArgument(1);
+            batchSizes.add(ids.size());
+            return ids.stream().map(OWLClassA::new).collect(Collectors.toList());
+        });
+        query.setHint(QueryHints.BATCH_FETCH_SIZE, 2);
+        final List<OWLClassA> res = query.getResultStream().toList();
+        verifyResults(uris, res, 3);
+        assertEquals(List.of(2, 1), batchSizes);
+        verify(uowMock, never()).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+    }
+
+    @Test
+    void setHintThrowsIllegalArgumentExceptionForInvalidBatchFetchSizeValue() {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        query.setHint(QueryHints.BATCH_FETCH_SIZE, "abc");
+        assertThrows(IllegalArgumentException.class, query::getResultList);
+    }
+
+    @Test
+    void getResultListWithReadOnlyHintLoadsEntitiesWithoutRegistration() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForQuery(3);
+        when(uowMock.readObjectWithoutRegistration(eq(OWLClassA.class), any(URI.class), any(Descriptor.class)))
+                .thenAnswer(inv -> new OWLClassA(inv.getArgument(1, URI.class)));
+        query.setHint(QueryHints.READ_ONLY, true);
+        final List<OWLClassA> res = query.getResultList();
+        verifyResults(uris, res, 3);
+        verify(uowMock, never()).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+    }
+
+    @Test
+    void getResultListWithReadOnlyAndBatchFetchSizeHintsLoadsEntitiesInBatchesWithoutRegistration() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForQuery(3);
+        when(uowMock.readObjectsWithoutRegistration(eq(OWLClassA.class), anyList(), any(Descriptor.class)))
+                .thenAnswer(inv -> inv.<List<URI>>getArgument(1).stream().map(OWLClassA::new).toList());
+        query.setHint(QueryHints.READ_ONLY, "true");
+        query.setHint(QueryHints.BATCH_FETCH_SIZE, 2);
+        final List<OWLClassA> res = query.getResultList();
+        verifyResults(uris, res, 3);
+        verify(uowMock, times(2)).readObjectsWithoutRegistration(eq(OWLClassA.class), anyList(), any(Descriptor.class));
+        verify(uowMock, never()).readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class));
+    }
+
     @Test
     void getSingleResultWithEntityTypeReturnsCorrectResult() throws Exception {
         final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
@@ -436,4 +542,101 @@ class TypedQueryImplTest extends QueryTestBase {
             verify(statementMock).close();
         }
     }
+    @Test
+    void getResultStreamClosesStatementWhenStreamIsClosedBeforeBeingFullyProcessed() throws Exception {
+        final List<String> uris = initDataForStream(3);
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        // Smaller than the result, so that the first batch does not exhaust the result set
+        sut.setHint(QueryHints.BATCH_FETCH_SIZE, 2);
+        try (final Stream<OWLClassA> result = sut.getResultStream()) {
+            assertEquals(uris.get(0), result.findFirst().orElseThrow().getUri().toString());
+            verify(statementMock, never()).close();
+        }
+        verify(statementMock).close();
+    }
+
+    private List<String> initDataForStream(int count) throws Exception {
+        final List<String> uris = new ArrayList<>(count);
+        final List<Boolean> hasNext = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String u = Generators.createIndividualIdentifier().toString();
+            uris.add(u);
+            when(uowMock.readObject(eq(OWLClassA.class), eq(URI.create(u)), any(Descriptor.class)))
+                    .thenReturn(new OWLClassA(URI.create(u)));
+            hasNext.add(true);
+        }
+        hasNext.add(false);
+        when(resultSetMock.isOpen()).thenReturn(true);
+        when(resultSetMock.hasNext()).thenReturn(hasNext.get(0), hasNext.subList(1, hasNext.size()).toArray(new Boolean[count]));
+        when(resultSetMock.isBound(0)).thenReturn(true);
+        when(resultSetMock.getString(0)).thenReturn(uris.get(0), uris.subList(1, uris.size()).toArray(new String[0]));
+        return uris;
+    }
+
+    private void initMetamodelForStreamWindow(Set<String> alreadyManaged) throws Exception {
+        final MetamodelImpl mm = mock(MetamodelImpl.class);
+        new MetamodelMocks().setMocks(mm);
+        when(uowMock.getMetamodel()).thenReturn(mm);
+        when(uowMock.readObject(eq(OWLClassA.class), any(URI.class), any(Descriptor.class), any())).thenAnswer(inv -> {
+            final URI uri = inv.getArgument(1);
+            final OWLClassA a = new OWLClassA(uri);
+            if (!alreadyManaged.contains(uri.toString())) {
+                inv.<Consumer<Object>>getArgument(3).accept(a);
+            }
+            return a;
+        });
+    }
+
+    @Test
+    void getResultStreamWithStreamWindowSizeHintDetachesEntitiesFallingOutOfWindow() throws Exception {
+        initDataForStream(3);
+        initMetamodelForStreamWindow(Set.of());
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        sut.setHint(QueryHints.STREAM_WINDOW_SIZE, 1);
+        final List<OWLClassA> result = sut.getResultStream().toList();
+        assertEquals(3, result.size());
+        final ArgumentCaptor<Collection<?>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(uowMock, times(2)).releaseObjects(captor.capture());
+        assertEquals(Set.of(result.get(0)), Set.copyOf(captor.getAllValues().get(0)));
+        assertEquals(Set.of(result.get(1)), Set.copyOf(captor.getAllValues().get(1)));
+    }
+
+    @Test
+    void getResultStreamWithStreamWindowSizeHintDoesNotDetachEntitiesManagedBeforeStreamReachedThem() throws Exception {
+        final List<String> uris = initDataForStream(3);
+        initMetamodelForStreamWindow(Set.of(uris.get(0)));
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        sut.setHint(QueryHints.STREAM_WINDOW_SIZE, "1");
+        final List<OWLClassA> result = sut.getResultStream().toList();
+        final ArgumentCaptor<Collection<?>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(uowMock).releaseObjects(captor.capture());
+        assertEquals(Set.of(result.get(1)), Set.copyOf(captor.getValue()));
+    }
+
+    @Test
+    void getResultStreamWithStreamWindowSizeHintPropagatesRejectionOfModifiedEntityAndClosesStatement() throws Exception {
+        initDataForStream(3);
+        initMetamodelForStreamWindow(Set.of());
+        doThrow(IllegalStateException.class).when(uowMock).releaseObjects(any());
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        sut.setHint(QueryHints.STREAM_WINDOW_SIZE, 1);
+        final Stream<OWLClassA> stream = sut.getResultStream();
+        assertThrows(IllegalStateException.class, stream::toList);
+        verify(statementMock).close();
+    }
+
+    @Test
+    void getResultStreamWithoutStreamWindowSizeHintKeepsEntitiesManaged() throws Exception {
+        initDataForStream(3);
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class);
+        assertEquals(3, sut.getResultStream().count());
+        verify(uowMock, never()).releaseObjects(any());
+    }
+
+    @Test
+    void setHintThrowsIllegalArgumentExceptionForNegativeStreamWindowSize() {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        query.setHint(QueryHints.STREAM_WINDOW_SIZE, -1);
+        assertThrows(IllegalArgumentException.class, query::getResultStream);
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel.gen;
+
+import cz.cvut.kbss.jopa.environment.NoopInstantiableTypeGenerator;
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.loaders.PersistenceUnitClassIndex;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.Manageable;
+import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
+import cz.cvut.kbss.jopa.proxy.reference.EntityReferenceProxy;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuildTimeClassGeneratorTest {
+
+    private final BuildTimeClassGenerator sut = new BuildTimeClassGenerator(
+            new Configuration(Map.of(JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.environment")));
+
+    @Test
+    void generateWritesPersistenceUnitClassIndex(@TempDir File outputDir) throws Exception {
+        sut.generate(outputDir);
+        try (final URLClassLoader loader = classLoader(outputDir)) {
+            final Optional<List<String>> index = PersistenceUnitClassIndex.read(loader);
+            assertTrue(index.isPresent());
+            assertThat(index.get(), hasItem(OWLClassA.class.getName()));
+        }
+    }
+
+    private static URLClassLoader classLoader(File dir) throws Exception {
+        return new URLClassLoader(new URL[]{dir.toURI().toURL()}, BuildTimeClassGeneratorTest.class.getClassLoader());
+    }
+
+    @Test
+    void generateSavesEntitySubclassesAndProxiesIntoEntityPackage(@TempDir File outputDir) throws Exception {
+        sut.generate(outputDir);
+        assertTrue(new File(outputDir, "cz/cvut/kbss/jopa/environment/JOPA_OWLClassA.class").exists());
+        try (final URLClassLoader loader = classLoader(outputDir)) {
+            final GeneratedClassIndex index = GeneratedClassIndex.forClassLoader(loader);
+            final Optional<Class<? extends OWLClassA>> manageable = index.find(
+                    GeneratedClassIndex.Kind.MANAGEABLE_CLASS, OWLClassA.class);
+            assertTrue(manageable.isPresent());
+            assertEquals("cz.cvut.kbss.jopa.environment.JOPA_OWLClassA", manageable.get().getName());
+            assertTrue(Manageable.class.isAssignableFrom(manageable.get()));
+            assertNotNull(manageable.get().getAnnotation(GeneratedEntityClass.class));
+            final Optional<Class<? extends OWLClassA>> lazyProxy = index.find(
+                    GeneratedClassIndex.Kind.LAZY_LOADING_PROXY, OWLClassA.class);
+            assertTrue(lazyProxy.isPresent());
+            assertTrue(LazyLoadingProxy.class.isAssignableFrom(lazyProxy.get()));
+            final Optional<Class<? extends OWLClassA>> referenceProxy = index.find(
+                    GeneratedClassIndex.Kind.REFERENCE_PROXY, OWLClassA.class);
+            assertTrue(referenceProxy.isPresent());
+            assertTrue(EntityReferenceProxy.class.isAssignableFrom(referenceProxy.get()));
+        }
+    }
+
+    @Test
+    void resolveUsesGeneratorWhenBuildTimeIndexIsDisabled() {
+        final Class<? extends OWLClassA> result = GeneratedClassIndex.resolve(
+                GeneratedClassIndex.Kind.MANAGEABLE_CLASS, OWLClassA.class, new Configuration(),
+                NoopInstantiableTypeGenerator.INSTANCE);
+        assertSame(OWLClassA.class, result);
+    }
+}
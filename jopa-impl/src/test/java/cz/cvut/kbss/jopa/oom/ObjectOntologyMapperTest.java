@@ -81,6 +81,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -93,6 +94,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.anySet;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
@@ -182,8 +184,12 @@ class ObjectOntologyMapperTest {
     }
 
     private Collection<Axiom<?>> getAxiomsForEntityA() {
+        return getAxiomsForEntityA(IDENTIFIER);
+    }
+
+    private Collection<Axiom<?>> getAxiomsForEntityA(URI id) {
         final List<Axiom<?>> res = new ArrayList<>();
-        final NamedResource identifier = NamedResource.create(IDENTIFIER);
+        final NamedResource identifier = NamedResource.create(id);
         res.add(new AxiomImpl<>(identifier, Assertion.createClassAssertion(false),
                 new Value<Object>(NamedResource.create(Vocabulary.c_OwlClassA))));
         res.add(new AxiomImpl<>(identifier,
@@ -451,6 +457,10 @@ class ObjectOntologyMapperTest {
                 return axiomsForA;
             }
         });
+        when(connectionMock.findAll(anyCollection())).thenAnswer(invocationOnMock -> {
+            final Collection<AxiomDescriptor> descriptors = invocationOnMock.getArgument(0);
+            return descriptors.stream().collect(Collectors.toMap(AxiomDescriptor::getSubject, d -> axiomsForA));
+        });
         final OWLClassD result = mapper.loadEntity(new LoadingParameters<>(OWLClassD.class, identifier, aDescriptor));
         assertNotNull(result);
         verify(cacheMock).add(identifier, result, new Descriptors(aDescriptor, loadStateRegistry.get(result)));
@@ -475,6 +485,49 @@ class ObjectOntologyMapperTest {
         verify(cacheMock, never()).add(any(), any(), any());
     }
 
+    @Test
+    void loadEntitiesLoadsAxiomsOfAllEntitiesInSingleBatch() throws Exception {
+        final URI idTwo = Generators.createIndividualIdentifier();
+        when(connectionMock.findAll(anyCollection())).thenReturn(Map.of(
+                NamedResource.create(IDENTIFIER), getAxiomsForEntityA(),
+                NamedResource.create(idTwo), getAxiomsForEntityA(idTwo)));
+        final Map<URI, OWLClassA> result = mapper.loadEntities(OWLClassA.class, List.of(IDENTIFIER, idTwo), aDescriptor);
+        assertEquals(2, result.size());
+        assertEquals(IDENTIFIER, result.get(IDENTIFIER).getUri());
+        assertEquals(idTwo, result.get(idTwo).getUri());
+        final ArgumentCaptor<Collection<AxiomDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).findAll(captor.capture());
+        assertEquals(Set.of(NamedResource.create(IDENTIFIER), NamedResource.create(idTwo)),
+                captor.getValue().stream().map(AxiomDescriptor::getSubject).collect(Collectors.toSet()));
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+    }
+
+    @Test
+    void loadEntitiesSkipsIdentifiersWithoutAxioms() throws Exception {
+        final URI idTwo = Generators.createIndividualIdentifier();
+        when(connectionMock.findAll(anyCollection())).thenReturn(Map.of(NamedResource.create(IDENTIFIER), getAxiomsForEntityA()));
+        final Map<URI, OWLClassA> result = mapper.loadEntities(OWLClassA.class, List.of(IDENTIFIER, idTwo), aDescriptor);
+        assertEquals(1, result.size());
+        assertTrue(result.containsKey(IDENTIFIER));
+    }
+
+    @Test
+    void loadEntitiesLoadsCachedInstancesFromCacheAndPutsLoadedIntoCache() throws Exception {
+        final URI idTwo = Generators.createIndividualIdentifier();
+        final OWLClassA cached = new OWLClassA(IDENTIFIER);
+        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(true);
+        when(cacheMock.get(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(cached);
+        when(connectionMock.findAll(anyCollection())).thenReturn(Map.of(NamedResource.create(idTwo), getAxiomsForEntityA(idTwo)));
+        final Map<URI, OWLClassA> result = mapper.loadEntities(OWLClassA.class, List.of(IDENTIFIER, idTwo), aDescriptor);
+        assertSame(cached, result.get(IDENTIFIER));
+        final ArgumentCaptor<Collection<AxiomDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).findAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        final OWLClassA loaded = result.get(idTwo);
+        verify(cacheMock).add(idTwo, loaded, new Descriptors(aDescriptor, loadStateRegistry.get(loaded)));
+        verify(cacheMock, never()).add(eq(IDENTIFIER), any(), any());
+    }
+
     @Test
     void persistRemovesPendingAssertionsWithTargetBeingPersistedObject() throws Exception {
         final OWLClassA a = new OWLClassA();
@@ -0,0 +1,247 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassJ;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.AxiomImpl;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.model.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReferencePrefetcherTest {
+
+    @Mock
+    private ObjectOntologyMapperImpl mapperMock;
+
+    @Mock
+    private Connection connectionMock;
+
+    @Mock
+    private MetamodelImpl metamodelMock;
+
+    private MetamodelMocks mocks;
+
+    private final AxiomDescriptorFactory descriptorFactory = new AxiomDescriptorFactory();
+
+    private final Descriptor descriptor = new EntityDescriptor();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mocks = new MetamodelMocks();
+        mocks.setMocks(metamodelMock);
+    }
+
+    private ReferencePrefetcher prefetcher(Map<String, String> properties) {
+        return new ReferencePrefetcher(mapperMock, connectionMock, metamodelMock, descriptorFactory,
+                new Configuration(properties));
+    }
+
+    @Test
+    void findLoadsReferencedEntitiesInSingleBatchAndUsesThemWhenReferencesAreLoaded() throws Exception {
+        final ReferencePrefetcher sut = prefetcher(Map.of());
+        final List<URI> references = generateReferences(5);
+        final AxiomDescriptor rootDescriptor = initRootAxioms(references);
+        stubFindAllWithInstancesOfA();
+
+        sut.find(rootDescriptor, mocks.forOwlClassJ().entityType(), descriptor);
+        final ArgumentCaptor<Collection<AxiomDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).findAll(captor.capture());
+        assertThat(captor.getValue().stream().map(d -> d.getSubject().getIdentifier()).toList(),
+                containsInAnyOrder(references.toArray()));
+
+        for (URI ref : references) {
+            final Collection<Axiom<?>> result = sut.find(axiomDescriptorForA(ref), mocks.forOwlClassA().entityType(),
+                    descriptor);
+            assertEquals(List.of(classAssertionForA(ref)), new ArrayList<>(result));
+        }
+        verify(connectionMock).find(any());
+    }
+
+    private static List<URI> generateReferences(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Generators.createIndividualIdentifier()).toList();
+    }
+
+    private AxiomDescriptor initRootAxioms(List<URI> references) throws Exception {
+        final NamedResource subject = NamedResource.create(Generators.createIndividualIdentifier());
+        final AxiomDescriptor rootDescriptor = rootDescriptor(subject);
+        final List<Axiom<?>> axioms = rootAxioms(subject, references);
+        when(connectionMock.find(rootDescriptor)).thenReturn(axioms);
+        return rootDescriptor;
+    }
+
+    private AxiomDescriptor rootDescriptor(NamedResource subject) {
+        return descriptorFactory.createForEntityLoading(
+                new LoadingParameters<>(OWLClassJ.class, subject.getIdentifier(), descriptor),
+                mocks.forOwlClassJ().entityType());
+    }
+
+    private List<Axiom<?>> rootAxioms(NamedResource subject, List<URI> references) {
+        final List<Axiom<?>> axioms = new ArrayList<>();
+        axioms.add(new AxiomImpl<>(subject, Assertion.createClassAssertion(false),
+                new Value<>(NamedResource.create(OWLClassJ.getClassIri()))));
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(
+                mocks.forOwlClassJ().setAttribute().getIRI().toURI(), false);
+        references.forEach(ref -> axioms.add(new AxiomImpl<>(subject, assertion, new Value<>(NamedResource.create(ref)))));
+        return axioms;
+    }
+
+    private void stubFindAllWithInstancesOfA() throws Exception {
+        when(connectionMock.findAll(anyCollection())).thenAnswer(inv -> {
+            final Collection<AxiomDescriptor> descriptors = inv.getArgument(0);
+            final Map<NamedResource, Collection<Axiom<?>>> result = new HashMap<>();
+            descriptors.forEach(d -> result.put(d.getSubject(), List.of(classAssertionForA(d.getSubject()
+                                                                                             .getIdentifier()))));
+            return result;
+        });
+    }
+
+    private static Axiom<NamedResource> classAssertionForA(URI identifier) {
+        return new AxiomImpl<>(NamedResource.create(identifier), Assertion.createClassAssertion(false),
+                new Value<>(NamedResource.create(OWLClassA.getClassIri())));
+    }
+
+    private AxiomDescriptor axiomDescriptorForA(URI identifier) {
+        return descriptorFactory.createForEntityLoading(new LoadingParameters<>(OWLClassA.class, identifier,
+                descriptor.getAttributeDescriptor(mocks.forOwlClassJ().setAttribute())), mocks.forOwlClassA()
+                                                                                           .entityType());
+    }
+
+    @Test
+    void prefetchReferencesLoadsReferencesOfAllRootsInSharedBatch() throws Exception {
+        final ReferencePrefetcher sut = prefetcher(Map.of());
+        final Map<AxiomDescriptor, Collection<Axiom<?>>> roots = new HashMap<>();
+        final List<URI> references = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final NamedResource subject = NamedResource.create(Generators.createIndividualIdentifier());
+            final List<URI> rootReferences = generateReferences(2);
+            references.addAll(rootReferences);
+            roots.put(rootDescriptor(subject), rootAxioms(subject, rootReferences));
+        }
+        stubFindAllWithInstancesOfA();
+
+        sut.prefetchReferences(mocks.forOwlClassJ().entityType(), descriptor, roots);
+        final ArgumentCaptor<Collection<AxiomDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).findAll(captor.capture());
+        assertThat(captor.getValue().stream().map(d -> d.getSubject().getIdentifier()).toList(),
+                containsInAnyOrder(references.toArray()));
+        for (URI ref : references) {
+            sut.find(axiomDescriptorForA(ref), mocks.forOwlClassA().entityType(), descriptor);
+        }
+        verify(connectionMock, never()).find(any());
+    }
+
+    @Test
+    void findSplitsReferencesIntoBatchesOfConfiguredSize() throws Exception {
+        final ReferencePrefetcher sut = prefetcher(Map.of(JOPAPersistenceProperties.REFERENCE_BATCH_SIZE, "2"));
+        final AxiomDescriptor rootDescriptor = initRootAxioms(generateReferences(5));
+        stubFindAllWithInstancesOfA();
+
+        sut.find(rootDescriptor, mocks.forOwlClassJ().entityType(), descriptor);
+        verify(connectionMock, times(3)).findAll(anyCollection());
+    }
+
+    @Test
+    void findSkipsReferencesToEntitiesWhichAreAlreadyLoaded() throws Exception {
+        final ReferencePrefetcher sut = prefetcher(Map.of());
+        final List<URI> references = generateReferences(3);
+        final AxiomDescriptor rootDescriptor = initRootAxioms(references);
+        stubFindAllWithInstancesOfA();
+        when(mapperMock.isLoaded(eq(OWLClassA.class), eq(references.get(0)), any())).thenReturn(true);
+
+        sut.find(rootDescriptor, mocks.forOwlClassJ().entityType(), descriptor);
+        final ArgumentCaptor<Collection<AxiomDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).findAll(captor.capture());
+        final Set<URI> prefetched =
+                captor.getValue().stream().map(d -> d.getSubject().getIdentifier()).collect(Collectors.toSet());
+        assertEquals(Set.copyOf(references.subList(1, references.size())), prefetched);
+    }
+
+    @Test
+    void findDoesNotPrefetchReferencesWhenDepthIsZero() throws Exception {
+        final ReferencePrefetcher sut = prefetcher(Map.of(JOPAPersistenceProperties.REFERENCE_LOADING_DEPTH, "0"));
+        final AxiomDescriptor rootDescriptor = initRootAxioms(generateReferences(3));
+
+        sut.find(rootDescriptor, mocks.forOwlClassJ().entityType(), descriptor);
+        verify(connectionMock, never()).findAll(anyCollection());
+    }
+
+    @Test
+    void clearDiscardsPrefetchedAxioms() throws Exception {
+        final ReferencePrefetcher sut = prefetcher(Map.of());
+        final List<URI> references = generateReferences(1);
+        final AxiomDescriptor rootDescriptor = initRootAxioms(references);
+        stubFindAllWithInstancesOfA();
+        sut.find(rootDescriptor, mocks.forOwlClassJ().entityType(), descriptor);
+
+        sut.clear();
+        final AxiomDescriptor refDescriptor = axiomDescriptorForA(references.get(0));
+        sut.find(refDescriptor, mocks.forOwlClassA().entityType(), descriptor);
+        verify(connectionMock).find(refDescriptor);
+    }
+
+    @Test
+    void invalidSettingValuesAreReplacedWithDefaults() {
+        final ReferencePrefetcher sut = prefetcher(Map.of(JOPAPersistenceProperties.REFERENCE_BATCH_SIZE, "-1",
+                JOPAPersistenceProperties.REFERENCE_LOADING_DEPTH, "abc"));
+        assertEquals(ReferencePrefetcher.DEFAULT_BATCH_SIZE, sut.getBatchSize());
+        assertEquals(ReferencePrefetcher.DEFAULT_DEPTH, sut.getDepth());
+    }
+}
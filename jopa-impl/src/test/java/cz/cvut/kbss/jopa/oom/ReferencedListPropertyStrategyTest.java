@@ -21,11 +21,15 @@ import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassC;
 import cz.cvut.kbss.jopa.environment.OWLClassP;
 import cz.cvut.kbss.jopa.environment.OneOfEnum;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.Identifier;
 import cz.cvut.kbss.jopa.model.metamodel.ListAttributeImpl;
+import cz.cvut.kbss.jopa.proxy.change.ChangeTrackingIndirectList;
+import cz.cvut.kbss.jopa.sessions.UnitOfWork;
 import cz.cvut.kbss.jopa.vocabulary.OWL;
+import cz.cvut.kbss.ontodriver.descriptor.ListEdit;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.Assertion;
@@ -55,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -308,4 +313,45 @@ public class ReferencedListPropertyStrategyTest extends ListPropertyStrategyTest
                 Arrays.asList(NamedResource.create(OWL.DATATYPE_PROPERTY), NamedResource.create(OWL.OBJECT_PROPERTY)),
                 valueDescriptor.getValues());
     }
+
+    @Test
+    void buildAxiomValuesFromInstanceAddsEditsRecordedByChangeTrackingList() throws Exception {
+        when(mapperMock.isManagedType(OWLClassA.class)).thenReturn(true);
+        final OWLClassC c = new OWLClassC(IDENTIFIER);
+        final UnitOfWork uow = mock(UnitOfWork.class);
+        when(uow.isInTransaction()).thenReturn(true);
+        final ChangeTrackingIndirectList<OWLClassA> trackingList =
+                new ChangeTrackingIndirectList<>(c, OWLClassC.getRefListField(), uow, new ArrayList<>(list));
+        c.setReferencedList(trackingList);
+        doAnswer(inv -> {
+            strategy.buildAxiomValuesFromInstance(c, builder);
+            return null;
+        }).when(uow).attributeChanged(c, OWLClassC.getRefListField());
+        final OWLClassA added = Generators.generateOwlClassAInstance();
+
+        trackingList.add(1, added);
+        final ReferencedListValueDescriptor<NamedResource> res = listValueDescriptor();
+        assertEquals(List.of(ListEdit.insert(1, List.of(NamedResource.create(added.getUri())))), res.getEdits());
+    }
+
+    @Test
+    void buildAxiomValuesFromInstanceDoesNotAddEditsWhenListContainsNullElements() throws Exception {
+        when(mapperMock.isManagedType(OWLClassA.class)).thenReturn(true);
+        final OWLClassC c = new OWLClassC(IDENTIFIER);
+        final UnitOfWork uow = mock(UnitOfWork.class);
+        when(uow.isInTransaction()).thenReturn(true);
+        final List<OWLClassA> withNull = new ArrayList<>(list);
+        withNull.add(null);
+        final ChangeTrackingIndirectList<OWLClassA> trackingList =
+                new ChangeTrackingIndirectList<>(c, OWLClassC.getRefListField(), uow, withNull);
+        c.setReferencedList(trackingList);
+        doAnswer(inv -> {
+            strategy.buildAxiomValuesFromInstance(c, builder);
+            return null;
+        }).when(uow).attributeChanged(c, OWLClassC.getRefListField());
+
+        trackingList.remove(0);
+        final ReferencedListValueDescriptor<NamedResource> res = listValueDescriptor();
+        assertTrue(res.getEdits().isEmpty());
+    }
 }
@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassC;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.ontodriver.descriptor.ListEdit;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -44,6 +46,7 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -332,4 +335,75 @@ class ChangeTrackingIndirectListTest {
         owner.getReferencedList().removeIf(e -> toRemove.contains(e.getUri()));
         verify(uow, times(toRemove.size())).attributeChanged(owner, ownerField);
     }
+
+    @Test
+    void addRecordsInsertEditAvailableDuringChangePropagation() {
+        when(uow.isInTransaction()).thenReturn(Boolean.TRUE);
+        final List<List<ListEdit<OWLClassA>>> edits = captureEditsOnChange();
+        final OWLClassA added = Generators.generateOwlClassAInstance();
+        target.add(added);
+        target.add(0, added);
+        assertEquals(List.of(List.of(ListEdit.insert(backupList.size(), List.of(added))),
+                List.of(ListEdit.insert(0, List.of(added)))), edits);
+    }
+
+    private List<List<ListEdit<OWLClassA>>> captureEditsOnChange() {
+        final List<List<ListEdit<OWLClassA>>> edits = new ArrayList<>();
+        doAnswer(inv -> {
+            edits.add(target.getEdits().map(List::copyOf).orElse(null));
+            return null;
+        }).when(uow).attributeChanged(owner, ownerField);
+        return edits;
+    }
+
+    @Test
+    void removeSetAndAddAllRecordCorrespondingEdits() {
+        when(uow.isInTransaction()).thenReturn(Boolean.TRUE);
+        final List<List<ListEdit<OWLClassA>>> edits = captureEditsOnChange();
+        final OWLClassA toRemove = list.get(3);
+        final OWLClassA replacement = Generators.generateOwlClassAInstance();
+        final List<OWLClassA> added = List.of(Generators.generateOwlClassAInstance());
+        target.remove(toRemove);
+        target.remove(0);
+        target.set(1, replacement);
+        target.addAll(2, added);
+        assertEquals(List.of(List.of(ListEdit.remove(3)), List.of(ListEdit.remove(0)),
+                List.of(ListEdit.set(1, replacement)), List.of(ListEdit.insert(2, added))), edits);
+    }
+
+    @Test
+    void iteratorRemovalRecordsRemoveEdit() {
+        when(uow.isInTransaction()).thenReturn(Boolean.TRUE);
+        final List<List<ListEdit<OWLClassA>>> edits = captureEditsOnChange();
+        final Iterator<OWLClassA> it = target.iterator();
+        it.next();
+        it.next();
+        it.remove();
+        it.next();
+        it.remove();
+        assertEquals(List.of(List.of(ListEdit.remove(1)), List.of(ListEdit.remove(1))), edits);
+    }
+
+    @Test
+    void clearInvalidatesEditLog() {
+        when(uow.isInTransaction()).thenReturn(Boolean.TRUE);
+        final List<List<ListEdit<OWLClassA>>> edits = captureEditsOnChange();
+        target.clear();
+        assertEquals(Collections.singletonList(null), edits);
+        assertEquals(Optional.of(List.of()), target.getEdits());
+    }
+
+    @Test
+    void editLogIsEmptyAfterChangePropagation() {
+        when(uow.isInTransaction()).thenReturn(Boolean.TRUE);
+        target.add(Generators.generateOwlClassAInstance());
+        assertEquals(Optional.of(List.of()), target.getEdits());
+    }
+
+    @Test
+    void editLogIsInvalidatedWhenChangeIsNotPropagated() {
+        when(uow.isInTransaction()).thenReturn(Boolean.FALSE);
+        target.add(Generators.generateOwlClassAInstance());
+        assertTrue(target.getEdits().isEmpty());
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.exception.QueryParserException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class QueryPlanCacheTest {
+
+    private static final String QUERY = "SELECT ?x WHERE { ?x a ?type . ?y ?p ?type . }";
+
+    private final ParameterValueFactory valueFactory = new ParameterValueFactory(mock(MetamodelProvider.class));
+
+    private final Function<String, SparqlQueryHolder> parser = new SparqlQueryParser(valueFactory)::parseQuery;
+
+    @Test
+    void getParsesQueryOnFirstAccessAndReturnsCachedTemplateAfterwards() {
+        final QueryPlanCache sut = new QueryPlanCache(10);
+        final SparqlQueryTemplate first = sut.get(QueryPlanCache.Language.SPARQL, QUERY, parser);
+        final SparqlQueryTemplate second = sut.get(QueryPlanCache.Language.SPARQL, QUERY, parser);
+
+        assertSame(first, second);
+        assertEquals(1, sut.getMissCount());
+        assertEquals(1, sut.getHitCount());
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void getDistinguishesQueryLanguages() {
+        final QueryPlanCache sut = new QueryPlanCache(10);
+        final SparqlQueryTemplate sparql = sut.get(QueryPlanCache.Language.SPARQL, QUERY, parser);
+        final SparqlQueryTemplate soql = sut.get(QueryPlanCache.Language.SOQL, QUERY, parser);
+
+        assertNotSame(sparql, soql);
+        assertEquals(2, sut.getMissCount());
+    }
+
+    @Test
+    void getEvictsOldestEntriesWhenCapacityIsExceeded() {
+        final QueryPlanCache sut = new QueryPlanCache(2);
+        for (int i = 0; i < 5; i++) {
+            sut.get(QueryPlanCache.Language.SPARQL, QUERY + " LIMIT " + i, parser);
+        }
+        assertEquals(2, sut.size());
+        sut.get(QueryPlanCache.Language.SPARQL, QUERY + " LIMIT 4", parser);
+        assertEquals(1, sut.getHitCount());
+    }
+
+    @Test
+    void getDoesNotCacheQueryWhenParsingFails() {
+        final QueryPlanCache sut = new QueryPlanCache(2);
+        assertThrows(QueryParserException.class,
+                () -> sut.get(QueryPlanCache.Language.SPARQL, "SELECT ?x WHERE { ?x ?y $ . ?x ?z $1 }", parser));
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void initializationWithInvalidCapacityUsesDefaultValue() {
+        final QueryPlanCache sut =
+                new QueryPlanCache(Map.of(JOPAPersistenceProperties.QUERY_PLAN_CACHE_CAPACITY, "-1"));
+        assertEquals(QueryPlanCache.DEFAULT_CAPACITY, sut.getCapacity());
+    }
+
+    @Test
+    void cacheWithZeroCapacityIsDisabled() {
+        final QueryPlanCache sut =
+                new QueryPlanCache(Map.of(JOPAPersistenceProperties.QUERY_PLAN_CACHE_CAPACITY, "0"));
+        assertFalse(sut.isEnabled());
+        sut.get(QueryPlanCache.Language.SPARQL, QUERY, parser);
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void templateInstancesHaveIndependentParameters() {
+        final QueryPlanCache sut = new QueryPlanCache(10);
+        final SparqlQueryTemplate template = sut.get(QueryPlanCache.Language.SPARQL, QUERY, parser);
+        final SparqlQueryHolder first = template.instantiate(valueFactory);
+        final SparqlQueryHolder second = template.instantiate(valueFactory);
+
+        first.setParameter(first.getParameter("type"), "test");
+        assertEquals(parser.apply(QUERY).assembleQuery(), second.assembleQuery());
+        // Parameter occurring multiple times is represented by a single instance
+        assertFalse(first.assembleQuery().contains("?type"));
+        assertTrue(first.assembleQuery().contains("\"test\""));
+    }
+
+    @Test
+    void concurrentAccessKeepsCacheWithinCapacity() throws Exception {
+        final int capacity = 16;
+        final QueryPlanCache sut = new QueryPlanCache(capacity);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    final Function<String, SparqlQueryHolder> threadParser =
+                            new SparqlQueryParser(valueFactory)::parseQuery;
+                    for (int j = 0; j < 200; j++) {
+                        final String query = QUERY + " LIMIT " + (j % 32);
+                        assertEquals(query, sut.get(QueryPlanCache.Language.SPARQL, query, threadParser).getQuery());
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(sut.size(), lessThanOrEqualTo(capacity));
+        assertEquals(8 * 200, sut.getHitCount() + sut.getMissCount());
+    }
+}
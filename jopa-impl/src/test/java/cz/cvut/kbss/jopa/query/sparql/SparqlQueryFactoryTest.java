@@ -35,7 +35,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -149,4 +151,28 @@ public class SparqlQueryFactoryTest {
         assertNotNull(q);
         verify(namedQueryManagerMock).getQuery(queryName);
     }
+
+    @Test
+    void createNativeQueryReusesCachedQueryPlan() {
+        final QueryPlanCache planCache = new QueryPlanCache(10);
+        this.factory = new SparqlQueryFactory(uowMock, connectionMock, planCache);
+        final Query first = factory.createNativeQuery(QUERY);
+        final Query second = factory.createNativeQuery(QUERY, CLS);
+
+        assertEquals(1, planCache.getMissCount());
+        assertEquals(1, planCache.getHitCount());
+        assertNotSame(first.getParameter("x"), second.getParameter("x"));
+    }
+
+    @Test
+    void createQueryCachesTranslatedSoqlQuery() {
+        final QueryPlanCache planCache = new QueryPlanCache(10);
+        this.factory = new SparqlQueryFactory(uowMock, connectionMock, planCache);
+        factory.createQuery(SOQL_QUERY, CLS);
+        factory.createQuery(SOQL_QUERY);
+
+        assertEquals(1, planCache.size());
+        assertEquals(1, planCache.getMissCount());
+        assertEquals(1, planCache.getHitCount());
+    }
 }
@@ -22,17 +22,22 @@ import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class SparqlQueryHolderTest {
@@ -122,4 +127,40 @@ class SparqlQueryHolderTest {
         typeValues.subList(2, typeValues.size())
                .forEach(v -> assertThat(result, containsString(" ( UNDEF " + IdentifierTransformer.stringifyIri(v) + " )")));
     }
+
+    @Test
+    void assembleQueryWithBindingsLeavesVariablesOfBindableParameters() {
+        this.sut = new SparqlQueryHolder(QUERY, sut.getQueryParts(), sut.getParameterOccurrences(), true);
+        final URI type = Generators.createIndividualIdentifier();
+        sut.setParameter(sut.getParameter("type"), type);
+        final Map<String, Object> bindings = new HashMap<>();
+
+        final String result = sut.assembleQuery(bindings);
+        assertEquals("SELECT ?x WHERE { ?x a ?type  . }", result);
+        assertEquals(Map.of("type", NamedResource.create(type)), bindings);
+    }
+
+    @Test
+    void assembleQueryWithBindingsInsertsValuesOfProjectedParameters() {
+        this.sut = new SparqlQueryHolder(QUERY, sut.getQueryParts(), sut.getParameterOccurrences(), true);
+        final URI x = Generators.createIndividualIdentifier();
+        sut.setParameter(sut.getParameter("x"), x);
+        final Map<String, Object> bindings = new HashMap<>();
+
+        final String result = sut.assembleQuery(bindings);
+        assertThat(result, containsString("VALUES (?x) { ( " + IdentifierTransformer.stringifyIri(x) + " ) }"));
+        assertTrue(bindings.isEmpty());
+    }
+
+    @Test
+    void assembleQueryWithBindingsInsertsValuesWhenBindingIsNotSupported() {
+        final URI type = Generators.createIndividualIdentifier();
+        sut.setParameter(sut.getParameter("type"), type);
+        final Map<String, Object> bindings = new HashMap<>();
+
+        final String result = sut.assembleQuery(bindings);
+        assertEquals(sut.assembleQuery(), result);
+        assertThat(result, containsString(IdentifierTransformer.stringifyIri(type)));
+        assertTrue(bindings.isEmpty());
+    }
 }
@@ -442,4 +442,24 @@ public class SparqlQueryParserTest {
         assertNotNull(holder.getParameter("y"));
         assertNotNull(holder.getParameter("z"));
     }
+
+    @Test
+    void parseQueryAllowsBindingParametersOfSimpleQuery() {
+        final SparqlQueryHolder holder = (SparqlQueryHolder) queryParser.parseQuery(
+                "SELECT ?x WHERE { ?x a ?type . }");
+        assertTrue(holder.supportsParameterBinding());
+    }
+
+    @Test
+    void parseQueryDisallowsBindingParametersOfQueryWithSubquery() {
+        final SparqlQueryHolder holder = (SparqlQueryHolder) queryParser.parseQuery(
+                "SELECT ?x WHERE { { SELECT ?x WHERE { ?x a ?type . } } }");
+        assertFalse(holder.supportsParameterBinding());
+    }
+
+    @Test
+    void parseQueryDisallowsBindingParametersOfQueryWithWildcardProjection() {
+        final SparqlQueryHolder holder = (SparqlQueryHolder) queryParser.parseQuery("SELECT * WHERE { ?x a ?type . }");
+        assertFalse(holder.supportsParameterBinding());
+    }
 }
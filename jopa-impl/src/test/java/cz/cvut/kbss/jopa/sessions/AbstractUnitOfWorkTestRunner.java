@@ -40,6 +40,7 @@ import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.proxy.lazy.LazyLoadingProxy;
 import cz.cvut.kbss.jopa.proxy.lazy.gen.LazyLoadingEntityProxyGenerator;
+import cz.cvut.kbss.jopa.sessions.cache.CommittedChanges;
 import cz.cvut.kbss.jopa.sessions.cache.Descriptors;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptor;
 import cz.cvut.kbss.jopa.sessions.descriptor.LoadStateDescriptorFactory;
@@ -80,6 +81,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -120,6 +122,65 @@ abstract class AbstractUnitOfWorkTestRunner extends UnitOfWorkTestBase {
         verify(storageMock).find(new LoadingParameters<>(OWLClassA.class, entityA.getUri(), descriptor));
     }
 
+    @Test
+    void readObjectPassesCanonicalFrozenDescriptorToStorage() {
+        uow.readObject(OWLClassA.class, entityA.getUri(), descriptor);
+        uow.readObject(OWLClassB.class, entityB.getUri(), new EntityDescriptor(descriptor.getContexts()));
+        final ArgumentCaptor<LoadingParameters<?>> captor = ArgumentCaptor.forClass(LoadingParameters.class);
+        verify(storageMock, times(2)).find(captor.capture());
+        final Descriptor first = captor.getAllValues().get(0).getDescriptor();
+        assertTrue(first.isFrozen());
+        assertEquals(descriptor, first);
+        assertSame(first, captor.getAllValues().get(1).getDescriptor());
+    }
+
+    @Test
+    void readObjectsLoadsObjectsWhichAreNotManagedInSingleBatch() {
+        final OWLClassA entityATwo = Generators.generateOwlClassAInstance();
+        when(storageMock.findAll(eq(OWLClassA.class), anyCollection(), eq(descriptor)))
+                .thenReturn(Map.of(entityA.getUri(), entityA, entityATwo.getUri(), entityATwo));
+        defaultLoadStateDescriptor(entityA, entityATwo);
+        final List<OWLClassA> result =
+                uow.readObjects(OWLClassA.class, List.of(entityATwo.getUri(), entityA.getUri()), descriptor);
+        assertEquals(2, result.size());
+        assertEquals(entityATwo.getUri(), result.get(0).getUri());
+        assertEquals(entityA.getUri(), result.get(1).getUri());
+        assertTrue(uow.contains(result.get(0)));
+        assertTrue(uow.contains(result.get(1)));
+        verify(storageMock).findAll(eq(OWLClassA.class), anyCollection(), eq(descriptor));
+        verify(storageMock, never()).find(any());
+    }
+
+    @Test
+    void readObjectsReturnsManagedObjectsAndLoadsOnlyTheRest() {
+        final OWLClassA entityATwo = Generators.generateOwlClassAInstance();
+        defaultLoadStateDescriptor(entityA, entityATwo);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        when(storageMock.findAll(eq(OWLClassA.class), anyCollection(), eq(descriptor)))
+                .thenReturn(Map.of(entityATwo.getUri(), entityATwo));
+        final List<OWLClassA> result =
+                uow.readObjects(OWLClassA.class, List.of(entityA.getUri(), entityATwo.getUri()), descriptor);
+        assertEquals(2, result.size());
+        assertSame(clone, result.get(0));
+        verify(storageMock).findAll(OWLClassA.class, Set.of(entityATwo.getUri()), descriptor);
+    }
+
+    @Test
+    void readObjectsWithoutRegistrationReturnsLoadedObjectsWithoutRegisteringThem() {
+        final OWLClassA entityATwo = Generators.generateOwlClassAInstance();
+        defaultLoadStateDescriptor(entityA, entityATwo);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        when(storageMock.findAll(eq(OWLClassA.class), anyCollection(), eq(descriptor)))
+                .thenReturn(Map.of(entityATwo.getUri(), entityATwo));
+        final List<OWLClassA> result = uow.readObjectsWithoutRegistration(OWLClassA.class,
+                List.of(entityA.getUri(), entityATwo.getUri()), descriptor);
+        assertEquals(2, result.size());
+        assertSame(clone, result.get(0));
+        assertSame(entityATwo, result.get(1));
+        assertFalse(uow.contains(entityATwo));
+        verify(storageMock).findAll(OWLClassA.class, Set.of(entityATwo.getUri()), descriptor);
+    }
+
     @Test
     void readNewlyRegisteredObjectReturnsIt() {
         uow.registerNewObject(entityA, descriptor);
@@ -434,6 +495,46 @@ abstract class AbstractUnitOfWorkTestRunner extends UnitOfWorkTestBase {
         verify(cloneBuilder).removeVisited(entityA, descriptor);
     }
 
+    @Test
+    void readObjectWithRegistrationListenerReportsObjectAndReferencesRegisteredWithIt() {
+        when(storageMock.find(new LoadingParameters<>(OWLClassD.class, entityD.getUri(), descriptor)))
+                .thenReturn(entityD);
+        defaultLoadStateDescriptor(entityD, entityA);
+        final List<Object> registered = new ArrayList<>();
+        final OWLClassD result = uow.readObject(OWLClassD.class, entityD.getUri(), descriptor, registered::add);
+        assertEquals(2, registered.size());
+        assertTrue(registered.stream().anyMatch(o -> o == result));
+        assertTrue(registered.stream().anyMatch(o -> o == result.getOwlClassA()));
+    }
+
+    @Test
+    void readObjectWithRegistrationListenerDoesNotReportAlreadyManagedObject() {
+        defaultLoadStateDescriptor(entityA);
+        uow.registerExistingObject(entityA, descriptor);
+        final List<Object> registered = new ArrayList<>();
+        uow.readObject(OWLClassA.class, entityA.getUri(), descriptor, registered::add);
+        assertTrue(registered.isEmpty());
+    }
+
+    @Test
+    void releaseObjectsDetachesUnmodifiedObjectsAndRemovesTheirLoadStates() {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA managed = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        uow.releaseObjects(List.of(managed));
+        assertFalse(uow.contains(managed));
+        assertFalse(uow.getLoadStateRegistry().contains(managed));
+        assertFalse(uow.getLoadStateRegistry().contains(entityA));
+    }
+
+    @Test
+    void releaseObjectsKeepsRemovedObjectsInPersistenceContext() {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA managed = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        uow.removeObject(managed);
+        uow.releaseObjects(List.of(managed));
+        assertTrue(uow.deletedObjects.containsKey(managed));
+    }
+
     @Test
     void commitInactiveUoWThrowsIllegalStateException() {
         uow.release();
@@ -849,7 +950,28 @@ abstract class AbstractUnitOfWorkTestRunner extends UnitOfWorkTestBase {
         uow.registerExistingObject(entityA, descriptor);
         uow.registerNewObject(entityB, descriptor);
         uow.commit();
-        verify(serverSessionStub.getLiveObjectCache()).evictInferredObjects();
+        verify(serverSessionStub.getLiveObjectCache()).evictInferredObjects(any(CommittedChanges.class));
+    }
+
+    @Test
+    void commitPassesChangedSubjectsAndReferencedEntitiesToInferredObjectsEviction() {
+        uow.registerNewObject(entityD, descriptor);
+        uow.commit();
+        final ArgumentCaptor<CommittedChanges> captor = ArgumentCaptor.forClass(CommittedChanges.class);
+        verify(serverSessionStub.getLiveObjectCache()).evictInferredObjects(captor.capture());
+        final CommittedChanges changes = captor.getValue();
+        assertTrue(changes.affectsSubject(entityD.getUri()));
+        assertTrue(changes.affectsSubject(entityA.getUri()));
+        assertFalse(changes.affectsSubject(entityB.getUri()));
+        assertTrue(changes.affectsContext(CONTEXT_URI));
+    }
+
+    @Test
+    void commitDoesNotEvictInferredObjectsWhenThereWereNoChanges() {
+        defaultLoadStateDescriptor(entityA);
+        uow.registerExistingObject(entityA, descriptor);
+        uow.commit();
+        verify(serverSessionStub.getLiveObjectCache(), never()).evictInferredObjects(any(CommittedChanges.class));
     }
 
     @Test
@@ -53,6 +53,7 @@ import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -135,6 +136,19 @@ public class ChangeTrackingUnitOfWorkTest extends AbstractUnitOfWorkTestRunner {
                 eq(descriptor));
     }
 
+    @Test
+    void releaseObjectsKeepsObjectsWhoseChangesWereWrittenIntoStorageManaged() throws Exception {
+        when(transactionMock.isActive()).thenReturn(Boolean.TRUE);
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        clone.setStringAttribute("updatedString");
+        uow.attributeChanged(clone, OWLClassA.getStrAttField());
+
+        uow.releaseObjects(List.of(clone));
+        assertTrue(uow.contains(clone));
+        assertTrue(uow.getLoadStateRegistry().contains(entityA));
+    }
+
     @Test
     void attributeChangedMergesChangeToStorage() throws Exception {
         when(transactionMock.isActive()).thenReturn(Boolean.TRUE);
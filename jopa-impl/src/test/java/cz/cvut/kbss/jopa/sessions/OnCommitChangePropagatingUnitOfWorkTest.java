@@ -24,7 +24,9 @@ import cz.cvut.kbss.jopa.environment.OWLClassU;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.environment.utils.MetamodelFactory;
 import cz.cvut.kbss.jopa.exceptions.AttributeModificationForbiddenException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.MultilingualString;
+import cz.cvut.kbss.jopa.proxy.IndirectWrapper;
 import cz.cvut.kbss.jopa.sessions.change.ObjectChangeSet;
 import cz.cvut.kbss.jopa.sessions.util.LoadingParameters;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -37,8 +39,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -146,4 +154,88 @@ class OnCommitChangePropagatingUnitOfWorkTest extends AbstractUnitOfWorkTestRunn
         uow.commit();
         verify(storageMock).merge(merged, metamodelMocks.forOwlClassU().uModified(), descriptor);
     }
+    @Test
+    void releaseObjectsThrowsIllegalStateExceptionWhenObjectHasUncommittedChanges() {
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        clone.setStringAttribute("new string value");
+        final List<Object> toRelease = List.of(clone);
+        assertThrows(IllegalStateException.class, () -> uow.releaseObjects(toRelease));
+        assertTrue(uow.contains(clone));
+    }
+
+    @Test
+    void releaseObjectsWithDirtyTrackingThrowsIllegalStateExceptionWhenObjectHasUncommittedChanges() {
+        enableDirtyTracking();
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        clone.setStringAttribute("new string value");
+        uow.attributeChanged(clone, metamodelMocks.forOwlClassA().stringAttribute());
+        final List<Object> toRelease = List.of(clone);
+        assertThrows(IllegalStateException.class, () -> uow.releaseObjects(toRelease));
+        assertTrue(uow.contains(clone));
+    }
+
+    private void enableDirtyTracking() {
+        this.uow = new OnCommitChangePropagatingUnitOfWork(serverSessionStub, new Configuration(
+                Map.of(JOPAPersistenceProperties.DIRTY_TRACKING, Boolean.TRUE.toString())));
+        uow.begin();
+    }
+
+    @Test
+    void commitWithDirtyTrackingPropagatesOnlyChangesOfAttributesMarkedAsChanged() {
+        enableDirtyTracking();
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        clone.setStringAttribute("new string value");
+        clone.setTypes(Generators.generateTypes(2));
+        uow.attributeChanged(clone, metamodelMocks.forOwlClassA().stringAttribute());
+        uow.commit();
+        verify(storageMock).merge(clone, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+        verify(storageMock, never()).merge(clone, metamodelMocks.forOwlClassA().typesSpec(), descriptor);
+    }
+
+    @Test
+    void commitWithDirtyTrackingDoesNotCalculateChangesOfInstancesWithoutChangedAttributes() {
+        enableDirtyTracking();
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        clone.setStringAttribute("new string value");
+        uow.commit();
+        verify(storageMock, never()).merge(any(), any(), any());
+    }
+
+    @Test
+    void dirtyTrackingMarksAttributeAsChangedWhenIndirectCollectionIsModified() {
+        enableDirtyTracking();
+        entityA.setTypes(Generators.generateTypes(2));
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        assertInstanceOf(IndirectWrapper.class, clone.getTypes());
+        clone.getTypes().add(Generators.createIndividualIdentifier().toString());
+        uow.commit();
+        verify(storageMock).merge(clone, metamodelMocks.forOwlClassA().typesSpec(), descriptor);
+    }
+
+    @Test
+    void commitWithDirtyTrackingPropagatesMergedChangesTogetherWithChangesMadeAfterMerge() {
+        enableDirtyTracking();
+        when(storageMock.contains(entityA.getUri(), OWLClassA.class, descriptor)).thenReturn(true);
+        when(storageMock.find(any(LoadingParameters.class))).thenReturn(entityA);
+        defaultLoadStateDescriptor(entityA);
+        final OWLClassA toMerge = new OWLClassA(entityA.getUri());
+        toMerge.setStringAttribute("Different string");
+        final OWLClassA merged = uow.mergeDetached(toMerge, descriptor);
+        merged.setTypes(Generators.generateTypes(2));
+        uow.attributeChanged(merged, metamodelMocks.forOwlClassA().typesSpec());
+        uow.commit();
+        verify(storageMock).merge(merged, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+        verify(storageMock).merge(merged, metamodelMocks.forOwlClassA().typesSpec(), descriptor);
+    }
+
+    @Test
+    void createIndirectCollectionReturnsArgumentWhenDirtyTrackingIsDisabled() throws Exception {
+        final Set<String> types = Generators.generateTypes(2);
+        assertSame(types, uow.createIndirectCollection(types, entityA, OWLClassA.getTypesField()));
+    }
 }
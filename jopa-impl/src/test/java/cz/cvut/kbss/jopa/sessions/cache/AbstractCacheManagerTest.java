@@ -22,6 +22,7 @@ import cz.cvut.kbss.jopa.environment.OWLClassB;
 import cz.cvut.kbss.jopa.environment.OWLClassD;
 import cz.cvut.kbss.jopa.environment.OWLClassM;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
@@ -76,6 +77,8 @@ public abstract class AbstractCacheManagerTest<T extends CacheManager> {
         }
     }
 
+    abstract T createManager(Map<String, String> properties);
+
     Descriptor descriptor(URI context) {
         return new EntityDescriptor(context);
     }
@@ -287,6 +290,51 @@ public abstract class AbstractCacheManagerTest<T extends CacheManager> {
         assertTrue(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
     }
 
+    @Test
+    public void evictInferredObjectsWithCommittedChangesRemovesAllInstancesOfInferredClassesByDefault() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        final OWLClassA otherA = new OWLClassA(Generators.createIndividualIdentifier());
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        manager.add(otherA.getUri(), otherA, descriptors(descriptorOne));
+        manager.add(testB.getUri(), testB, descriptors(descriptorOne));
+        manager.setInferredClasses(Set.of(OWLClassA.class));
+
+        manager.evictInferredObjects(new CommittedChanges(Set.of(testA.getUri()), Set.of(CONTEXT_ONE)));
+        assertFalse(manager.contains(OWLClassA.class, testA.getUri(), descriptorOne));
+        assertFalse(manager.contains(OWLClassA.class, otherA.getUri(), descriptorOne));
+        assertTrue(manager.contains(OWLClassB.class, testB.getUri(), descriptorOne));
+    }
+
+    @Test
+    public void evictInferredObjectsWithCommittedChangesRemovesOnlyAffectedInstancesOfInferredClassesWithSubjectPolicy() {
+        this.manager = createManager(
+                Collections.singletonMap(JOPAPersistenceProperties.CACHE_INFERRED_EVICTION_POLICY, "subject"));
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        final OWLClassA otherA = new OWLClassA(Generators.createIndividualIdentifier());
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        manager.add(otherA.getUri(), otherA, descriptors(descriptorOne));
+        manager.add(testB.getUri(), testB, descriptors(descriptorOne));
+        manager.setInferredClasses(Set.of(OWLClassA.class, OWLClassB.class));
+
+        manager.evictInferredObjects(new CommittedChanges(Set.of(testA.getUri()), Set.of(CONTEXT_ONE)));
+        assertFalse(manager.contains(OWLClassA.class, testA.getUri(), descriptorOne));
+        assertTrue(manager.contains(OWLClassA.class, otherA.getUri(), descriptorOne));
+        assertTrue(manager.contains(OWLClassB.class, testB.getUri(), descriptorOne));
+    }
+
+    @Test
+    public void evictInferredObjectsWithCommittedChangesDoesNotRemoveInstancesOfNonInferredClasses() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        manager.add(testB.getUri(), testB, descriptors(descriptorOne));
+        manager.setInferredClasses(Set.of(OWLClassA.class));
+
+        manager.evictInferredObjects(
+                new CommittedChanges(Set.of(testA.getUri(), testB.getUri()), Set.of(CONTEXT_ONE)));
+        assertFalse(manager.contains(OWLClassA.class, testA.getUri(), descriptorOne));
+        assertTrue(manager.contains(OWLClassB.class, testB.getUri(), descriptorOne));
+    }
+
     @Test
     public void testEvictByContextClassAndIdentifier() throws Exception {
         final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
@@ -0,0 +1,181 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentCacheManagerTest extends AbstractCacheManagerTest<ConcurrentCacheManager> {
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.manager = new ConcurrentCacheManager();
+    }
+
+    @Override
+    ConcurrentCacheManager createManager(Map<String, String> properties) {
+        return new ConcurrentCacheManager(properties);
+    }
+
+    @Override
+    Map<?, ?> extractDescriptors() {
+        final Map<Object, Object> result = new IdentityHashMap<>();
+        manager.instances.forEach((k, v) -> result.put(k.getInstance(), v));
+        return result;
+    }
+
+    @Test
+    void initWithCustomCapacity() {
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "117"));
+        assertEquals(117, manager.getCapacity());
+    }
+
+    @Test
+    void initializationWithInvalidCapacityUsesDefaultValue() {
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "-111"));
+        assertEquals(ConcurrentCacheManager.DEFAULT_CAPACITY, manager.getCapacity());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryGetsEvictedWhenCapacityIsExceeded() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        final Descriptor descriptorTwo = descriptor(CONTEXT_TWO);
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "3"));
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        manager.add(testB.getUri(), testB, descriptors(descriptorTwo));
+        final OWLClassA aTwo = new OWLClassA(URI.create("http://aTwo"));
+        manager.add(aTwo.getUri(), aTwo, descriptors(descriptorTwo));
+
+        manager.get(testA.getClass(), testA.getUri(), descriptorOne);
+        manager.get(aTwo.getClass(), aTwo.getUri(), descriptorTwo);
+        final OWLClassA newA = new OWLClassA(URI.create("http://newA"));
+        manager.add(newA.getUri(), newA, descriptors(descriptor(null)));
+
+        assertEquals(3, manager.size());
+        assertTrue(manager.contains(testA.getClass(), testA.getUri(), descriptorOne));
+        assertTrue(manager.contains(aTwo.getClass(), aTwo.getUri(), descriptorTwo));
+        assertTrue(manager.contains(newA.getClass(), newA.getUri(), descriptor(null)));
+        assertFalse(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
+        assertFalse(extractDescriptors().containsKey(testB));
+    }
+
+    @Test
+    void replacingEntryMakesItMostRecentlyUsed() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "2"));
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        manager.add(testB.getUri(), testB, descriptors(descriptorOne));
+        final OWLClassA replacement = new OWLClassA(testA.getUri());
+        manager.add(replacement.getUri(), replacement, descriptors(descriptorOne));
+        assertEquals(2, manager.size());
+
+        final OWLClassA newA = new OWLClassA(URI.create("http://newA"));
+        manager.add(newA.getUri(), newA, descriptors(descriptorOne));
+
+        assertEquals(2, manager.size());
+        assertSame(replacement, manager.get(OWLClassA.class, testA.getUri(), descriptorOne));
+        assertFalse(manager.contains(OWLClassB.class, testB.getUri(), descriptorOne));
+        assertFalse(extractDescriptors().containsKey(testA));
+    }
+
+    @Test
+    void evictByContextUpdatesCacheSize() {
+        manager.add(testA.getUri(), testA, descriptors(descriptor(CONTEXT_ONE)));
+        manager.add(testB.getUri(), testB, descriptors(descriptor(CONTEXT_TWO)));
+        assertEquals(2, manager.size());
+        manager.evict(CONTEXT_ONE);
+        assertEquals(1, manager.size());
+        manager.evictAll();
+        assertEquals(0, manager.size());
+    }
+
+    @Test
+    void getReturnsNullWhenEntryTimeToLiveExpired() throws Exception {
+        this.manager = new ConcurrentCacheManager(Collections.singletonMap(JOPAPersistenceProperties.CACHE_TTL, "1"));
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptors(descriptor));
+        assertTrue(manager.contains(OWLClassA.class, testA.getUri(), descriptor));
+        Thread.sleep(1100);
+        assertNull(manager.get(OWLClassA.class, testA.getUri(), descriptor));
+        assertEquals(0, manager.size());
+        assertFalse(extractDescriptors().containsKey(testA));
+    }
+
+    @Test
+    void concurrentAccessKeepsCacheWithinCapacity() throws Exception {
+        final int capacity = 64;
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, Integer.toString(capacity)));
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final Descriptor descriptor = descriptor(i % 2 == 0 ? CONTEXT_ONE : CONTEXT_TWO);
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+                        manager.add(a.getUri(), a, descriptors(descriptor));
+                        final Object result = manager.get(OWLClassA.class, a.getUri(), descriptor);
+                        if (result != null) {
+                            assertInstanceOf(OWLClassA.class, result);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // Add one more to trigger eviction of any remaining overflow
+        manager.add(testA.getUri(), testA, descriptors(descriptor(null)));
+        assertThat(manager.size(), lessThanOrEqualTo(capacity));
+        assertEquals(manager.size(), manager.instances.size());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InferredObjectEvictionPolicyTest {
+
+    private static final URI CONTEXT = URI.create("http://jopa-unit-tests");
+
+    @Test
+    void fromPropertiesReturnsAllPolicyByDefault() {
+        assertEquals(StandardEvictionPolicy.ALL, InferredObjectEvictionPolicy.fromProperties(Collections.emptyMap()));
+    }
+
+    @Test
+    void fromPropertiesResolvesStandardPolicyIgnoringCase() {
+        assertEquals(StandardEvictionPolicy.CONTEXT, InferredObjectEvictionPolicy.fromProperties(
+                Map.of(JOPAPersistenceProperties.CACHE_INFERRED_EVICTION_POLICY, "Context")));
+        assertEquals(StandardEvictionPolicy.ALL, InferredObjectEvictionPolicy.fromProperties(
+                Map.of(JOPAPersistenceProperties.CACHE_INFERRED_EVICTION_POLICY, "all")));
+    }
+
+    @Test
+    void fromPropertiesInstantiatesCustomPolicyClass() {
+        final InferredObjectEvictionPolicy result = InferredObjectEvictionPolicy.fromProperties(
+                Map.of(JOPAPersistenceProperties.CACHE_INFERRED_EVICTION_POLICY, NeverEvict.class.getName()));
+        assertInstanceOf(NeverEvict.class, result);
+    }
+
+    @Test
+    void fromPropertiesThrowsIllegalArgumentExceptionForUnknownPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> InferredObjectEvictionPolicy.fromProperties(
+                Map.of(JOPAPersistenceProperties.CACHE_INFERRED_EVICTION_POLICY, "unknown")));
+        assertThrows(IllegalArgumentException.class, () -> InferredObjectEvictionPolicy.fromProperties(
+                Map.of(JOPAPersistenceProperties.CACHE_INFERRED_EVICTION_POLICY, String.class.getName())));
+    }
+
+    @Test
+    void standardPoliciesEvictBasedOnCommittedChanges() {
+        final URI changed = URI.create("http://changed");
+        final URI unchanged = URI.create("http://unchanged");
+        final CommittedChanges changes = new CommittedChanges(Set.of(changed), Collections.singleton(null));
+
+        assertTrue(StandardEvictionPolicy.SUBJECT.shouldEvict(OWLClassA.class, changed, CONTEXT, changes));
+        assertFalse(StandardEvictionPolicy.SUBJECT.shouldEvict(OWLClassA.class, unchanged, null, changes));
+        assertTrue(StandardEvictionPolicy.CONTEXT.shouldEvict(OWLClassA.class, unchanged, null, changes));
+        assertFalse(StandardEvictionPolicy.CONTEXT.shouldEvict(OWLClassA.class, changed, CONTEXT, changes));
+        assertTrue(StandardEvictionPolicy.ALL.shouldEvict(OWLClassA.class, unchanged, CONTEXT, changes));
+    }
+
+    public static class NeverEvict implements InferredObjectEvictionPolicy {
+
+        @Override
+        public boolean shouldEvict(Class<?> cls, Object identifier, URI context, CommittedChanges changes) {
+            return false;
+        }
+    }
+}
@@ -111,6 +111,22 @@ public class LruCacheManagerTest extends AbstractCacheManagerTest<LruCacheManage
         assertEquals(size - 1, lruCache.size());
     }
 
+    @Test
+    public void evictInferredObjectsUsesConfiguredEvictionPolicy() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        final Descriptor descriptorTwo = descriptor(CONTEXT_TWO);
+        this.manager = new LruCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.CACHE_INFERRED_EVICTION_POLICY, "context"));
+        final OWLClassA aTwo = new OWLClassA(URI.create("http://aTwo"));
+        manager.add(testA.getUri(), testA, descriptors(descriptorOne));
+        manager.add(aTwo.getUri(), aTwo, descriptors(descriptorTwo));
+        manager.setInferredClasses(Set.of(OWLClassA.class));
+
+        manager.evictInferredObjects(new CommittedChanges(Set.of(), Set.of(CONTEXT_ONE)));
+        assertFalse(manager.contains(OWLClassA.class, testA.getUri(), descriptorOne));
+        assertTrue(manager.contains(OWLClassA.class, aTwo.getUri(), descriptorTwo));
+    }
+
     @Test
     public void entryGetsEvictedWhenCacheIsFull() {
         final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
@@ -147,6 +163,11 @@ public class LruCacheManagerTest extends AbstractCacheManagerTest<LruCacheManage
         assertFalse(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
     }
 
+    @Override
+    LruCacheManager createManager(Map<String, String> properties) {
+        return new LruCacheManager(properties);
+    }
+
     @Override
     Map<?, ?> extractDescriptors() throws Exception {
         final Field cacheField = LruCacheManager.class.getDeclaredField("entityCache");
@@ -125,6 +125,11 @@ public class TtlCacheManagerTest extends AbstractCacheManagerTest<TtlCacheManage
         assertTrue(scheduler.isShutdown());
     }
 
+    @Override
+    TtlCacheManager createManager(Map<String, String> properties) {
+        return new TtlCacheManager(properties);
+    }
+
     @Override
     Map<?, ?> extractDescriptors() throws Exception {
         final Field cacheField = TtlCacheManager.class.getDeclaredField("cache");
@@ -363,6 +363,19 @@ public class ChangeCalculatorTest {
         verifyChangeSetContainsChangeOfAttribute(metamodelMocks.forOwlClassA().typesSpec(), chSet);
     }
 
+    @Test
+    public void calculateChangesForSpecifiedAttributesRegistersChangesOnlyOfSpecifiedAttributes() {
+        Set<String> newCollection = new HashSet<>(typesCollection);
+        newCollection.add("String");
+        testAClone.setTypes(newCollection);
+        testAClone.setStringAttribute("AnotherStringAttribute");
+        final ObjectChangeSet chSet = createChangeSet(testA, testAClone);
+        final boolean res = sut.calculateChanges(chSet, List.of(metamodelMocks.forOwlClassA().stringAttribute()));
+        assertTrue(res);
+        assertEquals(1, chSet.getChanges().size());
+        verifyChangeSetContainsChangeOfAttribute(metamodelMocks.forOwlClassA().stringAttribute(), chSet);
+    }
+
     @Test
     public void calculateChangesRegistersChangeWhenValueIsSetToNull() {
         final ObjectChangeSet chSet = createChangeSet(testA, testAClone);
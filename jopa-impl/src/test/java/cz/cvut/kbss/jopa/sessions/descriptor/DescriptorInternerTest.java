@@ -0,0 +1,95 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.descriptor;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DescriptorInternerTest {
+
+    private final DescriptorInterner sut = new DescriptorInterner();
+
+    @Test
+    void internReturnsFrozenDescriptorEqualToArgument() {
+        final Descriptor descriptor = new EntityDescriptor(Generators.createIndividualIdentifier());
+        final Descriptor result = sut.intern(descriptor);
+        assertNotSame(descriptor, result);
+        assertTrue(result.isFrozen());
+        assertEquals(descriptor, result);
+    }
+
+    @Test
+    void internReturnsSameCanonicalInstanceForEqualDescriptors() {
+        final Descriptor first = new EntityDescriptor(Generators.createIndividualIdentifier());
+        final Descriptor second = new EntityDescriptor(first.getContexts());
+        final Descriptor result = sut.intern(first);
+        assertSame(result, sut.intern(second));
+        assertSame(result, sut.intern(result));
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void internDistinguishesDescriptorsWithDifferentInferenceSetting() {
+        final Descriptor inferred = new EntityDescriptor();
+        final Descriptor asserted = new EntityDescriptor().disableInference();
+        final Descriptor result = sut.intern(asserted);
+        assertNotSame(sut.intern(inferred), result);
+        assertFalse(result.includeInferred());
+    }
+
+    @Test
+    void internReturnsArgumentWhenCapacityIsExhausted() {
+        final DescriptorInterner interner = new DescriptorInterner(1);
+        interner.intern(new EntityDescriptor());
+        final Descriptor descriptor = new EntityDescriptor(Generators.createIndividualIdentifier());
+        assertSame(descriptor, interner.intern(descriptor));
+        assertFalse(descriptor.isFrozen());
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    void internReturnsDescriptorNotSupportingFreezingUnchanged() {
+        final Descriptor descriptor = mock(Descriptor.class);
+        assertSame(descriptor, sut.intern(descriptor));
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void internReturnsDescriptorWithAttributeDescriptorNotSupportingFreezingUnchanged() throws Exception {
+        final FieldSpecification<?, ?> attribute = mock(FieldSpecification.class);
+        when(attribute.getJavaField()).thenReturn(OWLClassA.getStrAttField());
+        final EntityDescriptor descriptor = new EntityDescriptor(Generators.createIndividualIdentifier());
+        descriptor.addAttributeDescriptor(attribute, mock(Descriptor.class));
+
+        assertSame(descriptor, sut.intern(descriptor));
+        assertFalse(descriptor.isFrozen());
+        assertEquals(0, sut.size());
+    }
+}
@@ -45,9 +45,11 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -90,6 +92,41 @@ public abstract class TypedQueryRunner extends BaseQueryRunner {
         }
     }
 
+    @Test
+    void getResultListWithBatchFetchSizeHintLoadsAllEntities() {
+        final TypedQuery<OWLClassD> q =
+                getEntityManager().createNativeQuery(SELECT_BY_TYPE, OWLClassD.class).setParameter("type", URI.create(
+                        Vocabulary.C_OWL_CLASS_D)).setHint(QueryHints.BATCH_FETCH_SIZE, 3);
+        final List<OWLClassD> ds = new ArrayList<>(QueryTestEnvironment.getDataByContext(null, OWLClassD.class));
+        final List<OWLClassD> res = q.getResultList();
+        assertEquals(ds.size(), res.size());
+        for (OWLClassD d : ds) {
+            final Optional<OWLClassD> match = res.stream().filter(dd -> d.getUri().equals(dd.getUri())).findAny();
+            assertTrue(match.isPresent());
+            assertNotNull(match.get().getOwlClassA());
+            assertEquals(d.getOwlClassA().getUri(), match.get().getOwlClassA().getUri());
+            assertNotNull(match.get().getOwlClassA().getStringAttribute());
+            assertTrue(getEntityManager().contains(match.get()));
+        }
+    }
+
+    @Test
+    void getResultListWithReadOnlyHintReturnsEntitiesNotManagedByPersistenceContext() {
+        final TypedQuery<OWLClassD> q =
+                getEntityManager().createNativeQuery(SELECT_BY_TYPE, OWLClassD.class).setParameter("type", URI.create(
+                        Vocabulary.C_OWL_CLASS_D)).setHint(QueryHints.READ_ONLY, true);
+        final List<OWLClassD> ds = new ArrayList<>(QueryTestEnvironment.getDataByContext(null, OWLClassD.class));
+        final List<OWLClassD> res = q.getResultList();
+        assertEquals(ds.size(), res.size());
+        for (OWLClassD d : ds) {
+            final Optional<OWLClassD> match = res.stream().filter(dd -> d.getUri().equals(dd.getUri())).findAny();
+            assertTrue(match.isPresent());
+            assertNotNull(match.get().getOwlClassA());
+            assertEquals(d.getOwlClassA().getUri(), match.get().getOwlClassA().getUri());
+            assertFalse(getEntityManager().contains(match.get()));
+        }
+    }
+
     @Test
     void testSelectByTypeAndDataPropertyValue() {
         final OWLClassB b = QueryTestEnvironment.getData(OWLClassB.class).get(5);
@@ -303,6 +340,38 @@ public abstract class TypedQueryRunner extends BaseQueryRunner {
         assertEquals(dList.size(), (int) q.getResultStream().count());
     }
 
+    @Test
+    void getResultStreamWithStreamWindowSizeHintDetachesEntitiesOutsideWindow() {
+        final TypedQuery<OWLClassD> q =
+                getEntityManager().createNativeQuery(SELECT_BY_TYPE, OWLClassD.class).setParameter("type", URI.create(
+                        Vocabulary.C_OWL_CLASS_D)).setHint(QueryHints.STREAM_WINDOW_SIZE, 2);
+        final List<OWLClassD> dList = QueryTestEnvironment.getData(OWLClassD.class);
+        final List<OWLClassD> result;
+        try (final Stream<OWLClassD> stream = q.getResultStream()) {
+            result = stream.toList();
+        }
+        assertEquals(dList.size(), result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(i >= result.size() - 2, getEntityManager().contains(result.get(i)));
+        }
+    }
+
+    @Test
+    void getResultStreamWithStreamWindowSizeHintDetachesReferencesLoadedWithEntitiesOutsideWindow() {
+        final TypedQuery<OWLClassD> q =
+                getEntityManager().createNativeQuery(SELECT_BY_TYPE, OWLClassD.class).setParameter("type", URI.create(
+                        Vocabulary.C_OWL_CLASS_D)).setHint(QueryHints.STREAM_WINDOW_SIZE, 2);
+        final List<OWLClassD> result;
+        try (final Stream<OWLClassD> stream = q.getResultStream()) {
+            result = stream.toList();
+        }
+        for (int i = 0; i < result.size(); i++) {
+            final OWLClassA reference = result.get(i).getOwlClassA();
+            assertNotNull(reference);
+            assertEquals(i >= result.size() - 2, getEntityManager().contains(reference));
+        }
+    }
+
     @Test
     void selectionByObjectPropertySupportsEntityAsQueryParameter() {
         final String query = "SELECT ?x WHERE { ?x a ?type ; ?hasA ?y . }";
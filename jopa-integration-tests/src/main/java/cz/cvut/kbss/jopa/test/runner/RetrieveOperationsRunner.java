@@ -119,6 +119,18 @@ public abstract class RetrieveOperationsRunner extends BaseRunner {
         assertTrue(em.contains(resI.getOwlClassA()));
     }
 
+    @Test
+    void findInReadOnlyModeLeavesLazilyLoadedAttributeUnset() {
+        this.em = getEntityManager("RetrieveLazyReadOnly", false);
+        persist(entityI);
+        em.clear();
+        em.setProperty(JOPAPersistenceProperties.READ_ONLY, true);
+
+        final OWLClassI resI = findRequired(OWLClassI.class, entityI.getUri());
+        assertFalse(em.contains(resI));
+        assertNull(resI.getOwlClassA());
+    }
+
     @Test
     void testRetrieveWithGeneratedId() {
         this.em = getEntityManager("RetrieveGenerated", false);
@@ -0,0 +1,95 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.maven;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.metamodel.gen.BuildTimeClassGenerator;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates entity subclasses, proxies and the persistence unit class index from compiled entity classes.
+ * <p>
+ * The generated artifacts are used at runtime when the {@link JOPAPersistenceProperties#USE_BUILD_TIME_INDEX}
+ * property is enabled, so that JOPA does not have to scan the classpath and generate classes on startup.
+ */
+@Mojo(
+        requiresDependencyResolution = ResolutionScope.COMPILE,
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        name = "generate-entity-classes"
+)
+public class GenerateEntityClassesMojo extends AbstractMojo {
+
+    private static final String PACKAGE_PARAM = "package";
+    private static final String OUTPUT_DIRECTORY_PARAM = "output-directory";
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+    @Parameter(name = PACKAGE_PARAM, required = true)
+    private String pPackage;
+    @Parameter(name = OUTPUT_DIRECTORY_PARAM, defaultValue = "${project.build.outputDirectory}")
+    private String outputDirectory;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        getLog().info(PACKAGE_PARAM + ": " + pPackage);
+        getLog().info(OUTPUT_DIRECTORY_PARAM + ": " + outputDirectory);
+
+        final ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (final URLClassLoader projectClassLoader = new URLClassLoader(getClassPathUrls(),
+                getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(projectClassLoader);
+            final BuildTimeClassGenerator generator = new BuildTimeClassGenerator(
+                    new Configuration(Map.of(JOPAPersistenceProperties.SCAN_PACKAGE, pPackage)));
+            final int count = generator.generate(new File(outputDirectory));
+            getLog().info("Generated classes for " + count + " entity classes.");
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to generate entity classes.", e);
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    private URL[] getClassPathUrls() throws MojoExecutionException {
+        try {
+            final List<URL> urls = new ArrayList<>();
+            for (Object element : project.getCompileClasspathElements()) {
+                urls.add(new File(element.toString()).toURI().toURL());
+            }
+            return urls.toArray(new URL[0]);
+        } catch (DependencyResolutionRequiredException | MalformedURLException e) {
+            throw new MojoExecutionException("Unable to resolve project classpath.", e);
+        }
+    }
+}
@@ -25,7 +25,9 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface Connection extends AutoCloseable, Wrapper {
@@ -161,6 +163,29 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     Collection<Axiom<?>> find(AxiomDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Finds axioms with the corresponding subjects and properties.
+     * <p>
+     * This is a batch version of {@link #find(AxiomDescriptor)}. Implementations are expected to load axioms of all the
+     * specified subjects in as few storage round-trips as possible. The default implementation just calls
+     * {@link #find(AxiomDescriptor)} for each descriptor.
+     *
+     * @param descriptors Loading descriptors, each specifying subject, properties to load and possible contexts to work
+     *                    with
+     * @return Map of subjects to axioms matching the corresponding descriptor. Subjects without any matching axioms may
+     * be missing from the map
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws OntoDriverException {
+        final Map<NamedResource, Collection<Axiom<?>>> result = new HashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.put(descriptor.getSubject(), find(descriptor));
+        }
+        return result;
+    }
+
     /**
      * Persists new individual and its property values specified by the descriptor.
      *
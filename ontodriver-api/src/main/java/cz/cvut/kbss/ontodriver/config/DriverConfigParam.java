@@ -27,7 +27,9 @@ public enum DriverConfigParam implements ConfigurationParameter {
     AUTO_COMMIT(OntoDriverProperties.CONNECTION_AUTO_COMMIT),
     REASONER_FACTORY_CLASS(OntoDriverProperties.REASONER_FACTORY_CLASS),
     USE_TRANSACTIONAL_ONTOLOGY(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY),
-    MODULE_EXTRACTION_SIGNATURE(OntoDriverProperties.MODULE_EXTRACTION_SIGNATURE);
+    MODULE_EXTRACTION_SIGNATURE(OntoDriverProperties.MODULE_EXTRACTION_SIGNATURE),
+    IDENTIFIER_GENERATION_STRATEGY(OntoDriverProperties.IDENTIFIER_GENERATION_STRATEGY),
+    IDENTIFIER_GENERATION_NODE_ID(OntoDriverProperties.IDENTIFIER_GENERATION_NODE_ID);
 
     private final String name;
 
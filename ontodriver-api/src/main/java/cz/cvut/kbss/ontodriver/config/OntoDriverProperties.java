@@ -70,6 +70,50 @@ public final class OntoDriverProperties {
      */
     public static final String SIGNATURE_DELIMITER = "|";
 
+    /**
+     * Strategy used to generate identifiers of new individuals.
+     * <p>
+     * Supported values are {@link #IDENTIFIER_GENERATION_RANDOM} (default), {@link #IDENTIFIER_GENERATION_UUID},
+     * {@link #IDENTIFIER_GENERATION_SEQUENCE} or a fully qualified name of a custom
+     * {@link cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy} implementation.
+     * <p>
+     * Identifiers generated by the random strategy are verified against the repository, which requires a query for
+     * each generated identifier. The other built-in strategies generate unique identifiers without accessing the
+     * repository.
+     */
+    public static final String IDENTIFIER_GENERATION_STRATEGY = "cz.cvut.kbss.ontodriver.identifierGeneration.strategy";
+
+    /**
+     * Identifiers with a random integer suffix, verified to be unique against the repository.
+     *
+     * @see #IDENTIFIER_GENERATION_STRATEGY
+     */
+    public static final String IDENTIFIER_GENERATION_RANDOM = "random";
+
+    /**
+     * Identifiers with a time-ordered UUID (version 7) suffix.
+     *
+     * @see #IDENTIFIER_GENERATION_STRATEGY
+     */
+    public static final String IDENTIFIER_GENERATION_UUID = "uuidv7";
+
+    /**
+     * Identifiers with a suffix consisting of a node identifier and a sequence number.
+     * <p>
+     * Requires {@link #IDENTIFIER_GENERATION_NODE_ID} to be set.
+     *
+     * @see #IDENTIFIER_GENERATION_STRATEGY
+     */
+    public static final String IDENTIFIER_GENERATION_SEQUENCE = "sequence";
+
+    /**
+     * Identifier of the application instance (node) used by the {@link #IDENTIFIER_GENERATION_SEQUENCE} identifier
+     * generation strategy.
+     * <p>
+     * Must be unique among all application instances writing into the same repository and usable in an IRI.
+     */
+    public static final String IDENTIFIER_GENERATION_NODE_ID = "cz.cvut.kbss.ontodriver.identifierGeneration.nodeId";
+
     private OntoDriverProperties() {
         throw new AssertionError();
     }
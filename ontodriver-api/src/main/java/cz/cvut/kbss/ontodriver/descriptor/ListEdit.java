@@ -0,0 +1,98 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.descriptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Single modification of a list.
+ * <p>
+ * The index of an edit is relative to the state of the list after all the preceding edits have been applied.
+ *
+ * @param type   Type of the modification
+ * @param index  Index at which the modification takes place
+ * @param values Inserted values for {@link Type#INSERT}, the new value for {@link Type#SET}, empty for
+ *               {@link Type#REMOVE}
+ * @param <T>    Value type
+ */
+public record ListEdit<T>(Type type, int index, List<T> values) {
+
+    public ListEdit {
+        Objects.requireNonNull(type);
+        if (index < 0) {
+            throw new IllegalArgumentException("List edit index must not be negative, got " + index);
+        }
+        values = Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    /**
+     * Creates an edit inserting the specified values at the specified index.
+     *
+     * @param index  Index at which the first of the values is inserted
+     * @param values The inserted values
+     * @param <T>    Value type
+     * @return New list edit
+     */
+    public static <T> ListEdit<T> insert(int index, Collection<? extends T> values) {
+        return new ListEdit<>(Type.INSERT, index, new ArrayList<>(values));
+    }
+
+    /**
+     * Creates an edit removing the element at the specified index.
+     *
+     * @param index Index of the removed element
+     * @param <T>   Value type
+     * @return New list edit
+     */
+    public static <T> ListEdit<T> remove(int index) {
+        return new ListEdit<>(Type.REMOVE, index, Collections.emptyList());
+    }
+
+    /**
+     * Creates an edit replacing the element at the specified index with the specified value.
+     *
+     * @param index Index of the replaced element
+     * @param value The new value
+     * @param <T>   Value type
+     * @return New list edit
+     */
+    public static <T> ListEdit<T> set(int index, T value) {
+        return new ListEdit<>(Type.SET, index, Collections.singletonList(value));
+    }
+
+    /**
+     * Gets the difference in list size caused by this edit.
+     *
+     * @return Number of elements added to (positive) or removed from (negative) the list
+     */
+    public int sizeDelta() {
+        return switch (type) {
+            case INSERT -> values.size();
+            case REMOVE -> -1;
+            case SET -> 0;
+        };
+    }
+
+    public enum Type {
+        INSERT, REMOVE, SET
+    }
+}
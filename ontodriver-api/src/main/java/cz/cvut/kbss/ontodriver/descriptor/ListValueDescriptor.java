@@ -39,4 +39,23 @@ public interface ListValueDescriptor<T> extends ListDescriptor {
      * @param elem The value to add, i.e. identifier of the list element
      */
     void addValue(T elem);
+
+    /**
+     * Gets modifications which transform the list currently stored in the repository into the list described by this
+     * descriptor.
+     * <p>
+     * The modifications are optional. When available, they allow the driver to rewrite only the affected list nodes.
+     * When empty, the driver has to merge the whole list based on {@link #getValues()}.
+     *
+     * @return List of edits in the order of application, possibly empty
+     */
+    List<ListEdit<T>> getEdits();
+
+    /**
+     * Adds an edit to this list descriptor.
+     *
+     * @param edit The edit to add
+     * @see #getEdits()
+     */
+    void addEdit(ListEdit<T> edit);
 }
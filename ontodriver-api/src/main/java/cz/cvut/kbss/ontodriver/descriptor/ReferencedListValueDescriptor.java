@@ -33,6 +33,7 @@ import java.util.Objects;
 public class ReferencedListValueDescriptor<T> extends ReferencedListDescriptorImpl implements ListValueDescriptor<T> {
 
     private final List<T> values = new ArrayList<>();
+    private final List<ListEdit<T>> edits = new ArrayList<>();
 
     public ReferencedListValueDescriptor(NamedResource listOwner, Assertion listProperty,
                                          Assertion nextNode, Assertion nodeContent) {
@@ -55,6 +56,16 @@ public class ReferencedListValueDescriptor<T> extends ReferencedListDescriptorIm
         values.add(value);
     }
 
+    @Override
+    public List<ListEdit<T>> getEdits() {
+        return Collections.unmodifiableList(edits);
+    }
+
+    @Override
+    public void addEdit(ListEdit<T> edit) {
+        edits.add(Objects.requireNonNull(edit));
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
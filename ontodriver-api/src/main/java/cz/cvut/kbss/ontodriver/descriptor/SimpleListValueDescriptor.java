@@ -34,6 +34,7 @@ public class SimpleListValueDescriptor extends SimpleListDescriptorImpl implemen
         ListValueDescriptor<NamedResource> {
 
     private final List<NamedResource> values;
+    private final List<ListEdit<NamedResource>> edits = new ArrayList<>();
 
     public SimpleListValueDescriptor(NamedResource listOwner, Assertion listProperty,
                                      Assertion nextNodeProperty) {
@@ -52,6 +53,16 @@ public class SimpleListValueDescriptor extends SimpleListDescriptorImpl implemen
         values.add(value);
     }
 
+    @Override
+    public List<ListEdit<NamedResource>> getEdits() {
+        return Collections.unmodifiableList(edits);
+    }
+
+    @Override
+    public void addEdit(ListEdit<NamedResource> edit) {
+        edits.add(Objects.requireNonNull(edit));
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
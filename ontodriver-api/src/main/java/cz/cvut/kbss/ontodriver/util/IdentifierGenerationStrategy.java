@@ -0,0 +1,52 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.net.URI;
+
+/**
+ * Strategy for generating identifiers of new individuals.
+ * <p>
+ * Implementations must be thread-safe, as a single instance is shared by all connections of a driver.
+ * <p>
+ * Custom implementations can be configured via {@link cz.cvut.kbss.ontodriver.config.OntoDriverProperties#IDENTIFIER_GENERATION_STRATEGY}.
+ * They must have a public no-arg constructor.
+ */
+public interface IdentifierGenerationStrategy {
+
+    /**
+     * Generates a new identifier based on the specified class URI.
+     *
+     * @param classUri URI of the individual's class, used as identifier base
+     * @return Generated identifier
+     */
+    URI generateIdentifier(URI classUri);
+
+    /**
+     * Whether identifiers generated by this strategy are guaranteed to be unique.
+     * <p>
+     * If so, the driver does not verify the generated identifiers against the repository. Otherwise, the driver checks
+     * that no individual of the specified class with the generated identifier exists and generates another identifier
+     * if it does.
+     *
+     * @return {@code true} if generated identifiers need not be checked for uniqueness, {@code false} otherwise
+     */
+    default boolean generatesUniqueIdentifiers() {
+        return false;
+    }
+}
@@ -17,6 +17,10 @@
  */
 package cz.cvut.kbss.ontodriver.util;
 
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
@@ -48,16 +52,76 @@ public class IdentifierUtils {
      * @return Generated identifier
      */
     public static URI generateIdentifier(URI classUri) {
+        return generateIdentifier(classUri, Integer.toString(RANDOM.nextInt()));
+    }
+
+    /**
+     * Generates an identifier based on the specified class URI and instance-specific suffix.
+     * <p>
+     * The identifier consists of the class URI and then contains the string 'instance' and the specified suffix. The
+     * 'instance' part is appended after a slash or a _, if the class URI contains a hash fragment.
+     *
+     * @param classUri Class URI used as identifier base
+     * @param suffix   Suffix distinguishing the instance
+     * @return Generated identifier
+     */
+    public static URI generateIdentifier(URI classUri, String suffix) {
         Objects.requireNonNull(classUri);
+        Objects.requireNonNull(suffix);
         if (classUri.getFragment() != null) {
-            return URI.create(classUri + "_instance" + RANDOM.nextInt());
+            return URI.create(classUri + "_instance" + suffix);
         } else {
             String base = classUri.toString();
             if (base.endsWith("/")) {
-                return URI.create(base + "instance" + RANDOM.nextInt());
+                return URI.create(base + "instance" + suffix);
             } else {
-                return URI.create(base + "/instance" + RANDOM.nextInt());
+                return URI.create(base + "/instance" + suffix);
+            }
+        }
+    }
+
+    /**
+     * Creates identifier generation strategy based on the specified driver configuration.
+     *
+     * @param configuration Driver configuration
+     * @return Identifier generation strategy
+     * @throws OntoDriverInitializationException If the configured strategy cannot be created
+     * @see OntoDriverProperties#IDENTIFIER_GENERATION_STRATEGY
+     */
+    public static IdentifierGenerationStrategy createGenerationStrategy(DriverConfiguration configuration) {
+        Objects.requireNonNull(configuration);
+        final String strategy = configuration.getProperty(DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY,
+                OntoDriverProperties.IDENTIFIER_GENERATION_RANDOM);
+        return switch (strategy) {
+            case OntoDriverProperties.IDENTIFIER_GENERATION_RANDOM -> new RandomIdentifierGenerationStrategy();
+            case OntoDriverProperties.IDENTIFIER_GENERATION_UUID -> new TimeOrderedUuidGenerationStrategy();
+            case OntoDriverProperties.IDENTIFIER_GENERATION_SEQUENCE -> createSequenceGenerationStrategy(configuration);
+            default -> instantiateGenerationStrategy(strategy);
+        };
+    }
+
+    private static IdentifierGenerationStrategy createSequenceGenerationStrategy(DriverConfiguration configuration) {
+        if (!configuration.isSet(DriverConfigParam.IDENTIFIER_GENERATION_NODE_ID)) {
+            throw new OntoDriverInitializationException(
+                    "Sequence identifier generation strategy requires the '" + OntoDriverProperties.IDENTIFIER_GENERATION_NODE_ID + "' property to be set.");
+        }
+        return new SequenceIdentifierGenerationStrategy(
+                configuration.getProperty(DriverConfigParam.IDENTIFIER_GENERATION_NODE_ID));
+    }
+
+    private static IdentifierGenerationStrategy instantiateGenerationStrategy(String className) {
+        try {
+            final Class<?> cls = Class.forName(className);
+            if (!IdentifierGenerationStrategy.class.isAssignableFrom(cls)) {
+                throw new OntoDriverInitializationException(
+                        "Class " + className + " is not an implementation of " + IdentifierGenerationStrategy.class.getName() + ".");
             }
+            return (IdentifierGenerationStrategy) cls.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new OntoDriverInitializationException("Unknown identifier generation strategy " + className + ".", e);
+        } catch (ReflectiveOperationException e) {
+            throw new OntoDriverInitializationException(
+                    "Unable to instantiate identifier generation strategy " + className + ". Make sure it has a public no-arg constructor.", e);
         }
     }
 
@@ -0,0 +1,37 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.net.URI;
+
+/**
+ * Generates identifiers with a (pseudo) random integer suffix.
+ * <p>
+ * Uniqueness of the generated identifiers is not guaranteed, so they have to be verified against the repository.
+ * <p>
+ * This is the default identifier generation strategy.
+ *
+ * @see IdentifierUtils#generateIdentifier(URI)
+ */
+public class RandomIdentifierGenerationStrategy implements IdentifierGenerationStrategy {
+
+    @Override
+    public URI generateIdentifier(URI classUri) {
+        return IdentifierUtils.generateIdentifier(classUri);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates identifiers consisting of a node identifier, the time the generator was created and a sequence number.
+ * <p>
+ * The identifiers are unique provided that each application instance (node) writing into the repository uses a
+ * different node identifier. The creation time ensures that a restarted node does not reuse identifiers generated
+ * before the restart. Therefore, the generated identifiers need not be verified against the repository.
+ */
+public class SequenceIdentifierGenerationStrategy implements IdentifierGenerationStrategy {
+
+    private final String prefix;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates a new strategy for the specified node.
+     *
+     * @param nodeId Identifier of the node, unique among all nodes writing into the repository
+     */
+    public SequenceIdentifierGenerationStrategy(String nodeId) {
+        Objects.requireNonNull(nodeId);
+        if (nodeId.isBlank()) {
+            throw new IllegalArgumentException("Node identifier must not be blank.");
+        }
+        this.prefix = nodeId + "-" + Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + "-";
+    }
+
+    @Override
+    public URI generateIdentifier(URI classUri) {
+        return IdentifierUtils.generateIdentifier(classUri, prefix + sequence.incrementAndGet());
+    }
+
+    @Override
+    public boolean generatesUniqueIdentifiers() {
+        return true;
+    }
+}
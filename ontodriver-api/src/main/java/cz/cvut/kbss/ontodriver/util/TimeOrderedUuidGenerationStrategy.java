@@ -0,0 +1,80 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates identifiers with a time-ordered UUID (version 7, as specified by RFC 9562) suffix.
+ * <p>
+ * The UUID consists of a 48-bit millisecond timestamp, a 12-bit counter guaranteeing monotonicity of UUIDs generated
+ * within the same millisecond and 62 random bits. Identifiers generated by one instance are therefore unique and the
+ * probability of a collision with identifiers generated by another instance is negligible, so that they need not be
+ * verified against the repository.
+ */
+public class TimeOrderedUuidGenerationStrategy implements IdentifierGenerationStrategy {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private final Random random = new SecureRandom();
+
+    private long lastTimestamp;
+    private int counter;
+
+    @Override
+    public URI generateIdentifier(URI classUri) {
+        return IdentifierUtils.generateIdentifier(classUri, nextUuid().toString());
+    }
+
+    /**
+     * Generates a new version 7 UUID.
+     *
+     * @return New UUID
+     */
+    public UUID nextUuid() {
+        final long timestamp;
+        final int sequence;
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                this.lastTimestamp = now;
+                this.counter = 0;
+            } else if (counter < MAX_COUNTER) {
+                counter++;
+            } else {
+                // Counter exhausted (or clock moved backwards), borrow from the next millisecond
+                lastTimestamp++;
+                this.counter = 0;
+            }
+            timestamp = lastTimestamp;
+            sequence = counter;
+        }
+        final long msb = (timestamp << 16) | (0x7L << COUNTER_BITS) | sequence;
+        final long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public boolean generatesUniqueIdentifiers() {
+        return true;
+    }
+}
@@ -17,12 +17,23 @@
  */
 package cz.cvut.kbss.ontodriver.util;
 
+import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IdentifierUtilsTest {
 
@@ -48,4 +59,67 @@ class IdentifierUtilsTest {
         final URI result = IdentifierUtils.generateIdentifier(clsUri);
         assertThat(result.toString(), containsString("/instance"));
     }
+
+    @Test
+    void createGenerationStrategyReturnsRandomStrategyByDefault() {
+        final IdentifierGenerationStrategy result = IdentifierUtils.createGenerationStrategy(configuration());
+        assertInstanceOf(RandomIdentifierGenerationStrategy.class, result);
+        assertFalse(result.generatesUniqueIdentifiers());
+    }
+
+    @Test
+    void createGenerationStrategyReturnsTimeOrderedUuidStrategyWhenConfigured() {
+        final DriverConfiguration config = configuration();
+        config.setProperty(DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY, OntoDriverProperties.IDENTIFIER_GENERATION_UUID);
+        final IdentifierGenerationStrategy result = IdentifierUtils.createGenerationStrategy(config);
+        assertInstanceOf(TimeOrderedUuidGenerationStrategy.class, result);
+        assertTrue(result.generatesUniqueIdentifiers());
+    }
+
+    @Test
+    void createGenerationStrategyCreatesSequenceStrategyUsingConfiguredNodeId() {
+        final DriverConfiguration config = configuration();
+        config.setProperty(DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY, OntoDriverProperties.IDENTIFIER_GENERATION_SEQUENCE);
+        config.setProperty(DriverConfigParam.IDENTIFIER_GENERATION_NODE_ID, "node1");
+        final IdentifierGenerationStrategy result = IdentifierUtils.createGenerationStrategy(config);
+        assertInstanceOf(SequenceIdentifierGenerationStrategy.class, result);
+        final URI first = result.generateIdentifier(URI.create(URI_WITH_SLASH));
+        final URI second = result.generateIdentifier(URI.create(URI_WITH_SLASH));
+        assertThat(first.toString(), startsWith(URI_WITH_SLASH + "/instancenode1-"));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void createGenerationStrategyThrowsInitializationExceptionWhenSequenceStrategyNodeIdIsMissing() {
+        final DriverConfiguration config = configuration();
+        config.setProperty(DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY, OntoDriverProperties.IDENTIFIER_GENERATION_SEQUENCE);
+        assertThrows(OntoDriverInitializationException.class, () -> IdentifierUtils.createGenerationStrategy(config));
+    }
+
+    @Test
+    void createGenerationStrategyInstantiatesCustomStrategyClass() {
+        final DriverConfiguration config = configuration();
+        config.setProperty(DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY, CustomStrategy.class.getName());
+        assertInstanceOf(CustomStrategy.class, IdentifierUtils.createGenerationStrategy(config));
+    }
+
+    @Test
+    void createGenerationStrategyThrowsInitializationExceptionForClassNotImplementingStrategy() {
+        final DriverConfiguration config = configuration();
+        config.setProperty(DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY, String.class.getName());
+        assertThrows(OntoDriverInitializationException.class, () -> IdentifierUtils.createGenerationStrategy(config));
+    }
+
+    private static DriverConfiguration configuration() {
+        return new DriverConfiguration(OntologyStorageProperties.driver("cz.cvut.kbss.ontodriver.TestDataSource")
+                                                                .physicalUri("memory-store").build());
+    }
+
+    public static class CustomStrategy implements IdentifierGenerationStrategy {
+
+        @Override
+        public URI generateIdentifier(URI classUri) {
+            return IdentifierUtils.generateIdentifier(classUri, "custom");
+        }
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedUuidGenerationStrategyTest {
+
+    private final TimeOrderedUuidGenerationStrategy sut = new TimeOrderedUuidGenerationStrategy();
+
+    @Test
+    void nextUuidGeneratesVersion7Uuid() {
+        final long before = System.currentTimeMillis();
+        final UUID result = sut.nextUuid();
+        assertEquals(7, result.version());
+        assertEquals(2, result.variant());
+        final long timestamp = result.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before);
+    }
+
+    @Test
+    void nextUuidGeneratesUniqueMonotonicallyIncreasingUuids() {
+        final int count = 10000;
+        final List<UUID> uuids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            uuids.add(sut.nextUuid());
+        }
+        assertEquals(count, new HashSet<>(uuids).size());
+        for (int i = 1; i < count; i++) {
+            // Compare the time-ordered most significant bits as unsigned values
+            assertTrue(Long.compareUnsigned(uuids.get(i - 1).getMostSignificantBits(),
+                    uuids.get(i).getMostSignificantBits()) < 0);
+        }
+    }
+
+    @Test
+    void generateIdentifierAppendsUuidToClassUri() {
+        final URI classUri = URI.create("http://onto.fel.cvut.cz/ontologies/jopa#ClassA");
+        final URI result = sut.generateIdentifier(classUri);
+        final String uuid = result.toString().substring((classUri + "_instance").length());
+        assertEquals(7, UUID.fromString(uuid).version());
+    }
+}
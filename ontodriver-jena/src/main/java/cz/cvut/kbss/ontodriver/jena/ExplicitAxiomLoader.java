@@ -51,11 +51,27 @@ class ExplicitAxiomLoader extends AbstractAxiomLoader {
 
     @Override
     Collection<Axiom<?>> find(AxiomDescriptor descriptor, Map<String, Assertion> assertions) {
+        final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
+        return find(descriptor, assertions, findStatements(subject, null, descriptor.getSubjectContexts()));
+    }
+
+    /**
+     * Loads axioms corresponding to the specified descriptor from the specified statements of the subject.
+     * <p>
+     * This is used when statements of the subject in its contexts have already been retrieved from the storage (e.g.,
+     * together with statements of other subjects). Values of assertions in other contexts are still looked up.
+     *
+     * @param descriptor        Loading descriptor, contains subject and context info
+     * @param assertions        Assertions to load
+     * @param subjectStatements All statements of the subject in the subject contexts of the descriptor
+     * @return Matching axioms
+     */
+    Collection<Axiom<?>> find(AxiomDescriptor descriptor, Map<String, Assertion> assertions,
+                              Collection<Statement> subjectStatements) {
         this.assertedProperties = assertions;
         this.unspecifiedProperty = resolveUnspecifiedProperty();
         final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
-        final Collection<Statement> statements = findStatements(subject, null, descriptor.getSubjectContexts());
-        final List<Axiom<?>> result = transformStatementsToAxioms(descriptor, statements);
+        final List<Axiom<?>> result = transformStatementsToAxioms(descriptor, subjectStatements);
         result.addAll(loadAxiomsForPropertiesInContext(descriptor, subject));
         return result;
     }
@@ -31,11 +31,15 @@ import cz.cvut.kbss.ontodriver.jena.query.JenaPreparedStatement;
 import cz.cvut.kbss.ontodriver.jena.query.JenaStatement;
 import cz.cvut.kbss.ontodriver.jena.util.IdentifierGenerator;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.RandomIdentifierGenerationStrategy;
 import cz.cvut.kbss.ontodriver.util.Transaction;
 
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -54,10 +58,17 @@ public class JenaAdapter implements Wrapper {
 
     private final StorageConnector connector;
     private final InferredStorageConnector inferenceConnector;
+    private final IdentifierGenerationStrategy identifierGenerationStrategy;
 
     JenaAdapter(StorageConnector connector, InferredStorageConnector inferenceConnector) {
+        this(connector, inferenceConnector, new RandomIdentifierGenerationStrategy());
+    }
+
+    JenaAdapter(StorageConnector connector, InferredStorageConnector inferenceConnector,
+                IdentifierGenerationStrategy identifierGenerationStrategy) {
         this.connector = connector;
         this.inferenceConnector = inferenceConnector;
+        this.identifierGenerationStrategy = identifierGenerationStrategy;
     }
 
     void commit() throws JenaDriverException {
@@ -93,6 +104,11 @@ public class JenaAdapter implements Wrapper {
         return new MainAxiomLoader(connector, inferenceConnector).find(descriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        return new MainAxiomLoader(connector, inferenceConnector).findAll(descriptors);
+    }
+
     boolean contains(Axiom<?> axiom, Set<URI> contexts) {
         beginTransactionIfNotActive();
         return new MainAxiomLoader(connector, inferenceConnector).contains(axiom, contexts);
@@ -109,8 +125,10 @@ public class JenaAdapter implements Wrapper {
     }
 
     URI generateIdentifier(URI classUri) {
-        beginTransactionIfNotActive();
-        return new IdentifierGenerator(connector).generateIdentifier(classUri);
+        if (!identifierGenerationStrategy.generatesUniqueIdentifiers()) {
+            beginTransactionIfNotActive();
+        }
+        return new IdentifierGenerator(connector, identifierGenerationStrategy).generateIdentifier(classUri);
     }
 
     boolean isConsistent(URI context) {
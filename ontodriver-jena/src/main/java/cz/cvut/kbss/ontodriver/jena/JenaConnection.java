@@ -28,10 +28,12 @@ import cz.cvut.kbss.ontodriver.jena.list.JenaLists;
 import cz.cvut.kbss.ontodriver.jena.query.JenaStatement;
 import cz.cvut.kbss.ontodriver.jena.util.ConnectionListener;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -152,6 +154,18 @@ public class JenaConnection implements Connection {
         }
     }
 
+    @Override
+    public Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws JenaDriverException {
+        ensureOpen();
+        Objects.requireNonNull(descriptors);
+        try {
+            return adapter.findAll(descriptors);
+        } catch (RuntimeException e) {
+            throw new JenaDriverException(e);
+        }
+    }
+
     @Override
     public void persist(AxiomValueDescriptor descriptor) throws JenaDriverException {
         ensureOpen();
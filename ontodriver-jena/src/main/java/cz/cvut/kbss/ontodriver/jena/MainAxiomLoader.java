@@ -23,23 +23,32 @@ import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
 import cz.cvut.kbss.ontodriver.jena.util.JenaUtils;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 class MainAxiomLoader {
 
+    private final StorageConnector connector;
     private final AbstractAxiomLoader inferredLoader;
     private final ExplicitAxiomLoader explicitLoader;
 
     MainAxiomLoader(StorageConnector connector, InferredStorageConnector inferredConnector) {
+        this.connector = connector;
         this.explicitLoader = new ExplicitAxiomLoader(connector);
         // It is possible that the inferred connector is null - if we are using the read_committed strategy or only snapshot,
         // without inference
@@ -93,6 +102,39 @@ class MainAxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms corresponding to all the specified descriptors.
+     * <p>
+     * Explicit statements of subjects sharing the same contexts are retrieved from the storage together.
+     *
+     * @param descriptors Descriptors of axioms to load
+     * @return Map of subjects to matching axioms
+     */
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors) {
+        final Map<Set<URI>, List<AxiomDescriptor>> byContexts = new LinkedHashMap<>();
+        descriptors.forEach(d -> byContexts.computeIfAbsent(d.getSubjectContexts(), k -> new ArrayList<>()).add(d));
+        final Map<NamedResource, Collection<Axiom<?>>> result = new HashMap<>(descriptors.size());
+        for (Map.Entry<Set<URI>, List<AxiomDescriptor>> e : byContexts.entrySet()) {
+            final Map<Resource, Collection<Statement>> statements = connector.findAll(
+                    e.getValue().stream().map(d -> toResource(d.getSubject())).collect(Collectors.toList()),
+                    e.getKey().stream().map(URI::toString).collect(Collectors.toSet()));
+            for (AxiomDescriptor descriptor : e.getValue()) {
+                final Map<String, Assertion> asserted = new HashMap<>(descriptor.getAssertions().size());
+                final Map<String, Assertion> inferred = new HashMap<>(descriptor.getAssertions().size());
+                mapAssertions(descriptor, asserted, inferred);
+                final Collection<Axiom<?>> axioms = explicitLoader.find(descriptor, asserted,
+                        statements.getOrDefault(toResource(descriptor.getSubject()), Collections.emptyList()));
+                axioms.addAll(inferredLoader.find(descriptor, inferred));
+                result.put(descriptor.getSubject(), axioms);
+            }
+        }
+        return result;
+    }
+
+    private static Resource toResource(NamedResource subject) {
+        return ResourceFactory.createResource(subject.getIdentifier().toString());
+    }
+
     private static void mapAssertions(AxiomDescriptor descriptor, Map<String, Assertion> asserted,
                                       Map<String, Assertion> inferred) {
         for (Assertion a : descriptor.getAssertions()) {
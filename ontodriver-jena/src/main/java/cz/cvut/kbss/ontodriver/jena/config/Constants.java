@@ -36,6 +36,13 @@ public class Constants {
      */
     public static final boolean DEFAULT_AUTO_COMMIT = false;
 
+    /**
+     * Default number of transactions recorded in file storage journal before the storage file is rewritten.
+     *
+     * @see JenaOntoDriverProperties#JENA_FILE_JOURNAL_COMPACTION_THRESHOLD
+     */
+    public static final int DEFAULT_FILE_JOURNAL_COMPACTION_THRESHOLD = 100;
+
     private Constants() {
         throw new AssertionError();
     }
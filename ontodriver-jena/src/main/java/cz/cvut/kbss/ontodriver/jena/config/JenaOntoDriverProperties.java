@@ -107,6 +107,44 @@ public class JenaOntoDriverProperties {
      */
     public static final String JENA_TREAT_DEFAULT_GRAPH_AS_UNION = "cz.cvut.kbss.ontodriver.jena.default_graph_as_union";
 
+    /**
+     * Parameter specifying whether {@link #FILE} storage should record committed changes in an append-only journal
+     * instead of rewriting the whole file on every commit.
+     * <p>
+     * The journal is stored next to the storage file and it is replayed when the storage is loaded. The storage file is
+     * rewritten and the journal cleared when the journal reaches {@link #JENA_FILE_JOURNAL_COMPACTION_THRESHOLD}
+     * transactions and when the storage is closed.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String JENA_FILE_JOURNAL = "cz.cvut.kbss.ontodriver.jena.file_journal";
+
+    /**
+     * Number of transactions recorded in the {@link #FILE} storage journal after which the storage file is rewritten and
+     * the journal cleared.
+     * <p>
+     * Relevant only if {@link #JENA_FILE_JOURNAL} is enabled.
+     *
+     * @see cz.cvut.kbss.ontodriver.jena.config.Constants#DEFAULT_FILE_JOURNAL_COMPACTION_THRESHOLD
+     */
+    public static final String JENA_FILE_JOURNAL_COMPACTION_THRESHOLD =
+            "cz.cvut.kbss.ontodriver.jena.file_journal_compaction_threshold";
+
+    /**
+     * Parameter specifying whether transactions should share a single inference closure of the central dataset instead
+     * of computing inference on their own snapshot.
+     * <p>
+     * The shared closure is computed once and maintained incrementally as changes are committed into the central
+     * dataset. Transactions read inferred statements from the shared closure overlaid with their uncommitted changes.
+     * Therefore, statements which would be inferred from uncommitted changes become visible only after commit and
+     * inferred statements always reflect the latest committed state of the central dataset. Consistency checks of a
+     * graph changed in the current transaction do take the uncommitted changes into account, but they have to
+     * validate the whole graph using a new reasoner instance.
+     * <p>
+     * Relevant only if a reasoner factory class is configured. Defaults to {@code false}.
+     */
+    public static final String JENA_SHARED_INFERENCE = "cz.cvut.kbss.ontodriver.jena.shared_inference";
+
     private JenaOntoDriverProperties() {
         throw new AssertionError();
     }
@@ -0,0 +1,108 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphWrapper;
+import org.apache.jena.sparql.core.GraphView;
+import org.apache.jena.sparql.core.Quad;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Dataset graph which reports every quad to be added or removed before the change is applied to the wrapped dataset
+ * graph.
+ * <p>
+ * Graph-level operations (graph views, clearing or removing a graph) are carried out quad by quad, so that all changes
+ * are reported. This allows changes made by SPARQL updates to be tracked statement by statement.
+ */
+class ChangeNotifyingDatasetGraph extends DatasetGraphWrapper {
+
+    private final Consumer<Quad> onAdd;
+    private final Consumer<Quad> onDelete;
+
+    ChangeNotifyingDatasetGraph(DatasetGraph dsg, Consumer<Quad> onAdd, Consumer<Quad> onDelete) {
+        super(dsg);
+        this.onAdd = onAdd;
+        this.onDelete = onDelete;
+    }
+
+    @Override
+    public Graph getDefaultGraph() {
+        return GraphView.createDefaultGraph(this);
+    }
+
+    @Override
+    public Graph getGraph(Node graphNode) {
+        return GraphView.createNamedGraph(this, graphNode);
+    }
+
+    @Override
+    public void add(Quad quad) {
+        onAdd.accept(quad);
+        super.add(quad);
+    }
+
+    @Override
+    public void add(Node g, Node s, Node p, Node o) {
+        add(Quad.create(g, s, p, o));
+    }
+
+    @Override
+    public void delete(Quad quad) {
+        onDelete.accept(quad);
+        super.delete(quad);
+    }
+
+    @Override
+    public void delete(Node g, Node s, Node p, Node o) {
+        delete(Quad.create(g, s, p, o));
+    }
+
+    @Override
+    public void deleteAny(Node g, Node s, Node p, Node o) {
+        final List<Quad> toDelete = new ArrayList<>();
+        find(g, s, p, o).forEachRemaining(toDelete::add);
+        toDelete.forEach(this::delete);
+    }
+
+    @Override
+    public void addGraph(Node graphName, Graph graph) {
+        graph.find().forEachRemaining(t -> add(Quad.create(graphName, t)));
+    }
+
+    @Override
+    public void removeGraph(Node graphName) {
+        deleteAny(graphName, Node.ANY, Node.ANY, Node.ANY);
+        super.removeGraph(graphName);
+    }
+
+    @Override
+    public void clear() {
+        deleteAny(Quad.defaultGraphIRI, Node.ANY, Node.ANY, Node.ANY);
+        final List<Node> graphNames = new ArrayList<>();
+        final Iterator<Node> it = listGraphNodes();
+        it.forEachRemaining(graphNames::add);
+        graphNames.forEach(this::removeGraph);
+    }
+}
@@ -24,6 +24,7 @@ import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.rdf.model.*;
+import org.apache.jena.update.UpdateRequest;
 
 import java.util.*;
 
@@ -103,6 +104,14 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
         return localModel.enhanceStatements(existing, subject, property, value, contexts);
     }
 
+    @Override
+    public Map<Resource, Collection<Statement>> findAll(Collection<Resource> subjects, Collection<String> contexts) {
+        transaction.verifyActive();
+        final Map<Resource, Collection<Statement>> result = centralConnector.findAll(subjects, contexts);
+        result.replaceAll((subject, existing) -> localModel.enhanceStatements(existing, subject, null, null, contexts));
+        return result;
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         transaction.verifyActive();
@@ -160,10 +169,10 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
     }
 
     @Override
-    public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
-        Objects.requireNonNull(query);
+    public void executeUpdate(UpdateRequest update, StatementOntology target) throws JenaDriverException {
+        Objects.requireNonNull(update);
         // SPARQL Update queries have their own executor in Jena, so let them transcend the transactional boundaries
-        centralConnector.executeUpdate(query, target);
+        centralConnector.executeUpdate(update, target);
     }
 
     @Override
@@ -0,0 +1,107 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.exception.ReasonerInitializationException;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.reasoner.IllegalParameterException;
+import org.apache.jena.reasoner.Reasoner;
+import org.apache.jena.reasoner.ReasonerFactory;
+import org.apache.jena.vocabulary.ReasonerVocabulary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.apache.jena.rdf.model.ResourceFactory.createProperty;
+
+/**
+ * Creates reasoners using the reasoner factory and reasoner parameters specified in the driver configuration.
+ */
+class ConfiguredReasonerFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfiguredReasonerFactory.class);
+
+    /**
+     * Configuration parameters supported by at least one of the Jena reasoners. Used to pre-filter reasoner config.
+     */
+    private static final Set<String> SUPPORTED_CONFIG = Set.of(
+            ReasonerVocabulary.PROPderivationLogging.getURI(),
+            ReasonerVocabulary.PROPenableCMPScan.getURI(),
+            ReasonerVocabulary.PROPenableFunctorFiltering.getURI(),
+            ReasonerVocabulary.PROPenableOWLTranslation.getURI(),
+            ReasonerVocabulary.PROPenableTGCCaching.getURI(),
+            ReasonerVocabulary.PROPruleMode.getURI(),
+            ReasonerVocabulary.PROPruleSet.getURI(),
+            ReasonerVocabulary.PROPsetRDFSLevel.getURI(),
+            ReasonerVocabulary.PROPtraceOn.getURI()
+    );
+
+    private final ReasonerFactory reasonerFactory;
+    private final Map<String, String> reasonerConfig;
+
+    ConfiguredReasonerFactory(DriverConfiguration configuration, Map<String, String> reasonerConfig) {
+        this.reasonerFactory = initReasonerFactory(configuration);
+        this.reasonerConfig = reasonerConfig.entrySet().stream()
+                                            .filter(e -> SUPPORTED_CONFIG.contains(e.getKey()))
+                                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static ReasonerFactory initReasonerFactory(DriverConfiguration configuration) {
+        final String factoryClass = configuration.getProperty(DriverConfigParam.REASONER_FACTORY_CLASS, "");
+        LOG.trace("Creating reasoner using reasoner factory class {}.", factoryClass);
+        try {
+            final Class<? extends ReasonerFactory> rfClass =
+                    (Class<? extends ReasonerFactory>) Class.forName(factoryClass);
+            final Method instanceMethod = rfClass.getMethod("theInstance");
+            return (ReasonerFactory) instanceMethod.invoke(null);
+        } catch (ClassNotFoundException e) {
+            throw new ReasonerInitializationException("Reasoner factory class " + factoryClass + " not found.", e);
+        } catch (NoSuchMethodException e) {
+            throw new ReasonerInitializationException("Class " + factoryClass +
+                    " is not a ReasonerFactory implementation or does not contain static 'theInstance' method.");
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ReasonerInitializationException(
+                    "Unable to instantiate Jena reasoner from factory " + factoryClass, e);
+        }
+    }
+
+    /**
+     * Creates a new reasoner with the configured parameters.
+     *
+     * @return New reasoner
+     */
+    Reasoner createReasoner() {
+        final Reasoner reasoner = reasonerFactory.create(null);
+        reasonerConfig.forEach((key, value) -> {
+            final Property prop = createProperty(key);
+            try {
+                reasoner.setParameter(prop, value);
+            } catch (IllegalParameterException ex) {
+                LOG.error("Failed to set property " + prop + " on reasoner.", ex);
+            }
+        });
+        return reasoner;
+    }
+}
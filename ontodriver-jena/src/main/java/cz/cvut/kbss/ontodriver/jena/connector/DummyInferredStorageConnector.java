@@ -25,6 +25,7 @@ import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.update.UpdateRequest;
 
 import java.util.Collection;
 
@@ -71,7 +72,7 @@ class DummyInferredStorageConnector implements InferredStorageConnector {
     }
 
     @Override
-    public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
-        connector.executeUpdate(query, target);
+    public void executeUpdate(UpdateRequest update, StatementOntology target) throws JenaDriverException {
+        connector.executeUpdate(update, target);
     }
 }
@@ -19,35 +19,64 @@ package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
+import cz.cvut.kbss.ontodriver.jena.config.Constants;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.RDFLanguages;
 import org.apache.jena.riot.RiotNotFoundException;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.system.Txn;
+import org.apache.jena.update.UpdateRequest;
 import org.apache.jena.util.FileUtils;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * File storage accessor.
  * <p>
  * Note that currently this accessor does not support working with datasets. Only single graph can be present in the
  * file.
+ * <p>
+ * If {@link JenaConfigParam#FILE_JOURNAL} is enabled, committed changes are appended to a {@link FileStorageJournal}
+ * and the file is rewritten only when the journal reaches the configured size, when the changes cannot be recorded in
+ * the journal (e.g., blank nodes) and when the storage is closed.
  */
 class FileStorage extends LocalStorage {
 
     private final String location;
 
+    private final FileStorageJournal journal;
+    private final int compactionThreshold;
+
+    // Changes of the default graph made by the current transaction
+    private final List<FileStorageJournal.Change> pendingChanges = new ArrayList<>();
+    // Whether the current transaction changed the data in a way which cannot be recorded in the journal
+    private boolean untrackedChanges;
+
     FileStorage(DriverConfiguration configuration) {
         super(configuration);
         this.location = configuration.getStorageProperties().getPhysicalURI().getSchemeSpecificPart();
+        this.journal = configuration.is(JenaConfigParam.FILE_JOURNAL) ? new FileStorageJournal(location) : null;
+        this.compactionThreshold = configuration.getProperty(JenaConfigParam.FILE_JOURNAL_COMPACTION_THRESHOLD,
+                Constants.DEFAULT_FILE_JOURNAL_COMPACTION_THRESHOLD);
         initialize();
     }
 
@@ -65,6 +94,9 @@ class FileStorage extends LocalStorage {
 
     private void initDataset() {
         final Model model = RDFDataMgr.loadModel(location);
+        if (journal != null) {
+            journal.replay(model.getGraph());
+        }
         this.dataset = DatasetFactory.create(model);
     }
 
@@ -80,16 +112,78 @@ class FileStorage extends LocalStorage {
         initDataset();
     }
 
+    @Override
+    public void begin(ReadWrite readWrite) {
+        super.begin(readWrite);
+        resetPendingChanges();
+    }
+
+    private void resetPendingChanges() {
+        pendingChanges.clear();
+        this.untrackedChanges = false;
+    }
+
+    @Override
+    public void rollback() {
+        resetPendingChanges();
+        super.rollback();
+    }
+
     @Override
     public void writeChanges() throws JenaDriverException {
+        if (journal == null) {
+            writeFile();
+            return;
+        }
+        try {
+            if (untrackedChanges) {
+                compact();
+            } else if (!pendingChanges.isEmpty()) {
+                journal.append(pendingChanges);
+                if (journal.getTransactionCount() >= compactionThreshold) {
+                    compact();
+                }
+            }
+        } catch (IOException e) {
+            throw new JenaDriverException("Unable to write out dataset changes.", e);
+        } finally {
+            resetPendingChanges();
+        }
+    }
+
+    private void writeFile() throws JenaDriverException {
         try (final BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(location))) {
-            final String language = FileUtils.guessLang(location);
-            RDFDataMgr.write(out, dataset.getDefaultModel(), RDFLanguages.nameToLang(language));
+            writeDefaultModel(out);
         } catch (IOException e) {
             throw new JenaDriverException("Unable to write out dataset changes.", e);
         }
     }
 
+    private void writeDefaultModel(OutputStream out) {
+        final String language = FileUtils.guessLang(location);
+        RDFDataMgr.write(out, dataset.getDefaultModel(), RDFLanguages.nameToLang(language));
+    }
+
+    /**
+     * Rewrites the storage file with the current data and clears the journal.
+     * <p>
+     * The file is replaced atomically, so that a failure cannot leave it incomplete while the journal is cleared.
+     */
+    private void compact() throws IOException {
+        final Path target = Path.of(location);
+        final Path tmp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(),
+                ".tmp");
+        try {
+            try (final OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                writeDefaultModel(out);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        journal.clear();
+    }
+
     /**
      * Reloads data from the underlying file.
      */
@@ -102,6 +196,37 @@ class FileStorage extends LocalStorage {
         initialize();
     }
 
+    @Override
+    public void add(List<Statement> statements, String context) {
+        if (journal != null && context == null) {
+            final Model target = dataset.getDefaultModel();
+            statements.stream().filter(s -> !target.contains(s)).forEach(s -> recordChange(true, s));
+        }
+        super.add(statements, context);
+    }
+
+    private void recordChange(boolean addition, Statement statement) {
+        recordChange(addition, statement.asTriple());
+    }
+
+    private void recordChange(boolean addition, Triple triple) {
+        if (triple.getSubject().isBlank() || triple.getObject().isBlank()) {
+            // Blank node labels are not preserved by the storage file, so the journal could not refer to them
+            this.untrackedChanges = true;
+        } else {
+            pendingChanges.add(new FileStorageJournal.Change(addition, triple));
+        }
+    }
+
+    @Override
+    public void remove(List<Statement> statements, String context) {
+        if (journal != null && context == null) {
+            final Model target = dataset.getDefaultModel();
+            statements.stream().filter(target::contains).forEach(s -> recordChange(false, s));
+        }
+        super.remove(statements, context);
+    }
+
     @Override
     public void remove(StmtIterator iterator, String context) {
         // For FileStorage we can't iterate through the statement and call remove on them because
@@ -109,4 +234,40 @@ class FileStorage extends LocalStorage {
         final List<Statement> toRemove = iterator.toList();
         remove(toRemove, context);
     }
+
+    @Override
+    public void executeUpdate(UpdateRequest update, Consumer<Quad> onAdd, Consumer<Quad> onRemove) {
+        if (journal == null) {
+            super.executeUpdate(update, onAdd, onRemove);
+            return;
+        }
+        final Graph target = dataset.asDatasetGraph().getDefaultGraph();
+        super.executeUpdate(update, q -> {
+            if (q.isDefaultGraph() && !target.contains(q.asTriple())) {
+                recordChange(true, q.asTriple());
+            }
+            onAdd.accept(q);
+        }, q -> {
+            if (q.isDefaultGraph() && target.contains(q.asTriple())) {
+                recordChange(false, q.asTriple());
+            }
+            onRemove.accept(q);
+        });
+    }
+
+    @Override
+    public void close() {
+        if (journal != null && journal.getTransactionCount() > 0) {
+            Txn.executeRead(dataset, this::compactOnClose);
+        }
+        super.close();
+    }
+
+    private void compactOnClose() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Unable to compact storage journal {}, it will be replayed on next start.", journal.getPath(), e);
+        }
+    }
 }
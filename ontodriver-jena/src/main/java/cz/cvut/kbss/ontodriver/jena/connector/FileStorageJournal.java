@@ -0,0 +1,258 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdfpatch.RDFPatchOps;
+import org.apache.jena.rdfpatch.changes.RDFChangesBase;
+import org.apache.jena.rdfpatch.text.RDFChangesWriterText;
+import org.apache.jena.rdfpatch.text.RDFPatchReaderText;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only journal of changes committed into a {@link FileStorage}.
+ * <p>
+ * Each committed transaction is appended to the journal in the RDF Patch text format and synced to disk, so that the
+ * storage file does not have to be rewritten on every commit. When the storage is initialized, the journal is replayed
+ * on top of the data loaded from the storage file. Transactions whose commit record is missing (e.g., due to a crash
+ * while appending) are ignored and cut off the journal, so that subsequently appended transactions are not lost.
+ * <p>
+ * Replaying the journal is idempotent w.r.t. the data it produced, so the journal may be cleared any time after the
+ * storage file has been rewritten with the current data.
+ */
+class FileStorageJournal {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileStorageJournal.class);
+
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    private static final String COMMIT_LINE = "TC .";
+
+    private final Path path;
+
+    private int transactionCount;
+
+    FileStorageJournal(String storageLocation) {
+        this.path = Path.of(storageLocation + JOURNAL_SUFFIX);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the number of transactions recorded in the journal.
+     *
+     * @return Number of transactions
+     */
+    int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Applies the transactions recorded in the journal to the specified graph.
+     *
+     * @param target Graph to apply the journal to
+     */
+    void replay(Graph target) {
+        this.transactionCount = 0;
+        if (!Files.exists(path)) {
+            return;
+        }
+        final ReplayingChanges changes = new ReplayingChanges(target);
+        final byte[] content;
+        try {
+            content = Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read storage journal " + path, e);
+        }
+        final int validEnd = replayRecords(content, changes);
+        this.transactionCount = changes.committed;
+        if (validEnd < content.length) {
+            // Most likely an incomplete record at the end of the journal, committed transactions have been applied.
+            // Cut it off, so that records appended later are not hidden behind it
+            LOG.warn("Unable to read the whole storage journal {}, replayed {} transactions. Truncating the journal.",
+                    path, transactionCount);
+            truncate(validEnd);
+        }
+        LOG.trace("Replayed {} transactions from storage journal {}.", transactionCount, path);
+    }
+
+    /**
+     * Replays complete records from the specified journal content.
+     *
+     * @return Offset just after the last successfully replayed record
+     */
+    private static int replayRecords(byte[] content, ReplayingChanges changes) {
+        int validEnd = 0;
+        int lineStart = 0;
+        while (lineStart < content.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < content.length && content[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            if (lineEnd == content.length) {
+                // Line not terminated, the record is incomplete
+                break;
+            }
+            lineEnd++;
+            if (isCommitLine(content, lineStart, lineEnd)) {
+                try {
+                    new RDFPatchReaderText(new ByteArrayInputStream(content, validEnd, lineEnd - validEnd)).apply(
+                            changes);
+                } catch (RuntimeException e) {
+                    LOG.debug("Unable to parse storage journal record at offset {}.", validEnd, e);
+                    break;
+                }
+                validEnd = lineEnd;
+            }
+            lineStart = lineEnd;
+        }
+        return validEnd;
+    }
+
+    private static boolean isCommitLine(byte[] content, int start, int end) {
+        final String line = new String(content, start, end - start, StandardCharsets.UTF_8).trim();
+        return line.equals(COMMIT_LINE);
+    }
+
+    private void truncate(int size) {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to truncate storage journal " + path, e);
+        }
+    }
+
+    /**
+     * Appends the specified changes to the journal as a single transaction.
+     * <p>
+     * The method returns after the transaction has been synced to disk.
+     *
+     * @param changes Changes to record, in the order in which they were made
+     * @throws IOException When the journal cannot be written
+     */
+    void append(List<Change> changes) throws IOException {
+        final ByteArrayOutputStream record = new ByteArrayOutputStream();
+        final RDFChangesWriterText writer = RDFPatchOps.textWriter(record);
+        writer.start();
+        writer.txnBegin();
+        for (Change change : changes) {
+            final Triple t = change.triple();
+            if (change.addition()) {
+                writer.add(null, t.getSubject(), t.getPredicate(), t.getObject());
+            } else {
+                writer.delete(null, t.getSubject(), t.getPredicate(), t.getObject());
+            }
+        }
+        writer.txnCommit();
+        writer.finish();
+        writer.close();
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(record.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        transactionCount++;
+    }
+
+    /**
+     * Removes all records from the journal.
+     *
+     * @throws IOException When the journal cannot be removed
+     */
+    void clear() throws IOException {
+        Files.deleteIfExists(path);
+        this.transactionCount = 0;
+    }
+
+    /**
+     * Single change of the storage data.
+     *
+     * @param addition Whether the triple was added or removed
+     * @param triple   The changed triple
+     */
+    record Change(boolean addition, Triple triple) {
+    }
+
+    /**
+     * Applies changes of a transaction to the target graph only when the transaction commit is read.
+     */
+    private static final class ReplayingChanges extends RDFChangesBase {
+
+        private final Graph target;
+        private final List<Change> pending = new ArrayList<>();
+        private int committed;
+
+        private ReplayingChanges(Graph target) {
+            this.target = target;
+        }
+
+        @Override
+        public void add(Node g, Node s, Node p, Node o) {
+            pending.add(new Change(true, Triple.create(s, p, o)));
+        }
+
+        @Override
+        public void delete(Node g, Node s, Node p, Node o) {
+            pending.add(new Change(false, Triple.create(s, p, o)));
+        }
+
+        @Override
+        public void txnBegin() {
+            pending.clear();
+        }
+
+        @Override
+        public void txnCommit() {
+            pending.forEach(c -> {
+                if (c.addition()) {
+                    target.add(c.triple());
+                } else {
+                    target.delete(c.triple());
+                }
+            });
+            pending.clear();
+            committed++;
+        }
+
+        @Override
+        public void txnAbort() {
+            pending.clear();
+        }
+    }
+}
@@ -29,9 +29,12 @@ import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.rdfconnection.RDFConnection;
 import org.apache.jena.rdfconnection.RDFConnectionFuseki;
+import org.apache.jena.sparql.core.Quad;
 import org.apache.jena.sparql.core.Transactional;
+import org.apache.jena.update.UpdateRequest;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Represents a connection to a Jena Fuseki server.
@@ -162,7 +165,7 @@ class FusekiStorage implements Storage {
     }
 
     @Override
-    public void executeUpdate(String update) {
+    public void executeUpdate(UpdateRequest update, Consumer<Quad> onAdd, Consumer<Quad> onRemove) {
         connect().update(update);
     }
 }
@@ -18,6 +18,8 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,20 +28,36 @@ public class InferenceConnectorFactory extends SharedConnectorBasedConnectorFact
 
     private final Map<String, String> reasonerConfig;
 
+    private final SharedInference sharedInference;
+
     public InferenceConnectorFactory(DriverConfiguration configuration, Map<String, String> reasonerConfig) {
         super(configuration);
         this.reasonerConfig = new HashMap<>(reasonerConfig);
+        this.sharedInference = configuration.is(JenaConfigParam.SHARED_INFERENCE) ?
+                               new SharedInference(centralConnector,
+                                       new ConfiguredReasonerFactory(configuration, reasonerConfig)) : null;
     }
 
     @Override
     public StorageConnector createConnector() {
         ensureOpen();
+        if (sharedInference != null) {
+            return new SnapshotStorageConnectorWithSharedInference(centralConnector, sharedInference);
+        }
         return new SnapshotStorageConnectorWithInference(centralConnector, reasonerConfig);
     }
 
     @Override
     public InferredStorageConnector createInferredConnector(StorageConnector connector) {
-        assert connector instanceof SnapshotStorageConnectorWithInference;
+        assert connector instanceof InferredStorageConnector;
         return (InferredStorageConnector) connector;
     }
+
+    @Override
+    public synchronized void close() throws JenaDriverException {
+        if (sharedInference != null) {
+            sharedInference.close();
+        }
+        super.close();
+    }
 }
@@ -25,12 +25,15 @@ import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.sparql.core.Quad;
 import org.apache.jena.sparql.core.Transactional;
 import org.apache.jena.update.UpdateAction;
+import org.apache.jena.update.UpdateRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Represents a local Jena storage, e.g., a TDB dataset.
@@ -135,7 +138,7 @@ abstract class LocalStorage implements Storage {
     }
 
     @Override
-    public void executeUpdate(String update) {
-        UpdateAction.parseExecute(update, dataset);
+    public void executeUpdate(UpdateRequest update, Consumer<Quad> onAdd, Consumer<Quad> onRemove) {
+        UpdateAction.execute(update, new ChangeNotifyingDatasetGraph(dataset.asDatasetGraph(), onAdd, onRemove));
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.InfModel;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.reasoner.ValidityReport;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Inference closure of the central dataset shared by all transactions.
+ * <p>
+ * The closure is computed once and then maintained incrementally, as this instance listens to changes of the central
+ * dataset and applies them to the inference graphs. The underlying reasoner thus does not have to recompute the whole
+ * closure, unless the central dataset changes in a way which cannot be tracked (storage reload or replacement of the
+ * dataset), in which case the closure is recomputed on next access.
+ * <p>
+ * Access to the inference graphs is serialized, because Jena inference graphs are not thread-safe.
+ */
+class SharedInference implements StorageChangeListener {
+
+    private final SharedStorageConnector centralConnector;
+    private final ConfiguredReasonerFactory reasonerFactory;
+
+    // null means that the closure has to be (re)computed
+    private Map<String, InfModel> inferredGraphs;
+    // Changes of the central dataset made while the closure is being computed
+    private List<Consumer<Map<String, InfModel>>> pendingChanges;
+    // Incremented on every untracked change of the central dataset, invalidates closure being computed
+    private long untrackedChanges;
+
+    SharedInference(SharedStorageConnector centralConnector, ConfiguredReasonerFactory reasonerFactory) {
+        this.centralConnector = centralConnector;
+        this.reasonerFactory = reasonerFactory;
+    }
+
+    /**
+     * Finds statements matching the specified pattern in the inference closure of the specified graph.
+     *
+     * @param subject  Statement subject, optional
+     * @param property Statement property, optional
+     * @param value    Statement object, optional
+     * @param context  Graph identifier, {@code null} represents the default graph
+     * @return List of matching asserted and inferred statements
+     */
+    List<Statement> find(Resource subject, Property property, RDFNode value, String context) {
+        ensureInitialized();
+        synchronized (this) {
+            final InfModel graph = inferredGraphs.get(context);
+            return graph != null ? graph.listStatements(subject, property, value).toList() : List.of();
+        }
+    }
+
+    /**
+     * Validates the inference closure of the specified graph.
+     *
+     * @param context Graph identifier, {@code null} represents the default graph
+     * @return Validity report
+     */
+    ValidityReport validate(String context) {
+        ensureInitialized();
+        synchronized (this) {
+            return inferredGraphs.computeIfAbsent(context, c -> createGraph()).validate();
+        }
+    }
+
+    /**
+     * Validates the specified data using a new instance of the configured reasoner.
+     * <p>
+     * This is used to validate data which differ from the central dataset, e.g., a graph with uncommitted changes.
+     *
+     * @param data Data to validate
+     * @return Validity report
+     */
+    ValidityReport validate(Model data) {
+        return ModelFactory.createInfModel(reasonerFactory.createReasoner(), data).validate();
+    }
+
+    private void ensureInitialized() {
+        while (true) {
+            final Dataset central;
+            final long expectedUntrackedChanges;
+            final long untrackedChangeMarker;
+            synchronized (centralConnector) {
+                if (isInitialized()) {
+                    return;
+                }
+                // Wait for the central dataset to be consistent, so that the closure does not miss any changes
+                centralConnector.awaitConsistentState();
+                synchronized (this) {
+                    if (inferredGraphs != null) {
+                        return;
+                    }
+                    expectedUntrackedChanges = untrackedChanges;
+                    centralConnector.addChangeListener(this);
+                    if (pendingChanges == null) {
+                        this.pendingChanges = new ArrayList<>();
+                    }
+                }
+                untrackedChangeMarker = centralConnector.untrackedChangeMarker();
+                central = centralConnector.getStorage().getDataset();
+                // Start reading while no transaction is running, changes made by subsequent transactions are
+                // recorded as pending
+                central.begin(ReadWrite.READ);
+            }
+            final Map<String, InfModel> graphs;
+            try {
+                graphs = computeClosure(central);
+            } finally {
+                central.end();
+            }
+            synchronized (this) {
+                if (inferredGraphs != null) {
+                    return;
+                }
+                if (untrackedChanges == expectedUntrackedChanges &&
+                        centralConnector.untrackedChangeMarker() == untrackedChangeMarker) {
+                    pendingChanges.forEach(change -> change.accept(graphs));
+                    this.pendingChanges = null;
+                    this.inferredGraphs = graphs;
+                    return;
+                }
+            }
+        }
+    }
+
+    private synchronized boolean isInitialized() {
+        return inferredGraphs != null;
+    }
+
+    private Map<String, InfModel> computeClosure(Dataset central) {
+        final Map<String, InfModel> graphs = new HashMap<>();
+        graphs.put(null, createGraph(central.getDefaultModel()));
+        final Iterator<String> it = central.listNames();
+        while (it.hasNext()) {
+            final String name = it.next();
+            graphs.put(name, createGraph(central.getNamedModel(name)));
+        }
+        graphs.values().forEach(InfModel::prepare);
+        return graphs;
+    }
+
+    private InfModel createGraph(Model data) {
+        return ModelFactory.createInfModel(reasonerFactory.createReasoner(),
+                ModelFactory.createDefaultModel().add(data));
+    }
+
+    private InfModel createGraph() {
+        return ModelFactory.createInfModel(reasonerFactory.createReasoner(), ModelFactory.createDefaultModel());
+    }
+
+    @Override
+    public synchronized void statementAdded(Statement statement, String context) {
+        applyChange(graphs -> graphs.computeIfAbsent(context, c -> createGraph()).add(statement));
+    }
+
+    @Override
+    public synchronized void statementRemoved(Statement statement, String context) {
+        applyChange(graphs -> {
+            if (graphs.containsKey(context)) {
+                graphs.get(context).remove(statement);
+            }
+        });
+    }
+
+    private void applyChange(Consumer<Map<String, InfModel>> change) {
+        if (inferredGraphs != null) {
+            change.accept(inferredGraphs);
+        } else if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    @Override
+    public synchronized void untrackedChange() {
+        untrackedChanges++;
+        this.inferredGraphs = null;
+        if (pendingChanges != null) {
+            pendingChanges.clear();
+        }
+    }
+
+    /**
+     * Stops tracking changes of the central dataset and releases the inference closure.
+     */
+    synchronized void close() {
+        centralConnector.removeChangeListener(this);
+        this.inferredGraphs = null;
+        this.pendingChanges = null;
+    }
+}
@@ -19,25 +19,35 @@ package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
 import cz.cvut.kbss.ontodriver.jena.query.AskResultSet;
 import cz.cvut.kbss.ontodriver.jena.query.SelectResultSet;
+import cz.cvut.kbss.ontodriver.util.TransactionState;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.sparql.core.Quad;
 import org.apache.jena.system.Txn;
-import org.apache.jena.update.UpdateAction;
+import org.apache.jena.update.UpdateRequest;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -54,10 +64,38 @@ import java.util.stream.Collectors;
  */
 public class SharedStorageConnector extends AbstractStorageConnector {
 
+    private final Set<StorageChangeListener> changeListeners = ConcurrentHashMap.newKeySet();
+
+    // Counters of untracked changes, allow readers to detect that the storage is being changed in an untracked way
+    private final AtomicLong untrackedChangesStarted = new AtomicLong();
+    private final AtomicLong untrackedChangesFinished = new AtomicLong();
+
+    // Changes listeners were notified of in the current transaction, accessed only by the thread holding the write
+    // transaction
+    private final List<NotifiedChange> notifiedChanges = new ArrayList<>();
+
     SharedStorageConnector(DriverConfiguration configuration) {
         super(configuration);
     }
 
+    /**
+     * Registers the specified listener to be notified of changes of the underlying storage.
+     *
+     * @param listener Listener to register
+     */
+    void addChangeListener(StorageChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Unregisters the specified change listener.
+     *
+     * @param listener Listener to unregister
+     */
+    void removeChangeListener(StorageChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
     @Override
     void initialize() {
         this.storage = Storage.create(configuration);
@@ -74,9 +112,14 @@ public class SharedStorageConnector extends AbstractStorageConnector {
     public synchronized void commit() throws JenaDriverException {
         ensureTransactionalState();
         transaction.commit();
-        storage.writeChanges();
-        storage.commit();
+        try {
+            storage.writeChanges();
+            storage.commit();
+        } finally {
+            notifiedChanges.clear();
+        }
         transaction.afterCommit();
+        notifyAll();
     }
 
     void ensureTransactionalState() {
@@ -89,7 +132,70 @@ public class SharedStorageConnector extends AbstractStorageConnector {
         ensureOpen();
         transaction.rollback();
         storage.rollback();
+        revertNotifiedChanges();
         transaction.afterRollback();
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Notifies listeners of the inverse of changes they were notified of in the current transaction, as these changes
+     * did not happen.
+     */
+    private void revertNotifiedChanges() {
+        for (int i = notifiedChanges.size() - 1; i >= 0; i--) {
+            final NotifiedChange change = notifiedChanges.get(i);
+            changeListeners.forEach(l -> {
+                if (change.addition()) {
+                    l.statementRemoved(change.statement(), change.context());
+                } else {
+                    l.statementAdded(change.statement(), change.context());
+                }
+            });
+        }
+        notifiedChanges.clear();
+    }
+
+    /**
+     * Gets a marker representing the untracked changes (see {@link StorageChangeListener#untrackedChange()}) of the
+     * underlying storage.
+     * <p>
+     * A reader can compare markers obtained before and after reading the storage to verify that the storage has not
+     * been changed in an untracked way in the meantime.
+     *
+     * @return Non-negative marker or {@code -1} if an untracked change is currently in progress
+     */
+    long untrackedChangeMarker() {
+        final long started = untrackedChangesStarted.get();
+        return untrackedChangesFinished.get() == started ? started : -1;
+    }
+
+    /**
+     * Waits until no transaction is running on the underlying storage and no untracked change of it is in progress.
+     * <p>
+     * The caller has to hold the monitor of this connector, it is released while waiting and signalled when a
+     * transaction or an untracked change ends.
+     */
+    void awaitConsistentState() {
+        assert Thread.holdsLock(this);
+        boolean interrupted = false;
+        while (isTransactionRunning() || untrackedChangeMarker() < 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isTransactionRunning() {
+        final TransactionState state = transaction.getState();
+        return state == TransactionState.ACTIVE || state == TransactionState.PARTIALLY_COMMITTED ||
+                state == TransactionState.FAILED;
     }
 
     @Override
@@ -108,6 +214,22 @@ public class SharedStorageConnector extends AbstractStorageConnector {
         });
     }
 
+    @Override
+    public Map<Resource, Collection<Statement>> findAll(Collection<Resource> subjects, Collection<String> contexts) {
+        ensureOpen();
+        return Txn.calculateRead(storage.getTransactional(), () -> {
+            final List<Model> graphs = contexts.isEmpty() ? List.of(storage.getDefaultGraph()) :
+                                       contexts.stream().map(storage::getNamedGraph).toList();
+            final Map<Resource, Collection<Statement>> result = new HashMap<>(subjects.size());
+            for (Resource subject : subjects) {
+                final List<Statement> statements = new ArrayList<>();
+                graphs.forEach(g -> g.listStatements(subject, null, (RDFNode) null).forEach(statements::add));
+                result.put(subject, statements);
+            }
+            return result;
+        });
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureOpen();
@@ -133,35 +255,103 @@ public class SharedStorageConnector extends AbstractStorageConnector {
     @Override
     public void add(List<Statement> statements, String context) {
         ensureTransactionalState();
+        notifyAdded(statements, context);
         storage.add(statements, context);
     }
 
+    /**
+     * Notifies change listeners of addition of those of the specified statements which are not in the storage yet.
+     */
+    private void notifyAdded(List<Statement> statements, String context) {
+        if (changeListeners.isEmpty()) {
+            return;
+        }
+        final Model target = context != null ? storage.getNamedGraph(context) : storage.getDataset().getDefaultModel();
+        statements.stream().filter(s -> !target.contains(s)).forEach(s -> notifyChange(true, s, context));
+    }
+
+    private void notifyChange(boolean addition, Statement statement, String context) {
+        if (transaction.isActive()) {
+            notifiedChanges.add(new NotifiedChange(addition, statement, context));
+        }
+        changeListeners.forEach(l -> {
+            if (addition) {
+                l.statementAdded(statement, context);
+            } else {
+                l.statementRemoved(statement, context);
+            }
+        });
+    }
+
     @Override
     public void remove(List<Statement> statements, String context) {
         ensureTransactionalState();
+        notifyRemoved(() -> statements, context);
         storage.remove(statements, context);
     }
 
-    @Override
-    public void remove(Resource subject, Property property, RDFNode object, String context) {
-        ensureTransactionalState();
+    /**
+     * Notifies change listeners of removal of the specified statements.
+     * <p>
+     * The statements are resolved only if there are any listeners. Removal from the default graph affects also named
+     * graphs if the default graph is treated as union.
+     */
+    private void notifyRemoved(Supplier<List<Statement>> statements, String context) {
+        if (changeListeners.isEmpty()) {
+            return;
+        }
+        final List<Statement> toRemove = statements.get();
         if (context != null) {
-            storage.remove(storage.getNamedGraph(context).listStatements(subject, property, object), context);
+            notifyRemoved(toRemove, storage.getNamedGraph(context), context);
         } else {
-            storage.remove(storage.getDefaultGraph().listStatements(subject, property, object), null);
+            notifyRemoved(toRemove, storage.getDataset().getDefaultModel(), null);
+            if (configuration.is(JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION)) {
+                storage.getDataset().listNames()
+                       .forEachRemaining(n -> notifyRemoved(toRemove, storage.getNamedGraph(n), n));
+            }
+        }
+    }
+
+    private void notifyRemoved(List<Statement> statements, Model source, String context) {
+        statements.stream().filter(source::contains).forEach(s -> notifyChange(false, s, context));
+    }
+
+    /**
+     * Notifies listeners of an untracked change (reload or replacement of the data, update of a remote storage) which is about to happen.
+     * <p>
+     * The change has to be finished by {@link #finishUntrackedChange()} once it is visible to readers.
+     */
+    private void startUntrackedChange() {
+        untrackedChangesStarted.incrementAndGet();
+        changeListeners.forEach(l -> {
+            l.untrackedChange();
+            changeListeners.remove(l);
+        });
+    }
+
+    private void finishUntrackedChange() {
+        untrackedChangesFinished.incrementAndGet();
+        synchronized (this) {
+            notifyAll();
         }
     }
 
+    @Override
+    public void remove(Resource subject, Property property, RDFNode object, String context) {
+        ensureTransactionalState();
+        final Model graph = context != null ? storage.getNamedGraph(context) : storage.getDefaultGraph();
+        notifyRemoved(() -> graph.listStatements(subject, property, object).toList(), context);
+        storage.remove(graph.listStatements(subject, property, object), context);
+    }
+
     @Override
     public void removePropertyValues(Collection<SubjectPredicateContext> spc) {
         ensureTransactionalState();
         spc.forEach(s -> {
             if (s.getContexts().isEmpty()) {
-                storage.remove(storage.getDefaultGraph()
-                                      .listStatements(s.getSubject(), s.getPredicate(), (RDFNode) null), null);
+                remove(s.getSubject(), s.getPredicate(), null, null);
             } else {
-                s.getContexts().forEach(c -> storage.remove(storage.getNamedGraph(c)
-                                                                   .listStatements(s.getSubject(), s.getPredicate(), (RDFNode) null), c));
+                s.getContexts().forEach(c -> remove(s.getSubject(), s.getPredicate(), null, c));
             }
         });
     }
@@ -193,16 +383,59 @@ public class SharedStorageConnector extends AbstractStorageConnector {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Listeners are notified of the individual statements added and removed by the update.
+     */
     @Override
-    public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
+    public void executeUpdate(UpdateRequest update, StatementOntology target) throws JenaDriverException {
         ensureOpen();
+        if (!(storage instanceof LocalStorage)) {
+            // Changes made by a remote storage cannot be tracked
+            executeUntrackedUpdate(update);
+            return;
+        }
         try {
-            UpdateAction.parseExecute(query, storage.getDataset());
+            storage.executeUpdate(update, this::notifyQuadAdded, this::notifyQuadRemoved);
         } catch (RuntimeException e) {
-            throw queryFailed(query, e);
+            throw queryFailed(update, e);
+        }
+    }
+
+    private void executeUntrackedUpdate(UpdateRequest update) throws JenaDriverException {
+        startUntrackedChange();
+        try {
+            storage.executeUpdate(update, q -> {}, q -> {});
+        } catch (RuntimeException e) {
+            throw queryFailed(update, e);
+        } finally {
+            finishUntrackedChange();
         }
     }
 
+    private void notifyQuadAdded(Quad quad) {
+        notifyAdded(List.of(toStatement(quad)), toContext(quad));
+    }
+
+    private void notifyQuadRemoved(Quad quad) {
+        if (changeListeners.isEmpty()) {
+            return;
+        }
+        // The update removes the quad only from its graph, even if the default graph is treated as union
+        final String context = toContext(quad);
+        final Model source = context != null ? storage.getNamedGraph(context) : storage.getDataset().getDefaultModel();
+        notifyRemoved(List.of(toStatement(quad)), source, context);
+    }
+
+    private Statement toStatement(Quad quad) {
+        return storage.getDataset().getDefaultModel().asStatement(quad.asTriple());
+    }
+
+    private static String toContext(Quad quad) {
+        return quad.isDefaultGraph() ? null : quad.getGraph().getURI();
+    }
+
     @Override
     public synchronized void close() {
         if (!isOpen()) {
@@ -221,7 +454,12 @@ public class SharedStorageConnector extends AbstractStorageConnector {
      */
     public synchronized void reloadStorage() {
         ensureOpen();
-        storage.reload();
+        startUntrackedChange();
+        try {
+            storage.reload();
+        } finally {
+            finishUntrackedChange();
+        }
     }
 
     /**
@@ -233,6 +471,17 @@ public class SharedStorageConnector extends AbstractStorageConnector {
      */
     public synchronized void setDataset(Dataset dataset) {
         ensureOpen();
-        storage.setDataset(dataset);
+        startUntrackedChange();
+        try {
+            storage.setDataset(dataset);
+        } finally {
+            finishUntrackedChange();
+        }
+    }
+
+    /**
+     * Change of the storage listeners were notified of.
+     */
+    private record NotifiedChange(boolean addition, Statement statement, String context) {
     }
 }
@@ -0,0 +1,426 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphMemFactory;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphMapLink;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.system.Txn;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+import org.apache.jena.util.iterator.NullIterator;
+import org.apache.jena.util.iterator.WrappedIterator;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Dataset graph representing a transactional snapshot of the central dataset.
+ * <p>
+ * The snapshot does not copy the central data. Instead, each graph reads the central dataset and overlays it with the
+ * statements added and removed in the snapshot. To keep the snapshot isolated from changes committed into the central
+ * dataset by other transactions, the snapshot is notified of such changes before they happen and records them as
+ * compensating additions/removals. Thus, memory consumption is proportional only to the changes.
+ * <p>
+ * If the central data are about to be reloaded or replaced, the snapshot is detached from them by copying the central
+ * data.
+ * <p>
+ * Central statements matching a pattern are read in a read transaction on the central dataset. Small results are read
+ * eagerly, larger ones lazily in a transaction which lasts until the iterator is exhausted or closed. Transactions left
+ * open by iterators which were abandoned have to be ended by {@link #endCentralReads()} before the thread writes into
+ * the central dataset.
+ */
+class SnapshotDatasetGraph extends DatasetGraphMapLink {
+
+    /**
+     * Number of central statements read eagerly, results not larger than this are read without keeping the read
+     * transaction open.
+     */
+    static final int EAGER_READ_LIMIT = 256;
+
+    private final SnapshotSource source;
+
+    private final Map<Node, SnapshotGraph> namedGraphs = new ConcurrentHashMap<>();
+
+    private SnapshotDatasetGraph(SnapshotSource source) {
+        super(new SnapshotGraph(source, null));
+        this.source = source;
+    }
+
+    SnapshotDatasetGraph(Dataset central) {
+        this(new SnapshotSource(central));
+    }
+
+    @Override
+    public Graph getGraph(Node graphNode) {
+        if (Quad.isDefaultGraph(graphNode) || Quad.isUnionGraph(graphNode)) {
+            return super.getGraph(graphNode);
+        }
+        return namedGraphs.computeIfAbsent(graphNode, n -> new SnapshotGraph(source, n));
+    }
+
+    @Override
+    public boolean containsGraph(Node graphNode) {
+        if (Quad.isDefaultGraph(graphNode) || Quad.isUnionGraph(graphNode)) {
+            return true;
+        }
+        return !getGraph(graphNode).isEmpty();
+    }
+
+    @Override
+    public void addGraph(Node graphName, Graph graph) {
+        final Graph target = getGraph(graphName);
+        graph.find().forEachRemaining(target::add);
+    }
+
+    @Override
+    public void removeGraph(Node graphName) {
+        getGraph(graphName).clear();
+    }
+
+    @Override
+    public Iterator<Node> listGraphNodes() {
+        final Set<Node> names = new LinkedHashSet<>(source.listGraphNodes());
+        namedGraphs.keySet().forEach(names::add);
+        names.removeIf(n -> getGraph(n).isEmpty());
+        return names.iterator();
+    }
+
+    void statementAdded(Triple triple, Node graphName) {
+        graphFor(graphName).centralAdded(triple);
+    }
+
+    void statementRemoved(Triple triple, Node graphName) {
+        graphFor(graphName).centralRemoved(triple);
+    }
+
+    private SnapshotGraph graphFor(Node graphName) {
+        return (SnapshotGraph) (graphName != null ? getGraph(graphName) : getDefaultGraph());
+    }
+
+    /**
+     * Replaces the central dataset with its in-memory copy, so that subsequent changes of the central dataset do not
+     * affect this snapshot.
+     */
+    void detach() {
+        source.detach();
+    }
+
+    /**
+     * Ends read transactions on the central dataset which were left open on the current thread by iterators which
+     * have been neither exhausted nor closed.
+     * <p>
+     * Such iterators cannot be used afterwards.
+     */
+    void endCentralReads() {
+        source.endReads();
+    }
+
+    /**
+     * Provides access to the data underlying the snapshot.
+     */
+    private static final class SnapshotSource {
+
+        private volatile Dataset dataset;
+
+        // Read transactions of open central iterators per dataset, nested iterators share the read transaction
+        private final ThreadLocal<Map<Dataset, ReadTransaction>> openReads = ThreadLocal.withInitial(IdentityHashMap::new);
+
+        private SnapshotSource(Dataset dataset) {
+            this.dataset = dataset;
+        }
+
+        /**
+         * Finds central statements matching the specified pattern.
+         * <p>
+         * Up to {@link SnapshotDatasetGraph#EAGER_READ_LIMIT} statements are read eagerly. If there are more, the rest is read lazily in a
+         * read transaction which lasts until the returned iterator is exhausted or closed (or until
+         * {@link #endReads()} is called). Such iterator has to be consumed on the thread which created it.
+         */
+        private ExtendedIterator<Triple> find(Node graphName, Triple pattern) {
+            final Dataset ds = dataset;
+            final ReadTransaction transaction = beginRead(ds);
+            try {
+                final Graph graph = resolveGraph(ds.asDatasetGraph(), graphName);
+                final ExtendedIterator<Triple> it = graph != null ? graph.find(pattern) : NullIterator.instance();
+                if (transaction == null) {
+                    return it;
+                }
+                final List<Triple> prefix = new ArrayList<>();
+                while (prefix.size() <= EAGER_READ_LIMIT && it.hasNext()) {
+                    prefix.add(it.next());
+                }
+                if (prefix.size() <= EAGER_READ_LIMIT) {
+                    it.close();
+                    transaction.release();
+                    return WrappedIterator.create(prefix.iterator());
+                }
+                return new ReadTransactionIterator(WrappedIterator.create(prefix.iterator()).andThen(it),
+                        transaction);
+            } catch (RuntimeException e) {
+                if (transaction != null) {
+                    transaction.release();
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Starts a read transaction on the specified dataset, unless one started by this source is already running on
+         * the current thread.
+         *
+         * @return The read transaction, {@code null} if the current thread is in a transaction not managed by this
+         * source
+         */
+        private ReadTransaction beginRead(Dataset ds) {
+            final Map<Dataset, ReadTransaction> reads = openReads.get();
+            ReadTransaction transaction = reads.get(ds);
+            if (transaction == null) {
+                if (ds.isInTransaction()) {
+                    return null;
+                }
+                ds.begin(ReadWrite.READ);
+                transaction = new ReadTransaction(ds, reads);
+                reads.put(ds, transaction);
+            }
+            transaction.users++;
+            return transaction;
+        }
+
+        private void endReads() {
+            final Map<Dataset, ReadTransaction> reads = openReads.get();
+            new ArrayList<>(reads.values()).forEach(ReadTransaction::end);
+            openReads.remove();
+        }
+
+        private boolean anyMatch(Node graphName, Predicate<Triple> condition) {
+            final Dataset ds = dataset;
+            return Txn.calculateRead(ds, () -> {
+                final Graph graph = resolveGraph(ds.asDatasetGraph(), graphName);
+                if (graph == null) {
+                    return false;
+                }
+                final ExtendedIterator<Triple> it = graph.find().filterKeep(condition);
+                try {
+                    return it.hasNext();
+                } finally {
+                    it.close();
+                }
+            });
+        }
+
+        private static Graph resolveGraph(DatasetGraph dsg, Node graphName) {
+            if (graphName == null) {
+                return dsg.getDefaultGraph();
+            }
+            // Do not use getGraph directly, some datasets create missing graphs on access
+            return dsg.containsGraph(graphName) ? dsg.getGraph(graphName) : null;
+        }
+
+        private List<Node> listGraphNodes() {
+            final Dataset ds = dataset;
+            return Txn.calculateRead(ds, () -> {
+                final List<Node> result = new ArrayList<>();
+                ds.asDatasetGraph().listGraphNodes().forEachRemaining(result::add);
+                return result;
+            });
+        }
+
+        private synchronized void detach() {
+            final Dataset central = dataset;
+            final Dataset copy = DatasetFactory.create();
+            Txn.executeRead(central, () -> {
+                central.listNames().forEachRemaining(name -> copy.addNamedModel(name, central.getNamedModel(name)));
+                copy.setDefaultModel(central.getDefaultModel());
+            });
+            this.dataset = copy;
+        }
+    }
+
+    /**
+     * Graph overlaying the corresponding graph of the central dataset with changes.
+     * <p>
+     * Statements in {@code removed} hide matching central statements, statements in {@code added} are visible
+     * regardless of the central data.
+     */
+    private static final class SnapshotGraph extends GraphBase {
+
+        private final SnapshotSource source;
+        private final Node graphName;
+
+        private final Graph added = GraphMemFactory.createDefaultGraph();
+        private final Graph removed = GraphMemFactory.createDefaultGraph();
+
+        private SnapshotGraph(SnapshotSource source, Node graphName) {
+            this.source = source;
+            this.graphName = graphName;
+        }
+
+        @Override
+        protected ExtendedIterator<Triple> graphBaseFind(Triple triplePattern) {
+            // Start reading the central data before copying the local additions. A statement removed from the central
+            // dataset in the meantime is then either still visible in the central data or already among the additions
+            final ExtendedIterator<Triple> central = source.find(graphName, triplePattern);
+            final Set<Triple> localAdditions;
+            synchronized (this) {
+                localAdditions = added.find(triplePattern).toSet();
+            }
+            return central.filterDrop(t -> localAdditions.contains(t) || isRemoved(t))
+                          .andThen(localAdditions.iterator());
+        }
+
+        @Override
+        public boolean isEmpty() {
+            synchronized (this) {
+                if (!added.isEmpty()) {
+                    return false;
+                }
+            }
+            return !source.anyMatch(graphName, this::isNotRemoved);
+        }
+
+        private boolean isNotRemoved(Triple t) {
+            return !isRemoved(t);
+        }
+
+        private synchronized boolean isRemoved(Triple t) {
+            return removed.contains(t);
+        }
+
+        @Override
+        public synchronized void performAdd(Triple t) {
+            removed.delete(t);
+            added.add(t);
+        }
+
+        @Override
+        public synchronized void performDelete(Triple t) {
+            added.delete(t);
+            removed.add(t);
+        }
+
+        private synchronized void centralAdded(Triple t) {
+            if (!added.contains(t)) {
+                removed.add(t);
+            }
+        }
+
+        private synchronized void centralRemoved(Triple t) {
+            if (!removed.contains(t)) {
+                added.add(t);
+            }
+        }
+    }
+
+    /**
+     * Read transaction on the central dataset shared by central iterators open on a thread.
+     */
+    private static final class ReadTransaction {
+
+        private final Dataset dataset;
+        private final Map<Dataset, ReadTransaction> openReads;
+        private int users;
+        private boolean ended;
+
+        private ReadTransaction(Dataset dataset, Map<Dataset, ReadTransaction> openReads) {
+            this.dataset = dataset;
+            this.openReads = openReads;
+        }
+
+        /**
+         * Releases the transaction by one of its users, the transaction is ended when it has no more users.
+         */
+        private void release() {
+            if (!ended && --users == 0) {
+                end();
+            }
+        }
+
+        private void end() {
+            if (!ended) {
+                this.ended = true;
+                openReads.remove(dataset, this);
+                dataset.end();
+            }
+        }
+    }
+
+    /**
+     * Iterator which releases the read transaction in which the underlying iterator was created once it is exhausted
+     * or closed.
+     */
+    private static final class ReadTransactionIterator extends NiceIterator<Triple> {
+
+        private final ExtendedIterator<Triple> delegate;
+        private final ReadTransaction transaction;
+        private boolean closed;
+
+        private ReadTransactionIterator(ExtendedIterator<Triple> delegate, ReadTransaction transaction) {
+            this.delegate = delegate;
+            this.transaction = transaction;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (transaction.ended) {
+                throw new IllegalStateException("The read transaction of this iterator has already been ended.");
+            }
+            if (delegate.hasNext()) {
+                return true;
+            }
+            close();
+            return false;
+        }
+
+        @Override
+        public Triple next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                this.closed = true;
+                delegate.close();
+                transaction.release();
+            }
+        }
+    }
+}
@@ -18,8 +18,11 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.system.Txn;
 
 import java.util.Iterator;
@@ -29,7 +32,9 @@ import java.util.Iterator;
  *
  * Can be used to apply transactional changes and be thrown away in case the transaction is rolled back.
  */
-class SnapshotStorage extends LocalStorage {
+class SnapshotStorage extends LocalStorage implements StorageChangeListener {
+
+    private SnapshotDatasetGraph overlay;
 
     SnapshotStorage(DriverConfiguration configuration) {
         super(configuration);
@@ -46,4 +51,48 @@ class SnapshotStorage extends LocalStorage {
             dataset.setDefaultModel(central.getDefaultModel());
         });
     }
+
+    /**
+     * Uses the central dataset as the base of this snapshot without copying it.
+     * <p>
+     * In order to remain isolated from changes of the central dataset, this storage has to be registered as a {@link
+     * StorageChangeListener} of the central connector.
+     *
+     * @param central Central dataset
+     */
+    void overlayCentralData(Dataset central) {
+        this.overlay = new SnapshotDatasetGraph(central);
+        this.dataset = DatasetFactory.wrap(overlay);
+    }
+
+    @Override
+    public void statementAdded(Statement statement, String context) {
+        assert overlay != null;
+        overlay.statementAdded(statement.asTriple(), toGraphName(context));
+    }
+
+    @Override
+    public void statementRemoved(Statement statement, String context) {
+        assert overlay != null;
+        overlay.statementRemoved(statement.asTriple(), toGraphName(context));
+    }
+
+    private static Node toGraphName(String context) {
+        return context != null ? NodeFactory.createURI(context) : null;
+    }
+
+    /**
+     * Ends read transactions on the central dataset left open on the current thread by iterators over this snapshot.
+     */
+    void endCentralReads() {
+        if (overlay != null) {
+            overlay.endCentralReads();
+        }
+    }
+
+    @Override
+    public void untrackedChange() {
+        assert overlay != null;
+        overlay.detach();
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.update.UpdateAction;
+import org.apache.jena.update.UpdateRequest;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -43,7 +44,7 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
     final AbstractStorageConnector centralConnector;
 
     private LocalModel transactionalChanges;
-    private List<String> transactionalUpdates;
+    private List<UpdateRequest> transactionalUpdates;
 
     SnapshotStorageConnector(AbstractStorageConnector centralConnector) {
         super(centralConnector.configuration);
@@ -64,14 +65,32 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
 
     void snapshotCentralDataset() {
         final SnapshotStorage s = new SnapshotStorage(configuration);
-        s.addCentralData(centralConnector.getStorage().getDataset());
+        final Storage centralStorage = centralConnector.getStorage();
+        if (centralConnector instanceof SharedStorageConnector shared && centralStorage instanceof LocalStorage) {
+            s.overlayCentralData(centralStorage.getDataset());
+            shared.addChangeListener(s);
+        } else {
+            s.addCentralData(centralStorage.getDataset());
+        }
         this.storage = s;
     }
 
+    private void detachFromCentralDataset() {
+        if (centralConnector instanceof SharedStorageConnector shared && storage instanceof StorageChangeListener l) {
+            shared.removeChangeListener(l);
+        }
+        if (storage instanceof SnapshotStorage s) {
+            // Iterators over the snapshot which were not consumed would prevent writing into the central dataset
+            s.endCentralReads();
+        }
+    }
+
     @Override
     public void commit() throws JenaDriverException {
         ensureTransactionalState();
         transaction.commit();
+        // Stop tracking central changes, this snapshot is about to be discarded
+        detachFromCentralDataset();
         try {
             centralConnector.begin();
             applyRemovals();
@@ -100,8 +119,8 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
     }
 
     private void applyTransactionUpdateQueries() throws JenaDriverException {
-        for (String query : transactionalUpdates) {
-            centralConnector.executeUpdate(query, StatementOntology.SHARED);
+        for (UpdateRequest update : transactionalUpdates) {
+            centralConnector.executeUpdate(update, StatementOntology.SHARED);
         }
     }
 
@@ -114,11 +133,45 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
     }
 
     private void cleanup() {
+        detachFromCentralDataset();
         this.storage = null;
         this.transactionalChanges = null;
         this.transactionalUpdates = null;
     }
 
+    /**
+     * Checks whether the specified statement has been removed in the current transaction.
+     *
+     * @param statement Statement to check
+     * @param context   Context of the statement, {@code null} represents the default graph
+     * @return {@code true} if the statement has been removed in the current transaction, {@code false} otherwise
+     */
+    boolean isRemovedInTransaction(Statement statement, String context) {
+        return transactionalChanges.contains(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+                context != null ? Collections.singleton(context) :
+                Collections.emptySet()) == LocalModel.Containment.REMOVED;
+    }
+
+    /**
+     * Checks whether the specified graph may have been changed in the current transaction.
+     * <p>
+     * SPARQL updates executed in the transaction are assumed to change any graph.
+     *
+     * @param context Graph identifier, {@code null} represents the default graph
+     * @return {@code true} if the graph may have been changed in the current transaction, {@code false} otherwise
+     */
+    boolean isChangedInTransaction(String context) {
+        return !transactionalUpdates.isEmpty() || containsStatements(transactionalChanges.getAdded(), context) ||
+                containsStatements(transactionalChanges.getRemoved(), context);
+    }
+
+    private static boolean containsStatements(Dataset dataset, String context) {
+        if (context == null) {
+            return !dataset.getDefaultModel().isEmpty();
+        }
+        return dataset.containsNamedModel(context) && !dataset.getNamedModel(context).isEmpty();
+    }
+
     @Override
     public List<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureTransactionalState();
@@ -131,6 +184,15 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
         }
     }
 
+    @Override
+    public Map<Resource, Collection<Statement>> findAll(Collection<Resource> subjects, Collection<String> contexts) {
+        ensureTransactionalState();
+        // Delegate to find, so that subclasses reading from a different graph (e.g., without inference) are respected
+        final Map<Resource, Collection<Statement>> result = new HashMap<>(subjects.size());
+        subjects.forEach(s -> result.put(s, find(s, null, null, contexts)));
+        return result;
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureTransactionalState();
@@ -208,18 +270,18 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
     }
 
     @Override
-    public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
+    public void executeUpdate(UpdateRequest update, StatementOntology target) throws JenaDriverException {
         ensureOpen();
         if (target == StatementOntology.TRANSACTIONAL) {
             transaction.verifyActive();
             try {
-                UpdateAction.parseExecute(query, storage.getDataset());
-                transactionalUpdates.add(query);
+                UpdateAction.execute(update, storage.getDataset());
+                transactionalUpdates.add(update);
             } catch (RuntimeException e) {
-                throw new JenaDriverException("Execution of update " + query + " failed.", e);
+                throw new JenaDriverException("Execution of update " + update + " failed.", e);
             }
         } else {
-            centralConnector.executeUpdate(query, target);
+            centralConnector.executeUpdate(update, target);
         }
     }
 }
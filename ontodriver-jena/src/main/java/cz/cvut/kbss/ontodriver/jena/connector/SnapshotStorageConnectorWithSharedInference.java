@@ -0,0 +1,99 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This connector supports inference using an inference closure shared by all transactions.
+ * <p>
+ * Asserted statements are read from the transactional snapshot. Inferred statements are read from the shared closure
+ * of the central dataset overlaid with statements added and removed in the current transaction. Statements which would
+ * be inferred from the uncommitted changes are not available until the transaction is committed. Consistency checks,
+ * on the other hand, take the uncommitted changes into account.
+ *
+ * @see cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#JENA_SHARED_INFERENCE
+ */
+class SnapshotStorageConnectorWithSharedInference extends SnapshotStorageConnector implements InferredStorageConnector {
+
+    private final SharedInference sharedInference;
+
+    SnapshotStorageConnectorWithSharedInference(AbstractStorageConnector centralConnector,
+                                                SharedInference sharedInference) {
+        super(centralConnector);
+        this.sharedInference = sharedInference;
+    }
+
+    @Override
+    public List<Statement> findWithInference(Resource subject, Property property, RDFNode value,
+                                             Collection<String> contexts) {
+        ensureTransactionalState();
+        final Set<Statement> result = new LinkedHashSet<>(find(subject, property, value, contexts));
+        if (contexts.isEmpty()) {
+            addInferred(subject, property, value, null, result);
+        } else {
+            contexts.forEach(ctx -> addInferred(subject, property, value, ctx, result));
+        }
+        return List.copyOf(result);
+    }
+
+    private void addInferred(Resource subject, Property property, RDFNode value, String context,
+                             Set<Statement> result) {
+        sharedInference.find(subject, property, value, context).stream()
+                       .filter(s -> !isRemovedInTransaction(s, context)).forEach(result::add);
+    }
+
+    @Override
+    public boolean containsWithInference(Resource subject, Property property, RDFNode value,
+                                         Collection<String> contexts) {
+        ensureTransactionalState();
+        if (contains(subject, property, value, contexts)) {
+            return true;
+        }
+        final Collection<String> graphs = contexts.isEmpty() ? Collections.singleton(null) : contexts;
+        return graphs.stream().anyMatch(ctx -> sharedInference.find(subject, property, value, ctx).stream()
+                                                              .anyMatch(s -> !isRemovedInTransaction(s, ctx)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the graph has not been changed in the current transaction, the shared closure is validated. Otherwise, the
+     * shared closure does not reflect the graph as seen by the transaction, so the transactional view of the graph is
+     * validated by a new reasoner instance, which is as expensive as inference on the transactional snapshot.
+     */
+    @Override
+    public boolean isConsistent(String context) {
+        ensureTransactionalState();
+        if (!isChangedInTransaction(context)) {
+            return sharedInference.validate(context).isValid();
+        }
+        final Model graph = context != null ? storage.getNamedGraph(context) : storage.getDefaultGraph();
+        return sharedInference.validate(graph).isValid();
+    }
+}
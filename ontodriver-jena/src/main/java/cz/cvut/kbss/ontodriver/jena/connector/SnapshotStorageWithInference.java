@@ -17,76 +17,28 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
-import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
-import cz.cvut.kbss.ontodriver.jena.exception.ReasonerInitializationException;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.rdf.model.InfModel;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
-import org.apache.jena.rdf.model.Property;
-import org.apache.jena.reasoner.IllegalParameterException;
-import org.apache.jena.reasoner.Reasoner;
-import org.apache.jena.reasoner.ReasonerFactory;
 import org.apache.jena.reasoner.ValidityReport;
 import org.apache.jena.system.Txn;
-import org.apache.jena.vocabulary.ReasonerVocabulary;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.*;
-import java.util.stream.Collectors;
-
-import static org.apache.jena.rdf.model.ResourceFactory.createProperty;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
 class SnapshotStorageWithInference extends SnapshotStorage {
 
-    /**
-     * Configuration parameters supported by at least one of the Jena reasoners. Used to pre-filter reasoner config.
-     */
-    private static final Set<String> SUPPORTED_CONFIG = new HashSet<>(Arrays.asList(
-            ReasonerVocabulary.PROPderivationLogging.getURI(),
-            ReasonerVocabulary.PROPenableCMPScan.getURI(),
-            ReasonerVocabulary.PROPenableFunctorFiltering.getURI(),
-            ReasonerVocabulary.PROPenableOWLTranslation.getURI(),
-            ReasonerVocabulary.PROPenableTGCCaching.getURI(),
-            ReasonerVocabulary.PROPruleMode.getURI(),
-            ReasonerVocabulary.PROPruleSet.getURI(),
-            ReasonerVocabulary.PROPsetRDFSLevel.getURI(),
-            ReasonerVocabulary.PROPtraceOn.getURI()
-    ));
-
-    private final ReasonerFactory reasonerFactory;
-    private final Map<String, String> reasonerConfig;
+    private final ConfiguredReasonerFactory reasonerFactory;
 
     private final Map<String, InfModel> inferredGraphs = new HashMap<>();
 
     SnapshotStorageWithInference(DriverConfiguration configuration, Map<String, String> reasonerConfig) {
         super(configuration);
-        this.reasonerFactory = initReasonerFactory(configuration);
-        this.reasonerConfig = reasonerConfig.entrySet().stream()
-                                            .filter(e -> SUPPORTED_CONFIG.contains(e.getKey()))
-                                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    private static ReasonerFactory initReasonerFactory(DriverConfiguration configuration) {
-        final String factoryClass = configuration.getProperty(DriverConfigParam.REASONER_FACTORY_CLASS, "");
-        LOG.trace("Creating reasoner using reasoner factory class {}.", factoryClass);
-        try {
-            final Class<? extends ReasonerFactory> rfClass =
-                    (Class<? extends ReasonerFactory>) Class.forName(factoryClass);
-            final Method instanceMethod = rfClass.getMethod("theInstance");
-            return (ReasonerFactory) instanceMethod.invoke(null);
-        } catch (ClassNotFoundException e) {
-            throw new ReasonerInitializationException("Reasoner factory class " + factoryClass + " not found.", e);
-        } catch (NoSuchMethodException e) {
-            throw new ReasonerInitializationException("Class " + factoryClass +
-                    " is not a ReasonerFactory implementation or does not contain static 'theInstance' method.");
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new ReasonerInitializationException(
-                    "Unable to instantiate Jena reasoner from factory " + factoryClass, e);
-        }
+        this.reasonerFactory = new ConfiguredReasonerFactory(configuration, reasonerConfig);
     }
 
     @Override
@@ -110,7 +62,7 @@ class SnapshotStorageWithInference extends SnapshotStorage {
     }
 
     private InfModel cloneModel(Model model) {
-        return ModelFactory.createInfModel(createReasoner(), ModelFactory.createDefaultModel().add(model));
+        return ModelFactory.createInfModel(reasonerFactory.createReasoner(), ModelFactory.createDefaultModel().add(model));
     }
 
     @Override
@@ -118,19 +70,6 @@ class SnapshotStorageWithInference extends SnapshotStorage {
         return inferredGraphs.get(null);
     }
 
-    private Reasoner createReasoner() {
-        final Reasoner reasoner = reasonerFactory.create(null);
-        reasonerConfig.forEach((key, value) -> {
-            final Property prop = createProperty(key);
-            try {
-                reasoner.setParameter(prop, value);
-            } catch (IllegalParameterException ex) {
-                LOG.error("Failed to set property " + prop + " on reasoner.", ex);
-            }
-        });
-        return reasoner;
-    }
-
     Model getRawDefaultGraph() {
         return inferredGraphs.containsKey(null) ? inferredGraphs.get(null).getRawModel() : dataset.getDefaultModel();
     }
@@ -139,7 +78,7 @@ class SnapshotStorageWithInference extends SnapshotStorage {
     public InfModel getNamedGraph(String context) {
         return inferredGraphs.computeIfAbsent(context, c -> {
             // If the context does not exist, we need to create it, so that the default Dataset behavior is preserved
-            final InfModel model = ModelFactory.createInfModel(createReasoner(), ModelFactory.createDefaultModel());
+            final InfModel model = ModelFactory.createInfModel(reasonerFactory.createReasoner(), ModelFactory.createDefaultModel());
             dataset.addNamedModel(context, model);
             return model;
         });
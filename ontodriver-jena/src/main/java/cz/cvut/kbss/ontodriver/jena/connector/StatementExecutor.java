@@ -21,6 +21,9 @@ import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
 import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryParseException;
+import org.apache.jena.update.UpdateFactory;
+import org.apache.jena.update.UpdateRequest;
 
 public interface StatementExecutor {
 
@@ -58,7 +61,27 @@ public interface StatementExecutor {
      *
      * @param query  Query to execute
      * @param target Dataset on which the update should be executed
-     * @throws JenaDriverException If query execution fails
+     * @throws JenaDriverException If query parsing or execution fails
+     */
+    default void executeUpdate(String query, Statement.StatementOntology target) throws JenaDriverException {
+        final UpdateRequest update;
+        try {
+            update = UpdateFactory.create(query);
+        } catch (QueryParseException e) {
+            throw new JenaDriverException("Unable to parse update " + query, e);
+        }
+        executeUpdate(update, target);
+    }
+
+    /**
+     * Executes the specified parsed SPARQL 1.1 Update request.
+     * <p>
+     * The {@code target} specifies whether the query should be executed on the shared repository or whether the transactional
+     * snapshot will be used to evaluate the query. However, some implementations may ignore this parameter.
+     *
+     * @param update Update to execute
+     * @param target Dataset on which the update should be executed
+     * @throws JenaDriverException If update execution fails
      */
-    void executeUpdate(String query, Statement.StatementOntology target) throws JenaDriverException;
+    void executeUpdate(UpdateRequest update, Statement.StatementOntology target) throws JenaDriverException;
 }
@@ -29,9 +29,12 @@ import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.sparql.core.Quad;
 import org.apache.jena.sparql.core.Transactional;
+import org.apache.jena.update.UpdateRequest;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Represents underlying Jena storage.
@@ -135,10 +138,15 @@ interface Storage {
 
     /**
      * Executes the specified SPARQL update.
+     * <p>
+     * Storages which execute the update locally invoke the specified callbacks with every quad before it is added to or
+     * removed from the data. Remote storages do not invoke them.
      *
-     * @param update SPARQL update to execute
+     * @param update   SPARQL update to execute
+     * @param onAdd    Callback invoked before a quad is added
+     * @param onRemove Callback invoked before a quad is removed
      */
-    void executeUpdate(String update);
+    void executeUpdate(UpdateRequest update, Consumer<Quad> onAdd, Consumer<Quad> onRemove);
 
     /**
      * Reloads data from the underlying storage (if applicable).
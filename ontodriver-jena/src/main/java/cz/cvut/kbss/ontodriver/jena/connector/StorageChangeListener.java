@@ -0,0 +1,54 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.rdf.model.Statement;
+
+/**
+ * Listener notified about changes of the shared storage.
+ * <p>
+ * Notifications are issued before the change is applied to the storage. Changes made by SPARQL updates of local
+ * storages are notified statement by statement as well. If the transaction in which the changes were made is rolled
+ * back, the listener is notified of the inverse changes after the rollback.
+ */
+interface StorageChangeListener {
+
+    /**
+     * Notifies the listener that the specified statement, which is not present in the storage, is being added into it.
+     *
+     * @param statement The added statement
+     * @param context   Context into which the statement is added, {@code null} indicates the default graph
+     */
+    void statementAdded(Statement statement, String context);
+
+    /**
+     * Notifies the listener that the specified statement, which is present in the storage, is being removed from it.
+     *
+     * @param statement The removed statement
+     * @param context   Context from which the statement is removed, {@code null} indicates the default graph
+     */
+    void statementRemoved(Statement statement, String context);
+
+    /**
+     * Notifies the listener that the storage is about to be modified in a way which cannot be tracked statement by
+     * statement, i.e., when the data are reloaded or replaced.
+     * <p>
+     * The listener is unregistered after this notification.
+     */
+    void untrackedChange();
+}
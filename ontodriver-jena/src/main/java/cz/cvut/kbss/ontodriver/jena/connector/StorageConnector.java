@@ -26,7 +26,9 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface StorageConnector extends Closeable, Wrapper, StatementExecutor {
 
@@ -62,6 +64,22 @@ public interface StorageConnector extends Closeable, Wrapper, StatementExecutor
      */
     Collection<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts);
 
+    /**
+     * Retrieves statements of all the specified subjects from the specified named graphs.
+     * <p>
+     * The result is the same as if {@link #find(Resource, Property, RDFNode, Collection)} was called for each subject,
+     * but implementations may read the storage only once for all of them.
+     *
+     * @param subjects Statement subjects
+     * @param contexts Named graph IRIs, optional. If empty, the default graph will be used
+     * @return Map of subjects to their statements
+     */
+    default Map<Resource, Collection<Statement>> findAll(Collection<Resource> subjects, Collection<String> contexts) {
+        final Map<Resource, Collection<Statement>> result = new HashMap<>(subjects.size());
+        subjects.forEach(s -> result.put(s, find(s, null, null, contexts)));
+        return result;
+    }
+
     /**
      * Checks whether the specified context (named graph) contains any statements matching the specified criteria.
      * <p>
@@ -21,14 +21,40 @@ import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.jena.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.jena.util.JenaUtils;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
+import org.apache.jena.graph.Node;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryParseException;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.syntax.syntaxtransform.QueryTransformOps;
+import org.apache.jena.sparql.syntax.syntaxtransform.UpdateTransformOps;
+import org.apache.jena.update.UpdateFactory;
+import org.apache.jena.update.UpdateRequest;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Prepared statement executed by Jena.
+ * <p>
+ * {@link String} parameter values are treated as SPARQL fragments and inserted into the statement string. Values of
+ * other types (identifiers, literal values, Jena nodes) are substituted directly into the parsed query, so that the
+ * query does not have to be parsed again when only these values change.
+ */
 public class JenaPreparedStatement extends JenaStatement implements PreparedStatement {
 
     private final StatementHolder holder;
 
+    private final Map<Var, Node> bindings = new HashMap<>();
+
+    // Parsed form of the last executed statement string
+    private String parsedStatement;
+    private Query parsedQuery;
+    private UpdateRequest parsedUpdate;
+
     public JenaPreparedStatement(StatementExecutor executor, String sparql) {
         super(executor);
         this.holder = new StatementHolder(sparql);
@@ -41,13 +67,37 @@ public class JenaPreparedStatement extends JenaStatement implements PreparedStat
     @Override
     public ResultSet executeQuery() throws JenaDriverException {
         ensureOpen();
-        return executeQuery(holder.assembleStatement());
+        final Query query = resolveQuery(holder.assembleStatement());
+        return executeQuery(bindings.isEmpty() ? query : QueryTransformOps.transform(query, bindings));
+    }
+
+    private Query resolveQuery(String sparql) throws JenaDriverException {
+        if (parsedQuery == null || !sparql.equals(parsedStatement)) {
+            this.parsedQuery = parseQuery(sparql);
+            this.parsedUpdate = null;
+            this.parsedStatement = sparql;
+        }
+        return parsedQuery;
     }
 
     @Override
     public void executeUpdate() throws JenaDriverException {
         ensureOpen();
-        executeUpdate(holder.assembleStatement());
+        final UpdateRequest update = resolveUpdate(holder.assembleStatement());
+        executeUpdate(bindings.isEmpty() ? update : UpdateTransformOps.transform(update, bindings));
+    }
+
+    private UpdateRequest resolveUpdate(String sparql) throws JenaDriverException {
+        if (parsedUpdate == null || !sparql.equals(parsedStatement)) {
+            try {
+                this.parsedUpdate = UpdateFactory.create(sparql);
+            } catch (QueryParseException e) {
+                throw new JenaDriverException("Unable to parse update " + sparql, e);
+            }
+            this.parsedQuery = null;
+            this.parsedStatement = sparql;
+        }
+        return parsedUpdate;
     }
 
     @Override
@@ -55,12 +105,30 @@ public class JenaPreparedStatement extends JenaStatement implements PreparedStat
         ensureOpen();
         Objects.requireNonNull(binding);
         Objects.requireNonNull(value);
-        holder.setParameter(binding, value.toString());
+        if (value instanceof String) {
+            holder.setParameter(binding, value.toString());
+            bindings.remove(Var.alloc(binding));
+        } else {
+            final Node node = toNode(value);
+            // Validates the binding name and removes any previously set textual value
+            holder.setParameter(binding, null);
+            bindings.put(Var.alloc(binding), node);
+        }
+    }
+
+    private static Node toNode(Object value) {
+        if (value instanceof Node node) {
+            return node;
+        } else if (value instanceof RDFNode rdfNode) {
+            return rdfNode.asNode();
+        }
+        return JenaUtils.toRdfNode(value).asNode();
     }
 
     @Override
     public void clearParameters() {
         ensureOpen();
         holder.clearParameters();
+        bindings.clear();
     }
 }
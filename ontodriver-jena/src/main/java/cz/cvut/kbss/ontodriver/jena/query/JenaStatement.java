@@ -24,6 +24,7 @@ import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryFactory;
 import org.apache.jena.query.QueryParseException;
+import org.apache.jena.update.UpdateRequest;
 
 import java.util.Objects;
 
@@ -43,7 +44,10 @@ public class JenaStatement implements Statement {
     @Override
     public ResultSet executeQuery(String sparql) throws JenaDriverException {
         ensureOpen();
-        final Query query = parseQuery(Objects.requireNonNull(sparql));
+        return executeQuery(parseQuery(Objects.requireNonNull(sparql)));
+    }
+
+    ResultSet executeQuery(Query query) throws JenaDriverException {
         closeCurrentResultSet();
         final AbstractResultSet resultSet;
         if (query.isAskType()) {
@@ -62,7 +66,7 @@ public class JenaStatement implements Statement {
         }
     }
 
-    private static Query parseQuery(String sparql) throws JenaDriverException {
+    static Query parseQuery(String sparql) throws JenaDriverException {
         try {
             return QueryFactory.create(sparql);
         } catch (QueryParseException e) {
@@ -85,6 +89,11 @@ public class JenaStatement implements Statement {
         executor.executeUpdate(sparql, targetOntology);
     }
 
+    void executeUpdate(UpdateRequest update) throws JenaDriverException {
+        closeCurrentResultSet();
+        executor.executeUpdate(update, targetOntology);
+    }
+
     @Override
     public void useOntology(StatementOntology ontology) {
         ensureOpen();
@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.datatype.xsd.XsdDatatypeMapper;
 import cz.cvut.kbss.jopa.datatype.xsd.XsdTemporalMapper;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.LangString;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
 import org.apache.jena.datatypes.BaseDatatype;
@@ -65,16 +66,30 @@ public class JenaUtils {
      * @return Jena RDFNode
      */
     public static RDFNode toRdfNode(Assertion assertion, Object value) {
+        Objects.requireNonNull(value);
+        if (value instanceof String && assertion.hasLanguage()) {
+            return ResourceFactory.createLangLiteral((String) value, assertion.getLanguage());
+        }
+        return toRdfNode(value);
+    }
+
+    /**
+     * Transforms the specified value to an {@link RDFNode}, be it a resource or a literal.
+     * <p>
+     * Strings are transformed to simple literals without language tag.
+     *
+     * @param value Value to transform
+     * @return Jena RDFNode
+     */
+    public static RDFNode toRdfNode(Object value) {
         Objects.requireNonNull(value);
         if (IdentifierUtils.isResourceIdentifierType(value.getClass())) {
             return ResourceFactory.createResource(value.toString());
+        } else if (value instanceof NamedResource namedResource) {
+            return ResourceFactory.createResource(namedResource.getIdentifier().toString());
         } else if (value instanceof LangString langString) {
             return langString.getLanguage().map(lang -> ResourceFactory.createLangLiteral(langString.getValue(), lang))
                              .orElseGet(() -> ResourceFactory.createTypedLiteral(langString.getValue()));
-        } else if (value instanceof String) {
-            return assertion.hasLanguage() ? ResourceFactory.createLangLiteral((String) value,
-                    assertion.getLanguage()) :
-                    ResourceFactory.createTypedLiteral(value);
         } else if (value instanceof cz.cvut.kbss.ontodriver.model.Literal ontoLiteral) {
             return createLiteral(ontoLiteral);
         } else if (value instanceof Date) {
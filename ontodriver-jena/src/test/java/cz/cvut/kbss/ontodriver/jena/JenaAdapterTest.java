@@ -45,6 +45,7 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -202,6 +203,30 @@ class JenaAdapterTest {
         verify(connectorMock).find(SUBJECT_RESOURCE, null, null, Collections.emptySet());
     }
 
+    @Test
+    void findAllLoadsStatementsOfAllSubjectsUsingSingleConnectorCall() {
+        final NamedResource otherSubject = NamedResource.create(Generator.generateUri());
+        final Resource otherResource = ResourceFactory.createResource(otherSubject.getIdentifier().toString());
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(Generator.generateUri(), false);
+        final AxiomDescriptor descriptorOne = new AxiomDescriptor(SUBJECT);
+        descriptorOne.addAssertion(assertion);
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(otherSubject);
+        descriptorTwo.addAssertion(assertion);
+        final Statement s = ResourceFactory.createStatement(SUBJECT_RESOURCE, assertionToProperty(assertion),
+                ResourceFactory.createResource(Generator.generateUri().toString()));
+        when(connectorMock.findAll(anyCollection(), anyCollection())).thenReturn(
+                Map.of(SUBJECT_RESOURCE, List.of(s), otherResource, List.of()));
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = adapter.findAll(List.of(descriptorOne, descriptorTwo));
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(SUBJECT).size());
+        assertEquals(s.getObject().asResource().getURI(), result.get(SUBJECT).iterator().next().getValue()
+                                                                .stringValue());
+        assertTrue(result.get(otherSubject).isEmpty());
+        verify(connectorMock).findAll(List.of(SUBJECT_RESOURCE, otherResource), Collections.emptySet());
+        verify(connectorMock, never()).find(any(), any(), any(), any());
+    }
+
     private static Property assertionToProperty(Assertion assertion) {
         return ResourceFactory.createProperty(assertion.getIdentifier().toString());
     }
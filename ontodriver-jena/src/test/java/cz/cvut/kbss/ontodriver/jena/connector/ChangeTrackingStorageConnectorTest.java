@@ -25,8 +25,10 @@ import cz.cvut.kbss.ontodriver.util.Vocabulary;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.update.UpdateRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,7 +36,9 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
@@ -111,6 +115,27 @@ public class ChangeTrackingStorageConnectorTest {
         assertTrue(result.contains(added));
     }
 
+    @Test
+    public void findAllEnhancesResultsFromCentralConnectorWithTransactionalChangesFromLocalModel() throws Exception {
+        centralConnector.begin();
+        final Statement existing = createStatement(createResource(SUBJECT), createProperty(Vocabulary.RDF_TYPE),
+                createResource(TYPE_ONE));
+        final Statement removed = createStatement(createResource(TYPE_ONE), createProperty(Vocabulary.RDF_TYPE),
+                createResource(TYPE_TWO));
+        centralConnector.add(List.of(existing, removed), null);
+        centralConnector.commit();
+        connector.begin();
+        final Statement added = createStatement(createResource(SUBJECT), createProperty(Vocabulary.RDF_TYPE),
+                createResource(TYPE_TWO));
+        getLocalModel().addStatements(Collections.singletonList(added), null);
+        getLocalModel().removeStatements(Collections.singletonList(removed), null);
+
+        final Map<Resource, Collection<Statement>> result =
+                connector.findAll(List.of(createResource(SUBJECT), createResource(TYPE_ONE)), Collections.emptySet());
+        assertEquals(Set.of(existing, added), new HashSet<>(result.get(createResource(SUBJECT))));
+        assertTrue(result.get(createResource(TYPE_ONE)).isEmpty());
+    }
+
     @Test
     public void findPreventsDuplicateStatementsFromCentralAndLocalModel() throws Exception {
         centralConnector.begin();
@@ -379,6 +404,6 @@ public class ChangeTrackingStorageConnectorTest {
     public void executeUpdateQueryPassesQueryToSharedConnector() throws Exception {
         final String query = "INSERT DATA { _:a a <" + Generator.generateUri() + "> . }";
         connector.executeUpdate(query, StatementOntology.SHARED);
-        verify(centralConnector).executeUpdate(query, StatementOntology.SHARED);
+        verify(centralConnector).executeUpdate(any(UpdateRequest.class), eq(StatementOntology.SHARED));
     }
 }
@@ -22,6 +22,7 @@ import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryFactory;
+import org.apache.jena.update.UpdateRequest;
 import org.apache.jena.vocabulary.RDF;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,8 @@ import java.util.Collections;
 import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -105,6 +108,6 @@ public class DummyInferredStorageConnectorTest {
     public void executeUpdateQueryForwardsCallToWrappedConnector() throws Exception {
         final String query = "INSERT DATA { _:b1 a <" + TYPE_ONE + "> . }";
         connector.executeUpdate(query, Statement.StatementOntology.TRANSACTIONAL);
-        verify(wrappedConnector).executeUpdate(query, Statement.StatementOntology.TRANSACTIONAL);
+        verify(wrappedConnector).executeUpdate(any(UpdateRequest.class), eq(Statement.StatementOntology.TRANSACTIONAL));
     }
 }
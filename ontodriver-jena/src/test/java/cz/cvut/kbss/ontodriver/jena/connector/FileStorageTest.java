@@ -17,18 +17,23 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.update.UpdateFactory;
 import org.apache.jena.vocabulary.RDF;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
@@ -125,4 +130,163 @@ public class FileStorageTest extends StorageTestUtil {
         final IllegalStateException ex = assertThrows(IllegalStateException.class, storage::reload);
         assertThat(ex.getMessage(), containsString("Cannot reload storage which is in transaction"));
     }
+
+    @Test
+    public void writeChangesWithJournalAppendsChangesToJournalInsteadOfRewritingFile() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final FileStorage storage = new FileStorage(journalConfiguration(file, 10));
+        final FileStorageJournal journal = new FileStorageJournal(file.getAbsolutePath());
+        journal.getPath().toFile().deleteOnExit();
+        commit(storage, statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+
+        assertTrue(Files.readAllLines(file.toPath()).isEmpty());
+        final String journalContent = Files.readString(journal.getPath());
+        assertThat(journalContent, containsString(SUBJECT));
+        assertThat(journalContent, containsString(TYPE_ONE));
+    }
+
+    private static DriverConfiguration journalConfiguration(File file, int compactionThreshold) {
+        final DriverConfiguration configuration = createConfiguration(file.getAbsolutePath());
+        configuration.setProperty(JenaConfigParam.FILE_JOURNAL, Boolean.TRUE.toString());
+        configuration.setProperty(JenaConfigParam.FILE_JOURNAL_COMPACTION_THRESHOLD,
+                Integer.toString(compactionThreshold));
+        return configuration;
+    }
+
+    private static void commit(LocalStorage storage, Statement toAdd) throws Exception {
+        storage.begin(ReadWrite.WRITE);
+        storage.add(List.of(toAdd), null);
+        storage.writeChanges();
+        storage.commit();
+    }
+
+    @Test
+    public void initializationReplaysJournal() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final FileStorage storage = new FileStorage(journalConfiguration(file, 10));
+        new FileStorageJournal(file.getAbsolutePath()).getPath().toFile().deleteOnExit();
+        final Statement added = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        final Statement removed = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        commit(storage, added);
+        commit(storage, removed);
+        storage.begin(ReadWrite.WRITE);
+        storage.remove(List.of(removed), null);
+        storage.writeChanges();
+        storage.commit();
+
+        final FileStorage result = new FileStorage(journalConfiguration(file, 10));
+        assertTrue(result.getDefaultGraph().contains(added));
+        assertFalse(result.getDefaultGraph().contains(removed));
+    }
+
+    @Test
+    public void initializationIgnoresIncompleteTransactionAtTheEndOfJournal() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final FileStorage storage = new FileStorage(journalConfiguration(file, 10));
+        final FileStorageJournal journal = new FileStorageJournal(file.getAbsolutePath());
+        journal.getPath().toFile().deleteOnExit();
+        final Statement added = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        commit(storage, added);
+        Files.writeString(journal.getPath(), "TX .\nA <" + SUBJECT + "> <" + RDF.type.getURI() + "> <" + TYPE_TWO + ">",
+                StandardOpenOption.APPEND);
+
+        final FileStorage result = new FileStorage(journalConfiguration(file, 10));
+        assertTrue(result.getDefaultGraph().contains(added));
+        assertFalse(result.getDefaultGraph().contains(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)));
+    }
+
+    @Test
+    public void initializationTruncatesCorruptTailOfJournalSoThatSubsequentTransactionsAreReplayed() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final FileStorage storage = new FileStorage(journalConfiguration(file, 10));
+        final FileStorageJournal journal = new FileStorageJournal(file.getAbsolutePath());
+        journal.getPath().toFile().deleteOnExit();
+        final Statement first = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        commit(storage, first);
+        Files.writeString(journal.getPath(), "TX .\nA <" + SUBJECT + "> <" + RDF.type.getURI() + "> \"unterminated\nTC .\n",
+                StandardOpenOption.APPEND);
+
+        final FileStorage reopened = new FileStorage(journalConfiguration(file, 10));
+        final Statement second = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        commit(reopened, second);
+
+        final FileStorage result = new FileStorage(journalConfiguration(file, 10));
+        assertTrue(result.getDefaultGraph().contains(first));
+        assertTrue(result.getDefaultGraph().contains(second));
+    }
+
+    @Test
+    public void writeChangesRewritesFileAndClearsJournalWhenCompactionThresholdIsReached() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final FileStorage storage = new FileStorage(journalConfiguration(file, 2));
+        final FileStorageJournal journal = new FileStorageJournal(file.getAbsolutePath());
+        journal.getPath().toFile().deleteOnExit();
+        commit(storage, statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        assertTrue(Files.exists(journal.getPath()));
+        commit(storage, statement(SUBJECT, RDF.type.getURI(), TYPE_TWO));
+
+        assertFalse(Files.exists(journal.getPath()));
+        final String content = Files.readString(file.toPath());
+        assertThat(content, containsString(TYPE_ONE));
+        assertThat(content, containsString(TYPE_TWO));
+    }
+
+    @Test
+    public void writeChangesAppendsChangesMadeBySparqlUpdateToJournal() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final FileStorage storage = new FileStorage(journalConfiguration(file, 10));
+        final FileStorageJournal journal = new FileStorageJournal(file.getAbsolutePath());
+        journal.getPath().toFile().deleteOnExit();
+        commit(storage, statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        storage.begin(ReadWrite.WRITE);
+        storage.executeUpdate(UpdateFactory.create("DELETE DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . };" +
+                "INSERT DATA { <" + SUBJECT + "> a <" + TYPE_TWO + "> . }"), q -> {}, q -> {});
+        storage.writeChanges();
+        storage.commit();
+
+        assertTrue(Files.readAllLines(file.toPath()).isEmpty());
+        final FileStorage result = new FileStorage(journalConfiguration(file, 10));
+        assertFalse(result.getDefaultGraph().contains(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)));
+        assertTrue(result.getDefaultGraph().contains(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)));
+    }
+
+    @Test
+    public void writeChangesRewritesFileWhenSparqlUpdateAddedBlankNodes() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final FileStorage storage = new FileStorage(journalConfiguration(file, 10));
+        final FileStorageJournal journal = new FileStorageJournal(file.getAbsolutePath());
+        journal.getPath().toFile().deleteOnExit();
+        commit(storage, statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        storage.begin(ReadWrite.WRITE);
+        storage.executeUpdate(UpdateFactory.create("INSERT DATA { <" + SUBJECT + "> <" + RDF.value.getURI() +
+                "> [ a <" + TYPE_TWO + "> ] . }"), q -> {}, q -> {});
+        storage.writeChanges();
+        storage.commit();
+
+        assertFalse(Files.exists(journal.getPath()));
+        final String content = Files.readString(file.toPath());
+        assertThat(content, containsString(TYPE_ONE));
+        assertThat(content, containsString(TYPE_TWO));
+    }
+
+    @Test
+    public void closeRewritesFileAndClearsJournal() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final FileStorage storage = new FileStorage(journalConfiguration(file, 10));
+        final FileStorageJournal journal = new FileStorageJournal(file.getAbsolutePath());
+        journal.getPath().toFile().deleteOnExit();
+        commit(storage, statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        storage.close();
+
+        assertFalse(Files.exists(journal.getPath()));
+        assertThat(Files.readString(file.toPath()), containsString(TYPE_ONE));
+    }
 }
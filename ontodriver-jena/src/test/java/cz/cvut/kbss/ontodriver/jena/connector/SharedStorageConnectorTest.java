@@ -27,6 +27,7 @@ import org.apache.jena.graph.Graph;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.vocabulary.RDF;
@@ -35,7 +36,9 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
@@ -92,6 +95,26 @@ public class SharedStorageConnectorTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void findAllReturnsStatementsOfAllSubjectsFromTargetGraphs() {
+        final SharedStorageConnector connector = initConnector();
+        generateTestData(connector.storage.getDataset());
+        final Resource typeOne = createResource(TYPE_ONE);
+        final Resource unknown = createResource("http://unknownResource");
+
+        final Map<Resource, Collection<Statement>> result =
+                connector.findAll(List.of(RESOURCE, typeOne, unknown), Collections.emptySet());
+        assertEquals(3, result.size());
+        assertEquals(new HashSet<>(connector.find(RESOURCE, null, null, Collections.emptySet())),
+                new HashSet<>(result.get(RESOURCE)));
+        assertEquals(new HashSet<>(connector.find(typeOne, null, null, Collections.emptySet())),
+                new HashSet<>(result.get(typeOne)));
+        assertTrue(result.get(unknown).isEmpty());
+        final Map<Resource, Collection<Statement>> inContext =
+                connector.findAll(List.of(RESOURCE), Collections.singleton(NAMED_GRAPH));
+        assertEquals(List.of(createStatement(RESOURCE, RDF.type, createResource(TYPE_TWO))), inContext.get(RESOURCE));
+    }
+
     @Test
     public void containsChecksForStatementExistenceInDefaultGraph() {
         final SharedStorageConnector connector = initConnector();
@@ -401,7 +424,7 @@ public class SharedStorageConnectorTest {
         final String update = "INSERT DATA {" + SUBJECT + "> a <" + newType + "> . }";
         final JenaDriverException ex = assertThrows(JenaDriverException.class,
                 () -> connector.executeUpdate(update, StatementOntology.SHARED));
-        assertThat(ex.getMessage(), containsString("Execution of query " + update + " failed"));
+        assertThat(ex.getMessage(), containsString("Unable to parse update " + update));
     }
 
     @Test
@@ -410,4 +433,84 @@ public class SharedStorageConnectorTest {
         connector.reloadStorage();
         verify(connector.storage).reload();
     }
+
+    @Test
+    public void rollbackNotifiesListenersOfInverseChangesWhenTheyWereNotifiedOfChangesInTransaction() throws Exception {
+        final SharedStorageConnector connector = initConnector();
+        final Statement existing = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        connector.begin();
+        connector.add(List.of(existing), null);
+        connector.commit();
+        final StorageChangeListener listener = mock(StorageChangeListener.class);
+        connector.addChangeListener(listener);
+        connector.begin();
+        final Statement statement = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        connector.add(Collections.singletonList(statement), null);
+        connector.remove(Collections.singletonList(existing), null);
+        verify(listener).statementAdded(statement, null);
+        verify(listener).statementRemoved(existing, null);
+        connector.rollback();
+        verify(listener).statementRemoved(statement, null);
+        verify(listener).statementAdded(existing, null);
+        verify(listener, never()).untrackedChange();
+    }
+
+    @Test
+    public void rollbackDoesNotNotifyListenersWhenThereWereNoChanges() {
+        final SharedStorageConnector connector = initConnector();
+        final StorageChangeListener listener = mock(StorageChangeListener.class);
+        connector.addChangeListener(listener);
+        connector.begin();
+        connector.rollback();
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    public void executeUpdateNotifiesListenersOfStatementsAddedAndRemovedByUpdate() throws Exception {
+        final SharedStorageConnector connector = initConnector();
+        final Statement existing = statement(SUBJECT, RDF.type.getURI(), TYPE_TWO);
+        connector.begin();
+        connector.add(List.of(existing), NAMED_GRAPH);
+        connector.commit();
+        final StorageChangeListener listener = mock(StorageChangeListener.class);
+        connector.addChangeListener(listener);
+        final long marker = connector.untrackedChangeMarker();
+
+        connector.begin();
+        connector.executeUpdate("INSERT DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }", StatementOntology.SHARED);
+        connector.executeUpdate("DELETE WHERE { GRAPH ?g { ?s ?p ?o . } }", StatementOntology.SHARED);
+        connector.commit();
+        verify(listener).statementAdded(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE), null);
+        verify(listener).statementRemoved(existing, NAMED_GRAPH);
+        verify(listener, never()).untrackedChange();
+        assertEquals(marker, connector.untrackedChangeMarker());
+    }
+
+    @Test
+    public void executeUpdateDoesNotNotifyListenersOfStatementsAlreadyPresentInStorage() throws Exception {
+        final SharedStorageConnector connector = initConnector();
+        final Statement existing = statement(SUBJECT, RDF.type.getURI(), TYPE_ONE);
+        connector.begin();
+        connector.add(List.of(existing), null);
+        connector.commit();
+        final StorageChangeListener listener = mock(StorageChangeListener.class);
+        connector.addChangeListener(listener);
+
+        connector.executeUpdate("INSERT DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }", StatementOntology.SHARED);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    public void untrackedChangeMarkerChangesWhenStorageIsReloaded() {
+        final SharedStorageConnector connector = initConnector();
+        final StorageChangeListener listener = mock(StorageChangeListener.class);
+        connector.addChangeListener(listener);
+        final long marker = connector.untrackedChangeMarker();
+        assertTrue(marker >= 0);
+        connector.reloadStorage();
+        final long result = connector.untrackedChangeMarker();
+        assertTrue(result >= 0);
+        assertNotEquals(marker, result);
+        verify(listener).untrackedChange();
+    }
 }
@@ -23,18 +23,28 @@ import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.jena.environment.Generator;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryFactory;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.update.UpdateRequest;
 import org.apache.jena.vocabulary.RDF;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
@@ -376,7 +386,7 @@ public class SnapshotStorageConnectorTest {
         connector.begin();
         final String update = "INSERT DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }";
         connector.executeUpdate(update, StatementOntology.TRANSACTIONAL);
-        verify(centralConnector, never()).executeUpdate(eq(update), any());
+        verify(centralConnector, never()).executeUpdate(any(UpdateRequest.class), any());
         assertTrue(connector
                 .contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE), Collections.emptySet()));
     }
@@ -386,7 +396,7 @@ public class SnapshotStorageConnectorTest {
         connector.begin();
         final String update = "INSERT DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }";
         connector.executeUpdate(update, StatementOntology.SHARED);
-        verify(centralConnector).executeUpdate(update, StatementOntology.SHARED);
+        verify(centralConnector).executeUpdate(any(UpdateRequest.class), eq(StatementOntology.SHARED));
     }
 
     @Test
@@ -399,7 +409,7 @@ public class SnapshotStorageConnectorTest {
         assertFalse(centralConnector
                 .contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE), Collections.emptySet()));
         connector.commit();
-        verify(centralConnector).executeUpdate(update, StatementOntology.SHARED);
+        verify(centralConnector).executeUpdate(any(UpdateRequest.class), eq(StatementOntology.SHARED));
         assertTrue(centralConnector
                 .contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE), Collections.emptySet()));
     }
@@ -411,4 +421,186 @@ public class SnapshotStorageConnectorTest {
         connector.close();
         assertFalse(connector.isOpen());
     }
+
+    @Test
+    public void beginDoesNotCopyCentralData() throws JenaDriverException {
+        centralConnector.begin();
+        final Statement existing = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        centralConnector.add(Collections.singletonList(existing), null);
+        centralConnector.commit();
+
+        connector.begin();
+        final Dataset dataset = connector.getStorage().getDataset();
+        assertInstanceOf(SnapshotDatasetGraph.class, dataset.asDatasetGraph());
+        assertTrue(connector.contains(existing.getSubject(), existing.getPredicate(), existing.getObject(),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void changesCommittedByAnotherTransactionAreNotVisibleInRunningTransaction() throws JenaDriverException {
+        final String context = Generator.generateUri().toString();
+        final Statement existing = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        centralConnector.begin();
+        centralConnector.add(Collections.singletonList(existing), context);
+        centralConnector.commit();
+        connector.begin();
+
+        final SnapshotStorageConnector other = new SnapshotStorageConnector(centralConnector);
+        other.begin();
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
+        other.add(Collections.singletonList(added), context);
+        other.remove(Collections.singletonList(existing), context);
+        other.commit();
+
+        final Collection<Statement> result =
+                connector.find(createResource(SUBJECT), RDF.type, null, Collections.singleton(context));
+        assertEquals(Collections.singletonList(existing), List.copyOf(result));
+        assertEquals(List.of(context), connector.getContexts());
+        connector.rollback();
+        connector.begin();
+        final Collection<Statement> afterRestart =
+                connector.find(createResource(SUBJECT), RDF.type, null, Collections.singleton(context));
+        assertEquals(Collections.singletonList(added), List.copyOf(afterRestart));
+    }
+
+    @Test
+    public void transactionalChangesAreAppliedOnTopOfChangesCommittedByAnotherTransaction() throws Exception {
+        final Statement existing = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        connector.begin();
+        centralConnector.begin();
+        centralConnector.add(Collections.singletonList(existing), null);
+        centralConnector.commit();
+
+        assertFalse(connector.contains(existing.getSubject(), existing.getPredicate(), existing.getObject(),
+                Collections.emptySet()));
+        connector.add(Collections.singletonList(existing), null);
+        assertTrue(connector.contains(existing.getSubject(), existing.getPredicate(), existing.getObject(),
+                Collections.emptySet()));
+        assertEquals(1, connector.find(existing.getSubject(), null, null, Collections.emptySet()).size());
+    }
+
+    @Test
+    public void sparqlUpdateOnCentralConnectorDoesNotAffectRunningTransaction() throws Exception {
+        final Statement existing = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        centralConnector.begin();
+        centralConnector.add(Collections.singletonList(existing), null);
+        centralConnector.commit();
+        connector.begin();
+
+        centralConnector.begin();
+        centralConnector.executeUpdate("DELETE WHERE { ?s ?p ?o . }", StatementOntology.SHARED);
+        centralConnector.commit();
+        assertFalse(centralConnector.contains(existing.getSubject(), null, null, Collections.emptySet()));
+        assertTrue(connector.contains(existing.getSubject(), existing.getPredicate(), existing.getObject(),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void findOnSnapshotGraphReadsSmallResultWithoutKeepingCentralReadTransactionOpen() throws JenaDriverException {
+        final Statement existing = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        centralConnector.begin();
+        centralConnector.add(Collections.singletonList(existing), null);
+        centralConnector.commit();
+        connector.begin();
+
+        final Graph graph = connector.getStorage().getDataset().asDatasetGraph().getDefaultGraph();
+        final ExtendedIterator<Triple> it = graph.find();
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+        assertEquals(List.of(existing.asTriple()), it.toList());
+    }
+
+    @Test
+    public void findOnSnapshotGraphEndsCentralReadTransactionWhenIteratorIsExhausted() throws JenaDriverException {
+        final List<Statement> existing = generateTypeStatements(SnapshotDatasetGraph.EAGER_READ_LIMIT + 1);
+        centralConnector.begin();
+        centralConnector.add(existing, null);
+        centralConnector.commit();
+        connector.begin();
+
+        final Graph graph = connector.getStorage().getDataset().asDatasetGraph().getDefaultGraph();
+        final ExtendedIterator<Triple> it = graph.find();
+        assertTrue(centralConnector.getStorage().getDataset().isInTransaction());
+        assertEquals(existing.size(), it.toList().size());
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+    }
+
+    private static List<Statement> generateTypeStatements(int count) {
+        final List<Statement> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(createStatement(createResource(SUBJECT), RDF.type,
+                    createResource(Generator.generateUri().toString())));
+        }
+        return result;
+    }
+
+    @Test
+    public void findOnSnapshotGraphIsNotAffectedByChangesCommittedDuringIteration() throws Exception {
+        final List<Statement> existing = generateTypeStatements(SnapshotDatasetGraph.EAGER_READ_LIMIT + 10);
+        centralConnector.begin();
+        centralConnector.add(existing, null);
+        centralConnector.commit();
+        connector.begin();
+
+        final Graph graph = connector.getStorage().getDataset().asDatasetGraph().getDefaultGraph();
+        final ExtendedIterator<Triple> it = graph.find();
+        final Set<Triple> result = new HashSet<>();
+        result.add(it.next());
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(Generator.generateUri()
+                                                                                                          .toString()));
+        // The writer must run on another thread, the current one is in the central read transaction
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                final SnapshotStorageConnector writer = new SnapshotStorageConnector(centralConnector);
+                writer.begin();
+                writer.remove(existing, null);
+                writer.add(List.of(added), null);
+                writer.commit();
+                return null;
+            }).get();
+        } finally {
+            executor.shutdown();
+        }
+        it.forEachRemaining(result::add);
+
+        assertEquals(existing.stream().map(Statement::asTriple).collect(Collectors.toSet()), result);
+        assertFalse(centralConnector.contains(existing.get(0).getSubject(), existing.get(0).getPredicate(),
+                existing.get(0).getObject(), Collections.emptySet()));
+    }
+
+    @Test
+    public void commitSucceedsWhenIteratorOverSnapshotGraphWasAbandoned() throws Exception {
+        final List<Statement> existing = generateTypeStatements(SnapshotDatasetGraph.EAGER_READ_LIMIT + 1);
+        centralConnector.begin();
+        centralConnector.add(existing, null);
+        centralConnector.commit();
+        connector.begin();
+
+        final Graph graph = connector.getStorage().getDataset().asDatasetGraph().getDefaultGraph();
+        assertTrue(graph.find().hasNext());
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
+        connector.add(List.of(added), null);
+        connector.commit();
+
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+        assertTrue(centralConnector.contains(added.getSubject(), added.getPredicate(), added.getObject(),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void sparqlUpdateOnCentralConnectorDoesNotDetachRunningTransactionFromCentralDataset() throws Exception {
+        connector.begin();
+        centralConnector.begin();
+        centralConnector.executeUpdate("INSERT DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }",
+                StatementOntology.SHARED);
+        centralConnector.commit();
+
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
+        centralConnector.begin();
+        centralConnector.add(List.of(added), null);
+        centralConnector.commit();
+        // The snapshot still overlays the central dataset and thus keeps being notified of its changes
+        assertFalse(connector.contains(createResource(SUBJECT), RDF.type, null, Collections.emptySet()));
+        verify(centralConnector, never()).removeChangeListener(any());
+    }
 }
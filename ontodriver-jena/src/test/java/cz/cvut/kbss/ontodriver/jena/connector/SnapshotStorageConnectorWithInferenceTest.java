@@ -37,6 +37,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
@@ -85,6 +86,16 @@ public class SnapshotStorageConnectorWithInferenceTest {
         assertTrue(result.stream().anyMatch(s -> s.getObject().equals(createResource(TYPE_TWO))));
     }
 
+    @Test
+    public void findAllReturnsStatementsFromRawDefaultModel() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Map<Resource, Collection<Statement>> result =
+                connector.findAll(List.of(createResource(SUBJECT)), Collections.emptySet());
+        assertEquals(1, result.get(createResource(SUBJECT)).size());
+        assertEquals(createResource(TYPE_ONE), result.get(createResource(SUBJECT)).iterator().next().getObject());
+    }
+
     @Test
     public void findInContextReturnsStatementsFromRawNamedGraph() throws Exception {
         generateTestData(NAMED_GRAPH);
@@ -0,0 +1,227 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.environment.Generator;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.reasoner.rulesys.OWLFBRuleReasonerFactory;
+import org.apache.jena.reasoner.rulesys.RDFSRuleReasonerFactory;
+import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotStorageConnectorWithSharedInferenceTest {
+
+    private SharedStorageConnector centralConnector;
+
+    private SharedInference sharedInference;
+
+    private SnapshotStorageConnectorWithSharedInference connector;
+
+    @BeforeEach
+    void setUp() {
+        init(RDFSRuleReasonerFactory.class.getName());
+    }
+
+    private void init(String reasonerFactoryClass) {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, reasonerFactoryClass);
+        this.centralConnector = new SharedStorageConnector(configuration);
+        this.sharedInference = new SharedInference(centralConnector,
+                new ConfiguredReasonerFactory(configuration, Collections.emptyMap()));
+        this.connector = new SnapshotStorageConnectorWithSharedInference(centralConnector, sharedInference);
+    }
+
+    private void generateTestData(String context) throws JenaDriverException {
+        centralConnector.begin();
+        final List<Statement> data = Arrays.asList(
+                statement(TYPE_ONE, RDFS.subClassOf.getURI(), TYPE_TWO),
+                statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        centralConnector.add(data, context);
+        centralConnector.commit();
+    }
+
+    @Test
+    void findReturnsOnlyAssertedStatements() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final List<Statement> result = connector.find(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+        assertEquals(1, result.size());
+        assertEquals(createResource(TYPE_ONE), result.get(0).getObject());
+    }
+
+    @Test
+    void findWithInferenceReturnsStatementsIncludingInferredKnowledge() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Collection<Statement> result = connector
+                .findWithInference(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+        assertTrue(result.stream().anyMatch(s -> s.getObject().equals(createResource(TYPE_ONE))));
+        assertTrue(result.stream().anyMatch(s -> s.getObject().equals(createResource(TYPE_TWO))));
+    }
+
+    @Test
+    void findWithInferenceInContextReturnsStatementsIncludingInferredKnowledge() throws Exception {
+        generateTestData(NAMED_GRAPH);
+        connector.begin();
+        final Collection<Statement> result = connector.findWithInference(createResource(SUBJECT), RDF.type, null,
+                Collections.singleton(NAMED_GRAPH));
+        assertTrue(result.stream().anyMatch(s -> s.getObject().equals(createResource(TYPE_TWO))));
+    }
+
+    @Test
+    void findWithInferenceIncludesStatementsAddedInTransaction() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Resource another = createResource(Generator.generateUri().toString());
+        connector.add(Collections.singletonList(statement(another.getURI(), RDF.type.getURI(), TYPE_ONE)), null);
+        final Collection<Statement> result = connector.findWithInference(another, RDF.type, null,
+                Collections.emptySet());
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void findWithInferenceExcludesStatementsRemovedInTransaction() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        connector.remove(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE), null);
+        assertFalse(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE),
+                Collections.emptySet()));
+    }
+
+    @Test
+    void committedChangesAreIncrementallyAppliedToSharedInference() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        // Initialize the shared closure
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        final Resource another = createResource(Generator.generateUri().toString());
+        connector.add(Collections.singletonList(statement(another.getURI(), RDF.type.getURI(), TYPE_ONE)), null);
+        connector.commit();
+
+        connector.begin();
+        assertTrue(connector.containsWithInference(another, RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    void committedRemovalsAreAppliedToSharedInference() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        connector.remove(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE), null);
+        connector.commit();
+
+        connector.begin();
+        assertFalse(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    void sharedInferenceIsRecomputedAfterUntrackedChange() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        connector.commit();
+        final String another = Generator.generateUri().toString();
+        centralConnector.executeUpdate("INSERT DATA { <" + another + "> a <" + TYPE_ONE + "> . }",
+                StatementOntology.SHARED);
+
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(another), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    void isConsistentValidatesSharedInference() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.isConsistent(null));
+        assertTrue(connector.isConsistent(NAMED_GRAPH));
+    }
+
+    @Test
+    void closeStopsTrackingCentralChanges() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        connector.containsWithInference(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+        connector.rollback();
+        sharedInference.close();
+        centralConnector.begin();
+        centralConnector.add(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), null);
+        centralConnector.commit();
+        // The closure is recomputed on next access, as the instance no longer tracks changes
+        assertFalse(sharedInference.find(createResource(SUBJECT), RDF.type, null, null).isEmpty());
+    }
+
+    @Test
+    void isConsistentTakesChangesMadeInTransactionIntoAccount() throws Exception {
+        init(OWLFBRuleReasonerFactory.class.getName());
+        centralConnector.begin();
+        centralConnector.add(Arrays.asList(statement(TYPE_ONE, OWL.disjointWith.getURI(), TYPE_TWO),
+                statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), null);
+        centralConnector.commit();
+        connector.begin();
+        assertTrue(connector.isConsistent(null));
+        connector.add(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), null);
+        assertFalse(connector.isConsistent(null));
+    }
+
+    @Test
+    void sharedInferenceInitializationWaitsForRunningCentralTransactionToFinish() throws Exception {
+        generateTestData(null);
+        final String typeThree = Generator.generateUri().toString();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            centralConnector.begin();
+            centralConnector.add(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), typeThree)), null);
+            final Future<List<Statement>> result = executor.submit(
+                    () -> sharedInference.find(createResource(SUBJECT), RDF.type, null, null));
+            assertThrows(TimeoutException.class, () -> result.get(200, TimeUnit.MILLISECONDS));
+            centralConnector.commit();
+            assertTrue(result.get(5, TimeUnit.SECONDS).stream()
+                             .anyMatch(s -> s.getObject().equals(createResource(typeThree))));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
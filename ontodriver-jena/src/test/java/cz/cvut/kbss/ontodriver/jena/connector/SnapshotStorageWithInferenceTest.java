@@ -73,7 +73,9 @@ public class SnapshotStorageWithInferenceTest {
     private ReasonerFactory getReasonerFactory() throws Exception {
         final Field rfField = SnapshotStorageWithInference.class.getDeclaredField("reasonerFactory");
         rfField.setAccessible(true);
-        return (ReasonerFactory) rfField.get(storage);
+        final Field factoryField = ConfiguredReasonerFactory.class.getDeclaredField("reasonerFactory");
+        factoryField.setAccessible(true);
+        return (ReasonerFactory) factoryField.get(rfField.get(storage));
     }
 
     @Test
@@ -22,21 +22,32 @@ import cz.cvut.kbss.ontodriver.jena.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.jena.environment.Generator;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
 import cz.cvut.kbss.ontodriver.util.Vocabulary;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryFactory;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.syntax.syntaxtransform.QueryTransformOps;
+import org.apache.jena.update.UpdateRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -119,9 +130,11 @@ public class JenaPreparedStatementTest {
         this.statement = new JenaPreparedStatement(executor, update);
         final String value = "<" + Generator.generateUri() + ">";
         statement.setObject("type", value);
-        final String expected = update.replace("?type", value);
         statement.executeUpdate();
-        verify(executor).executeUpdate(eq(expected), eq(Statement.StatementOntology.TRANSACTIONAL));
+        final ArgumentCaptor<UpdateRequest> captor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(executor).executeUpdate(captor.capture(), eq(Statement.StatementOntology.TRANSACTIONAL));
+        assertThat(captor.getValue().toString(), containsString(value));
+        assertThat(captor.getValue().toString(), not(containsString("?type")));
     }
 
     @Test
@@ -154,4 +167,46 @@ public class JenaPreparedStatementTest {
         final IllegalStateException ex = assertThrows(IllegalStateException.class, () -> statement.clearParameters());
         assertThat(ex.getMessage(), containsString("Statement is closed"));
     }
+
+    @Test
+    void executeQuerySubstitutesNonStringParameterValuesIntoParsedQuery() throws Exception {
+        when(executor.executeSelectQuery(any(), any())).thenReturn(resultSet);
+        this.statement = new JenaPreparedStatement(executor, QUERY);
+        final URI property = URI.create(Vocabulary.RDF_TYPE);
+        statement.setObject("y", property);
+        statement.executeQuery();
+        final Query expected = QueryTransformOps.transform(QueryFactory.create(QUERY),
+                Map.of(Var.alloc("y"), NodeFactory.createURI(property.toString())));
+        verify(executor).executeSelectQuery(eq(expected), eq(Statement.StatementOntology.TRANSACTIONAL));
+    }
+
+    @Test
+    void executeQueryReusesParsedQueryWhenStatementStringDoesNotChange() throws Exception {
+        when(executor.executeSelectQuery(any(), any())).thenReturn(resultSet);
+        this.statement = new JenaPreparedStatement(executor, QUERY);
+        statement.executeQuery();
+        statement.executeQuery();
+        final ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(executor, times(2)).executeSelectQuery(captor.capture(), any());
+        assertSame(captor.getAllValues().get(0), captor.getAllValues().get(1));
+    }
+
+    @Test
+    void executeUpdateSubstitutesNonStringParameterValues() throws Exception {
+        final String update = "INSERT { ?x <" + Vocabulary.RDF_TYPE + "> ?type . } WHERE { ?x ?y ?z . }";
+        this.statement = new JenaPreparedStatement(executor, update);
+        final URI type = Generator.generateUri();
+        statement.setObject("type", type);
+        statement.executeUpdate();
+        final ArgumentCaptor<UpdateRequest> captor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(executor).executeUpdate(captor.capture(), eq(Statement.StatementOntology.TRANSACTIONAL));
+        assertThat(captor.getValue().toString(), containsString("<" + type + ">"));
+        assertThat(captor.getValue().toString(), not(containsString("?type")));
+    }
+
+    @Test
+    void setObjectThrowsIllegalArgumentExceptionForUnknownNativeBinding() {
+        this.statement = new JenaPreparedStatement(executor, QUERY);
+        assertThrows(IllegalArgumentException.class, () -> statement.setObject("unknown", 117));
+    }
 }
@@ -20,6 +20,7 @@ package cz.cvut.kbss.ontodriver.jena.util;
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
 import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
 import cz.cvut.kbss.ontodriver.jena.environment.Generator;
+import cz.cvut.kbss.ontodriver.util.TimeOrderedUuidGenerationStrategy;
 import cz.cvut.kbss.ontodriver.util.Vocabulary;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +34,7 @@ import java.util.Collections;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -74,4 +76,12 @@ public class IdentifierGeneratorTest {
         when(connectorMock.contains(any(), any(), any(), any())).thenReturn(true);
         assertThrows(IdentifierGenerationException.class, () -> generator.generateIdentifier(TYPE_URI));
     }
+
+    @Test
+    public void generateIdentifierDoesNotCheckExistenceWhenStrategyGeneratesUniqueIdentifiers() {
+        this.generator = new IdentifierGenerator(connectorMock, new TimeOrderedUuidGenerationStrategy());
+        final URI result = generator.generateIdentifier(TYPE_URI);
+        assertTrue(result.toString().contains(TYPE_URI.toString()));
+        verify(connectorMock, never()).contains(any(), any(), any(), anySet());
+    }
 }
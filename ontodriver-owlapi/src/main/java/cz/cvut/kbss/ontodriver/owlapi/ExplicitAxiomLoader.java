@@ -33,7 +33,8 @@ class ExplicitAxiomLoader implements AxiomLoader {
 
     private static final Assertion UNSPECIFIED_ASSERTION = Assertion.createUnspecifiedPropertyAssertion(false);
 
-    private final OWLOntology ontology;
+    // Imports closure of the ontology, resolved once for all the subjects loaded by this loader
+    private final List<OWLOntology> importsClosure;
     private final OWLDataFactory dataFactory;
 
     private final OwlapiAdapter adapter;
@@ -43,7 +44,7 @@ class ExplicitAxiomLoader implements AxiomLoader {
 
     ExplicitAxiomLoader(OwlapiAdapter adapter, OntologySnapshot snapshot) {
         this.adapter = adapter;
-        this.ontology = snapshot.getOntology();
+        this.importsClosure = snapshot.getOntology().importsClosure().toList();
         this.dataFactory = snapshot.getDataFactory();
         this.axiomAdapter = new AxiomAdapter(dataFactory);
     }
@@ -66,7 +67,7 @@ class ExplicitAxiomLoader implements AxiomLoader {
     private Collection<Axiom<?>> loadDataPropertyAxioms(OWLNamedIndividual individual, NamedResource subject,
                                                         boolean loadAll) {
         final Collection<Axiom<?>> axioms = new ArrayList<>();
-        EntitySearcher.getDataPropertyValues(individual, ontology.importsClosure()).forEach((dp, value) -> {
+        EntitySearcher.getDataPropertyValues(individual, importsClosure.stream()).forEach((dp, value) -> {
             if (loadAll || shouldLoadDataPropertyValue(dp, value)) {
                 axioms.add(axiomAdapter.toAxiom(subject, dp, value));
             }
@@ -97,7 +98,7 @@ class ExplicitAxiomLoader implements AxiomLoader {
 
     private Collection<Axiom<?>> loadObjectPropertyAxioms(OWLNamedIndividual individual, NamedResource subject, boolean loadAll) {
         final Collection<Axiom<?>> axioms = new ArrayList<>();
-        EntitySearcher.getObjectPropertyValues(individual, ontology.importsClosure())
+        EntitySearcher.getObjectPropertyValues(individual, importsClosure.stream())
                       .forEach((op, value) -> {
                           if (loadAll || doesPropertyExist(op.getNamedProperty().getIRI())) {
                               axioms.add(axiomAdapter.toAxiom(subject, op, value));
@@ -108,7 +109,7 @@ class ExplicitAxiomLoader implements AxiomLoader {
 
     private Collection<Axiom<?>> loadAnnotationPropertyAxioms(OWLNamedIndividual individual, NamedResource subject,
                                                               boolean loadAll) {
-        return ontology.importsClosure().flatMap(
+        return importsClosure.stream().flatMap(
                 onto -> EntitySearcher.getAnnotationAssertionAxioms(individual.getIRI(), onto)
                                       .filter(a -> loadAll || shouldLoadAnnotationPropertyValue(a)))
                        .map(axiom -> axiomAdapter.toAxiom(subject, axiom)).collect(
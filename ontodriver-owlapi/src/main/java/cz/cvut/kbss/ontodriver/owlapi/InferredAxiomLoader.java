@@ -18,6 +18,7 @@
 package cz.cvut.kbss.ontodriver.owlapi;
 
 import cz.cvut.kbss.ontodriver.model.*;
+import cz.cvut.kbss.ontodriver.owlapi.connector.InferredAssertionIndex;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
 import cz.cvut.kbss.ontodriver.owlapi.exception.ReasonerNotAvailableException;
 import cz.cvut.kbss.ontodriver.owlapi.util.OwlapiUtils;
@@ -33,17 +34,22 @@ public class InferredAxiomLoader implements AxiomLoader {
     private final OWLReasoner reasoner;
     private final OWLOntology ontology;
     private final OWLDataFactory dataFactory;
+    // Materialized inferred assertions, null if not available
+    private final InferredAssertionIndex index;
 
     private final OwlapiAdapter adapter;
     private final AxiomAdapter axiomAdapter;
 
     private NamedResource subject;
+    // Whether the reasoner has been flushed, it is sufficient to do it once for all the subjects loaded by this loader
+    private boolean flushed;
 
     InferredAxiomLoader(OwlapiAdapter adapter, OntologySnapshot snapshot) {
         this.adapter = adapter;
         this.reasoner = snapshot.getReasoner();
         this.ontology = snapshot.getOntology();
         this.dataFactory = snapshot.getDataFactory();
+        this.index = snapshot.getInferredAssertionIndex().orElse(null);
         this.axiomAdapter = new AxiomAdapter(snapshot.getDataFactory());
     }
 
@@ -56,7 +62,10 @@ public class InferredAxiomLoader implements AxiomLoader {
         if (reasoner == null) {
             throw new ReasonerNotAvailableException();
         }
-        reasoner.flush();
+        if (index == null && !flushed) {
+            reasoner.flush();
+            this.flushed = true;
+        }
         final OWLNamedIndividual individual = OwlapiUtils.getIndividual(subject, dataFactory);
         final Collection<Axiom<?>> axioms = new HashSet<>();
         for (Assertion a : assertions) {
@@ -84,7 +93,9 @@ public class InferredAxiomLoader implements AxiomLoader {
     }
 
     private Collection<Axiom<?>> inferDataPropertyValues(OWLNamedIndividual individual, Assertion dpAssertion) {
-        final Set<OWLLiteral> literals = reasoner.getDataPropertyValues(individual, dataProperty(dpAssertion));
+        final OWLDataProperty property = dataProperty(dpAssertion);
+        final Set<OWLLiteral> literals = index != null ? index.getDataPropertyValues(individual, property) :
+                                         reasoner.getDataPropertyValues(individual, property);
         return literals.stream().filter(lit -> OwlapiUtils.doesLanguageMatch(lit, dpAssertion))
                        .map(owlLiteral -> new AxiomImpl<>(subject, dpAssertion,
                                new Value<>(OwlapiUtils.owlLiteralToValue(owlLiteral)))).collect(Collectors.toSet());
@@ -95,8 +106,10 @@ public class InferredAxiomLoader implements AxiomLoader {
     }
 
     private Collection<Axiom<?>> inferObjectPropertyValues(OWLNamedIndividual individual, Assertion opAssertion) {
+        final OWLObjectProperty property = objectProperty(opAssertion);
         final Stream<OWLNamedIndividual> individuals =
-                reasoner.getObjectPropertyValues(individual, objectProperty(opAssertion)).entities();
+                index != null ? index.getObjectPropertyValues(individual, property).stream() :
+                reasoner.getObjectPropertyValues(individual, property).entities();
         return individuals.map(
                 target -> axiomAdapter.createAxiom(subject, opAssertion, NamedResource.create(target.getIRI().toURI())))
                           .collect(
@@ -111,6 +124,10 @@ public class InferredAxiomLoader implements AxiomLoader {
     public Collection<Axiom<?>> loadPropertyAxioms(NamedResource subject) {
         final Collection<Axiom<?>> axioms = new ArrayList<>();
         final OWLNamedIndividual individual = OwlapiUtils.getIndividual(subject, dataFactory);
+        if (index != null) {
+            loadIndexedPropertyAxioms(subject, individual, axioms);
+            return axioms;
+        }
         ontology.dataPropertiesInSignature().forEach(dp -> {
             final Set<OWLLiteral> values = reasoner.getDataPropertyValues(individual, dp);
             for (OWLLiteral literal : values) {
@@ -126,4 +143,17 @@ public class InferredAxiomLoader implements AxiomLoader {
         });
         return axioms;
     }
+
+    private void loadIndexedPropertyAxioms(NamedResource subject, OWLNamedIndividual individual,
+                                           Collection<Axiom<?>> axioms) {
+        index.getDataPropertyValues(individual).forEach((dp, values) -> {
+            final Assertion dpAss = Assertion.createDataPropertyAssertion(dp.getIRI().toURI(), true);
+            values.forEach(literal -> axioms.add(axiomAdapter.createAxiom(subject, dpAss, literal)));
+        });
+        index.getObjectPropertyValues(individual).forEach((op, values) -> {
+            final Assertion opAss = Assertion.createObjectPropertyAssertion(op.getIRI().toURI(), true);
+            values.forEach(ind -> axioms
+                    .add(axiomAdapter.createAxiom(subject, opAss, NamedResource.create(ind.getIRI().toURI()))));
+        });
+    }
 }
@@ -36,6 +36,9 @@ class MainAxiomLoader {
 
     private final OWLOntology ontology;
 
+    private ExplicitAxiomLoader explicitLoader;
+    private InferredAxiomLoader inferredLoader;
+
     private final Set<URI> inferredAssertionUris = new HashSet<>();
     private final Set<Assertion> inferredAssertions = new HashSet<>();
     private final Set<Assertion> explicitAssertions = new HashSet<>();
@@ -51,6 +54,9 @@ class MainAxiomLoader {
         if (!ontology.containsIndividualInSignature(IRI.create(subject.getIdentifier()))) {
             return Collections.emptySet();
         }
+        inferredAssertionUris.clear();
+        inferredAssertions.clear();
+        explicitAssertions.clear();
         resolveInferredAssertions(descriptor);
 
         final Collection<Axiom<?>> result = new ArrayList<>(loadInferredValues(subject));
@@ -58,6 +64,23 @@ class MainAxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms for all the specified descriptors.
+     * <p>
+     * The loaders (and thus the ontology imports closure and the reasoner state they work with) are shared by all the
+     * descriptors.
+     *
+     * @param descriptors Descriptors of axioms to load
+     * @return Map of subjects to loaded axioms
+     */
+    Map<NamedResource, Collection<Axiom<?>>> findAxioms(Collection<AxiomDescriptor> descriptors) {
+        final Map<NamedResource, Collection<Axiom<?>>> result = new HashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.put(descriptor.getSubject(), findAxioms(descriptor));
+        }
+        return result;
+    }
+
     private void resolveInferredAssertions(AxiomDescriptor descriptor) {
         descriptor.getAssertions().forEach(assertion -> {
             if (assertion.isInferred()) {
@@ -73,15 +96,20 @@ class MainAxiomLoader {
         if (inferredAssertions.isEmpty()) {
             return Collections.emptySet();
         }
-        return new InferredAxiomLoader(adapter, snapshot).loadAxioms(subject, inferredAssertions);
+        if (inferredLoader == null) {
+            this.inferredLoader = new InferredAxiomLoader(adapter, snapshot);
+        }
+        return inferredLoader.loadAxioms(subject, inferredAssertions);
     }
 
     private Collection<Axiom<?>> loadExplicitValues(NamedResource subject) {
         if (explicitAssertions.isEmpty()) {
             return Collections.emptySet();
         }
-        final Collection<Axiom<?>> values = new ExplicitAxiomLoader(adapter, snapshot)
-                .loadAxioms(subject, explicitAssertions);
+        if (explicitLoader == null) {
+            this.explicitLoader = new ExplicitAxiomLoader(adapter, snapshot);
+        }
+        final Collection<Axiom<?>> values = explicitLoader.loadAxioms(subject, explicitAssertions);
         return values.stream().filter(axiom -> !inferredAssertionUris.contains(axiom.getAssertion().getIdentifier()))
                      .collect(Collectors.toList());
     }
@@ -20,6 +20,7 @@ package cz.cvut.kbss.ontodriver.owlapi;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
 import cz.cvut.kbss.ontodriver.owlapi.connector.Connector;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
@@ -29,8 +30,11 @@ import cz.cvut.kbss.ontodriver.owlapi.list.ReferencedListHandler;
 import cz.cvut.kbss.ontodriver.owlapi.list.SimpleListHandler;
 import cz.cvut.kbss.ontodriver.owlapi.query.OwlapiPreparedStatement;
 import cz.cvut.kbss.ontodriver.owlapi.query.OwlapiStatement;
+import cz.cvut.kbss.ontodriver.owlapi.query.QueryResultCache;
 import cz.cvut.kbss.ontodriver.owlapi.query.StatementExecutorFactory;
 import cz.cvut.kbss.ontodriver.owlapi.util.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.RandomIdentifierGenerationStrategy;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -41,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -49,7 +54,11 @@ import java.util.Set;
 public class OwlapiAdapter {
 
     private final Connector connector;
+    private final IdentifierGenerationStrategy identifierGenerationStrategy;
+    private final QueryResultCache queryResultCache;
     private OntologySnapshot ontologySnapshot;
+    // Whether the transaction uses a private modifiable snapshot instead of the shared read-only one
+    private boolean writableSnapshot;
 
     private StatementExecutorFactory statementExecutorFactory;
 
@@ -61,14 +70,44 @@ public class OwlapiAdapter {
     }
 
     public OwlapiAdapter(Connector connector) {
+        this(connector, new RandomIdentifierGenerationStrategy());
+    }
+
+    public OwlapiAdapter(Connector connector, IdentifierGenerationStrategy identifierGenerationStrategy) {
+        this(connector, identifierGenerationStrategy, QueryResultCache.disabled());
+    }
+
+    public OwlapiAdapter(Connector connector, IdentifierGenerationStrategy identifierGenerationStrategy,
+                         QueryResultCache queryResultCache) {
         this.connector = connector;
+        this.identifierGenerationStrategy = identifierGenerationStrategy;
+        this.queryResultCache = queryResultCache;
     }
 
     private void startTransactionIfNotActive() {
         if (transactionState == TransactionState.INITIAL) {
-            this.ontologySnapshot = connector.getOntologySnapshot();
+            this.ontologySnapshot = connector.getSharedSnapshot();
+            this.writableSnapshot = false;
             this.transactionState = TransactionState.RUNNING;
-            this.statementExecutorFactory = new StatementExecutorFactory(ontologySnapshot, connector);
+            this.statementExecutorFactory =
+                    new StatementExecutorFactory(() -> ontologySnapshot, connector, queryResultCache);
+        }
+    }
+
+    /**
+     * Ensures the transaction works with a modifiable ontology snapshot.
+     * <p>
+     * A transaction starts with a read-only snapshot shared with other transactions. A private copy of it is created
+     * only when the transaction is about to modify the ontology, so read-only transactions do not copy the ontology at
+     * all.
+     */
+    private void startUpdateIfNotActive() {
+        startTransactionIfNotActive();
+        if (!writableSnapshot) {
+            final OntologySnapshot shared = ontologySnapshot;
+            this.ontologySnapshot = connector.getOntologySnapshot(shared);
+            this.writableSnapshot = true;
+            connector.closeSnapshot(shared);
         }
     }
 
@@ -86,6 +125,7 @@ public class OwlapiAdapter {
     private void transactionCleanup() {
         connector.closeSnapshot(ontologySnapshot);
         this.ontologySnapshot = null;
+        this.writableSnapshot = false;
         this.transactionState = TransactionState.INITIAL;
     }
 
@@ -128,7 +168,7 @@ public class OwlapiAdapter {
         boolean contains;
         for (OWLAxiom ax : owlAxiom) {
             if (axiom.getAssertion().isInferred()) {
-                contains = reasoner().isEntailed(ax);
+                contains = isEntailed(ax);
             } else {
                 contains = ontology().containsAxiom(ax);
             }
@@ -143,7 +183,12 @@ public class OwlapiAdapter {
         startTransactionIfNotActive();
         final Collection<OWLAxiom> owlAxiom = asOwlAxioms(axiom);
         reasoner().flush();
-        return owlAxiom.stream().anyMatch(a -> reasoner().isEntailed(a) && !ontology().containsAxiom(a));
+        return owlAxiom.stream().anyMatch(a -> isEntailed(a) && !ontology().containsAxiom(a));
+    }
+
+    private boolean isEntailed(OWLAxiom axiom) {
+        return ontologySnapshot.getInferredAssertionIndex().map(index -> index.isEntailed(axiom))
+                               .orElseGet(() -> reasoner().isEntailed(axiom));
     }
 
     private Collection<OWLAxiom> asOwlAxioms(Axiom<?> axiom) {
@@ -177,24 +222,32 @@ public class OwlapiAdapter {
         return new MainAxiomLoader(this, ontologySnapshot).findAxioms(descriptor);
     }
 
-    public void persist(AxiomValueDescriptor descriptor) {
+    public Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors) {
         startTransactionIfNotActive();
+        return new MainAxiomLoader(this, ontologySnapshot).findAxioms(descriptors);
+    }
+
+    public void persist(AxiomValueDescriptor descriptor) {
+        startUpdateIfNotActive();
         new AxiomSaver(this, ontologySnapshot).persist(descriptor);
     }
 
     public URI generateIdentifier(URI classUri) {
+        if (identifierGenerationStrategy.generatesUniqueIdentifiers()) {
+            return identifierGenerationStrategy.generateIdentifier(classUri);
+        }
         startTransactionIfNotActive();
-        return new IdentifierGenerator(ontology()).generateIdentifier(classUri);
+        return new IdentifierGenerator(ontology(), identifierGenerationStrategy).generateIdentifier(classUri);
     }
 
     public void update(AxiomValueDescriptor descriptor) {
-        startTransactionIfNotActive();
+        startUpdateIfNotActive();
         new EpistemicAxiomRemover(this, ontologySnapshot).remove(descriptor);
         new AxiomSaver(this, ontologySnapshot).persist(descriptor);
     }
 
     public void remove(AxiomDescriptor descriptor) {
-        startTransactionIfNotActive();
+        startUpdateIfNotActive();
         new EpistemicAxiomRemover(this, ontologySnapshot).remove(descriptor);
     }
 
@@ -203,11 +256,21 @@ public class OwlapiAdapter {
         return new TypesHandler(this, ontologySnapshot);
     }
 
+    TypesHandler getTypesHandlerForUpdate() {
+        startUpdateIfNotActive();
+        return new TypesHandler(this, ontologySnapshot);
+    }
+
     PropertiesHandler getPropertiesHandler() {
         startTransactionIfNotActive();
         return new PropertiesHandler(this, ontologySnapshot);
     }
 
+    PropertiesHandler getPropertiesHandlerForUpdate() {
+        startUpdateIfNotActive();
+        return new PropertiesHandler(this, ontologySnapshot);
+    }
+
     public void addTransactionalChanges(Collection<TransactionalChange> changes) {
         pendingChanges.removeIf(tc -> changes.stream().anyMatch(toAdd -> toAdd.overrides(tc)));
         pendingChanges.addAll(changes);
@@ -218,16 +281,31 @@ public class OwlapiAdapter {
         return new SimpleListHandler(this, ontologySnapshot);
     }
 
+    public SimpleListHandler getSimpleListHandlerForUpdate() {
+        startUpdateIfNotActive();
+        return new SimpleListHandler(this, ontologySnapshot);
+    }
+
     public ReferencedListHandler getReferencedListHandler() {
         startTransactionIfNotActive();
         return new ReferencedListHandler(this, ontologySnapshot);
     }
 
+    public ReferencedListHandler getReferencedListHandlerForUpdate() {
+        startUpdateIfNotActive();
+        return new ReferencedListHandler(this, ontologySnapshot);
+    }
+
     public ContainerHandler getContainerHandler() {
         startTransactionIfNotActive();
         return new ContainerHandler(this, ontologySnapshot);
     }
 
+    public ContainerHandler getContainerHandlerForUpdate() {
+        startUpdateIfNotActive();
+        return new ContainerHandler(this, ontologySnapshot);
+    }
+
     public OwlapiStatement createStatement(OwlapiConnection connection) {
         startTransactionIfNotActive();
         return new OwlapiStatement(statementExecutorFactory, connection);
@@ -243,8 +321,11 @@ public class OwlapiAdapter {
         if (cls.isAssignableFrom(this.getClass())) {
             return cls.cast(this);
         } else if (cls.isAssignableFrom(OWLOntology.class)) {
+            // The unwrapped ontology may be modified, so it cannot be the shared snapshot
+            startUpdateIfNotActive();
             return cls.cast(ontology());
         } else if (cls.isAssignableFrom(OWLReasoner.class)) {
+            startUpdateIfNotActive();
             return cls.cast(reasoner());
         }
         throw new OwlapiDriverException("Unsupported type " + cls);
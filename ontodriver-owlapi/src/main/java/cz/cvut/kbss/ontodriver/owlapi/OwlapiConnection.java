@@ -28,12 +28,14 @@ import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OwlapiDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.list.OwlapiLists;
 
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -168,6 +170,18 @@ public class OwlapiConnection implements Connection {
         }
     }
 
+    @Override
+    public Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws OntoDriverException {
+        ensureOpen();
+        Objects.requireNonNull(descriptors);
+        try {
+            return adapter.findAll(descriptors);
+        } catch (RuntimeException e) {
+            throw new OwlapiDriverException(e);
+        }
+    }
+
     @Override
     public void persist(AxiomValueDescriptor descriptor) throws OntoDriverException {
         ensureOpen();
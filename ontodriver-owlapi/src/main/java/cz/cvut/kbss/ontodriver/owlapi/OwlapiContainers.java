@@ -30,14 +30,14 @@ public class OwlapiContainers implements Containers {
     @Override
     public <T> void persistContainer(ContainerValueDescriptor<T> descriptor) throws OntoDriverException {
         beforeCallback.execute();
-        adapter.getContainerHandler().persistContainer(descriptor);
+        adapter.getContainerHandlerForUpdate().persistContainer(descriptor);
         afterChangeCallback.execute();
     }
 
     @Override
     public <T> void updateContainer(ContainerValueDescriptor<T> descriptor) throws OntoDriverException {
         beforeCallback.execute();
-        adapter.getContainerHandler().updateContainer(descriptor);
+        adapter.getContainerHandlerForUpdate().updateContainer(descriptor);
         afterChangeCallback.execute();
     }
 }
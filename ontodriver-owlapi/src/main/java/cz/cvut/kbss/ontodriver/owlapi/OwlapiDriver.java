@@ -25,9 +25,13 @@ import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.config.ConfigurationParameter;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
+import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiOntoDriverProperties;
 import cz.cvut.kbss.ontodriver.owlapi.connector.ConnectorFactory;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OwlapiDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.list.OwlapiLists;
+import cz.cvut.kbss.ontodriver.owlapi.query.QueryResultCache;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
 
 import java.util.*;
 
@@ -37,18 +41,27 @@ class OwlapiDriver implements Closeable, ConnectionListener {
             .asList(DriverConfigParam.AUTO_COMMIT, DriverConfigParam.MODULE_EXTRACTION_SIGNATURE,
                     DriverConfigParam.REASONER_FACTORY_CLASS,
                     OwlapiConfigParam.IRI_MAPPING_DELIMITER, OwlapiConfigParam.MAPPING_FILE_LOCATION,
-                    OwlapiConfigParam.WRITE_ON_COMMIT);
+                    OwlapiConfigParam.WRITE_ON_COMMIT, OwlapiConfigParam.JOURNAL,
+                    OwlapiConfigParam.JOURNAL_COMPACTION_THRESHOLD, DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY,
+                    DriverConfigParam.IDENTIFIER_GENERATION_NODE_ID, OwlapiConfigParam.MATERIALIZE_INFERENCE,
+                    OwlapiConfigParam.QUERY_RESULT_CACHE_CAPACITY);
 
     private final DriverConfiguration configuration;
     private volatile boolean open = true;
 
     private final ConnectorFactory connectorFactory;
+    private final IdentifierGenerationStrategy identifierGenerationStrategy;
+    private final QueryResultCache queryResultCache;
     private final Set<OwlapiConnection> openConnections = new HashSet<>();
 
     OwlapiDriver(OntologyStorageProperties storageProperties, Map<String, String> properties) {
         this.configuration = new DriverConfiguration(storageProperties);
         configuration.addConfiguration(properties, CONFIGS);
         this.connectorFactory = ConnectorFactory.createFactory();
+        this.identifierGenerationStrategy = IdentifierUtils.createGenerationStrategy(configuration);
+        this.queryResultCache = new QueryResultCache(
+                configuration.getProperty(OwlapiConfigParam.QUERY_RESULT_CACHE_CAPACITY,
+                        OwlapiOntoDriverProperties.DEFAULT_QUERY_RESULT_CACHE_CAPACITY));
     }
 
     @Override
@@ -75,7 +88,8 @@ class OwlapiDriver implements Closeable, ConnectionListener {
 
     Connection acquireConnection() throws OntoDriverException {
         assert open;
-        final OwlapiAdapter adapter = new OwlapiAdapter(connectorFactory.getConnector(configuration));
+        final OwlapiAdapter adapter = new OwlapiAdapter(connectorFactory.getConnector(configuration),
+                identifierGenerationStrategy, queryResultCache);
         final OwlapiConnection c = new OwlapiConnection(adapter);
         c.setTypes(new OwlapiTypes(adapter, c::ensureOpen, c::commitIfAuto));
         c.setProperties(new OwlapiProperties(adapter, c::ensureOpen, c::commitIfAuto));
@@ -58,7 +58,7 @@ public class OwlapiProperties implements Properties {
             throws OntoDriverException {
         ensureValidity(individual, properties);
         if (!properties.isEmpty()) {
-            adapter.getPropertiesHandler().addProperties(individual, properties);
+            adapter.getPropertiesHandlerForUpdate().addProperties(individual, properties);
         }
         afterChangeCallback.execute();
     }
@@ -75,7 +75,7 @@ public class OwlapiProperties implements Properties {
             throws OntoDriverException {
         ensureValidity(individual, properties);
         if (!properties.isEmpty()) {
-            adapter.getPropertiesHandler().removeProperties(individual, properties);
+            adapter.getPropertiesHandlerForUpdate().removeProperties(individual, properties);
         }
         afterChangeCallback.execute();
     }
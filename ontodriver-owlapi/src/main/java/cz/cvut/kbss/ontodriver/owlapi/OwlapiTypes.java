@@ -54,7 +54,7 @@ public class OwlapiTypes implements Types {
     public void addTypes(NamedResource individual, URI context, Set<URI> types) throws OntoDriverException {
         ensureValidity(individual, types);
         if (!types.isEmpty()) {
-            adapter.getTypesHandler().addTypes(individual, context, types);
+            adapter.getTypesHandlerForUpdate().addTypes(individual, context, types);
         }
         afterChangeCallback.execute();
     }
@@ -69,7 +69,7 @@ public class OwlapiTypes implements Types {
     public void removeTypes(NamedResource individual, URI context, Set<URI> types) throws OntoDriverException {
         ensureValidity(individual, types);
         if (!types.isEmpty()) {
-            adapter.getTypesHandler().removeTypes(individual, context, types);
+            adapter.getTypesHandlerForUpdate().removeTypes(individual, context, types);
         }
         afterChangeCallback.execute();
     }
@@ -77,7 +77,8 @@ class TypesHandler {
 
     private Collection<? extends OWLClassExpression> inferClasses(NamedResource subject) {
         final OWLNamedIndividual individual = getIndividual(subject);
-        return reasoner.getTypes(individual, false).entities().collect(Collectors.toSet());
+        return snapshot.getInferredAssertionIndex().<Collection<OWLClass>>map(index -> index.getTypes(individual))
+                       .orElseGet(() -> reasoner.getTypes(individual, false).entities().collect(Collectors.toSet()));
     }
 
     void addTypes(NamedResource subject, URI context, Set<URI> types) {
@@ -26,7 +26,11 @@ public enum OwlapiConfigParam implements ConfigurationParameter {
 
     MAPPING_FILE_LOCATION(OwlapiOntoDriverProperties.MAPPING_FILE_LOCATION),
     IRI_MAPPING_DELIMITER(OwlapiOntoDriverProperties.IRI_MAPPING_DELIMITER),
-    WRITE_ON_COMMIT(OwlapiOntoDriverProperties.WRITE_ON_COMMIT);
+    WRITE_ON_COMMIT(OwlapiOntoDriverProperties.WRITE_ON_COMMIT),
+    JOURNAL(OwlapiOntoDriverProperties.JOURNAL),
+    JOURNAL_COMPACTION_THRESHOLD(OwlapiOntoDriverProperties.JOURNAL_COMPACTION_THRESHOLD),
+    MATERIALIZE_INFERENCE(OwlapiOntoDriverProperties.MATERIALIZE_INFERENCE),
+    QUERY_RESULT_CACHE_CAPACITY(OwlapiOntoDriverProperties.QUERY_RESULT_CACHE_CAPACITY);
 
     private final String name;
 
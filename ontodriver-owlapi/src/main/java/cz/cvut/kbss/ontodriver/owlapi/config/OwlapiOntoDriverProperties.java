@@ -39,6 +39,49 @@ public abstract class OwlapiOntoDriverProperties {
      */
     public static final String WRITE_ON_COMMIT = "cz.cvut.kbss.ontodriver.owlapi.writeOnCommit";
 
+    /**
+     * When set to true, changes committed into the ontology are appended to a journal file instead of saving the whole
+     * ontology into its file after each commit.
+     * <p>
+     * The journal is stored next to the ontology file and it is replayed when the ontology is loaded. The ontology is
+     * saved and the journal cleared when the journal reaches {@link #JOURNAL_COMPACTION_THRESHOLD} transactions and
+     * when the driver is closed.
+     */
+    public static final String JOURNAL = "cz.cvut.kbss.ontodriver.owlapi.journal";
+
+    /**
+     * Number of transactions recorded in the journal after which the ontology is saved into its file and the journal
+     * cleared.
+     *
+     * @see #JOURNAL
+     * @see #DEFAULT_JOURNAL_COMPACTION_THRESHOLD
+     */
+    public static final String JOURNAL_COMPACTION_THRESHOLD = "cz.cvut.kbss.ontodriver.owlapi.journalCompactionThreshold";
+
+    /**
+     * When set to true, inferred class and property assertions are materialized into an index, which is then used to
+     * load inferred values instead of querying the reasoner.
+     * <p>
+     * Inferred assertions of an individual are computed when the individual is first read and are kept for the
+     * committed version of the ontology. The index is shared by all transactions which do not modify the ontology and
+     * starts empty after each commit. Transactions with their own changes query the
+     * reasoner directly. Materialization pays off for read-heavy workloads with frequent loading of inferred values.
+     * <p>
+     * Requires a reasoner. Defaults to {@code false}.
+     */
+    public static final String MATERIALIZE_INFERENCE = "cz.cvut.kbss.ontodriver.owlapi.materializeInference";
+
+    /**
+     * Maximum number of query results kept in the query result cache.
+     * <p>
+     * Results of SPARQL-DL queries are cached by query string (including bound parameters), inference flag and version
+     * of the ontology, which changes on every commit. Queries evaluated against an ontology snapshot with uncommitted
+     * changes of the current transaction are not cached.
+     * <p>
+     * Defaults to {@link #DEFAULT_QUERY_RESULT_CACHE_CAPACITY}, i.e., the cache is disabled.
+     */
+    public static final String QUERY_RESULT_CACHE_CAPACITY = "cz.cvut.kbss.ontodriver.owlapi.queryResultCacheCapacity";
+
     /**
      * Default IRI mapping delimiter.
      *
@@ -46,6 +89,20 @@ public abstract class OwlapiOntoDriverProperties {
      */
     public static final String DEFAULT_IRI_MAPPING_DELIMITER = ">";
 
+    /**
+     * Default journal compaction threshold.
+     *
+     * @see #JOURNAL_COMPACTION_THRESHOLD
+     */
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 100;
+
+    /**
+     * Default capacity of the query result cache.
+     *
+     * @see #QUERY_RESULT_CACHE_CAPACITY
+     */
+    public static final int DEFAULT_QUERY_RESULT_CACHE_CAPACITY = 0;
+
     private OwlapiOntoDriverProperties() {
         throw new AssertionError();
     }
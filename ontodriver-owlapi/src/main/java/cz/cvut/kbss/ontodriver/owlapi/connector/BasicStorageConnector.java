@@ -23,6 +23,7 @@ import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
 import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
+import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiOntoDriverProperties;
 import cz.cvut.kbss.ontodriver.owlapi.exception.InvalidOntologyIriException;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OntologySnapshotException;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OntologyStorageException;
@@ -33,6 +34,7 @@ import cz.cvut.kbss.ontodriver.owlapi.util.MappingFileParser;
 import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
@@ -45,10 +47,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
@@ -61,6 +69,13 @@ import java.util.stream.Collectors;
  * Each call to {@link #getOntologySnapshot()} returns a new snapshot of the current state of the ontology. The changes
  * are the applied to a shared ontology, which represents the current state of the underlying storage.
  * <p>
+ * To avoid copying the whole ontology for every transaction, {@link #getSharedSnapshot()} returns a read-only snapshot
+ * which is created once per version of the live ontology and shared by all transactions started at that version. A
+ * shared snapshot is discarded when the live ontology changes and no transaction uses it anymore.
+ * <p>
+ * Reasoners of the live ontology and of shared snapshots may be used by multiple threads concurrently. Since reasoners
+ * are generally not thread-safe, access to them is serialized (see {@link SynchronizedReasoner}).
+ * <p>
  * Note: This connector currently does not handle concurrent updates.
  */
 public class BasicStorageConnector extends AbstractConnector {
@@ -78,6 +93,15 @@ public class BasicStorageConnector extends AbstractConnector {
 
     private OWLOntologyIRIMapper iriMapper;
 
+    private OntologyChangeJournal journal;
+    private int journalCompactionThreshold;
+
+    // Read-only snapshot of the current version of the live ontology, guarded by this
+    private SharedSnapshot sharedSnapshot;
+
+    // Version of the live ontology, changed under the write lock whenever the ontology is modified
+    private long version;
+
     BasicStorageConnector(DriverConfiguration configuration) throws OwlapiDriverException {
         super(configuration);
     }
@@ -91,11 +115,13 @@ public class BasicStorageConnector extends AbstractConnector {
         LOG.debug("Loading ontology {} from {}.", storageProperties.getOntologyURI(),
                 storageProperties.getPhysicalURI());
         resolveIriMapper();
+        resolveJournal();
         this.ontologyManager = OWLManager.createOWLOntologyManager();
         setIriMapper(ontologyManager);
         loadOntology(storageProperties);
+        replayJournal();
         initializeReasonerFactory();
-        this.reasoner = getReasoner(ontology);
+        this.reasoner = getSharedReasoner(ontology);
     }
 
     private void resolveIriMapper() {
@@ -104,6 +130,27 @@ public class BasicStorageConnector extends AbstractConnector {
         }
     }
 
+    private void resolveJournal() {
+        if (!configuration.is(OwlapiConfigParam.JOURNAL)) {
+            return;
+        }
+        final URI physicalUri = configuration.getStorageProperties().getPhysicalURI();
+        if (!"file".equals(physicalUri.getScheme())) {
+            LOG.warn("Ontology journal is supported only for ontologies stored in local files, not for {}.",
+                    physicalUri);
+            return;
+        }
+        this.journal = new OntologyChangeJournal(Paths.get(physicalUri));
+        this.journalCompactionThreshold = configuration.getProperty(OwlapiConfigParam.JOURNAL_COMPACTION_THRESHOLD,
+                OwlapiOntoDriverProperties.DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+    }
+
+    private void replayJournal() {
+        if (journal != null) {
+            journal.replay(ontology);
+        }
+    }
+
     private void setIriMapper(OWLOntologyManager manager) {
         if (iriMapper != null) {
             manager.getIRIMappers().add(new DefaultOntologyIriMapper(new MappingFileParser(configuration)));
@@ -176,27 +223,78 @@ public class BasicStorageConnector extends AbstractConnector {
     public OntologySnapshot getOntologySnapshot() {
         ensureOpen();
         READ.lock();
+        try {
+            return createSnapshot(ontology, this::getReasoner);
+        } finally {
+            READ.unlock();
+        }
+    }
+
+    private OntologySnapshot createSnapshot(OWLOntology source, Function<OWLOntology, OWLReasoner> reasonerProvider) {
         try {
             final OWLOntology snapshot = ontologyManager.createOntology();
-            cloneOntologyContent(snapshot);
+            cloneOntologyContent(source, snapshot);
             return new OntologySnapshot(snapshot, ontologyManager, ontologyManager.getOWLDataFactory(),
-                    getReasoner(snapshot));
+                    reasonerProvider.apply(snapshot));
         } catch (OWLOntologyCreationException e) {
             throw new OntologySnapshotException("Unable to create ontology snapshot.", e);
+        }
+    }
+
+    private void cloneOntologyContent(OWLOntology source, OWLOntology target) {
+        ontologyManager.addAxioms(target, source.axioms());
+        ontologyManager.applyChanges(
+                source.importsDeclarations().map(i -> new AddImport(target, i)).collect(Collectors.toList()));
+    }
+
+    @Override
+    public OntologySnapshot getSharedSnapshot() {
+        ensureOpen();
+        READ.lock();
+        try {
+            synchronized (this) {
+                if (sharedSnapshot == null) {
+                    final OntologySnapshot snapshot = createSnapshot(ontology, this::getSharedReasoner);
+                    this.sharedSnapshot =
+                            new SharedSnapshot(snapshot, createInferredAssertionIndex(snapshot), version);
+                }
+                sharedSnapshot.users++;
+                return sharedSnapshot;
+            }
         } finally {
             READ.unlock();
         }
     }
 
-    private void cloneOntologyContent(OWLOntology target) {
-        ontologyManager.addAxioms(target, ontology.axioms());
-        ontologyManager.applyChanges(
-                ontology.importsDeclarations().map(i -> new AddImport(target, i)).collect(Collectors.toList()));
+    /**
+     * Inferred assertions are materialized only for the shared snapshot, which does not change and is read by multiple
+     * transactions. Transactional snapshots are modified by their transaction, so the index would have to be
+     * recomputed after every change.
+     */
+    private InferredAssertionIndex createInferredAssertionIndex(OntologySnapshot snapshot) {
+        if (snapshot.getReasoner() == null || !configuration.is(OwlapiConfigParam.MATERIALIZE_INFERENCE)) {
+            return null;
+        }
+        return new InferredAssertionIndex(snapshot.getOntology(), snapshot.getReasoner());
+    }
+
+    @Override
+    public OntologySnapshot getOntologySnapshot(OntologySnapshot source) {
+        ensureOpen();
+        assert source != null;
+        // The source itself does not change, but the copy is created by the ontology manager shared with the live
+        // ontology
+        READ.lock();
+        try {
+            return createSnapshot(source.getOntology(), this::getReasoner);
+        } finally {
+            READ.unlock();
+        }
     }
 
     private OntologySnapshot getLiveOntology() {
         ensureOpen();
-        return new OntologySnapshot(ontology, ontologyManager, ontologyManager.getOWLDataFactory(), reasoner);
+        return new LiveSnapshot(ontology, ontologyManager, ontologyManager.getOWLDataFactory(), reasoner, version);
     }
 
     @Override
@@ -217,6 +315,8 @@ public class BasicStorageConnector extends AbstractConnector {
         try {
             function.accept(getLiveOntology());
         } finally {
+            // The function may have modified the ontology
+            version++;
             WRITE.unlock();
         }
     }
@@ -229,6 +329,14 @@ public class BasicStorageConnector extends AbstractConnector {
         return reasonerFactory.createReasoner(ontology);
     }
 
+    /**
+     * Gets reasoner for an ontology which may be read by multiple threads concurrently.
+     */
+    private OWLReasoner getSharedReasoner(OWLOntology ontology) {
+        final OWLReasoner r = getReasoner(ontology);
+        return r != null ? new SynchronizedReasoner(r) : null;
+    }
+
     @Override
     public void applyChanges(List<TransactionalChange> changes) {
         ensureOpen();
@@ -239,8 +347,10 @@ public class BasicStorageConnector extends AbstractConnector {
                                                            .flatMap(o -> o.toOwlChanges(ontology).stream())
                                                            .collect(Collectors.toList());
             ontologyManager.applyChanges(toApply);
+            version++;
+            discardSharedSnapshot();
             try {
-                writeToFile();
+                persistChanges(toApply);
             } catch (OntologyStorageException e) {
                 LOG.error("Unable to write out ontology." + e);
             }
@@ -249,20 +359,52 @@ public class BasicStorageConnector extends AbstractConnector {
         }
     }
 
+    /**
+     * Discards the shared snapshot, as it no longer corresponds to the live ontology.
+     * <p>
+     * If the snapshot is still used by some transactions, it is closed when the last of them releases it.
+     */
+    private synchronized void discardSharedSnapshot() {
+        if (sharedSnapshot == null) {
+            return;
+        }
+        if (sharedSnapshot.users == 0) {
+            ontologyManager.removeOntology(sharedSnapshot.getOntology());
+        }
+        this.sharedSnapshot = null;
+    }
+
     @Override
     public void closeSnapshot(OntologySnapshot snapshot) {
         ensureOpen();
         assert snapshot != null;
-        ontologyManager.removeOntology(snapshot.getOntology());
+        if (snapshot instanceof SharedSnapshot shared) {
+            releaseSharedSnapshot(shared);
+        } else {
+            ontologyManager.removeOntology(snapshot.getOntology());
+        }
+    }
+
+    private synchronized void releaseSharedSnapshot(SharedSnapshot snapshot) {
+        assert snapshot.users > 0;
+        snapshot.users--;
+        if (snapshot.users == 0 && snapshot != sharedSnapshot) {
+            ontologyManager.removeOntology(snapshot.getOntology());
+        }
     }
 
     @Override
     void reloadData() throws OwlapiDriverException {
         WRITE.lock();
         try {
+            synchronized (this) {
+                this.sharedSnapshot = null;
+            }
             ontologyManager.clearOntologies();
             loadOntology(configuration.getStorageProperties());
-            this.reasoner = getReasoner(ontology);
+            replayJournal();
+            this.reasoner = getSharedReasoner(ontology);
+            version++;
         } finally {
             WRITE.unlock();
         }
@@ -275,13 +417,60 @@ public class BasicStorageConnector extends AbstractConnector {
         }
         WRITE.lock();
         try {
-            writeToFile();
+            if (journal != null) {
+                compactJournal();
+            } else {
+                writeToFile();
+            }
             super.close();
         } finally {
             WRITE.unlock();
         }
     }
 
+    /**
+     * Makes the applied changes durable.
+     * <p>
+     * If the journal is enabled, the changes are only appended to it, otherwise the whole ontology is saved.
+     */
+    private void persistChanges(List<OWLOntologyChange> changes) throws OntologyStorageException {
+        if (journal == null) {
+            writeToFile();
+            return;
+        }
+        try {
+            journal.append(changes);
+        } catch (IOException e) {
+            throw new OntologyStorageException("Unable to append changes to ontology journal " + journal.getPath(), e);
+        }
+        if (journal.getTransactionCount() >= journalCompactionThreshold) {
+            compactJournal();
+        }
+    }
+
+    /**
+     * Saves the ontology and clears the journal.
+     * <p>
+     * The ontology file is replaced atomically, so that a failure cannot leave it incomplete while the journal is
+     * cleared.
+     */
+    private void compactJournal() throws OntologyStorageException {
+        final Path target = Paths.get(configuration.getStorageProperties().getPhysicalURI());
+        try {
+            final Path tmp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(),
+                    ".tmp");
+            try {
+                ontologyManager.saveOntology(ontology, IRI.create(tmp.toFile()));
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            journal.clear();
+        } catch (IOException | OWLOntologyStorageException e) {
+            throw new OntologyStorageException("Error when saving ontology to " + target, e);
+        }
+    }
+
     private void writeToFile() throws OntologyStorageException {
         try {
             ontologyManager.saveOntology(ontology, IRI.create(configuration.getStorageProperties().getPhysicalURI()));
@@ -290,4 +479,53 @@ public class BasicStorageConnector extends AbstractConnector {
                     "Error when saving ontology to " + configuration.getStorageProperties().getPhysicalURI(), e);
         }
     }
+
+    /**
+     * Read-only snapshot shared by transactions.
+     */
+    private static final class SharedSnapshot extends OntologySnapshot {
+
+        // Number of transactions using the snapshot, guarded by the connector
+        private int users;
+
+        private final long version;
+
+        private SharedSnapshot(OntologySnapshot snapshot, InferredAssertionIndex inferredAssertionIndex,
+                               long version) {
+            super(snapshot.getOntology(), snapshot.getOntologyManager(), snapshot.getDataFactory(),
+                    snapshot.getReasoner(), inferredAssertionIndex);
+            this.version = version;
+        }
+
+        @Override
+        public OptionalLong getVersion() {
+            return OptionalLong.of(version);
+        }
+
+        @Override
+        public List<TransactionalChange> applyChanges(List<TransactionalChange> changes) {
+            throw new UnsupportedOperationException("Shared ontology snapshot cannot be modified.");
+        }
+    }
+
+    /**
+     * Live ontology accessed under the read or write lock.
+     * <p>
+     * Its version is valid only while the lock is held.
+     */
+    private static final class LiveSnapshot extends OntologySnapshot {
+
+        private final long version;
+
+        private LiveSnapshot(OWLOntology ontology, OWLOntologyManager ontologyManager, OWLDataFactory dataFactory,
+                             OWLReasoner reasoner, long version) {
+            super(ontology, ontologyManager, dataFactory, reasoner);
+            this.version = version;
+        }
+
+        @Override
+        public OptionalLong getVersion() {
+            return OptionalLong.of(version);
+        }
+    }
 }
@@ -48,6 +48,28 @@ public interface Connector {
      */
     OntologySnapshot getOntologySnapshot();
 
+    /**
+     * Gets a read-only snapshot of the current state of the underlying ontology.
+     * <p>
+     * The snapshot is independent of the live ontology, but it may be shared by multiple transactions, so it must not be
+     * modified. Use {@link #getOntologySnapshot(OntologySnapshot)} to get a modifiable copy of it.
+     * <p>
+     * The snapshot has to be released by {@link #closeSnapshot(OntologySnapshot)}.
+     *
+     * @return Value object with the shared ontology snapshot
+     */
+    OntologySnapshot getSharedSnapshot();
+
+    /**
+     * Gets a modifiable snapshot containing the same data as the specified snapshot.
+     * <p>
+     * The new snapshot is completely independent of both the specified snapshot and the live ontology.
+     *
+     * @param source Snapshot whose content to copy
+     * @return Value object with the ontology snapshot
+     */
+    OntologySnapshot getOntologySnapshot(OntologySnapshot source);
+
     /**
      * Executes read-only operation on the live ontology.
      *
@@ -0,0 +1,204 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Materialized index of class and property assertions inferred by a reasoner.
+ * <p>
+ * Similarly to OWL API's {@code InferredOntologyGenerator} with class and property assertion generators, all inferred
+ * types and property values of an individual are computed together, when the individual is looked up for the first
+ * time. Subsequent lookups of the individual are answered from the index without querying the reasoner.
+ * <p>
+ * Any change of the ontology may affect inferences about any individual, so the index cannot be updated by the changes
+ * alone and is invalidated as a whole when the ontology changes. To keep the cost of a change low, individuals are not
+ * materialized upfront, but only when looked up. After a change, the reasoner is thus queried only for individuals
+ * which are actually read, instead of all individuals in the ontology signature.
+ * <p>
+ * Reasoners are generally not thread-safe, so all reasoner calls are made while holding the monitor of the reasoner
+ * (the lock used by {@link SynchronizedReasoner}). Lookups of already materialized individuals do not lock.
+ */
+public class InferredAssertionIndex {
+
+    private final OWLOntology ontology;
+    private final OWLReasoner reasoner;
+
+    private final Map<OWLNamedIndividual, InferredAssertions> index = new ConcurrentHashMap<>();
+    // Guarded by the reasoner monitor
+    private boolean flushed;
+
+    public InferredAssertionIndex(OWLOntology ontology, OWLReasoner reasoner) {
+        this.ontology = ontology;
+        this.reasoner = reasoner;
+    }
+
+    /**
+     * Gets classes of the specified individual, including inferred ones.
+     *
+     * @param individual Individual whose types to get
+     * @return Set of classes
+     */
+    public Set<OWLClass> getTypes(OWLNamedIndividual individual) {
+        return get(individual).types();
+    }
+
+    /**
+     * Gets values of all data properties of the specified individual, including inferred ones.
+     *
+     * @param individual Individual whose property values to get
+     * @return Map of data properties to their values
+     */
+    public Map<OWLDataProperty, Set<OWLLiteral>> getDataPropertyValues(OWLNamedIndividual individual) {
+        return get(individual).dataPropertyValues();
+    }
+
+    /**
+     * Gets values of the specified data property of the specified individual, including inferred ones.
+     *
+     * @param individual Individual whose property values to get
+     * @param property   Data property
+     * @return Set of values
+     */
+    public Set<OWLLiteral> getDataPropertyValues(OWLNamedIndividual individual, OWLDataProperty property) {
+        return getDataPropertyValues(individual).getOrDefault(property, Collections.emptySet());
+    }
+
+    /**
+     * Gets values of all object properties of the specified individual, including inferred ones.
+     *
+     * @param individual Individual whose property values to get
+     * @return Map of object properties to their values
+     */
+    public Map<OWLObjectProperty, Set<OWLNamedIndividual>> getObjectPropertyValues(OWLNamedIndividual individual) {
+        return get(individual).objectPropertyValues();
+    }
+
+    /**
+     * Gets values of the specified object property of the specified individual, including inferred ones.
+     *
+     * @param individual Individual whose property values to get
+     * @param property   Object property
+     * @return Set of values
+     */
+    public Set<OWLNamedIndividual> getObjectPropertyValues(OWLNamedIndividual individual,
+                                                           OWLObjectProperty property) {
+        return getObjectPropertyValues(individual).getOrDefault(property, Collections.emptySet());
+    }
+
+    /**
+     * Checks whether the specified axiom is entailed by the ontology.
+     * <p>
+     * Class and property assertions about named individuals are resolved using the index, other axioms are passed to
+     * the reasoner.
+     *
+     * @param axiom The axiom to check
+     * @return {@code true} if the axiom is entailed, {@code false} otherwise
+     */
+    public boolean isEntailed(OWLAxiom axiom) {
+        if (axiom instanceof OWLClassAssertionAxiom ca && ca.getIndividual().isNamed() &&
+                ca.getClassExpression().isNamed()) {
+            return getTypes(ca.getIndividual().asOWLNamedIndividual()).contains(ca.getClassExpression().asOWLClass());
+        }
+        if (axiom instanceof OWLDataPropertyAssertionAxiom dpa && dpa.getSubject().isNamed()) {
+            return getDataPropertyValues(dpa.getSubject().asOWLNamedIndividual(),
+                    dpa.getProperty().asOWLDataProperty()).contains(dpa.getObject());
+        }
+        if (axiom instanceof OWLObjectPropertyAssertionAxiom opa && opa.getSubject().isNamed() &&
+                opa.getObject().isNamed() && opa.getProperty().isNamed()) {
+            return getObjectPropertyValues(opa.getSubject().asOWLNamedIndividual(),
+                    opa.getProperty().asOWLObjectProperty()).contains(opa.getObject().asOWLNamedIndividual());
+        }
+        synchronized (reasoner) {
+            flushIfNecessary();
+            return reasoner.isEntailed(axiom);
+        }
+    }
+
+    private InferredAssertions get(OWLNamedIndividual individual) {
+        final InferredAssertions existing = index.get(individual);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (reasoner) {
+            flushIfNecessary();
+            return index.computeIfAbsent(individual, this::infer);
+        }
+    }
+
+    // Guarded by the reasoner monitor
+    private void flushIfNecessary() {
+        if (!flushed) {
+            reasoner.flush();
+            this.flushed = true;
+        }
+    }
+
+    private InferredAssertions infer(OWLNamedIndividual individual) {
+        final Set<OWLClass> types = reasoner.getTypes(individual, false).entities().collect(Collectors.toSet());
+        final Map<OWLDataProperty, Set<OWLLiteral>> dataPropertyValues = new HashMap<>();
+        ontology.dataPropertiesInSignature().forEach(dp -> {
+            final Set<OWLLiteral> values = reasoner.getDataPropertyValues(individual, dp);
+            if (!values.isEmpty()) {
+                dataPropertyValues.put(dp, Set.copyOf(values));
+            }
+        });
+        final Map<OWLObjectProperty, Set<OWLNamedIndividual>> objectPropertyValues = new HashMap<>();
+        ontology.objectPropertiesInSignature().forEach(op -> {
+            final Set<OWLNamedIndividual> values = reasoner.getObjectPropertyValues(individual, op).entities()
+                                                           .collect(Collectors.toSet());
+            if (!values.isEmpty()) {
+                objectPropertyValues.put(op, values);
+            }
+        });
+        return new InferredAssertions(types, dataPropertyValues, objectPropertyValues);
+    }
+
+    /**
+     * Invalidates the index, so that individuals are materialized again when looked up.
+     * <p>
+     * This should be called whenever the underlying ontology changes.
+     */
+    public void invalidate() {
+        synchronized (reasoner) {
+            this.flushed = false;
+            index.clear();
+        }
+    }
+
+    private record InferredAssertions(Set<OWLClass> types, Map<OWLDataProperty, Set<OWLLiteral>> dataPropertyValues,
+                                      Map<OWLObjectProperty, Set<OWLNamedIndividual>> objectPropertyValues) {
+    }
+}
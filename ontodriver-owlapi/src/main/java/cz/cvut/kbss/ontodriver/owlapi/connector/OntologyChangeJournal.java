@@ -0,0 +1,254 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of changes committed into the ontology.
+ * <p>
+ * Each committed transaction is appended to the journal as a checksummed, length-prefixed record and synced to disk, so
+ * that the whole ontology does not have to be saved on every commit. The record contains two OWL functional syntax
+ * documents - axioms added and axioms removed by the transaction. When the ontology is loaded, the journal is replayed
+ * on top of it. An incomplete or corrupt record at the end of the journal (e.g., due to a crash while appending) is
+ * ignored and cut off the journal, so that subsequently appended transactions are not lost.
+ * <p>
+ * Replaying the journal is idempotent w.r.t. the data it produced, so the journal may be cleared any time after the
+ * ontology has been saved.
+ */
+class OntologyChangeJournal {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OntologyChangeJournal.class);
+
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    // Record length and checksum
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+    private static final String MIME_TYPE = "text/owl-functional";
+
+    private final Path path;
+
+    // Used to (de)serialize the journal records
+    private final OWLOntologyManager recordManager = OWLManager.createOWLOntologyManager();
+
+    private int transactionCount;
+
+    OntologyChangeJournal(Path ontologyFile) {
+        this.path = ontologyFile.resolveSibling(ontologyFile.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the number of transactions recorded in the journal.
+     *
+     * @return Number of transactions
+     */
+    int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Applies the transactions recorded in the journal to the specified ontology.
+     *
+     * @param target Ontology to which the journal applies
+     */
+    void replay(OWLOntology target) {
+        this.transactionCount = 0;
+        if (!Files.exists(path)) {
+            return;
+        }
+        final ByteBuffer content;
+        try {
+            content = ByteBuffer.wrap(Files.readAllBytes(path));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read ontology journal " + path, e);
+        }
+        int validEnd = 0;
+        while (content.hasRemaining()) {
+            try {
+                final List<OWLOntologyChange> changes = readRecord(content, target);
+                target.getOWLOntologyManager().applyChanges(changes);
+            } catch (IOException | OWLOntologyCreationException | RuntimeException e) {
+                LOG.debug("Unable to read ontology journal record at offset {}.", validEnd, e);
+                break;
+            }
+            validEnd = content.position();
+            transactionCount++;
+        }
+        if (validEnd < content.limit()) {
+            // Most likely an incomplete record at the end of the journal, committed transactions have been applied.
+            // Cut it off, so that records appended later are not hidden behind it
+            LOG.warn("Unable to read the whole ontology journal {}, replayed {} transactions. Truncating the journal.",
+                    path, transactionCount);
+            truncate(validEnd);
+        }
+        LOG.trace("Replayed {} transactions from ontology journal {}.", transactionCount, path);
+    }
+
+    private List<OWLOntologyChange> readRecord(ByteBuffer content, OWLOntology target)
+            throws IOException, OWLOntologyCreationException {
+        final int length;
+        final long checksum;
+        try {
+            length = content.getInt();
+            checksum = content.getLong();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Incomplete record header.", e);
+        }
+        if (length < 0 || length > content.remaining()) {
+            throw new IOException("Incomplete record.");
+        }
+        final byte[] record = new byte[length];
+        content.get(record);
+        final CRC32 crc = new CRC32();
+        crc.update(record);
+        if (crc.getValue() != checksum) {
+            throw new IOException("Record checksum mismatch.");
+        }
+        final ByteBuffer sections = ByteBuffer.wrap(record);
+        final List<OWLOntologyChange> changes = new ArrayList<>();
+        readAxioms(sections).forEach(ax -> changes.add(new AddAxiom(target, ax)));
+        readAxioms(sections).forEach(ax -> changes.add(new RemoveAxiom(target, ax)));
+        return changes;
+    }
+
+    private List<OWLAxiom> readAxioms(ByteBuffer sections) throws IOException, OWLOntologyCreationException {
+        final int length = sections.getInt();
+        if (length < 0 || length > sections.remaining()) {
+            throw new IOException("Invalid record section length.");
+        }
+        final ByteArrayInputStream in = new ByteArrayInputStream(sections.array(), sections.position(), length);
+        sections.position(sections.position() + length);
+        final OWLOntology document = recordManager.loadOntologyFromOntologyDocument(
+                new StreamDocumentSource(in, (String) null, new FunctionalSyntaxDocumentFormat(), MIME_TYPE));
+        try {
+            return document.axioms().toList();
+        } finally {
+            recordManager.removeOntology(document);
+        }
+    }
+
+    /**
+     * Appends the specified changes to the journal as a single transaction.
+     * <p>
+     * Only axiom changes are supported. The method returns after the transaction has been synced to disk.
+     *
+     * @param changes Changes to record, in the order in which they were applied
+     * @throws IOException When the journal cannot be written
+     */
+    void append(List<? extends OWLOntologyChange> changes) throws IOException {
+        // Only the last change of each axiom determines its presence in the ontology
+        final Map<OWLAxiom, Boolean> netChanges = new LinkedHashMap<>();
+        for (OWLOntologyChange change : changes) {
+            if (!change.isAxiomChange()) {
+                throw new IllegalArgumentException("Only axiom changes can be journaled, got " + change);
+            }
+            netChanges.put(change.getAxiom(), change.isAddAxiom());
+        }
+        final ByteArrayOutputStream sections = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(sections)) {
+            writeAxioms(netChanges, true, out);
+            writeAxioms(netChanges, false, out);
+        }
+        final byte[] content = sections.toByteArray();
+        final CRC32 crc = new CRC32();
+        crc.update(content);
+        final ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + content.length);
+        buffer.putInt(content.length).putLong(crc.getValue()).put(content).flip();
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        transactionCount++;
+    }
+
+    private void writeAxioms(Map<OWLAxiom, Boolean> netChanges, boolean added, DataOutputStream out)
+            throws IOException {
+        final ByteArrayOutputStream document = new ByteArrayOutputStream();
+        try {
+            final OWLOntology ontology = recordManager.createOntology(
+                    netChanges.entrySet().stream().filter(e -> e.getValue() == added).map(Map.Entry::getKey));
+            try {
+                final FunctionalSyntaxDocumentFormat format = new FunctionalSyntaxDocumentFormat();
+                // Declarations not present in the change would be added to/removed from the ontology on replay
+                format.setAddMissingTypes(false);
+                recordManager.saveOntology(ontology, format, document);
+            } finally {
+                recordManager.removeOntology(ontology);
+            }
+        } catch (OWLOntologyCreationException | OWLOntologyStorageException e) {
+            throw new IOException("Unable to serialize ontology changes.", e);
+        }
+        out.writeInt(document.size());
+        document.writeTo(out);
+    }
+
+    /**
+     * Removes all records from the journal.
+     *
+     * @throws IOException When the journal cannot be removed
+     */
+    void clear() throws IOException {
+        Files.deleteIfExists(path);
+        this.transactionCount = 0;
+    }
+
+    private void truncate(int size) {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to truncate ontology journal " + path, e);
+        }
+    }
+}
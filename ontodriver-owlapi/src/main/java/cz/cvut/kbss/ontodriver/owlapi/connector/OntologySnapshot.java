@@ -27,6 +27,8 @@ import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 
 public class OntologySnapshot {
@@ -35,13 +37,20 @@ public class OntologySnapshot {
     private final OWLOntologyManager ontologyManager;
     private final OWLDataFactory dataFactory;
     private final OWLReasoner reasoner;
+    private final InferredAssertionIndex inferredAssertionIndex;
 
     public OntologySnapshot(OWLOntology ontology, OWLOntologyManager ontologyManager, OWLDataFactory dataFactory,
                             OWLReasoner reasoner) {
+        this(ontology, ontologyManager, dataFactory, reasoner, null);
+    }
+
+    public OntologySnapshot(OWLOntology ontology, OWLOntologyManager ontologyManager, OWLDataFactory dataFactory,
+                            OWLReasoner reasoner, InferredAssertionIndex inferredAssertionIndex) {
         this.ontology = ontology;
         this.ontologyManager = ontologyManager;
         this.dataFactory = dataFactory;
         this.reasoner = reasoner;
+        this.inferredAssertionIndex = inferredAssertionIndex;
     }
 
     public OWLOntology getOntology() {
@@ -60,6 +69,26 @@ public class OntologySnapshot {
         return reasoner;
     }
 
+    /**
+     * Gets materialized index of inferred assertions, if it is available for this snapshot.
+     *
+     * @return Index of inferred assertions, empty if it is not available
+     */
+    public Optional<InferredAssertionIndex> getInferredAssertionIndex() {
+        return Optional.ofNullable(inferredAssertionIndex);
+    }
+
+    /**
+     * Gets version of the ontology this snapshot represents.
+     * <p>
+     * Only snapshots whose content cannot be changed while they are being read are versioned.
+     *
+     * @return Ontology version, empty if the snapshot is not versioned
+     */
+    public OptionalLong getVersion() {
+        return OptionalLong.empty();
+    }
+
     /**
      * Applies the specified changes to this ontology snapshot.
      *
@@ -76,6 +105,9 @@ public class OntologySnapshot {
                     "At least one of the following changes could not have been applied to this ontology snapshot: " +
                             toApply);
         }
+        if (inferredAssertionIndex != null) {
+            inferredAssertionIndex.invalidate();
+        }
         return changes;
     }
 }
@@ -0,0 +1,298 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.*;
+import org.semanticweb.owlapi.util.Version;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reasoner wrapper which serializes access to the wrapped reasoner.
+ * <p>
+ * Reasoners are generally not thread-safe, but a reasoner of the live ontology or of a snapshot shared by transactions
+ * may be used by multiple threads concurrently. Each call is executed while holding the monitor of this wrapper, so
+ * callers needing several consecutive calls to be atomic can synchronize on the wrapper as well.
+ * <p>
+ * {@link #interrupt()} is not synchronized, so that a running reasoning task can be interrupted.
+ */
+class SynchronizedReasoner implements OWLReasoner {
+
+    private final OWLReasoner wrapped;
+
+    SynchronizedReasoner(OWLReasoner wrapped) {
+        this.wrapped = wrapped;
+    }
+
+    @Override
+    public synchronized String getReasonerName() {
+        return wrapped.getReasonerName();
+    }
+
+    @Override
+    public synchronized Version getReasonerVersion() {
+        return wrapped.getReasonerVersion();
+    }
+
+    @Override
+    public synchronized BufferingMode getBufferingMode() {
+        return wrapped.getBufferingMode();
+    }
+
+    @Override
+    public synchronized void flush() {
+        wrapped.flush();
+    }
+
+    @Override
+    public synchronized List<OWLOntologyChange> getPendingChanges() {
+        return wrapped.getPendingChanges();
+    }
+
+    @Override
+    public synchronized Set<OWLAxiom> getPendingAxiomAdditions() {
+        return wrapped.getPendingAxiomAdditions();
+    }
+
+    @Override
+    public synchronized Set<OWLAxiom> getPendingAxiomRemovals() {
+        return wrapped.getPendingAxiomRemovals();
+    }
+
+    @Override
+    public synchronized OWLOntology getRootOntology() {
+        return wrapped.getRootOntology();
+    }
+
+    @Override
+    public void interrupt() {
+        wrapped.interrupt();
+    }
+
+    @Override
+    public synchronized void precomputeInferences(InferenceType... inferenceTypes) {
+        wrapped.precomputeInferences(inferenceTypes);
+    }
+
+    @Override
+    public synchronized boolean isPrecomputed(InferenceType inferenceType) {
+        return wrapped.isPrecomputed(inferenceType);
+    }
+
+    @Override
+    public synchronized Set<InferenceType> getPrecomputableInferenceTypes() {
+        return wrapped.getPrecomputableInferenceTypes();
+    }
+
+    @Override
+    public synchronized boolean isConsistent() {
+        return wrapped.isConsistent();
+    }
+
+    @Override
+    public synchronized boolean isSatisfiable(OWLClassExpression ce) {
+        return wrapped.isSatisfiable(ce);
+    }
+
+    @Override
+    public synchronized Node<OWLClass> getUnsatisfiableClasses() {
+        return wrapped.getUnsatisfiableClasses();
+    }
+
+    @Override
+    public synchronized boolean isEntailed(OWLAxiom axiom) {
+        return wrapped.isEntailed(axiom);
+    }
+
+    @Override
+    public synchronized boolean isEntailed(Set<? extends OWLAxiom> axioms) {
+        return wrapped.isEntailed(axioms);
+    }
+
+    @Override
+    public synchronized boolean isEntailmentCheckingSupported(AxiomType<?> axiomType) {
+        return wrapped.isEntailmentCheckingSupported(axiomType);
+    }
+
+    @Override
+    public synchronized Node<OWLClass> getTopClassNode() {
+        return wrapped.getTopClassNode();
+    }
+
+    @Override
+    public synchronized Node<OWLClass> getBottomClassNode() {
+        return wrapped.getBottomClassNode();
+    }
+
+    @Override
+    public synchronized NodeSet<OWLClass> getSubClasses(OWLClassExpression ce, boolean direct) {
+        return wrapped.getSubClasses(ce, direct);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLClass> getSuperClasses(OWLClassExpression ce, boolean direct) {
+        return wrapped.getSuperClasses(ce, direct);
+    }
+
+    @Override
+    public synchronized Node<OWLClass> getEquivalentClasses(OWLClassExpression ce) {
+        return wrapped.getEquivalentClasses(ce);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLClass> getDisjointClasses(OWLClassExpression ce) {
+        return wrapped.getDisjointClasses(ce);
+    }
+
+    @Override
+    public synchronized Node<OWLObjectPropertyExpression> getTopObjectPropertyNode() {
+        return wrapped.getTopObjectPropertyNode();
+    }
+
+    @Override
+    public synchronized Node<OWLObjectPropertyExpression> getBottomObjectPropertyNode() {
+        return wrapped.getBottomObjectPropertyNode();
+    }
+
+    @Override
+    public synchronized NodeSet<OWLObjectPropertyExpression> getSubObjectProperties(OWLObjectPropertyExpression pe,
+                                                                                    boolean direct) {
+        return wrapped.getSubObjectProperties(pe, direct);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLObjectPropertyExpression> getSuperObjectProperties(OWLObjectPropertyExpression pe,
+                                                                                      boolean direct) {
+        return wrapped.getSuperObjectProperties(pe, direct);
+    }
+
+    @Override
+    public synchronized Node<OWLObjectPropertyExpression> getEquivalentObjectProperties(
+            OWLObjectPropertyExpression pe) {
+        return wrapped.getEquivalentObjectProperties(pe);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLObjectPropertyExpression> getDisjointObjectProperties(
+            OWLObjectPropertyExpression pe) {
+        return wrapped.getDisjointObjectProperties(pe);
+    }
+
+    @Override
+    public synchronized Node<OWLObjectPropertyExpression> getInverseObjectProperties(OWLObjectPropertyExpression pe) {
+        return wrapped.getInverseObjectProperties(pe);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLClass> getObjectPropertyDomains(OWLObjectPropertyExpression pe, boolean direct) {
+        return wrapped.getObjectPropertyDomains(pe, direct);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLClass> getObjectPropertyRanges(OWLObjectPropertyExpression pe, boolean direct) {
+        return wrapped.getObjectPropertyRanges(pe, direct);
+    }
+
+    @Override
+    public synchronized Node<OWLDataProperty> getTopDataPropertyNode() {
+        return wrapped.getTopDataPropertyNode();
+    }
+
+    @Override
+    public synchronized Node<OWLDataProperty> getBottomDataPropertyNode() {
+        return wrapped.getBottomDataPropertyNode();
+    }
+
+    @Override
+    public synchronized NodeSet<OWLDataProperty> getSubDataProperties(OWLDataProperty pe, boolean direct) {
+        return wrapped.getSubDataProperties(pe, direct);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLDataProperty> getSuperDataProperties(OWLDataProperty pe, boolean direct) {
+        return wrapped.getSuperDataProperties(pe, direct);
+    }
+
+    @Override
+    public synchronized Node<OWLDataProperty> getEquivalentDataProperties(OWLDataProperty pe) {
+        return wrapped.getEquivalentDataProperties(pe);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLDataProperty> getDisjointDataProperties(OWLDataPropertyExpression pe) {
+        return wrapped.getDisjointDataProperties(pe);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLClass> getDataPropertyDomains(OWLDataProperty pe, boolean direct) {
+        return wrapped.getDataPropertyDomains(pe, direct);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLClass> getTypes(OWLNamedIndividual ind, boolean direct) {
+        return wrapped.getTypes(ind, direct);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLNamedIndividual> getInstances(OWLClassExpression ce, boolean direct) {
+        return wrapped.getInstances(ce, direct);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLNamedIndividual> getObjectPropertyValues(OWLNamedIndividual ind,
+                                                                            OWLObjectPropertyExpression pe) {
+        return wrapped.getObjectPropertyValues(ind, pe);
+    }
+
+    @Override
+    public synchronized Set<OWLLiteral> getDataPropertyValues(OWLNamedIndividual ind, OWLDataProperty pe) {
+        return wrapped.getDataPropertyValues(ind, pe);
+    }
+
+    @Override
+    public synchronized Node<OWLNamedIndividual> getSameIndividuals(OWLNamedIndividual ind) {
+        return wrapped.getSameIndividuals(ind);
+    }
+
+    @Override
+    public synchronized NodeSet<OWLNamedIndividual> getDifferentIndividuals(OWLNamedIndividual ind) {
+        return wrapped.getDifferentIndividuals(ind);
+    }
+
+    @Override
+    public synchronized long getTimeOut() {
+        return wrapped.getTimeOut();
+    }
+
+    @Override
+    public synchronized FreshEntityPolicy getFreshEntityPolicy() {
+        return wrapped.getFreshEntityPolicy();
+    }
+
+    @Override
+    public synchronized IndividualNodeSetPolicy getIndividualNodeSetPolicy() {
+        return wrapped.getIndividualNodeSetPolicy();
+    }
+
+    @Override
+    public synchronized void dispose() {
+        wrapped.dispose();
+    }
+}
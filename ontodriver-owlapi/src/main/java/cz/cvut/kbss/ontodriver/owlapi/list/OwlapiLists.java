@@ -62,14 +62,14 @@ public class OwlapiLists implements Lists {
     @Override
     public void persistSimpleList(SimpleListValueDescriptor descriptor) throws OntoDriverException {
         ensureStateAndArgumentValid(descriptor);
-        adapter.getSimpleListHandler().persistList(descriptor);
+        adapter.getSimpleListHandlerForUpdate().persistList(descriptor);
         afterChangeCallback.execute();
     }
 
     @Override
     public void updateSimpleList(SimpleListValueDescriptor descriptor) throws OntoDriverException {
         ensureStateAndArgumentValid(descriptor);
-        adapter.getSimpleListHandler().updateList(descriptor);
+        adapter.getSimpleListHandlerForUpdate().updateList(descriptor);
         afterChangeCallback.execute();
     }
 
@@ -83,14 +83,14 @@ public class OwlapiLists implements Lists {
     @Override
     public <V> void persistReferencedList(ReferencedListValueDescriptor<V> descriptor) throws OntoDriverException {
         ensureStateAndArgumentValid(descriptor);
-        adapter.getReferencedListHandler().persistList(descriptor);
+        adapter.getReferencedListHandlerForUpdate().persistList(descriptor);
         afterChangeCallback.execute();
     }
 
     @Override
     public <V> void updateReferencedList(ReferencedListValueDescriptor<V> descriptor) throws OntoDriverException {
         ensureStateAndArgumentValid(descriptor);
-        adapter.getReferencedListHandler().updateList(descriptor);
+        adapter.getReferencedListHandlerForUpdate().updateList(descriptor);
         afterChangeCallback.execute();
     }
 }
@@ -54,6 +54,10 @@ public abstract class AbstractResultSet implements ResultSet {
     }
 
     public static ResultSet createResultSet(QueryResult<OWLObject> result, Statement statement, String query) {
+        return createResultSet(QueryResultRows.copyOf(result), statement, query);
+    }
+
+    static ResultSet createResultSet(QueryResultRows result, Statement statement, String query) {
         if (isAskQuery(query)) {
             return new AskResultSet(result, statement);
         } else {
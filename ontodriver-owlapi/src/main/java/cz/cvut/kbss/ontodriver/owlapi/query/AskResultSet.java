@@ -18,15 +18,13 @@
 package cz.cvut.kbss.ontodriver.owlapi.query;
 
 import cz.cvut.kbss.ontodriver.Statement;
-import cz.cvut.kbss.owl2query.model.QueryResult;
-import org.semanticweb.owlapi.model.OWLObject;
 
 class AskResultSet extends AbstractResultSet {
 
     private final boolean result;
     private boolean nextCalled = false;
 
-    public AskResultSet(QueryResult<OWLObject> queryResult, Statement statement) {
+    public AskResultSet(QueryResultRows queryResult, Statement statement) {
         super(statement);
         this.result = !queryResult.isEmpty();
     }
@@ -28,18 +28,27 @@ import cz.cvut.kbss.owl2query.model.owlapi.OWLAPIv3OWL2Ontology;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 
+import java.util.OptionalLong;
+
 class LiveOntologyStatementExecutor implements StatementExecutor {
 
     private final Connector connector;
 
+    private final QueryResultCache resultCache;
+
     public LiveOntologyStatementExecutor(Connector connector) {
+        this(connector, QueryResultCache.disabled());
+    }
+
+    public LiveOntologyStatementExecutor(Connector connector, QueryResultCache resultCache) {
         this.connector = connector;
+        this.resultCache = resultCache;
     }
 
     @Override
     public ResultSet executeQuery(QuerySpecification query) throws OwlapiDriverException {
         final ResultSet resultSet = connector.executeRead(snapshot -> {
-            final QueryResult<OWLObject> res = execute(query, snapshot);
+            final QueryResultRows res = executeCached(query, snapshot);
 
             return res != null ? AbstractResultSet.createResultSet(res, query.getStatement(), query.getQuery()) : null;
         });
@@ -49,6 +58,24 @@ class LiveOntologyStatementExecutor implements StatementExecutor {
         return resultSet;
     }
 
+    private QueryResultRows executeCached(QuerySpecification query, OntologySnapshot snapshot) {
+        final OptionalLong version = snapshot.getVersion();
+        if (version.isEmpty()) {
+            return copyOf(execute(query, snapshot));
+        }
+        return resultCache.get(query, version.getAsLong()).orElseGet(() -> {
+            final QueryResultRows res = copyOf(execute(query, snapshot));
+            if (res != null) {
+                resultCache.put(query, version.getAsLong(), res);
+            }
+            return res;
+        });
+    }
+
+    private static QueryResultRows copyOf(QueryResult<OWLObject> result) {
+        return result != null ? QueryResultRows.copyOf(result) : null;
+    }
+
     private QueryResult<OWLObject> execute(QuerySpecification query, OntologySnapshot snapshot) {
         if (snapshot.getReasoner() == null) {
             throw new ReasonerNotAvailableException("Cannot execute query without a reasoner.");
@@ -20,11 +20,20 @@ package cz.cvut.kbss.ontodriver.owlapi.query;
 import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.LangString;
+import cz.cvut.kbss.ontodriver.model.Literal;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiConnection;
+import cz.cvut.kbss.ontodriver.owlapi.util.OwlapiUtils;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
 
 import java.util.Objects;
 
+/**
+ * Prepared statement executed by the OWL API driver.
+ * <p>
+ * Parameter values are inserted into the statement string. {@link String} values are treated as SPARQL fragments,
+ * identifiers and literal values ({@link LangString}, {@link Literal}) are written in their SPARQL syntax.
+ */
 public class OwlapiPreparedStatement extends OwlapiStatement implements PreparedStatement {
 
     private final StatementHolder statementHolder;
@@ -59,7 +68,42 @@ public class OwlapiPreparedStatement extends OwlapiStatement implements Prepared
         ensureOpen();
         Objects.requireNonNull(binding);
         Objects.requireNonNull(value);
-        statementHolder.setParameter(binding, value.toString());
+        statementHolder.setParameter(binding, toQueryString(value));
+    }
+
+    private static String toQueryString(Object value) {
+        if (value instanceof String str) {
+            return str;
+        } else if (OwlapiUtils.isIndividualIri(value)) {
+            return "<" + value + ">";
+        } else if (value instanceof LangString ls) {
+            return quote(ls.getValue()) + ls.getLanguage().map(lang -> "@" + lang).orElse("");
+        } else if (value instanceof Literal literal) {
+            return quote(literal.getLexicalForm()) + "^^<" + literal.getDatatype() + ">";
+        }
+        return value.toString();
+    }
+
+    /**
+     * Encloses the specified value in double quotes, escaping characters according to the SPARQL grammar.
+     */
+    private static String quote(String value) {
+        final StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                case '\'' -> sb.append("\\'");
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                default -> sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
     }
 
     @Override
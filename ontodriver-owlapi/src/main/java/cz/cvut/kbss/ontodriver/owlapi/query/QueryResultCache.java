@@ -0,0 +1,99 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches results of query evaluation.
+ * <p>
+ * Results are keyed by the query string (which already contains bound parameter values), the inference flag and the
+ * version of the ontology the query was evaluated against. Results of queries evaluated against an older version of the
+ * ontology are thus never returned, they are eventually evicted as the least recently used entries.
+ * <p>
+ * Immutable copies of the result rows are cached, so that a cached result can be read by multiple result sets, possibly
+ * concurrently.
+ * <p>
+ * The cache is bounded, a capacity of 0 disables it.
+ */
+public class QueryResultCache {
+
+    private final int capacity;
+
+    // Guarded by this
+    private final Map<Key, QueryResultRows> cache;
+
+    public QueryResultCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Query result cache capacity must not be negative.");
+        }
+        this.capacity = capacity;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, QueryResultRows> eldest) {
+                return size() > QueryResultCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets cached result of the specified query evaluated against the specified ontology version.
+     *
+     * @param query   Query specification
+     * @param version Ontology version
+     * @return Cached query result, empty if it is not cached
+     */
+    Optional<QueryResultRows> get(QuerySpecification query, long version) {
+        if (capacity == 0) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            return Optional.ofNullable(cache.get(new Key(query.getQuery(), query.isDisableInference(), version)));
+        }
+    }
+
+    /**
+     * Caches the result of the specified query evaluated against the specified ontology version.
+     *
+     * @param query   Query specification
+     * @param version Ontology version
+     * @param result  Query result
+     */
+    void put(QuerySpecification query, long version, QueryResultRows result) {
+        if (capacity == 0) {
+            return;
+        }
+        synchronized (this) {
+            cache.put(new Key(query.getQuery(), query.isDisableInference(), version), result);
+        }
+    }
+
+    /**
+     * Creates a disabled cache, which does not store any results.
+     *
+     * @return Disabled query result cache
+     */
+    public static QueryResultCache disabled() {
+        return new QueryResultCache(0);
+    }
+
+    private record Key(String query, boolean disableInference, long version) {
+    }
+}
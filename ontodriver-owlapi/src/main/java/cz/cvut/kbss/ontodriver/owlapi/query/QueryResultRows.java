@@ -0,0 +1,62 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.query;
+
+import cz.cvut.kbss.owl2query.model.GroundTerm;
+import cz.cvut.kbss.owl2query.model.QueryResult;
+import cz.cvut.kbss.owl2query.model.ResultBinding;
+import cz.cvut.kbss.owl2query.model.Variable;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of the variables and rows of a query result.
+ * <p>
+ * Query results of OWL2Query are mutable and iterated statefully, so they cannot be shared. This copy can be read by
+ * any number of result sets concurrently, which allows caching query results.
+ *
+ * @param variables Result variables
+ * @param rows      Result rows, mapping variables to their values
+ */
+record QueryResultRows(List<Variable<OWLObject>> variables,
+                       List<Map<Variable<OWLObject>, GroundTerm<OWLObject>>> rows) {
+
+    /**
+     * Creates an immutable copy of the specified query result.
+     *
+     * @param result Query result to copy
+     * @return Copy of the query result
+     */
+    static QueryResultRows copyOf(QueryResult<OWLObject> result) {
+        final List<Map<Variable<OWLObject>, GroundTerm<OWLObject>>> rows = new ArrayList<>(result.size());
+        for (ResultBinding<OWLObject> binding : result) {
+            // Not Map.copyOf, bindings may contain null values
+            rows.add(Collections.unmodifiableMap(new HashMap<>(binding)));
+        }
+        return new QueryResultRows(List.copyOf(result.getResultVars()), Collections.unmodifiableList(rows));
+    }
+
+    boolean isEmpty() {
+        return rows.isEmpty();
+    }
+}
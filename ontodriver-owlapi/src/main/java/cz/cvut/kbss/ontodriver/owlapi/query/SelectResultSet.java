@@ -25,8 +25,6 @@ import cz.cvut.kbss.ontodriver.owlapi.exception.BindingValueMismatchException;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OwlapiDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.util.OwlapiUtils;
 import cz.cvut.kbss.owl2query.model.GroundTerm;
-import cz.cvut.kbss.owl2query.model.QueryResult;
-import cz.cvut.kbss.owl2query.model.ResultBinding;
 import cz.cvut.kbss.owl2query.model.Variable;
 import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLLiteral;
@@ -34,7 +32,7 @@ import org.semanticweb.owlapi.model.OWLObject;
 
 import java.net.URI;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -43,29 +41,27 @@ import java.util.stream.Collectors;
 
 class SelectResultSet extends AbstractResultSet {
 
-    private final QueryResult<OWLObject> queryResult;
-    private Iterator<ResultBinding<OWLObject>> iterator;
+    private final List<Map<Variable<OWLObject>, GroundTerm<OWLObject>>> rows;
 
     private final Map<String, Variable<OWLObject>> namesToVariables;
     private final Map<Integer, Variable<OWLObject>> indexesToVariables;
 
     private int currentIndex;
-    private ResultBinding<OWLObject> currentRow;
+    private Map<Variable<OWLObject>, GroundTerm<OWLObject>> currentRow;
 
-    public SelectResultSet(QueryResult<OWLObject> queryResult, Statement statement) {
+    public SelectResultSet(QueryResultRows queryResult, Statement statement) {
         super(statement);
-        this.queryResult = queryResult;
-        this.iterator = queryResult.iterator();
+        this.rows = queryResult.rows();
         this.currentIndex = -1;
-        final int bindingSize = queryResult.getResultVars().size();
+        final int bindingSize = queryResult.variables().size();
         this.namesToVariables = new HashMap<>(bindingSize);
         this.indexesToVariables = new HashMap<>(bindingSize);
-        resolveVariableNamesAndIndexes();
+        resolveVariableNamesAndIndexes(queryResult.variables());
     }
 
-    private void resolveVariableNamesAndIndexes() {
+    private void resolveVariableNamesAndIndexes(List<Variable<OWLObject>> variables) {
         Integer i = 0;
-        for (Variable<OWLObject> v : queryResult.getResultVars()) {
+        for (Variable<OWLObject> v : variables) {
             namesToVariables.put(v.getName(), v);
             indexesToVariables.put(i, v);
             i++;
@@ -110,7 +106,6 @@ class SelectResultSet extends AbstractResultSet {
     public void first() {
         ensureOpen();
         this.currentIndex = -1;
-        this.iterator = queryResult.iterator();
         next();
     }
 
@@ -357,7 +352,7 @@ class SelectResultSet extends AbstractResultSet {
     @Override
     public boolean hasNext() {
         ensureOpen();
-        return iterator.hasNext();
+        return currentIndex + 1 < rows.size();
     }
 
     @Override
@@ -374,8 +369,8 @@ class SelectResultSet extends AbstractResultSet {
         if (!hasNext()) {
             throw new NoSuchElementException("The result set has no more rows.");
         }
-        this.currentRow = iterator.next();
         currentIndex++;
+        this.currentRow = rows.get(currentIndex);
     }
 
     @Override
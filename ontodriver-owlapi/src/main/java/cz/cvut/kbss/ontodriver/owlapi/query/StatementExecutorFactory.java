@@ -17,18 +17,38 @@
  */
 package cz.cvut.kbss.ontodriver.owlapi.query;
 
+import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.owlapi.connector.Connector;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
-import cz.cvut.kbss.ontodriver.Statement;
+
+import java.util.function.Supplier;
 
 public class StatementExecutorFactory {
 
-    private final OntologySnapshot transactionalSnapshot;
+    private final Supplier<OntologySnapshot> transactionalSnapshot;
     private final Connector connector;
+    private final QueryResultCache resultCache;
 
     public StatementExecutorFactory(OntologySnapshot transactionalSnapshot, Connector connector) {
+        this(() -> transactionalSnapshot, connector);
+    }
+
+    public StatementExecutorFactory(Supplier<OntologySnapshot> transactionalSnapshot, Connector connector) {
+        this(transactionalSnapshot, connector, QueryResultCache.disabled());
+    }
+
+    /**
+     * Creates factory resolving the transactional snapshot lazily, as it may change during the transaction.
+     *
+     * @param transactionalSnapshot Supplier of the current transactional snapshot
+     * @param connector             Storage connector
+     * @param resultCache           Cache of query results
+     */
+    public StatementExecutorFactory(Supplier<OntologySnapshot> transactionalSnapshot, Connector connector,
+                                    QueryResultCache resultCache) {
         this.transactionalSnapshot = transactionalSnapshot;
         this.connector = connector;
+        this.resultCache = resultCache;
     }
 
     public StatementExecutor getStatementExecutor(Statement.StatementOntology ontology) {
@@ -36,9 +56,9 @@ public class StatementExecutorFactory {
 
         switch (ontology) {
             case TRANSACTIONAL:
-                return new TransactionalStatementExecutor(transactionalSnapshot);
+                return new TransactionalStatementExecutor(transactionalSnapshot.get(), resultCache);
             case SHARED:
-                return new LiveOntologyStatementExecutor(connector);
+                return new LiveOntologyStatementExecutor(connector, resultCache);
             default:
                 throw new IllegalArgumentException("Unsupported statement ontology type " + ontology);
         }
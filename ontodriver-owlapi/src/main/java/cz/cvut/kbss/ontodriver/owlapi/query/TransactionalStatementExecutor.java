@@ -29,21 +29,42 @@ import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 
+import java.util.Optional;
+import java.util.OptionalLong;
+
 class TransactionalStatementExecutor implements StatementExecutor {
 
     private final OWLOntology ontology;
     private final OWLOntologyManager ontologyManager;
     private final OWLReasoner reasoner;
+    // Version of a snapshot which cannot be modified by the transaction, empty otherwise
+    private final OptionalLong version;
+
+    private final QueryResultCache resultCache;
 
     public TransactionalStatementExecutor(OntologySnapshot snapshot) {
+        this(snapshot, QueryResultCache.disabled());
+    }
+
+    public TransactionalStatementExecutor(OntologySnapshot snapshot, QueryResultCache resultCache) {
         this.ontology = snapshot.getOntology();
         this.ontologyManager = snapshot.getOntologyManager();
         this.reasoner = snapshot.getReasoner();
+        this.version = snapshot.getVersion();
+        this.resultCache = resultCache;
     }
 
     @Override
     public ResultSet executeQuery(QuerySpecification query) throws OwlapiDriverException {
-        final QueryResult<OWLObject> res = execute(query);
+        final Optional<QueryResultRows> cached =
+                version.isPresent() ? resultCache.get(query, version.getAsLong()) : Optional.empty();
+        final QueryResultRows res;
+        if (cached.isPresent()) {
+            res = cached.get();
+        } else {
+            res = QueryResultRows.copyOf(execute(query));
+            version.ifPresent(v -> resultCache.put(query, v, res));
+        }
         return AbstractResultSet.createResultSet(res, query.getStatement(), query.getQuery());
     }
 
@@ -18,7 +18,8 @@
 package cz.cvut.kbss.ontodriver.owlapi.util;
 
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
-import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.RandomIdentifierGenerationStrategy;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLOntology;
 
@@ -29,10 +30,17 @@ public class IdentifierGenerator {
     private static final int GENERATION_THRESHOLD = 100;
 
     private final OWLOntology ontology;
+    private final IdentifierGenerationStrategy strategy;
 
     public IdentifierGenerator(OWLOntology ontology) {
+        this(ontology, new RandomIdentifierGenerationStrategy());
+    }
+
+    public IdentifierGenerator(OWLOntology ontology, IdentifierGenerationStrategy strategy) {
         assert ontology != null;
+        assert strategy != null;
         this.ontology = ontology;
+        this.strategy = strategy;
     }
 
     /**
@@ -43,11 +51,14 @@ public class IdentifierGenerator {
      * @throws IdentifierGenerationException If unable to generate unique identifier
      */
     public URI generateIdentifier(URI classUri) {
+        if (strategy.generatesUniqueIdentifiers()) {
+            return strategy.generateIdentifier(classUri);
+        }
         boolean unique = false;
         URI id = null;
         int counter = 0;
         while (!unique && counter++ < GENERATION_THRESHOLD) {
-            id = IdentifierUtils.generateIdentifier(classUri);
+            id = strategy.generateIdentifier(classUri);
             unique = isIdentifierUnique(id);
         }
         if (!unique) {
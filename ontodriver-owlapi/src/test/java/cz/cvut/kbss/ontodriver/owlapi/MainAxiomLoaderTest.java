@@ -39,6 +39,8 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -246,6 +248,41 @@ class MainAxiomLoaderTest {
         assertThrows(ReasonerNotAvailableException.class, () -> loader.findAxioms(descriptor(op)));
     }
 
+    @Test
+    void findAxiomsForMultipleDescriptorsLoadsValuesOfEachDescriptorAndFlushesReasonerOnce() {
+        final URI dpUri = Generator.generateUri();
+        final OWLDataProperty owlDp = dataFactory.getOWLDataProperty(IRI.create(dpUri));
+        final NamedResource otherSubject = NamedResource.create(Generator.generateUri());
+        final OWLNamedIndividual otherIndividual =
+                dataFactory.getOWLNamedIndividual(IRI.create(otherSubject.getIdentifier()));
+        manager.applyChange(new AddAxiom(ontology, dataFactory.getOWLDeclarationAxiom(otherIndividual)));
+        manager.applyChange(new AddAxiom(ontology, dataFactory.getOWLDataPropertyAssertionAxiom(owlDp, individual, 1)));
+        manager.applyChange(
+                new AddAxiom(ontology, dataFactory.getOWLDataPropertyAssertionAxiom(owlDp, otherIndividual, 2)));
+        when(reasonerMock.getDataPropertyValues(otherIndividual, owlDp)).thenReturn(
+                Set.of(dataFactory.getOWLLiteral(2), dataFactory.getOWLLiteral(3)));
+        final Assertion explicitDp = Assertion.createDataPropertyAssertion(dpUri, false);
+        final Assertion inferredDp = Assertion.createDataPropertyAssertion(dpUri, true);
+        final AxiomDescriptor otherDescriptor = new AxiomDescriptor(otherSubject);
+        otherDescriptor.addAssertion(inferredDp);
+        final NamedResource thirdSubject = NamedResource.create(Generator.generateUri());
+        manager.applyChange(new AddAxiom(ontology, dataFactory.getOWLDeclarationAxiom(
+                dataFactory.getOWLNamedIndividual(IRI.create(thirdSubject.getIdentifier())))));
+        final AxiomDescriptor thirdDescriptor = new AxiomDescriptor(thirdSubject);
+        thirdDescriptor.addAssertion(inferredDp);
+
+        final Map<NamedResource, Collection<Axiom<?>>> result =
+                sut.findAxioms(List.of(descriptor(explicitDp), otherDescriptor, thirdDescriptor));
+        assertEquals(3, result.size());
+        assertEquals(1, result.get(SUBJECT).size());
+        assertEquals(explicitDp, result.get(SUBJECT).iterator().next().getAssertion());
+        assertEquals("1", result.get(SUBJECT).iterator().next().getValue().stringValue());
+        assertEquals(2, result.get(otherSubject).size());
+        result.get(otherSubject).forEach(ax -> assertEquals(inferredDp, ax.getAssertion()));
+        assertTrue(result.get(thirdSubject).isEmpty());
+        verify(reasonerMock).flush();
+    }
+
     @Test
     void skipsExplicitAssertionValueIfThereIsTheSameAssertionAlsoWithInference() {
         final URI opUri = URI.create("http://krizik.felk.cvut.cz/PropertyOne");
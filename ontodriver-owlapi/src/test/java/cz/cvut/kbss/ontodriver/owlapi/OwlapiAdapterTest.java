@@ -80,6 +80,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -112,7 +113,8 @@ class OwlapiAdapterTest {
         this.ontology = spy(snapshot.getOntology());
         this.factory = snapshot.getDataFactory();
         this.ontologySnapshot = new OntologySnapshot(ontology, snapshot.getOntologyManager(), factory, reasonerMock);
-        when(connectorMock.getOntologySnapshot()).thenReturn(ontologySnapshot);
+        when(connectorMock.getSharedSnapshot()).thenReturn(ontologySnapshot);
+        lenient().when(connectorMock.getOntologySnapshot(ontologySnapshot)).thenReturn(ontologySnapshot);
 
         this.sut = spy(new OwlapiAdapter(connectorMock));
     }
@@ -365,10 +367,35 @@ class OwlapiAdapterTest {
         executorFactoryField.setAccessible(true);
         assertNull(executorFactoryField.get(sut));
         startTransaction();
-        verify(connectorMock).getOntologySnapshot();
+        verify(connectorMock).getSharedSnapshot();
         assertNotNull(executorFactoryField.get(sut));
     }
 
+    @Test
+    void readOnlyTransactionDoesNotCopySharedSnapshot() {
+        when(reasonerMock.isConsistent()).thenReturn(Boolean.TRUE);
+        sut.isConsistent(null);
+        sut.commit();
+        verify(connectorMock, never()).getOntologySnapshot(any());
+        verify(connectorMock).closeSnapshot(ontologySnapshot);
+    }
+
+    @Test
+    void updateReplacesSharedSnapshotWithItsModifiableCopy() {
+        final OntologySnapshot writable =
+                new OntologySnapshot(ontology, ontologySnapshot.getOntologyManager(), factory, reasonerMock);
+        when(connectorMock.getOntologySnapshot(ontologySnapshot)).thenReturn(writable);
+        final AxiomValueDescriptor descriptor = new AxiomValueDescriptor(INDIVIDUAL);
+        descriptor.addAssertionValue(Assertion.createClassAssertion(false),
+                new Value<>(URI.create("http://krizik.felk.cvut.cz/typeA")));
+        sut.persist(descriptor);
+        sut.persist(descriptor);
+        verify(connectorMock).getOntologySnapshot(ontologySnapshot);
+        verify(connectorMock).closeSnapshot(ontologySnapshot);
+        sut.commit();
+        verify(connectorMock).closeSnapshot(writable);
+    }
+
     @Test
     void transactionCommitClosesTransactionalSnapshot() throws Exception {
         startTransaction();
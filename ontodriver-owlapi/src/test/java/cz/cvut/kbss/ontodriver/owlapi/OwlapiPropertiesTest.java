@@ -55,6 +55,7 @@ public class OwlapiPropertiesTest {
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         when(adapterMock.getPropertiesHandler()).thenReturn(handlerMock);
+        when(adapterMock.getPropertiesHandlerForUpdate()).thenReturn(handlerMock);
         this.properties = new OwlapiProperties(adapterMock, beforeMock, afterMock);
     }
 
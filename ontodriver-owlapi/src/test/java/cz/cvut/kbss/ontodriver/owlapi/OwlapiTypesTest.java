@@ -51,6 +51,7 @@ public class OwlapiTypesTest {
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         when(adapterMock.getTypesHandler()).thenReturn(typesHandlerMock);
+        when(adapterMock.getTypesHandlerForUpdate()).thenReturn(typesHandlerMock);
         this.types = new OwlapiTypes(adapterMock, beforeMock, () -> {
         });
     }
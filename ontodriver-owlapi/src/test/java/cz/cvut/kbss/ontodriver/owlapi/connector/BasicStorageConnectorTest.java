@@ -18,8 +18,10 @@
 package cz.cvut.kbss.ontodriver.owlapi.connector;
 
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiDataSource;
+import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
 import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
 import cz.cvut.kbss.ontodriver.owlapi.exception.InvalidOntologyIriException;
 import cz.cvut.kbss.ontodriver.owlapi.change.MutableAddAxiom;
@@ -27,11 +29,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
 
 import java.io.File;
 import java.net.URI;
 import java.nio.file.Files;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -203,6 +207,83 @@ public class BasicStorageConnectorTest {
         assertFalse(manager.contains(transactionalOntology));
     }
 
+    @Test
+    public void getSharedSnapshotReturnsSameSnapshotUntilOntologyChanges() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot snapshotOne = connector.getSharedSnapshot();
+        final OntologySnapshot snapshotTwo = connector.getSharedSnapshot();
+        assertSame(snapshotOne, snapshotTwo);
+
+        final OWLClass cls = addClassToOntology(snapshotOne);
+        final OntologySnapshot snapshotThree = connector.getSharedSnapshot();
+        assertNotSame(snapshotOne, snapshotThree);
+        assertFalse(snapshotOne.getOntology().containsClassInSignature(cls.getIRI()));
+        assertTrue(snapshotThree.getOntology().containsClassInSignature(cls.getIRI()));
+    }
+
+    @Test
+    public void closeSnapshotRemovesOutdatedSharedSnapshotWhenLastTransactionReleasesIt() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot snapshot = connector.getSharedSnapshot();
+        connector.getSharedSnapshot();
+        final OWLOntologyManager manager = snapshot.getOntologyManager();
+        addClassToOntology(snapshot);
+
+        connector.closeSnapshot(snapshot);
+        assertTrue(manager.contains(snapshot.getOntology()));
+        connector.closeSnapshot(snapshot);
+        assertFalse(manager.contains(snapshot.getOntology()));
+    }
+
+    @Test
+    public void sharedSnapshotCannotBeModified() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot snapshot = connector.getSharedSnapshot();
+        final OWLAxiom axiom = snapshot.getDataFactory().getOWLDeclarationAxiom(
+                snapshot.getDataFactory().getOWLClass(IRI.create("http://krizik.felk.cvut.cz/ontologies/jopa#A")));
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.applyChanges(List.of(new MutableAddAxiom(snapshot.getOntology(), axiom))));
+    }
+
+    @Test
+    public void sharedSnapshotAndLiveOntologyUseSynchronizedReasonerAndTransactionalSnapshotsOwnReasoners()
+            throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final DriverConfiguration configuration =
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI));
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS,
+                StructuralReasonerFactory.class.getName());
+        this.connector = new BasicStorageConnector(configuration);
+        final OntologySnapshot shared = connector.getSharedSnapshot();
+        assertInstanceOf(SynchronizedReasoner.class, shared.getReasoner());
+        connector.executeRead(live -> {
+            assertInstanceOf(SynchronizedReasoner.class, live.getReasoner());
+            return null;
+        });
+        final OntologySnapshot transactional = connector.getOntologySnapshot(shared);
+        assertNotNull(transactional.getReasoner());
+        assertNotSame(shared.getReasoner(), transactional.getReasoner());
+        assertFalse(transactional.getReasoner() instanceof SynchronizedReasoner);
+    }
+
+    @Test
+    public void getSnapshotFromSourceCopiesSourceContent() throws Exception {
+        final Set<OWLAxiom> axioms = Generator.generateAxioms();
+        final URI physicalUri = initOntology(axioms, false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot shared = connector.getSharedSnapshot();
+        final OntologySnapshot result = connector.getOntologySnapshot(shared);
+        assertNotSame(shared.getOntology(), result.getOntology());
+        assertTrue(result.getOntology().axioms().collect(Collectors.toSet()).containsAll(axioms));
+    }
+
     @Test
     public void getSnapshotResolvesImportsOfTheTransactionalSnapshot() throws Exception {
         final URI physicalUri = initOntology(Collections.emptySet(), false);
@@ -258,4 +339,44 @@ public class BasicStorageConnectorTest {
         assertNotNull(snapshot.getOntologyManager());
         assertNotNull(snapshot.getDataFactory());
     }
+
+    @Test
+    public void applyChangesWithJournalAppendsChangesToJournalAndLoadReplaysThem() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final DriverConfiguration configuration = journalConfiguration(physicalUri);
+        final File journalFile = new File(new File(physicalUri).getPath() + OntologyChangeJournal.JOURNAL_SUFFIX);
+        journalFile.deleteOnExit();
+        this.connector = new BasicStorageConnector(configuration);
+        final OWLClass cls = addClassToOntology(connector.getOntologySnapshot());
+
+        assertTrue(journalFile.exists());
+        final OWLOntology saved = OWLManager.createOWLOntologyManager()
+                                            .loadOntologyFromOntologyDocument(IRI.create(physicalUri));
+        assertFalse(saved.containsClassInSignature(cls.getIRI()));
+
+        final BasicStorageConnector other = new BasicStorageConnector(journalConfiguration(physicalUri));
+        assertTrue(other.getOntologySnapshot().getOntology().containsClassInSignature(cls.getIRI()));
+    }
+
+    private DriverConfiguration journalConfiguration(URI physicalUri) {
+        final DriverConfiguration configuration =
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI));
+        configuration.setProperty(OwlapiConfigParam.JOURNAL, Boolean.TRUE.toString());
+        return configuration;
+    }
+
+    @Test
+    public void closeWithJournalSavesOntologyAndClearsJournal() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final File journalFile = new File(new File(physicalUri).getPath() + OntologyChangeJournal.JOURNAL_SUFFIX);
+        journalFile.deleteOnExit();
+        this.connector = new BasicStorageConnector(journalConfiguration(physicalUri));
+        final OWLClass cls = addClassToOntology(connector.getOntologySnapshot());
+        connector.close();
+
+        assertFalse(journalFile.exists());
+        final OWLOntology saved = OWLManager.createOWLOntologyManager()
+                                            .loadOntologyFromOntologyDocument(IRI.create(physicalUri));
+        assertTrue(saved.containsClassInSignature(cls.getIRI()));
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
+import cz.cvut.kbss.ontodriver.owlapi.environment.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.impl.OWLClassNode;
+import org.semanticweb.owlapi.reasoner.impl.OWLClassNodeSet;
+import org.semanticweb.owlapi.reasoner.impl.OWLNamedIndividualNode;
+import org.semanticweb.owlapi.reasoner.impl.OWLNamedIndividualNodeSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class InferredAssertionIndexTest {
+
+    @Mock
+    private OWLReasoner reasonerMock;
+
+    private OWLOntology ontology;
+    private OWLDataFactory dataFactory;
+
+    private OWLNamedIndividual individual;
+    private OWLNamedIndividual otherIndividual;
+    private OWLClass type;
+    private OWLDataProperty dataProperty;
+    private OWLObjectProperty objectProperty;
+
+    private InferredAssertionIndex sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final OntologySnapshot snapshot = TestUtils.initRealOntology(reasonerMock);
+        this.ontology = snapshot.getOntology();
+        this.dataFactory = snapshot.getDataFactory();
+        this.individual = dataFactory.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+        this.otherIndividual = dataFactory.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+        this.type = dataFactory.getOWLClass(IRI.create(Generator.generateUri()));
+        this.dataProperty = dataFactory.getOWLDataProperty(IRI.create(Generator.generateUri()));
+        this.objectProperty = dataFactory.getOWLObjectProperty(IRI.create(Generator.generateUri()));
+        snapshot.getOntologyManager().addAxioms(ontology, Set.of(
+                dataFactory.getOWLClassAssertionAxiom(type, individual),
+                dataFactory.getOWLDataPropertyAssertionAxiom(dataProperty, individual, 117),
+                dataFactory.getOWLObjectPropertyAssertionAxiom(objectProperty, individual, otherIndividual)));
+        when(reasonerMock.getTypes(any(OWLNamedIndividual.class), eq(false))).thenReturn(new OWLClassNodeSet());
+        when(reasonerMock.getDataPropertyValues(any(OWLNamedIndividual.class), any(OWLDataProperty.class)))
+                .thenReturn(Set.of());
+        when(reasonerMock.getObjectPropertyValues(any(OWLNamedIndividual.class), any(OWLObjectProperty.class)))
+                .thenReturn(new OWLNamedIndividualNodeSet());
+        this.sut = new InferredAssertionIndex(ontology, reasonerMock);
+    }
+
+    @Test
+    void getTypesMaterializesInferredAssertionsOfIndividualOnFirstAccess() {
+        when(reasonerMock.getTypes(individual, false)).thenReturn(new OWLClassNodeSet(new OWLClassNode(type)));
+
+        assertEquals(Set.of(type), sut.getTypes(individual));
+        assertEquals(Set.of(type), sut.getTypes(individual));
+        sut.getDataPropertyValues(individual);
+        verify(reasonerMock).flush();
+        verify(reasonerMock).getTypes(individual, false);
+        verify(reasonerMock).getDataPropertyValues(individual, dataProperty);
+        verify(reasonerMock).getObjectPropertyValues(individual, objectProperty);
+        verify(reasonerMock, never()).getTypes(otherIndividual, false);
+    }
+
+    @Test
+    void concurrentLookupsDoNotAccessReasonerConcurrently() throws Exception {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        when(reasonerMock.getTypes(any(OWLNamedIndividual.class), eq(false))).thenAnswer(inv -> {
+            if (active.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            Thread.sleep(1);
+            active.decrementAndGet();
+            return new OWLClassNodeSet();
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 20; j++) {
+                        sut.getTypes(dataFactory.getOWLNamedIndividual(IRI.create(Generator.generateUri())));
+                        sut.isEntailed(dataFactory.getOWLSubClassOfAxiom(type, dataFactory.getOWLThing()));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(overlapped.get());
+    }
+
+    @Test
+    void getPropertyValuesReturnsInferredValuesOfIndividual() {
+        final OWLLiteral value = dataFactory.getOWLLiteral(117);
+        when(reasonerMock.getDataPropertyValues(individual, dataProperty)).thenReturn(Set.of(value));
+        when(reasonerMock.getObjectPropertyValues(individual, objectProperty))
+                .thenReturn(new OWLNamedIndividualNodeSet(new OWLNamedIndividualNode(otherIndividual)));
+
+        assertEquals(Map.of(dataProperty, Set.of(value)), sut.getDataPropertyValues(individual));
+        assertEquals(Set.of(value), sut.getDataPropertyValues(individual, dataProperty));
+        assertEquals(Set.of(otherIndividual), sut.getObjectPropertyValues(individual, objectProperty));
+        assertTrue(sut.getObjectPropertyValues(otherIndividual).isEmpty());
+    }
+
+    @Test
+    void getTypesResolvesIndividualNotInSignatureUsingReasoner() {
+        final OWLNamedIndividual unknown = dataFactory.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+        when(reasonerMock.getTypes(unknown, false)).thenReturn(new OWLClassNodeSet(new OWLClassNode(type)));
+
+        assertEquals(Set.of(type), sut.getTypes(unknown));
+        sut.getTypes(unknown);
+        verify(reasonerMock).getTypes(unknown, false);
+    }
+
+    @Test
+    void isEntailedResolvesAssertionAxiomsUsingIndex() {
+        when(reasonerMock.getTypes(individual, false)).thenReturn(new OWLClassNodeSet(new OWLClassNode(type)));
+        when(reasonerMock.getObjectPropertyValues(individual, objectProperty))
+                .thenReturn(new OWLNamedIndividualNodeSet(new OWLNamedIndividualNode(otherIndividual)));
+
+        assertTrue(sut.isEntailed(dataFactory.getOWLClassAssertionAxiom(type, individual)));
+        assertFalse(sut.isEntailed(dataFactory.getOWLClassAssertionAxiom(type, otherIndividual)));
+        assertTrue(sut.isEntailed(
+                dataFactory.getOWLObjectPropertyAssertionAxiom(objectProperty, individual, otherIndividual)));
+        assertFalse(sut.isEntailed(dataFactory.getOWLDataPropertyAssertionAxiom(dataProperty, individual, 117)));
+        verify(reasonerMock, never()).isEntailed(any(OWLAxiom.class));
+    }
+
+    @Test
+    void isEntailedPassesOtherAxiomsToReasoner() {
+        final OWLAxiom axiom = dataFactory.getOWLSubClassOfAxiom(type, dataFactory.getOWLThing());
+        when(reasonerMock.isEntailed(axiom)).thenReturn(true);
+
+        assertTrue(sut.isEntailed(axiom));
+        verify(reasonerMock).isEntailed(axiom);
+        verify(reasonerMock, never()).getTypes(any(OWLNamedIndividual.class), eq(false));
+    }
+
+    @Test
+    void invalidateCausesIndividualsToBeMaterializedAgainOnNextAccess() {
+        sut.getTypes(individual);
+        sut.invalidate();
+        sut.getTypes(individual);
+
+        verify(reasonerMock, times(2)).flush();
+        verify(reasonerMock, times(2)).getTypes(individual, false);
+    }
+}
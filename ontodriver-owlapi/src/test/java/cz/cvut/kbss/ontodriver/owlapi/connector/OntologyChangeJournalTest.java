@@ -0,0 +1,152 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OntologyChangeJournalTest {
+
+    private Path ontologyFile;
+
+    private OWLOntology ontology;
+    private OWLDataFactory dataFactory;
+
+    private OntologyChangeJournal sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.ontologyFile = Files.createTempFile("owlapi-onto", ".owl");
+        final OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        this.ontology = manager.createOntology(IRI.create(Generator.generateUri()));
+        this.dataFactory = manager.getOWLDataFactory();
+        this.sut = new OntologyChangeJournal(ontologyFile);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(sut.getPath());
+        Files.deleteIfExists(ontologyFile);
+    }
+
+    @Test
+    void replayAppliesAppendedTransactions() throws Exception {
+        final OWLAxiom added = classAssertion();
+        final OWLAxiom removed = classAssertion();
+        sut.append(List.of(new AddAxiom(ontology, added), new AddAxiom(ontology, removed)));
+        sut.append(List.of(new RemoveAxiom(ontology, removed)));
+
+        final OWLOntology target = createTarget();
+        final OntologyChangeJournal journal = new OntologyChangeJournal(ontologyFile);
+        journal.replay(target);
+        assertEquals(2, journal.getTransactionCount());
+        assertTrue(target.containsAxiom(added));
+        assertFalse(target.containsAxiom(removed));
+    }
+
+    private OWLAxiom classAssertion() {
+        final OWLNamedIndividual individual = dataFactory.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+        return dataFactory.getOWLClassAssertionAxiom(dataFactory.getOWLClass(IRI.create(Generator.generateUri())), individual);
+    }
+
+    private OWLOntology createTarget() throws Exception {
+        return OWLManager.createOWLOntologyManager().createOntology(ontology.getOntologyID());
+    }
+
+    @Test
+    void replayAppliesOnlyLastChangeOfAxiomInTransaction() throws Exception {
+        final OWLAxiom axiom = classAssertion();
+        sut.append(List.of(new AddAxiom(ontology, axiom), new RemoveAxiom(ontology, axiom)));
+
+        final OWLOntology target = createTarget();
+        target.getOWLOntologyManager().addAxiom(target, axiom);
+        new OntologyChangeJournal(ontologyFile).replay(target);
+        assertFalse(target.containsAxiom(axiom));
+    }
+
+    @Test
+    void replayDoesNotAddDeclarationsOfEntitiesInChangedAxioms() throws Exception {
+        final OWLAxiom axiom = classAssertion();
+        sut.append(List.of(new AddAxiom(ontology, axiom)));
+
+        final OWLOntology target = createTarget();
+        new OntologyChangeJournal(ontologyFile).replay(target);
+        assertEquals(1, target.getAxiomCount());
+        assertTrue(target.containsAxiom(axiom));
+    }
+
+    @Test
+    void replayTruncatesCorruptTailSoThatSubsequentlyAppendedTransactionsAreReplayed() throws Exception {
+        final OWLAxiom first = classAssertion();
+        sut.append(List.of(new AddAxiom(ontology, first)));
+        final long validSize = Files.size(sut.getPath());
+        Files.write(sut.getPath(), new byte[]{0, 0, 1, 0, 42, 17, 3}, StandardOpenOption.APPEND);
+
+        final OntologyChangeJournal reopened = new OntologyChangeJournal(ontologyFile);
+        reopened.replay(createTarget());
+        assertEquals(1, reopened.getTransactionCount());
+        assertEquals(validSize, Files.size(sut.getPath()));
+        final OWLAxiom second = classAssertion();
+        reopened.append(List.of(new AddAxiom(ontology, second)));
+
+        final OWLOntology target = createTarget();
+        final OntologyChangeJournal result = new OntologyChangeJournal(ontologyFile);
+        result.replay(target);
+        assertEquals(2, result.getTransactionCount());
+        assertTrue(target.containsAxiom(first));
+        assertTrue(target.containsAxiom(second));
+    }
+
+    @Test
+    void replayIgnoresRecordWithInvalidChecksum() throws Exception {
+        final OWLAxiom first = classAssertion();
+        sut.append(List.of(new AddAxiom(ontology, first)));
+        final long validSize = Files.size(sut.getPath());
+        final OWLAxiom second = classAssertion();
+        sut.append(List.of(new AddAxiom(ontology, second)));
+        final byte[] content = Files.readAllBytes(sut.getPath());
+        content[content.length - 2] ^= 0x01;
+        Files.write(sut.getPath(), content);
+
+        final OWLOntology target = createTarget();
+        new OntologyChangeJournal(ontologyFile).replay(target);
+        assertTrue(target.containsAxiom(first));
+        assertFalse(target.containsAxiom(second));
+        assertEquals(validSize, Files.size(sut.getPath()));
+    }
+}
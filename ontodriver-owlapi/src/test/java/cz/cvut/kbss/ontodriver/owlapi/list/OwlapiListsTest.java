@@ -48,6 +48,8 @@ public class OwlapiListsTest {
         MockitoAnnotations.openMocks(this);
         when(adapterMock.getSimpleListHandler()).thenReturn(simpleListHandlerMock);
         when(adapterMock.getReferencedListHandler()).thenReturn(refListHandlerMock);
+        when(adapterMock.getSimpleListHandlerForUpdate()).thenReturn(simpleListHandlerMock);
+        when(adapterMock.getReferencedListHandlerForUpdate()).thenReturn(refListHandlerMock);
         this.lists = new OwlapiLists(adapterMock, () -> {
         }, afterMock);
     }
@@ -19,16 +19,13 @@ package cz.cvut.kbss.ontodriver.owlapi.query;
 
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.owl2query.model.QueryResult;
-import cz.cvut.kbss.owl2query.model.Variable;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.semanticweb.owlapi.model.OWLObject;
 
-import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 class AbstractResultSetTest {
 
@@ -40,23 +37,15 @@ class AbstractResultSetTest {
 
     @Test
     void createResultSetReturnAskResultSetForAskQuery() {
-        final QueryResult<OWLObject> qr = mock(QueryResult.class);
+        final QueryResult<OWLObject> qr = new QueryResultGenerator().generate(List.of(), List.of());
         final ResultSet result = AbstractResultSet.createResultSet(qr, statement, ASK_QUERY);
         assertTrue(result instanceof AskResultSet);
     }
 
     @Test
     void createResultSetReturnSelectResultSetForSelectQuery() {
-        final QueryResult<OWLObject> qr = initSelectResult();
+        final QueryResult<OWLObject> qr = new QueryResultGenerator().generate(List.of("x"), List.of());
         final ResultSet result = AbstractResultSet.createResultSet(qr, statement, SELECT_QUERY);
         assertTrue(result instanceof SelectResultSet);
     }
-
-    private QueryResult<OWLObject> initSelectResult() {
-        final QueryResult<OWLObject> qr = mock(QueryResult.class);
-        final Variable<OWLObject> v = mock(Variable.class);
-        when(v.getName()).thenReturn("x");
-        when(qr.getResultVars()).thenReturn(Collections.singletonList(v));
-        return qr;
-    }
 }
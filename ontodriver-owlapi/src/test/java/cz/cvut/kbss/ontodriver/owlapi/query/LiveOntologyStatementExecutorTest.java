@@ -21,15 +21,20 @@ import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.connector.Connector;
+import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -71,4 +76,23 @@ public class LiveOntologyStatementExecutorTest {
         executor.executeUpdate(QuerySpecification.query(UPDATE).statement(statementMock));
         verify(connectorMock).executeWrite(any(Consumer.class));
     }
+
+    @Test
+    public void executeQueryReturnsCachedResultForVersionedSnapshot() throws Exception {
+        final QueryResultCache cache = new QueryResultCache(10);
+        this.executor = new LiveOntologyStatementExecutor(connectorMock, cache);
+        final OntologySnapshot snapshot = mock(OntologySnapshot.class);
+        when(snapshot.getVersion()).thenReturn(OptionalLong.of(5));
+        when(connectorMock.executeRead(any(Function.class))).thenAnswer(inv -> {
+            final Function<OntologySnapshot, ?> function = inv.getArgument(0);
+            return function.apply(snapshot);
+        });
+        final QuerySpecification query = QuerySpecification.query(QUERY).statement(statementMock);
+        cache.put(query, 5, new QueryResultRows(List.of(), List.of()));
+
+        final ResultSet res = executor.executeQuery(query);
+        assertThat(res, instanceOf(SelectResultSet.class));
+        assertEquals(statementMock, res.getStatement());
+        verify(snapshot, never()).getReasoner();
+    }
 }
@@ -18,12 +18,19 @@
 package cz.cvut.kbss.ontodriver.owlapi.query;
 
 import cz.cvut.kbss.ontodriver.ResultSet;
+import cz.cvut.kbss.ontodriver.model.LangString;
+import cz.cvut.kbss.ontodriver.model.Literal;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiConnection;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -53,4 +60,36 @@ public class OwlapiPreparedStatementTest {
         statement.executeQuery();
         verify(resultSetMock).close();
     }
+
+    @Test
+    void setObjectInsertsIdentifierAsIri() throws Exception {
+        final URI value = URI.create("http://onto.fel.cvut.cz/ontologies/jopa#a");
+
+        final String result = executeWithBinding("z", NamedResource.create(value));
+        assertEquals("SELECT ?x WHERE { ?x ?y <" + value + "> . }", result);
+    }
+
+    @Test
+    void setObjectInsertsEscapedLanguageTaggedString() throws Exception {
+        final String result = executeWithBinding("z", new LangString("say \"hi\"", "en"));
+        assertEquals("SELECT ?x WHERE { ?x ?y \"say \\\"hi\\\"\"@en . }", result);
+    }
+
+    @Test
+    void setObjectInsertsTypedLiteral() throws Exception {
+        final String result = executeWithBinding("z", Literal.from("117", "http://www.w3.org/2001/XMLSchema#int"));
+        assertEquals("SELECT ?x WHERE { ?x ?y \"117\"^^<http://www.w3.org/2001/XMLSchema#int> . }", result);
+    }
+
+    private String executeWithBinding(String binding, Object value) throws Exception {
+        when(executorFactoryMock.getStatementExecutor(any())).thenReturn(executorMock);
+        when(executorMock.executeQuery(any(QuerySpecification.class))).thenReturn(resultSetMock);
+        final OwlapiPreparedStatement statement = new OwlapiPreparedStatement(executorFactoryMock, connectionMock,
+                QUERY);
+        statement.setObject(binding, value);
+        statement.executeQuery();
+        final ArgumentCaptor<QuerySpecification> captor = ArgumentCaptor.forClass(QuerySpecification.class);
+        verify(executorMock).executeQuery(captor.capture());
+        return captor.getValue().getQuery();
+    }
 }
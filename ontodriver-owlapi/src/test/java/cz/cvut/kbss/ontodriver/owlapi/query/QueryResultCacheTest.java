@@ -0,0 +1,113 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.query;
+
+import cz.cvut.kbss.ontodriver.ResultSet;
+import cz.cvut.kbss.ontodriver.Statement;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class QueryResultCacheTest {
+
+    private static final String QUERY = "SELECT ?x ?y ?z WHERE { ?x ?y ?z . }";
+
+    private final QueryResultCache sut = new QueryResultCache(2);
+
+    private static QueryResultRows queryResult() {
+        return new QueryResultRows(List.of(), List.of());
+    }
+
+    @Test
+    void getReturnsResultCachedForSameQueryAndOntologyVersion() {
+        final QueryResultRows result = queryResult();
+        sut.put(QuerySpecification.query(QUERY), 1, result);
+
+        final Optional<QueryResultRows> cached = sut.get(QuerySpecification.query(QUERY), 1);
+        assertTrue(cached.isPresent());
+        assertEquals(result, cached.get());
+    }
+
+    @Test
+    void getReturnsEmptyOptionalForDifferentOntologyVersion() {
+        sut.put(QuerySpecification.query(QUERY), 1, queryResult());
+
+        assertFalse(sut.get(QuerySpecification.query(QUERY), 2).isPresent());
+    }
+
+    @Test
+    void getDistinguishesQueriesWithAndWithoutInference() {
+        sut.put(QuerySpecification.query(QUERY), 1, queryResult());
+
+        assertFalse(sut.get(QuerySpecification.query(QUERY).disableInference(true), 1).isPresent());
+    }
+
+    @Test
+    void putEvictsLeastRecentlyUsedResultWhenCapacityIsExceeded() {
+        final String queryTwo = "SELECT ?x WHERE { ?x a ?y . }";
+        final String queryThree = "ASK { ?x a ?y . }";
+        sut.put(QuerySpecification.query(QUERY), 1, queryResult());
+        sut.put(QuerySpecification.query(queryTwo), 1, queryResult());
+        sut.get(QuerySpecification.query(QUERY), 1);
+        sut.put(QuerySpecification.query(queryThree), 1, queryResult());
+
+        assertTrue(sut.get(QuerySpecification.query(QUERY), 1).isPresent());
+        assertFalse(sut.get(QuerySpecification.query(queryTwo), 1).isPresent());
+        assertTrue(sut.get(QuerySpecification.query(queryThree), 1).isPresent());
+    }
+
+    @Test
+    void cachedResultIsImmutableCopyReadableByIndependentResultSets() throws Exception {
+        final QueryResultRows result = QueryResultRows.copyOf(new QueryResultGenerator().generate(
+                List.of("a"), List.<List<Object>>of(List.of(1), List.of(2))));
+        sut.put(QuerySpecification.query(QUERY), 1, result);
+        final QueryResultRows cached = sut.get(QuerySpecification.query(QUERY), 1).orElseThrow();
+        assertThrows(UnsupportedOperationException.class, () -> cached.rows().clear());
+        assertThrows(UnsupportedOperationException.class, () -> cached.rows().get(0).clear());
+
+        final ResultSet first = AbstractResultSet.createResultSet(cached, mock(Statement.class), QUERY);
+        final ResultSet second = AbstractResultSet.createResultSet(cached, mock(Statement.class), QUERY);
+        first.next();
+        first.next();
+        assertEquals(2, first.getInt(0));
+        assertFalse(first.hasNext());
+        second.next();
+        assertEquals(1, second.getInt(0));
+        assertTrue(second.hasNext());
+    }
+
+    @Test
+    void disabledCacheDoesNotStoreResults() {
+        final QueryResultCache disabled = QueryResultCache.disabled();
+        disabled.put(QuerySpecification.query(QUERY), 1, queryResult());
+
+        assertFalse(disabled.get(QuerySpecification.query(QUERY), 1).isPresent());
+    }
+
+    @Test
+    void constructorThrowsIllegalArgumentExceptionForNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryResultCache(-1));
+    }
+}
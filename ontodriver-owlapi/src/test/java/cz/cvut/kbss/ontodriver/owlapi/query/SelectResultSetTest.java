@@ -64,7 +64,7 @@ public class SelectResultSetTest {
     }
 
     private SelectResultSet resultSet(QueryResult<OWLObject> queryResult) {
-        return new SelectResultSet(queryResult, statementMock);
+        return new SelectResultSet(QueryResultRows.copyOf(queryResult), statementMock);
     }
 
     @Test
@@ -18,6 +18,7 @@
 package cz.cvut.kbss.ontodriver.owlapi.util;
 
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
+import cz.cvut.kbss.ontodriver.util.TimeOrderedUuidGenerationStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -71,6 +72,15 @@ class IdentifierGeneratorTest {
         }
     }
 
+    @Test
+    void generateIdentifierDoesNotCheckOntologySignatureWhenStrategyGeneratesUniqueIdentifiers() {
+        final URI baseUri = URI.create("http://baseUri/");
+        this.generator = new IdentifierGenerator(ontologyMock, new TimeOrderedUuidGenerationStrategy());
+        final URI result = generator.generateIdentifier(baseUri);
+        assertTrue(result.toString().contains(baseUri.toString()));
+        verify(ontologyMock, never()).containsIndividualInSignature(any(IRI.class));
+    }
+
     private int extractThreshold() throws Exception {
         final Field thresholdField = IdentifierGenerator.class.getDeclaredField("GENERATION_THRESHOLD");
         thresholdField.setAccessible(true);
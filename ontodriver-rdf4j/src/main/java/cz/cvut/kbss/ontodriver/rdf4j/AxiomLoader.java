@@ -28,14 +28,18 @@ import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoader;
 import cz.cvut.kbss.ontodriver.rdf4j.util.AxiomBuilder;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 class AxiomLoader {
 
     private final RepoConnection connector;
 
-    private final Map<IRI, Assertion> propertyToAssertion;
+    private Map<IRI, Assertion> propertyToAssertion;
     private Map<IRI, Assertion> explicitAssertions;
     private Map<IRI, Assertion> inferredAssertions;
 
@@ -52,20 +56,81 @@ class AxiomLoader {
     }
 
     private Collection<Axiom<?>> findStatements(AxiomDescriptor descriptor) throws Rdf4jDriverException {
-        final Collection<Axiom<?>> result = new HashSet<>();
         final Assertion unspecified = processAssertions(descriptor);
         final AxiomBuilder axiomBuilder = new AxiomBuilder(descriptor.getSubject(), propertyToAssertion, unspecified);
         final StatementLoader statementLoader = createLoader(descriptor.getSubject(), axiomBuilder);
         statementLoader.setLoadAllThreshold(config.getLoadAllThreshold());
-        if (unspecified == null || !unspecified.isInferred()) {
-            statementLoader.setIncludeInferred(false);
-            result.addAll(statementLoader.loadAxioms(descriptor, explicitAssertions));
+        final Map<IRI, Assertion> explicit =
+                unspecified == null || !unspecified.isInferred() ? explicitAssertions : Collections.emptyMap();
+        return statementLoader.loadAxioms(descriptor, explicit, inferredAssertions);
+    }
+
+    /**
+     * Loads axioms for all the specified descriptors.
+     * <p>
+     * Statements of subjects whose values are expected in the default context are retrieved in batches (one repository
+     * request per batch and inference setting) and then split according to the individual descriptors. In accordance
+     * with the load all threshold, only values of the descriptor properties are retrieved for subjects which do not
+     * require all their statements. Descriptors specifying contexts are loaded separately.
+     *
+     * @param descriptors Descriptors of axioms to load
+     * @return Map of subjects to loaded axioms
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Map<NamedResource, Collection<Axiom<?>>> loadAxioms(Collection<AxiomDescriptor> descriptors)
+            throws Rdf4jDriverException {
+        final Map<NamedResource, Collection<Axiom<?>>> result = new HashMap<>(descriptors.size());
+        final List<AxiomDescriptor> batched = new ArrayList<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            if (isInDefaultContext(descriptor)) {
+                batched.add(descriptor);
+            } else {
+                result.put(descriptor.getSubject(), loadAxioms(descriptor));
+            }
+        }
+        if (batched.isEmpty()) {
+            return result;
+        }
+        final ValueFactory vf = connector.getValueFactory();
+        final SubjectStatements explicit = new SubjectStatements(false);
+        final SubjectStatements inferred = new SubjectStatements(true);
+        for (AxiomDescriptor descriptor : batched) {
+            final Resource subject = Rdf4jUtils.toRdf4jIri(descriptor.getSubject().getIdentifier(), vf);
+            final Assertion unspecified = processAssertions(descriptor);
+            if (unspecified == null || !unspecified.isInferred()) {
+                explicit.register(subject, explicitAssertions);
+            }
+            inferred.register(subject, inferredAssertions);
+        }
+        explicit.load();
+        inferred.load();
+        for (AxiomDescriptor descriptor : batched) {
+            final Collection<Axiom<?>> axioms = new HashSet<>();
+            final Assertion unspecified = processAssertions(descriptor);
+            final AxiomBuilder axiomBuilder =
+                    new AxiomBuilder(descriptor.getSubject(), propertyToAssertion, unspecified);
+            final StatementLoader statementLoader = createLoader(descriptor.getSubject(), axiomBuilder);
+            final Resource subject = Rdf4jUtils.toRdf4jIri(descriptor.getSubject().getIdentifier(), vf);
+            if (unspecified == null || !unspecified.isInferred()) {
+                statementLoader.setIncludeInferred(false);
+                axioms.addAll(statementLoader.loadAxioms(descriptor, explicitAssertions, explicit.get(subject)));
+            }
+            statementLoader.setIncludeInferred(true);
+            axioms.addAll(statementLoader.loadAxioms(descriptor, inferredAssertions, inferred.get(subject)));
+            result.put(descriptor.getSubject(), axioms);
         }
-        statementLoader.setIncludeInferred(true);
-        result.addAll(statementLoader.loadAxioms(descriptor, inferredAssertions));
         return result;
     }
 
+    private static Map<Resource, List<Statement>> groupBySubject(Collection<Statement> statements) {
+        return statements.stream().collect(Collectors.groupingBy(Statement::getSubject));
+    }
+
+    private static boolean isInDefaultContext(AxiomDescriptor descriptor) {
+        return descriptor.getSubjectContexts().isEmpty() &&
+                descriptor.getAssertions().stream().allMatch(a -> descriptor.getAssertionContexts(a).isEmpty());
+    }
+
     private StatementLoader createLoader(NamedResource individual, AxiomBuilder axiomBuilder) {
         final IRI subject = Rdf4jUtils.toRdf4jIri(individual.getIdentifier(), connector.getValueFactory());
         return config.getStatementLoaderFactory().create(connector, subject, axiomBuilder);
@@ -81,6 +146,7 @@ class AxiomLoader {
      */
     private Assertion processAssertions(AxiomDescriptor descriptor) {
         final Set<Assertion> assertions = descriptor.getAssertions();
+        this.propertyToAssertion = new HashMap<>(assertions.size());
         this.explicitAssertions = new HashMap<>(assertions.size());
         this.inferredAssertions = new HashMap<>(assertions.size());
         Assertion unspecified = null;
@@ -106,4 +172,53 @@ class AxiomLoader {
         final StatementLoader loader = createLoader(individual, axiomBuilder);
         return loader.loadAxioms(context != null ? Collections.singleton(context) : Collections.emptySet());
     }
+
+    /**
+     * Statements of subjects loaded in a batch with the same inference setting.
+     */
+    private final class SubjectStatements {
+
+        private final boolean includeInferred;
+
+        // Subjects whose all statements are needed
+        private final Set<Resource> allPropertiesSubjects = new LinkedHashSet<>();
+        // Subjects for which only values of the selected properties are needed
+        private final Set<Resource> selectedPropertiesSubjects = new LinkedHashSet<>();
+        private final Set<IRI> selectedProperties = new HashSet<>();
+
+        private Map<Resource, List<Statement>> statements = Collections.emptyMap();
+
+        private SubjectStatements(boolean includeInferred) {
+            this.includeInferred = includeInferred;
+        }
+
+        private void register(Resource subject, Map<IRI, Assertion> assertions) {
+            if (assertions.isEmpty()) {
+                return;
+            }
+            if (assertions.size() >= config.getLoadAllThreshold() ||
+                    assertions.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred))) {
+                allPropertiesSubjects.add(subject);
+            } else {
+                selectedPropertiesSubjects.add(subject);
+                selectedProperties.addAll(assertions.keySet());
+            }
+        }
+
+        private void load() throws Rdf4jDriverException {
+            final List<Statement> result = new ArrayList<>();
+            if (!allPropertiesSubjects.isEmpty()) {
+                result.addAll(connector.findStatements(allPropertiesSubjects, Collections.emptySet(), includeInferred));
+            }
+            if (!selectedPropertiesSubjects.isEmpty()) {
+                result.addAll(connector.findStatements(selectedPropertiesSubjects, selectedProperties,
+                        includeInferred));
+            }
+            this.statements = groupBySubject(result);
+        }
+
+        private List<Statement> get(Resource subject) {
+            return statements.getOrDefault(subject, Collections.emptyList());
+        }
+    }
 }
@@ -24,6 +24,7 @@ import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Constants;
 import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
@@ -33,7 +34,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.list.ReferencedListHandler;
 import cz.cvut.kbss.ontodriver.rdf4j.list.SimpleListHandler;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
-import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
 import cz.cvut.kbss.ontodriver.util.Transaction;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
@@ -46,6 +47,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -132,12 +134,16 @@ class Rdf4jAdapter implements Closeable, Wrapper {
     }
 
     URI generateIdentifier(URI classUri) throws Rdf4jDriverException {
+        final IdentifierGenerationStrategy strategy = config.getIdentifierGenerationStrategy();
+        if (strategy.generatesUniqueIdentifiers()) {
+            return strategy.generateIdentifier(classUri);
+        }
         startTransactionIfNotActive();
         boolean unique = false;
         URI id = null;
         int counter = 0;
         while (!unique && counter++ < ID_GENERATION_THRESHOLD) {
-            id = IdentifierUtils.generateIdentifier(classUri);
+            id = strategy.generateIdentifier(classUri);
             unique = isIdentifierUnique(id, classUri);
         }
         if (!unique) {
@@ -198,6 +204,12 @@ class Rdf4jAdapter implements Closeable, Wrapper {
         return new AxiomLoader(connector, config).loadAxioms(axiomDescriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> axiomDescriptors)
+            throws Rdf4jDriverException {
+        startTransactionIfNotActive();
+        return new AxiomLoader(connector, config).loadAxioms(axiomDescriptors);
+    }
+
     void persist(AxiomValueDescriptor axiomDescriptor) throws Rdf4jDriverException {
         startTransactionIfNotActive();
         new AxiomSaver(connector).persistAxioms(axiomDescriptor);
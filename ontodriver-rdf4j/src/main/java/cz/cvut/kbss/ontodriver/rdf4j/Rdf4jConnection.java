@@ -29,6 +29,7 @@ import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.query.Rdf4jPreparedStatement;
 import cz.cvut.kbss.ontodriver.rdf4j.query.Rdf4jStatement;
@@ -36,6 +37,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.query.Rdf4jStatement;
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -201,6 +203,18 @@ class Rdf4jConnection implements Connection {
         }
     }
 
+    @Override
+    public Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws OntoDriverException {
+        ensureOpen();
+        Objects.requireNonNull(descriptors);
+        try {
+            return adapter.findAll(descriptors);
+        } catch (RuntimeException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
     @Override
     public void persist(AxiomValueDescriptor descriptor) throws OntoDriverException {
         ensureOpen();
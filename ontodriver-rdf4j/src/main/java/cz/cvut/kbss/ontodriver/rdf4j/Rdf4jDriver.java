@@ -30,6 +30,8 @@ import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectionFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.init.FactoryOfFactories;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
 import org.eclipse.rdf4j.repository.Repository;
 
 import java.util.Arrays;
@@ -45,12 +47,14 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
                     Rdf4jConfigParam.USE_VOLATILE_STORAGE, Rdf4jConfigParam.LOAD_ALL_THRESHOLD,
                     Rdf4jConfigParam.RECONNECT_ATTEMPTS, Rdf4jConfigParam.REPOSITORY_CONFIG,
                     Rdf4jConfigParam.INFERENCE_IN_DEFAULT_CONTEXT,
-                    Rdf4jConfigParam.MAX_CONNECTION_POOL_SIZE, Rdf4jConfigParam.CONNECTION_REQUEST_TIMEOUT);
+                    Rdf4jConfigParam.MAX_CONNECTION_POOL_SIZE, Rdf4jConfigParam.CONNECTION_REQUEST_TIMEOUT,
+                    DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY, DriverConfigParam.IDENTIFIER_GENERATION_NODE_ID);
 
     private final DriverConfiguration configuration;
     private boolean open;
     private final ConnectionFactory connectionFactory;
     private final StatementLoaderFactory statementLoaderFactory;
+    private final IdentifierGenerationStrategy identifierGenerationStrategy;
 
     private final Set<Rdf4jConnection> openedConnections;
 
@@ -65,6 +69,7 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
         final FactoryOfFactories factory = new FactoryOfFactories(configuration);
         this.connectionFactory = factory.createConnectorFactory();
         this.statementLoaderFactory = factory.createStatementLoaderFactory();
+        this.identifierGenerationStrategy = IdentifierUtils.createGenerationStrategy(configuration);
         this.open = true;
     }
 
@@ -97,6 +102,7 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
         assert open;
         final RuntimeConfiguration config = new RuntimeConfiguration(configuration);
         config.setStatementLoaderFactory(statementLoaderFactory);
+        config.setIdentifierGenerationStrategy(identifierGenerationStrategy);
         final Rdf4jAdapter adapter = new Rdf4jAdapter(connectionFactory.createStorageConnection(), config);
         final Rdf4jConnection c = new Rdf4jConnection(adapter);
         c.setLists(new Rdf4jLists(adapter, c::ensureOpen, c::commitIfAuto));
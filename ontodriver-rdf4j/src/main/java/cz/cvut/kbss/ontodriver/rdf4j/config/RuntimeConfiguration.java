@@ -20,6 +20,8 @@ package cz.cvut.kbss.ontodriver.rdf4j.config;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.DefaultStatementLoaderFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.RandomIdentifierGenerationStrategy;
 
 /**
  * Represents configuration which influences the driver during its active usage, not its initialization.
@@ -30,6 +32,8 @@ public class RuntimeConfiguration {
 
     private StatementLoaderFactory statementLoaderFactory = new DefaultStatementLoaderFactory();
 
+    private IdentifierGenerationStrategy identifierGenerationStrategy = new RandomIdentifierGenerationStrategy();
+
     public RuntimeConfiguration(DriverConfiguration config) {
         if (config.isSet(Rdf4jConfigParam.LOAD_ALL_THRESHOLD)) {
             try {
@@ -56,4 +60,13 @@ public class RuntimeConfiguration {
         assert statementLoaderFactory != null;
         this.statementLoaderFactory = statementLoaderFactory;
     }
+
+    public IdentifierGenerationStrategy getIdentifierGenerationStrategy() {
+        return identifierGenerationStrategy;
+    }
+
+    public void setIdentifierGenerationStrategy(IdentifierGenerationStrategy identifierGenerationStrategy) {
+        assert identifierGenerationStrategy != null;
+        this.identifierGenerationStrategy = identifierGenerationStrategy;
+    }
 }
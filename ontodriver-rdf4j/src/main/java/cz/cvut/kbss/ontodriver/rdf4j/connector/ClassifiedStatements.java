@@ -0,0 +1,33 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import org.eclipse.rdf4j.model.Statement;
+
+import java.util.Collection;
+
+/**
+ * Statements of a subject split into explicit and inferred ones.
+ * <p>
+ * Statements which are both asserted and inferred are considered explicit.
+ *
+ * @param explicit Explicitly asserted statements
+ * @param inferred Statements which are only inferred
+ */
+public record ClassifiedStatements(Collection<Statement> explicit, Collection<Statement> inferred) {
+}
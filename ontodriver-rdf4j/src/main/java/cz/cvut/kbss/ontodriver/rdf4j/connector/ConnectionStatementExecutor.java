@@ -39,6 +39,7 @@ class ConnectionStatementExecutor implements StatementExecutor {
         try {
             final TupleQuery tq = connection.prepareTupleQuery(QueryLanguage.SPARQL, query.getQuery());
             tq.setIncludeInferred(query.isIncludeInference());
+            bind(tq, query);
             return new QueryResult(tq.evaluate(), connection);
         } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
             throw new Rdf4jDriverException(e);
@@ -50,6 +51,7 @@ class ConnectionStatementExecutor implements StatementExecutor {
         try {
             final BooleanQuery bq = connection.prepareBooleanQuery(QueryLanguage.SPARQL, query.getQuery());
             bq.setIncludeInferred(query.isIncludeInference());
+            bind(bq, query);
             return bq.evaluate();
         } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
             throw new Rdf4jDriverException(e);
@@ -61,9 +63,14 @@ class ConnectionStatementExecutor implements StatementExecutor {
         try {
             final Update u = connection.prepareUpdate(QueryLanguage.SPARQL, query.getQuery());
             u.setIncludeInferred(query.isIncludeInference());
+            bind(u, query);
             u.execute();
         } catch (MalformedQueryException | UpdateExecutionException | RepositoryException e) {
             throw new Rdf4jDriverException(e);
         }
     }
+
+    private static void bind(Operation operation, QuerySpecification query) {
+        query.getBindings().forEach(operation::setBinding);
+    }
 }
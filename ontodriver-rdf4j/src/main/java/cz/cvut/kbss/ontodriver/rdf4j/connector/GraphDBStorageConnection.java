@@ -20,14 +20,41 @@ package cz.cvut.kbss.ontodriver.rdf4j.connector;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 public class GraphDBStorageConnection extends StorageConnection {
 
+    /**
+     * Retrieves statements of a subject together with the graph they were matched in.
+     * <p>
+     * GraphDB provides inferred statements in the {@code implicit} pseudo-graph and all explicit statements in the
+     * {@code explicit} pseudo-graph. The {@code nil} graph contains statements without context. Explicit statements in
+     * named graphs are retrieved with their context.
+     */
+    private static final String CLASSIFIED_STATEMENTS_QUERY = "SELECT ?p ?o ?g ?source WHERE { " +
+            "{ GRAPH <http://www.ontotext.com/implicit> { ?s ?p ?o . } BIND (\"implicit\" AS ?source) }" +
+            " UNION { GRAPH <http://www.ontotext.com/explicit> { ?s ?p ?o . } BIND (\"explicit\" AS ?source) }" +
+            " UNION { GRAPH <http://www.openrdf.org/schema/sesame#nil> { ?s ?p ?o . } BIND (\"nil\" AS ?source) }" +
+            " UNION { GRAPH ?g { ?s ?p ?o . } FILTER (?g NOT IN (<http://www.ontotext.com/implicit>, " +
+            "<http://www.ontotext.com/explicit>, <http://www.openrdf.org/schema/sesame#nil>))" +
+            " BIND (\"named\" AS ?source) } }";
+
     public GraphDBStorageConnection(StorageConnector storageConnector, IsolationLevel isolationLevel) {
         super(storageConnector, isolationLevel);
     }
@@ -42,4 +69,40 @@ public class GraphDBStorageConnection extends StorageConnection {
             throw new Rdf4jDriverException(e);
         }
     }
+
+    @Override
+    public ClassifiedStatements findClassifiedStatements(Resource subject) throws Rdf4jDriverException {
+        return withConnection(conn -> {
+            try {
+                final TupleQuery tq = conn.prepareTupleQuery(QueryLanguage.SPARQL, CLASSIFIED_STATEMENTS_QUERY);
+                tq.setIncludeInferred(true);
+                tq.setBinding("s", subject);
+                final ValueFactory vf = conn.getValueFactory();
+                final List<Statement> explicit = new ArrayList<>();
+                final Set<Statement> allExplicit = new HashSet<>();
+                final Set<Statement> withoutContext = new LinkedHashSet<>();
+                final Set<Statement> inferred = new LinkedHashSet<>();
+                try (final TupleQueryResult qr = tq.evaluate()) {
+                    for (BindingSet bs : qr) {
+                        final IRI property = (IRI) bs.getValue("p");
+                        final Statement s = vf.createStatement(subject, property, bs.getValue("o"));
+                        switch (bs.getValue("source").stringValue()) {
+                            case "implicit" -> inferred.add(s);
+                            case "explicit" -> allExplicit.add(s);
+                            case "nil" -> withoutContext.add(s);
+                            default -> explicit.add(vf.createStatement(subject, property, s.getObject(),
+                                    (Resource) bs.getValue("g")));
+                        }
+                    }
+                }
+                // Statements without context include inferred ones, only explicit ones belong to the default context
+                withoutContext.stream().filter(allExplicit::contains).forEach(explicit::add);
+                // Statements both asserted and inferred are considered explicit
+                inferred.removeAll(allExplicit);
+                return new ClassifiedStatements(explicit, inferred);
+            } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
+                throw new Rdf4jDriverException(e);
+            }
+        });
+    }
 }
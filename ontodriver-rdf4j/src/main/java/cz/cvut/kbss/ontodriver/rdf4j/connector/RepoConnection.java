@@ -20,6 +20,7 @@ package cz.cvut.kbss.ontodriver.rdf4j.connector;
 import cz.cvut.kbss.ontodriver.Closeable;
 import cz.cvut.kbss.ontodriver.Wrapper;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
@@ -109,6 +110,49 @@ public interface RepoConnection extends Closeable, StatementExecutor, Wrapper {
                                          boolean includeInferred, Set<IRI> contexts)
             throws Rdf4jDriverException;
 
+    /**
+     * Finds statements with any of the specified subjects and properties in the default graph.
+     * <p>
+     * The subjects are split into batches and statements of each batch are retrieved in a single repository request.
+     * The returned statements carry no context, a statement stored in multiple contexts may be returned multiple
+     * times.
+     *
+     * @param subjects        Statement subjects
+     * @param properties      Statement properties, empty collection means any property
+     * @param includeInferred Whether to include inferred statements as well
+     * @return Collection of matching statements
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Collection<Statement> findStatements(Collection<? extends Resource> subjects, Collection<IRI> properties,
+                                         boolean includeInferred) throws Rdf4jDriverException;
+
+    /**
+     * Finds statements using the specified SPARQL SELECT query.
+     * <p>
+     * The query is evaluated in the current transaction (if active), so it reflects the transactional changes. It is
+     * expected to bind variables {@code ?s}, {@code ?p} and {@code ?o} representing statement subject, predicate and
+     * object, respectively. Optionally, it may bind variable {@code ?g} representing statement context.
+     *
+     * @param query Query specification
+     * @return Collection of statements corresponding to the query results
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Collection<Statement> findStatements(QuerySpecification query) throws Rdf4jDriverException;
+
+    /**
+     * Finds all statements with the specified subject and splits them into explicit and inferred ones.
+     * <p>
+     * The search spans all repository contexts. Each returned statement carries the context it is stored in
+     * ({@code null} for the default context and for inferred statements whose context the repository does not
+     * preserve). Implementations should retrieve the statements in a single repository request if the underlying
+     * repository allows distinguishing explicit and inferred statements.
+     *
+     * @param subject Statement subject
+     * @return Explicit and inferred statements with the specified subject
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    ClassifiedStatements findClassifiedStatements(Resource subject) throws Rdf4jDriverException;
+
     /**
      * Checks whether the repository contains any statements matching the specified criteria.
      *
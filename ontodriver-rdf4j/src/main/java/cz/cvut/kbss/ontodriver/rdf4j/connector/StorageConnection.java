@@ -27,14 +27,22 @@ import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -43,6 +51,11 @@ public class StorageConnection implements RepoConnection {
 
     private static final Logger LOG = LoggerFactory.getLogger(StorageConnection.class);
 
+    /**
+     * Maximum number of subjects whose statements are retrieved by a single query.
+     */
+    static final int SUBJECT_BATCH_SIZE = 256;
+
     private boolean open;
 
     final StorageConnector storageConnector;
@@ -91,7 +104,7 @@ public class StorageConnection implements RepoConnection {
         return withConnection(conn -> new ConnectionStatementExecutor(conn).executeBooleanQuery(query));
     }
 
-    private <R> R withConnection(ThrowingFunction<RepositoryConnection, R> call) throws Rdf4jDriverException {
+    protected <R> R withConnection(ThrowingFunction<RepositoryConnection, R> call) throws Rdf4jDriverException {
         if (connection != null) {
             return call.apply(connection);
         } else {
@@ -227,6 +240,69 @@ public class StorageConnection implements RepoConnection {
         });
     }
 
+    @Override
+    public Collection<Statement> findStatements(Collection<? extends Resource> subjects, Collection<IRI> properties,
+                                                boolean includeInferred) throws Rdf4jDriverException {
+        final List<Resource> subjectList = new ArrayList<>(subjects);
+        final List<Statement> result = new ArrayList<>();
+        for (int i = 0; i < subjectList.size(); i += SUBJECT_BATCH_SIZE) {
+            result.addAll(findStatementsOfSubjectBatch(
+                    subjectList.subList(i, Math.min(i + SUBJECT_BATCH_SIZE, subjectList.size())), properties,
+                    includeInferred));
+        }
+        return result;
+    }
+
+    private Collection<Statement> findStatementsOfSubjectBatch(List<Resource> subjects, Collection<IRI> properties,
+                                                               boolean includeInferred) throws Rdf4jDriverException {
+        final StringBuilder query = new StringBuilder("SELECT ?s ?p ?o WHERE { VALUES ?s { ");
+        subjects.forEach(s -> query.append(NTriplesUtil.toNTriplesString(s)).append(' '));
+        query.append("} ");
+        if (!properties.isEmpty()) {
+            query.append("VALUES ?p { ");
+            properties.forEach(p -> query.append(NTriplesUtil.toNTriplesString(p)).append(' '));
+            query.append("} ");
+        }
+        query.append("?s ?p ?o . }");
+        return findStatements(QuerySpecification.query(query.toString()).includeInference(includeInferred));
+    }
+
+    @Override
+    public Collection<Statement> findStatements(QuerySpecification query) throws Rdf4jDriverException {
+        return withConnection(conn -> {
+            try {
+                final TupleQuery tq = conn.prepareTupleQuery(QueryLanguage.SPARQL, query.getQuery());
+                tq.setIncludeInferred(query.isIncludeInference());
+                query.getBindings().forEach(tq::setBinding);
+                final ValueFactory vf = conn.getValueFactory();
+                final List<Statement> result = new ArrayList<>();
+                try (final TupleQueryResult qr = tq.evaluate()) {
+                    for (BindingSet bs : qr) {
+                        result.add(vf.createStatement((Resource) bs.getValue("s"), (IRI) bs.getValue("p"),
+                                bs.getValue("o"), (Resource) bs.getValue("g")));
+                    }
+                }
+                return result;
+            } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
+                throw new Rdf4jDriverException(e);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * RDF4J does not indicate whether a statement is inferred, so explicit statements and statements including inferred
+     * ones are retrieved in two requests and compared.
+     */
+    @Override
+    public ClassifiedStatements findClassifiedStatements(Resource subject) throws Rdf4jDriverException {
+        final Collection<Statement> explicit = findStatements(subject, null, null, false);
+        final Set<Statement> inferred = new LinkedHashSet<>(findStatements(subject, null, null, true));
+        explicit.forEach(inferred::remove);
+        return new ClassifiedStatements(explicit, inferred);
+    }
+
     @Override
     public boolean containsStatement(Resource subject, IRI property, Value value, boolean includeInferred,
                                      Set<IRI> contexts) throws Rdf4jDriverException {
@@ -18,20 +18,25 @@
 package cz.cvut.kbss.ontodriver.rdf4j.list;
 
 import cz.cvut.kbss.ontodriver.descriptor.ListDescriptor;
+import cz.cvut.kbss.ontodriver.descriptor.ListEdit;
 import cz.cvut.kbss.ontodriver.descriptor.ListValueDescriptor;
 import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -93,6 +98,69 @@ abstract class ListHandler<VD extends ListValueDescriptor<?>> {
 
     protected abstract void mergeList(VD listDescriptor) throws Rdf4jDriverException;
 
+    /**
+     * Checks whether edits from the specified descriptor can be applied to a stored list of the specified size.
+     * <p>
+     * The edits are applicable if all their indexes are within bounds of the list being edited and they transform the
+     * stored list into a list of the same size as the descriptor values. Otherwise, the stored list does not correspond
+     * to the state the edits were recorded against.
+     *
+     * @param listDescriptor Descriptor with edits
+     * @param originalSize   Size of the stored list
+     * @return {@code true} if the edits are applicable, {@code false} otherwise
+     */
+    static boolean areEditsApplicable(ListValueDescriptor<?> listDescriptor, int originalSize) {
+        int size = originalSize;
+        for (ListEdit<?> edit : listDescriptor.getEdits()) {
+            final int bound = edit.type() == ListEdit.Type.INSERT ? size : size - 1;
+            if (edit.index() > bound) {
+                return false;
+            }
+            size += edit.sizeDelta();
+        }
+        return size == listDescriptor.getValues().size();
+    }
+
+    /**
+     * Computes the difference between the original and updated statements linking list nodes.
+     * <p>
+     * Only statements which are not present in the updated list are removed and only statements which are not present
+     * in the original list are added.
+     *
+     * @param original Original list statements, in the list context
+     * @param updated  Updated list statements, in the list context
+     * @param toRemove Collection to which statements to remove are added
+     * @param toAdd    Collection to which statements to add are added
+     */
+    static void diffListStatements(Collection<Statement> original, Collection<Statement> updated,
+                                   Collection<Statement> toRemove, Collection<Statement> toAdd) {
+        final Set<Statement> originalSet = new HashSet<>(original);
+        final Set<Statement> updatedSet = new HashSet<>(updated);
+        original.stream().filter(s -> !updatedSet.contains(s)).forEach(toRemove::add);
+        updated.stream().filter(s -> !originalSet.contains(s)).forEach(toAdd::add);
+    }
+
+    /**
+     * Re-creates the specified statements in the specified context.
+     * <p>
+     * Statements loaded by {@link #loadListStatements(ListDescriptor, IRI)} carry no context information.
+     */
+    List<Statement> inContext(Collection<Statement> statements, IRI context) {
+        final List<Statement> result = new ArrayList<>(statements.size());
+        statements.forEach(
+                s -> result.add(vf.createStatement(s.getSubject(), s.getPredicate(), s.getObject(), context)));
+        return result;
+    }
+
+    void applyChanges(Collection<Statement> toRemove, Collection<Statement> toAdd) throws Rdf4jDriverException {
+        if (!toRemove.isEmpty()) {
+            connector.removeStatements(toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            connector.addStatements(toAdd);
+        }
+    }
+
     boolean isOldListEmpty(Resource owner, IRI hasListProperty, boolean includeInferred,
                                    Set<IRI> contexts) throws Rdf4jDriverException {
         final Collection<Statement> stmts = connector.findStatements(owner, hasListProperty, null,
@@ -107,6 +175,81 @@ abstract class ListHandler<VD extends ListValueDescriptor<?>> {
         }
     }
 
+    /**
+     * Loads all statements forming the list described by the specified descriptor.
+     * <p>
+     * The statements are retrieved in a single repository request using a property path query which follows the list
+     * from its owner. The list is then reassembled from the statements by {@link #resolveListNodes(ListStatements,
+     * ListDescriptor, boolean)}.
+     *
+     * @param listDescriptor      Describes the list to load
+     * @param nodeContentProperty Property connecting list nodes to their content, {@code null} if list nodes have no
+     *                            content
+     * @return Loaded list statements
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    ListStatements loadListStatements(ListDescriptor listDescriptor, IRI nodeContentProperty)
+            throws Rdf4jDriverException {
+        final String owner = NTriplesUtil.toNTriplesString(owner(listDescriptor));
+        final String hasList = NTriplesUtil.toNTriplesString(hasList(listDescriptor));
+        final String hasNext = NTriplesUtil.toNTriplesString(hasNext(listDescriptor));
+        final String listNodes = owner + " " + hasList + "/" + hasNext + "* ?s . ";
+        final StringBuilder query = new StringBuilder("SELECT ?s ?p ?o WHERE { ");
+        final IRI context = context(listDescriptor);
+        if (context != null) {
+            query.append("GRAPH ").append(NTriplesUtil.toNTriplesString(context)).append(" { ");
+        }
+        query.append("{ ").append(owner).append(' ').append(hasList).append(" ?o . BIND (").append(owner)
+             .append(" AS ?s) BIND (").append(hasList).append(" AS ?p) }");
+        query.append(" UNION { ").append(listNodes).append("?s ").append(hasNext).append(" ?o . BIND (")
+             .append(hasNext).append(" AS ?p) }");
+        if (nodeContentProperty != null) {
+            final String hasContent = NTriplesUtil.toNTriplesString(nodeContentProperty);
+            query.append(" UNION { ").append(listNodes).append("?s ").append(hasContent).append(" ?o . BIND (")
+                 .append(hasContent).append(" AS ?p) }");
+        }
+        if (context != null) {
+            query.append(" }");
+        }
+        query.append(" }");
+        final boolean includeInferred = listDescriptor.getListProperty().isInferred();
+        return new ListStatements(
+                connector.findStatements(QuerySpecification.query(query.toString()).includeInference(includeInferred)));
+    }
+
+    /**
+     * Reassembles the list from the specified statements, starting from the list owner.
+     *
+     * @param statements     Statements forming the list
+     * @param listDescriptor Describes the list
+     * @param nilTerminated  Whether {@code rdf:nil} terminates the list
+     * @return Statements connecting the list nodes in the order of the list (i.e., the first one is the {@code hasList}
+     * statement)
+     * @throws IntegrityConstraintViolatedException If a list node has multiple successors, a successor is a literal or
+     *                                              the list contains a cycle
+     */
+    List<Statement> resolveListNodes(ListStatements statements, ListDescriptor listDescriptor,
+                                     boolean nilTerminated) {
+        final List<Statement> result = new ArrayList<>();
+        final Set<Resource> visited = new HashSet<>();
+        final IRI hasNext = hasNext(listDescriptor);
+        IRI property = hasList(listDescriptor);
+        Collection<Statement> next = statements.find(owner(listDescriptor), property);
+        while (!next.isEmpty()) {
+            final Resource node = extractListNode(next, property);
+            if (nilTerminated && RDF.NIL.equals(node)) {
+                break;
+            }
+            if (!visited.add(node)) {
+                throw new IntegrityConstraintViolatedException("Cycle detected in list at node " + node + ".");
+            }
+            result.add(next.iterator().next());
+            property = hasNext;
+            next = statements.find(node, hasNext);
+        }
+        return result;
+    }
+
     Resource extractListNode(Collection<Statement> stmts, IRI nodeAssertion) {
         if (stmts.size() > 1) {
             throw new IntegrityConstraintViolatedException(
@@ -0,0 +1,56 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.list;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Statements forming a list, indexed by subject and predicate.
+ * <p>
+ * Duplicate statements are merged.
+ */
+class ListStatements {
+
+    private final Map<Resource, Map<IRI, Set<Statement>>> statements = new HashMap<>();
+
+    ListStatements(Collection<Statement> statements) {
+        statements.forEach(s -> this.statements.computeIfAbsent(s.getSubject(), k -> new HashMap<>(4))
+                                                .computeIfAbsent(s.getPredicate(), k -> new LinkedHashSet<>(2))
+                                                .add(s));
+    }
+
+    /**
+     * Gets statements with the specified subject and predicate.
+     *
+     * @param subject   Statement subject
+     * @param predicate Statement predicate
+     * @return Matching statements, possibly empty
+     */
+    Collection<Statement> find(Resource subject, IRI predicate) {
+        return statements.getOrDefault(subject, Collections.emptyMap()).getOrDefault(predicate, Collections.emptySet());
+    }
+}
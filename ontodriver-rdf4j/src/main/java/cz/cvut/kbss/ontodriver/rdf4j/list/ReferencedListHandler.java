@@ -17,10 +17,14 @@
  */
 package cz.cvut.kbss.ontodriver.rdf4j.list;
 
+import cz.cvut.kbss.ontodriver.descriptor.ListEdit;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.AxiomImpl;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.ValueConverter;
@@ -34,6 +38,7 @@ import org.eclipse.rdf4j.model.vocabulary.RDF;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -57,10 +62,19 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
      * @throws Rdf4jDriverException When storage access error occurs
      */
     public List<Axiom<?>> loadList(ReferencedListDescriptor listDescriptor) throws Rdf4jDriverException {
-        final List<Axiom<?>> axioms = new ArrayList<>();
-        final ListIterator<?> it = new ReferencedListIterator<>(listDescriptor, connector, vf);
-        while (it.hasNext()) {
-            axioms.add(it.nextAxiom());
+        final IRI hasContent = hasContent(listDescriptor);
+        final ListStatements statements = loadListStatements(listDescriptor, hasContent);
+        final List<Statement> nodes = resolveListNodes(statements, listDescriptor, true);
+        final List<Axiom<?>> axioms = new ArrayList<>(nodes.size());
+        for (Statement nodeStatement : nodes) {
+            final Resource node = (Resource) nodeStatement.getObject();
+            final Collection<Statement> content = statements.find(node, hasContent);
+            ReferencedListHelper.checkNodeContent(content, hasContent);
+            if (content.isEmpty()) {
+                throw new IntegrityConstraintViolatedException("Node " + node + " has no content.");
+            }
+            axioms.add(new AxiomImpl<>(NamedResource.create(node.stringValue()), listDescriptor.getNodeContent(),
+                    new cz.cvut.kbss.ontodriver.model.Value<>(ReferencedListHelper.contentToValue(content))));
         }
         return axioms;
     }
@@ -156,6 +170,9 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
     }
 
     protected void mergeList(ReferencedListValueDescriptor<?> listDescriptor) throws Rdf4jDriverException {
+        if (!listDescriptor.getEdits().isEmpty() && mergeListUsingEdits(listDescriptor)) {
+            return;
+        }
         final ListIterator<Object> it = new ReferencedListIterator<>(listDescriptor, connector, vf);
         final ListHandler.MergeResult mergeResult = mergeWithOriginalList((ReferencedListValueDescriptor<Object>) listDescriptor, it);
         removeObsoletes(it);
@@ -166,6 +183,85 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
         }
     }
 
+    /**
+     * Merges the list by applying edits from the descriptor to the stored list nodes.
+     * <p>
+     * Only nodes affected by the edits are rewritten, i.e., removed nodes are deleted, new nodes are created, content
+     * of replaced nodes is updated and links between nodes are updated where they have changed.
+     *
+     * @return {@code false} if the edits are not applicable to the stored list and the list was not merged
+     */
+    private boolean mergeListUsingEdits(ReferencedListValueDescriptor<?> listDescriptor) throws Rdf4jDriverException {
+        final IRI hasContent = hasContent(listDescriptor);
+        final ListStatements statements = loadListStatements(listDescriptor, hasContent);
+        final List<Statement> links = resolveListNodes(statements, listDescriptor, listDescriptor.isTerminatedByNil());
+        if (links.isEmpty() || !areEditsApplicable(listDescriptor, links.size())) {
+            return false;
+        }
+        // null represents a node which is yet to be created
+        final List<Resource> nodes = new ArrayList<>(links.size());
+        links.forEach(s -> nodes.add((Resource) s.getObject()));
+        final Set<Resource> removed = new HashSet<>();
+        final Set<Resource> replaced = new HashSet<>();
+        for (ListEdit<?> edit : listDescriptor.getEdits()) {
+            switch (edit.type()) {
+                case INSERT -> nodes.addAll(edit.index(), Collections.nCopies(edit.values().size(), null));
+                case REMOVE -> {
+                    final Resource node = nodes.remove(edit.index());
+                    if (node != null) {
+                        removed.add(node);
+                    }
+                }
+                case SET -> {
+                    final Resource node = nodes.get(edit.index());
+                    if (node != null) {
+                        replaced.add(node);
+                    }
+                }
+            }
+        }
+        replaced.removeAll(removed);
+
+        final IRI owner = owner(listDescriptor);
+        final IRI hasNext = hasNext(listDescriptor);
+        final IRI context = context(listDescriptor);
+        final Collection<Statement> toRemove = new ArrayList<>();
+        final Collection<Statement> toAdd = new ArrayList<>();
+        for (Resource node : removed) {
+            toRemove.addAll(inContext(statements.find(node, hasContent), context));
+        }
+        final List<Statement> updatedLinks = new ArrayList<>(nodes.size());
+        Resource previous = owner;
+        IRI linkProperty = hasList(listDescriptor);
+        for (int i = 0; i < nodes.size(); i++) {
+            Resource node = nodes.get(i);
+            final boolean created = node == null;
+            if (created) {
+                node = generateSequenceNode(owner, context);
+                nodes.set(i, node);
+            } else if (replaced.contains(node)) {
+                toRemove.addAll(inContext(statements.find(node, hasContent), context));
+            }
+            if (created || replaced.contains(node)) {
+                final Resource n = node;
+                toRdf4jValue(listDescriptor.getNodeContent(), listDescriptor.getValues().get(i))
+                        .forEach(v -> toAdd.add(vf.createStatement(n, hasContent, v, context)));
+            }
+            updatedLinks.add(vf.createStatement(previous, linkProperty, node, context));
+            previous = node;
+            linkProperty = hasNext;
+        }
+        diffListStatements(inContext(links, context), updatedLinks, toRemove, toAdd);
+        final Resource originalLast = (Resource) links.get(links.size() - 1).getObject();
+        if (listDescriptor.isTerminatedByNil() && !originalLast.equals(previous)) {
+            // Nil terminal is not necessarily stored in the list context, so remove it from all contexts
+            toRemove.add(vf.createStatement(originalLast, hasNext, RDF.NIL));
+            createNilTerminal(previous, hasNext, listDescriptor).ifPresent(toAdd::add);
+        }
+        applyChanges(toRemove, toAdd);
+        return true;
+    }
+
     <V> MergeResult mergeWithOriginalList(ReferencedListValueDescriptor<V> listDescriptor, ListIterator<V> it)
             throws Rdf4jDriverException {
         int i = 0;
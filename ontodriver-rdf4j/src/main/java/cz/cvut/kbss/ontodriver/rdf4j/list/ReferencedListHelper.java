@@ -17,17 +17,25 @@
  */
 package cz.cvut.kbss.ontodriver.rdf4j.list;
 
+import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.LangString;
 import cz.cvut.kbss.ontodriver.model.MultilingualString;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import cz.cvut.kbss.ontodriver.rdf4j.util.ValueConverter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class ReferencedListHelper {
 
@@ -46,4 +54,61 @@ class ReferencedListHelper {
         }
         return List.of(valueConverter.toRdf4jValue(a, new cz.cvut.kbss.ontodriver.model.Value<>(value)));
     }
+
+    /**
+     * Verifies that the specified node content statements represent a single value.
+     * <p>
+     * Multiple statements are allowed only if they represent translations of a multilingual string, i.e., language-tagged
+     * literals with distinct languages.
+     *
+     * @param stmts    Node content statements
+     * @param property Node content property
+     * @throws IntegrityConstraintViolatedException If the statements represent multiple values
+     */
+    static void checkNodeContent(Collection<Statement> stmts, IRI property) {
+        final Set<String> langs = new HashSet<>();
+        // Remove duplicates
+        final Set<Statement> statements = new HashSet<>(stmts);
+        if (statements.size() == 1) {
+            return;
+        }
+        for (Statement s : statements) {
+            if (!s.getObject().isLiteral()) {
+                throw icViolatedException(property, statements.size());
+            }
+            final Literal literal = (Literal) s.getObject();
+            if (literal.getLanguage().isPresent() && !langs.contains(literal.getLanguage().get())) {
+                langs.add(literal.getLanguage().get());
+            } else {
+                throw icViolatedException(property, statements.size());
+            }
+        }
+    }
+
+    private static IntegrityConstraintViolatedException icViolatedException(IRI property, int count) {
+        return new IntegrityConstraintViolatedException(
+                "Invalid number of values found for assertion " + property + ". Expected 1, got " + count);
+    }
+
+    /**
+     * Transforms the specified node content statements to list element value.
+     *
+     * @param content Non-empty node content statements
+     * @return Element value, a {@link MultilingualString} if the content consists of multiple translations
+     */
+    static Object contentToValue(Collection<Statement> content) {
+        if (content.size() == 1) {
+            final Value value = content.iterator().next().getObject();
+            return value.isLiteral() ? Rdf4jUtils.getLiteralValue((Literal) value) :
+                   NamedResource.create(value.stringValue());
+        }
+        final MultilingualString mls = new MultilingualString();
+        content.forEach(s -> {
+            assert s.getObject().isLiteral();
+            final Literal literal = (Literal) s.getObject();
+            assert literal.getLanguage().isPresent();
+            mls.set(literal.getLanguage().get(), literal.getLabel());
+        });
+        return mls;
+    }
 }
@@ -21,14 +21,12 @@ import cz.cvut.kbss.ontodriver.descriptor.ReferencedListDescriptor;
 import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.AxiomImpl;
-import cz.cvut.kbss.ontodriver.model.MultilingualString;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
-import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -37,8 +35,6 @@ import org.eclipse.rdf4j.model.vocabulary.RDF;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 class ReferencedListIterator<T> extends AbstractListIterator<T> {
@@ -107,63 +103,19 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
 
     @Override
     protected void checkSuccessorMax(Collection<Statement> stmts, IRI property) {
-        final Set<String> langs = new HashSet<>();
-        // Remove duplicates
-        final Set<Statement> statements = new HashSet<>(stmts);
-        if (statements.size() == 1) {
-            return;
-        }
-        for (Statement s : statements) {
-            if (!s.getObject().isLiteral()) {
-                throw icViolatedException(property, statements.size());
-            }
-            final Literal literal = (Literal) s.getObject();
-            if (literal.getLanguage().isPresent() && !langs.contains(literal.getLanguage().get())) {
-                langs.add(literal.getLanguage().get());
-            } else {
-                throw icViolatedException(property, statements.size());
-            }
-        }
+        ReferencedListHelper.checkNodeContent(stmts, property);
     }
 
     @Override
     public T currentContent() {
-        if (currentContent.size() == 1) {
-            return (T) fromRdf4jValue(currentContent.iterator().next().getObject());
-        } else {
-            final MultilingualString mls = currentContentToMultilingualString();
-            return (T) mls;
-        }
-    }
-
-    private static Object fromRdf4jValue(org.eclipse.rdf4j.model.Value value) {
-        return value.isLiteral() ? Rdf4jUtils.getLiteralValue((Literal) value) : NamedResource.create(value.stringValue());
+        return (T) ReferencedListHelper.contentToValue(currentContent);
     }
 
     @Override
     public Axiom<T> nextAxiom() throws Rdf4jDriverException {
         nextInternal();
-
-        if (currentContent.size() == 1) {
-            final org.eclipse.rdf4j.model.Value obj = currentContent.iterator().next().getObject();
-            return new AxiomImpl(NamedResource.create(currentContent.iterator().next().getSubject().stringValue()),
-                    listDescriptor.getNodeContent(),
-                    new Value<>(fromRdf4jValue(obj)));
-        }
-        final MultilingualString mls = currentContentToMultilingualString();
         return new AxiomImpl(NamedResource.create(currentContent.iterator().next().getSubject().stringValue()),
-                listDescriptor.getNodeContent(), new Value<>(mls));
-    }
-
-    private MultilingualString currentContentToMultilingualString() {
-        final MultilingualString mls = new MultilingualString();
-        currentContent.forEach(s -> {
-            assert s.getObject().isLiteral();
-            final Literal literal = (Literal) s.getObject();
-            assert literal.getLanguage().isPresent();
-            mls.set(literal.getLanguage().get(), literal.getLabel());
-        });
-        return mls;
+                listDescriptor.getNodeContent(), new Value<>(ReferencedListHelper.contentToValue(currentContent)));
     }
 
     @Override
@@ -19,8 +19,11 @@ package cz.cvut.kbss.ontodriver.rdf4j.list;
 
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListValueDescriptor;
+import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.AxiomImpl;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.model.Value;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import org.eclipse.rdf4j.model.IRI;
@@ -47,10 +50,13 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
      * @throws Rdf4jDriverException When storage access error occurs
      */
     public List<Axiom<NamedResource>> loadList(SimpleListDescriptor listDescriptor) throws Rdf4jDriverException {
-        final List<Axiom<NamedResource>> axioms = new ArrayList<>();
-        final ListIterator<NamedResource> it = new SimpleListIterator(listDescriptor, connector, vf);
-        while (it.hasNext()) {
-            axioms.add(it.nextAxiom());
+        final List<Statement> nodes = resolveListNodes(loadListStatements(listDescriptor, null), listDescriptor, false);
+        final List<Axiom<NamedResource>> axioms = new ArrayList<>(nodes.size());
+        Assertion assertion = listDescriptor.getListProperty();
+        for (Statement node : nodes) {
+            axioms.add(new AxiomImpl<>(NamedResource.create(node.getSubject().stringValue()), assertion,
+                    new Value<>(NamedResource.create(node.getObject().stringValue()))));
+            assertion = listDescriptor.getNextNode();
         }
         return axioms;
     }
@@ -103,6 +109,9 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
     }
 
     protected void mergeList(SimpleListValueDescriptor listDescriptor) throws Rdf4jDriverException {
+        if (!listDescriptor.getEdits().isEmpty() && mergeListUsingEdits(listDescriptor)) {
+            return;
+        }
         final ListIterator<NamedResource> it = iterator(listDescriptor);
         final ListHandler.MergeResult mergeResult = mergeWithOriginalList(listDescriptor, it);
         removeObsoletes(it);
@@ -113,6 +122,29 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
         }
     }
 
+    /**
+     * Merges the list by rewriting only the links between nodes which have changed.
+     * <p>
+     * Nodes of a simple list are the list values themselves, so the edits are used only to verify that the stored list
+     * corresponds to the state against which they were recorded.
+     *
+     * @return {@code false} if the edits are not applicable to the stored list and the list was not merged
+     */
+    private boolean mergeListUsingEdits(SimpleListValueDescriptor listDescriptor) throws Rdf4jDriverException {
+        final List<Statement> links = resolveListNodes(loadListStatements(listDescriptor, null), listDescriptor, false);
+        if (!areEditsApplicable(listDescriptor, links.size())) {
+            return false;
+        }
+        final List<Statement> updated = new ArrayList<>(listDescriptor.getValues().size());
+        final IRI head = createListHead(listDescriptor, updated);
+        updated.addAll(createListRest(head, listDescriptor));
+        final Collection<Statement> toRemove = new ArrayList<>();
+        final Collection<Statement> toAdd = new ArrayList<>();
+        diffListStatements(inContext(links, context(listDescriptor)), updated, toRemove, toAdd);
+        applyChanges(toRemove, toAdd);
+        return true;
+    }
+
     MergeResult mergeWithOriginalList(SimpleListValueDescriptor listDescriptor, ListIterator<NamedResource> it) throws
             Rdf4jDriverException {
         int i = 0;
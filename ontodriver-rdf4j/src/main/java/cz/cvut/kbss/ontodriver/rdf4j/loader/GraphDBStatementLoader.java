@@ -20,15 +20,20 @@ package cz.cvut.kbss.ontodriver.rdf4j.loader;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.rdf4j.connector.ClassifiedStatements;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.AxiomBuilder;
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -37,6 +42,9 @@ import java.util.Set;
  * It differs from the basic {@link StatementLoader} in the way inferred statements are loaded. This is because GraphDB
  * does not store inferred statements in the same context as the statements they are inferred from (as RDF4J does), but
  * instead has a special {@code implicit} context for them.
+ * <p>
+ * GraphDB also allows distinguishing explicit and inferred statements in a single query, so when both explicit and
+ * inferred values are required, the statements of the subject are retrieved only once.
  */
 public class GraphDBStatementLoader extends StatementLoader {
 
@@ -54,6 +62,24 @@ public class GraphDBStatementLoader extends StatementLoader {
         super(connector, subject, axiomBuilder);
     }
 
+    @Override
+    public Collection<Axiom<?>> loadAxioms(AxiomDescriptor descriptor, Map<IRI, Assertion> explicitAssertions,
+                                           Map<IRI, Assertion> inferredAssertions) throws Rdf4jDriverException {
+        if (explicitAssertions.isEmpty() || inferredAssertions.isEmpty()) {
+            return super.loadAxioms(descriptor, explicitAssertions, inferredAssertions);
+        }
+        final ClassifiedStatements statements = connector.findClassifiedStatements(subject);
+        final List<Statement> all = new ArrayList<>(statements.explicit().size() + statements.inferred().size());
+        all.addAll(statements.explicit());
+        all.addAll(statements.inferred());
+        setIncludeInferred(false);
+        final Collection<Axiom<?>> result = new HashSet<>(loadAxioms(descriptor, explicitAssertions,
+                statements.explicit()));
+        setIncludeInferred(true);
+        result.addAll(loadAxioms(descriptor, inferredAssertions, all));
+        return result;
+    }
+
     @Override
     protected Set<URI> resolveContexts(AxiomDescriptor descriptor, Assertion a) {
         final Set<URI> contexts = new HashSet<>(super.resolveContexts(descriptor, a));
@@ -39,8 +39,8 @@ import java.util.stream.Collectors;
 
 public class StatementLoader {
 
-    private final RepoConnection connector;
-    private final Resource subject;
+    final RepoConnection connector;
+    final Resource subject;
     private final ValueFactory vf;
     private final AxiomBuilder axiomBuilder;
 
@@ -63,6 +63,32 @@ public class StatementLoader {
         this.includeInferred = includeInferred;
     }
 
+    /**
+     * Loads axioms of both explicit and inferred assertions of the subject.
+     * <p>
+     * Values of explicit assertions are loaded only from explicit statements, values of inferred assertions from both
+     * explicit and inferred statements. This implementation loads explicit and inferred values separately.
+     *
+     * @param descriptor         Descriptor of the loaded axioms
+     * @param explicitAssertions Explicit assertions to load, empty if explicit values should not be loaded
+     * @param inferredAssertions Inferred assertions to load
+     * @return Collection of loaded axioms
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    public Collection<Axiom<?>> loadAxioms(AxiomDescriptor descriptor, Map<IRI, Assertion> explicitAssertions,
+                                           Map<IRI, Assertion> inferredAssertions) throws Rdf4jDriverException {
+        final Collection<Axiom<?>> result = new HashSet<>();
+        if (!explicitAssertions.isEmpty()) {
+            setIncludeInferred(false);
+            result.addAll(loadAxioms(descriptor, explicitAssertions));
+        }
+        if (!inferredAssertions.isEmpty()) {
+            setIncludeInferred(true);
+            result.addAll(loadAxioms(descriptor, inferredAssertions));
+        }
+        return result;
+    }
+
     public Collection<Axiom<?>> loadAxioms(AxiomDescriptor descriptor,
                                            Map<IRI, Assertion> properties) throws Rdf4jDriverException {
         this.loadAll = properties.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred));
@@ -98,9 +124,32 @@ public class StatementLoader {
         return descriptor.getAssertionContexts(a);
     }
 
+    /**
+     * Creates axioms from the specified statements of the subject of this loader.
+     * <p>
+     * This is used when the statements have already been retrieved from the repository (e.g., in a batch for multiple
+     * subjects). The statements are filtered in the same way as when all statements of the subject are loaded by this
+     * loader.
+     *
+     * @param descriptor Descriptor of the loaded axioms
+     * @param properties Properties to load
+     * @param statements All statements of the subject, retrieved in accordance with the current inference setting
+     * @return Collection of axioms matching the specified descriptor
+     */
+    public Collection<Axiom<?>> loadAxioms(AxiomDescriptor descriptor, Map<IRI, Assertion> properties,
+                                           Collection<Statement> statements) {
+        this.loadAll = properties.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred));
+        return statementsToAxioms(descriptor, properties, statements);
+    }
+
     private Collection<Axiom<?>> loadAll(AxiomDescriptor descriptor,
                                          Map<IRI, Assertion> properties) throws Rdf4jDriverException {
         final Collection<Statement> statements = connector.findStatements(subject, null, null, includeInferred);
+        return statementsToAxioms(descriptor, properties, statements);
+    }
+
+    private Collection<Axiom<?>> statementsToAxioms(AxiomDescriptor descriptor, Map<IRI, Assertion> properties,
+                                                    Collection<Statement> statements) {
         final Collection<Axiom<?>> result = new HashSet<>(statements.size());
         final Assertion unspecified = Assertion.createUnspecifiedPropertyAssertion(includeInferred);
         for (Statement s : statements) {
@@ -17,6 +17,9 @@
  */
 package cz.cvut.kbss.ontodriver.rdf4j.query;
 
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -28,6 +31,8 @@ public class QuerySpecification {
 
     private boolean includeInference = true;
 
+    private Map<String, Value> bindings = Map.of();
+
     private QuerySpecification(String query) {
         this.query = Objects.requireNonNull(query);
     }
@@ -45,6 +50,23 @@ public class QuerySpecification {
         return includeInference;
     }
 
+    /**
+     * Sets values bound to query variables when the query is evaluated.
+     * <p>
+     * The values are passed to the repository as native bindings, the query string itself is not modified.
+     *
+     * @param bindings Map of variable name to bound value
+     * @return This specification
+     */
+    public QuerySpecification bindings(Map<String, Value> bindings) {
+        this.bindings = Map.copyOf(bindings);
+        return this;
+    }
+
+    public Map<String, Value> getBindings() {
+        return bindings;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -54,12 +76,12 @@ public class QuerySpecification {
             return false;
         }
         QuerySpecification that = (QuerySpecification) o;
-        return includeInference == that.includeInference && query.equals(that.query);
+        return includeInference == that.includeInference && query.equals(that.query) && bindings.equals(that.bindings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(query, includeInference);
+        return Objects.hash(query, includeInference, bindings);
     }
 
     public static QuerySpecification query(String query) {
@@ -20,15 +20,37 @@ package cz.cvut.kbss.ontodriver.rdf4j.query;
 import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.StatementExecutor;
+import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Prepared statement executed by RDF4J.
+ * <p>
+ * {@link String} parameter values are treated as SPARQL fragments and inserted into the statement string. Values of
+ * other types (identifiers, {@link NamedResource}s, literal values, RDF4J values) are passed to the repository as
+ * native bindings, so that the statement string does not change between executions with different parameter values.
+ */
 public class Rdf4jPreparedStatement extends Rdf4jStatement implements PreparedStatement {
 
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
     private final StatementHolder statementHolder;
 
+    private final Map<String, Value> bindings = new HashMap<>();
+
+    // Query type of the last executed query string, so that it does not have to be parsed on each execution
+    private String lastQuery;
+    private boolean lastQueryAsk;
+
     public Rdf4jPreparedStatement(StatementExecutor executor, String statement) {
         super(executor);
         this.statementHolder = new StatementHolder(statement);
@@ -42,23 +64,48 @@ public class Rdf4jPreparedStatement extends Rdf4jStatement implements PreparedSt
     public void setObject(String binding, Object value) {
         ensureOpen();
         Objects.requireNonNull(value);
-        statementHolder.setParameter(binding, value.toString());
+        if (value instanceof String) {
+            statementHolder.setParameter(binding, value.toString());
+            bindings.remove(binding);
+        } else {
+            final Value rdf4jValue = toRdf4jValue(value);
+            // Validates the binding name and removes any previously set textual value
+            statementHolder.setParameter(binding, null);
+            bindings.put(binding, rdf4jValue);
+        }
+    }
+
+    private static Value toRdf4jValue(Object value) {
+        if (value instanceof Value v) {
+            return v;
+        } else if (value instanceof NamedResource nr) {
+            return Rdf4jUtils.toRdf4jIri(nr, VF);
+        } else if (Rdf4jUtils.isResourceIdentifier(value)) {
+            return VF.createIRI(value.toString());
+        }
+        return Rdf4jUtils.createLiteral(value, null, VF);
     }
 
     @Override
     public ResultSet executeQuery() throws OntoDriverException {
         ensureOpen();
-        return executeQuery(statementHolder.assembleStatement());
+        final String query = statementHolder.assembleStatement();
+        if (!query.equals(lastQuery)) {
+            this.lastQueryAsk = isAskQuery(query);
+            this.lastQuery = query;
+        }
+        return executeQuery(querySpec(query).bindings(bindings), lastQueryAsk);
     }
 
     @Override
     public void executeUpdate() throws OntoDriverException {
         ensureOpen();
-        executeUpdate(statementHolder.assembleStatement());
+        executeUpdate(querySpec(statementHolder.assembleStatement()).bindings(bindings));
     }
 
     @Override
     public void clearParameters() {
         statementHolder.clearParameters();
+        bindings.clear();
     }
 }
@@ -52,16 +52,20 @@ public class Rdf4jStatement implements Statement {
     public ResultSet executeQuery(String sparql) throws OntoDriverException {
         ensureOpen();
         validateQueryParams(sparql);
+        return executeQuery(querySpec(sparql), isAskQuery(sparql));
+    }
+
+    ResultSet executeQuery(QuerySpecification query, boolean askQuery) throws OntoDriverException {
         closeCurrentResultSet();
-        this.resultSet = determineResult(sparql);
+        this.resultSet = determineResult(query, askQuery);
         return resultSet;
     }
 
-    private ResultSet determineResult(String sparql) throws Rdf4jDriverException {
-        if (isAskQuery(sparql)) {
-            return new AskResultSet(queryExecutor.executeBooleanQuery(querySpec(sparql)), this);
+    private ResultSet determineResult(QuerySpecification query, boolean askQuery) throws Rdf4jDriverException {
+        if (askQuery) {
+            return new AskResultSet(queryExecutor.executeBooleanQuery(query), this);
         } else {
-            final TupleQueryResult tqr = queryExecutor.executeSelectQuery(querySpec(sparql));
+            final TupleQueryResult tqr = queryExecutor.executeSelectQuery(query);
             try {
                 return new SelectResultSet(tqr, this);
             } catch (QueryEvaluationException e) {
@@ -74,7 +78,7 @@ public class Rdf4jStatement implements Statement {
         return QuerySpecification.query(sparql).includeInference(!inferenceDisabled);
     }
 
-    private static boolean isAskQuery(String query) throws Rdf4jDriverException {
+    static boolean isAskQuery(String query) throws Rdf4jDriverException {
         try {
             return QueryParserUtil.parseOperation(QueryLanguage.SPARQL, query, null) instanceof ParsedBooleanQuery;
         } catch (MalformedQueryException e) {
@@ -86,8 +90,12 @@ public class Rdf4jStatement implements Statement {
     public void executeUpdate(String sparql) throws OntoDriverException {
         ensureOpen();
         validateQueryParams(sparql);
+        executeUpdate(querySpec(sparql));
+    }
+
+    void executeUpdate(QuerySpecification update) throws OntoDriverException {
         closeCurrentResultSet();
-        queryExecutor.executeUpdate(querySpec(sparql));
+        queryExecutor.executeUpdate(update);
     }
 
     @Override
@@ -30,6 +30,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.TestRepositoryProvider;
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
@@ -44,6 +45,12 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -446,4 +453,89 @@ class AxiomLoaderTest {
         assertTrue(res.stream().anyMatch(a -> a.getValue().getValue().equals(value)));
         assertTrue(res.stream().anyMatch(a -> a.getValue().getValue().equals(valueTwo)));
     }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsLoadsSameAxiomsAsSeparateLoading() throws Exception {
+        connector.begin();
+        final List<AxiomDescriptor> descriptors = generatedData.individuals.stream().limit(5).map(ind -> {
+            final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(ind));
+            generatedData.values.get(ind).keySet().forEach(desc::addAssertion);
+            return desc;
+        }).toList();
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = axiomLoader.loadAxioms(descriptors);
+        assertEquals(descriptors.size(), result.size());
+        for (AxiomDescriptor desc : descriptors) {
+            final Collection<Axiom<?>> expected = new AxiomLoader(connector, new RuntimeConfiguration(
+                    new DriverConfiguration(TestRepositoryProvider.storageProperties()))).loadAxioms(desc);
+            assertEquals(new HashSet<>(expected), new HashSet<>(result.get(desc.getSubject())));
+        }
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsRetrievesStatementsOfAllSubjectsInSingleCall() throws Exception {
+        final RepoConnection spiedConnector = spy(connector);
+        spiedConnector.begin();
+        final List<AxiomDescriptor> descriptors = generatedData.individuals.stream().limit(3).map(ind -> {
+            final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(ind));
+            desc.addAssertion(Assertion.createUnspecifiedPropertyAssertion(false));
+            return desc;
+        }).toList();
+        final AxiomLoader sut = new AxiomLoader(spiedConnector, new RuntimeConfiguration(
+                new DriverConfiguration(TestRepositoryProvider.storageProperties())));
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = sut.loadAxioms(descriptors);
+        descriptors.forEach(d -> assertEquals(generatedData.getTotalValueCount(d.getSubject().toString()),
+                result.get(d.getSubject()).size()));
+        verify(spiedConnector).findStatements(anyCollection(), eq(Collections.emptySet()), eq(false));
+        verify(spiedConnector, never()).findStatements(anyCollection(), anyCollection(), eq(true));
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsRetrievesOnlyDescriptorPropertiesWhenBelowLoadAllThreshold()
+            throws Exception {
+        final RepoConnection spiedConnector = spy(connector);
+        spiedConnector.begin();
+        final Set<IRI> properties = new HashSet<>();
+        final List<AxiomDescriptor> descriptors = generatedData.individuals.stream().limit(3).map(ind -> {
+            final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(ind));
+            final Assertion assertion = generatedData.values.get(ind).keySet().iterator().next();
+            desc.addAssertion(assertion);
+            properties.add(vf.createIRI(assertion.getIdentifier().toString()));
+            return desc;
+        }).toList();
+        final AxiomLoader sut = new AxiomLoader(spiedConnector, new RuntimeConfiguration(
+                new DriverConfiguration(TestRepositoryProvider.storageProperties())));
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = sut.loadAxioms(descriptors);
+        for (AxiomDescriptor desc : descriptors) {
+            final Collection<Axiom<?>> expected = new AxiomLoader(connector, new RuntimeConfiguration(
+                    new DriverConfiguration(TestRepositoryProvider.storageProperties()))).loadAxioms(desc);
+            assertEquals(new HashSet<>(expected), new HashSet<>(result.get(desc.getSubject())));
+        }
+        verify(spiedConnector, atLeastOnce()).findStatements(anyCollection(),
+                argThat(ps -> !ps.isEmpty() && properties.containsAll(ps)), anyBoolean());
+        verify(spiedConnector, never()).findStatements(anyCollection(), eq(Collections.emptySet()), anyBoolean());
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsLoadsValuesFromContextSpecifiedForAssertion() throws Exception {
+        final String individual = generatedData.individuals.get(0);
+        final Assertion property = generatedData.values.get(individual).keySet().iterator().next();
+        final URI context = Generator.generateUri();
+        final Object value = saveValueIntoContext(individual, property, context.toString());
+        final AxiomDescriptor descOne = new AxiomDescriptor(NamedResource.create(individual));
+        descOne.addAssertion(property);
+        descOne.addAssertionContext(property, context);
+        final String individualTwo = generatedData.individuals.get(1);
+        final AxiomDescriptor descTwo = new AxiomDescriptor(NamedResource.create(individualTwo));
+        generatedData.values.get(individualTwo).keySet().forEach(descTwo::addAssertion);
+        connector.begin();
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = axiomLoader.loadAxioms(List.of(descOne, descTwo));
+        assertEquals(1, result.get(descOne.getSubject()).size());
+        assertEquals(value.toString(),
+                result.get(descOne.getSubject()).iterator().next().getValue().getValue().toString());
+        assertEquals(generatedData.getTotalValueCount(individualTwo), result.get(descTwo.getSubject()).size());
+    }
 }
@@ -33,6 +33,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.SubjectPredicateContext;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.util.TimeOrderedUuidGenerationStrategy;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
@@ -615,6 +616,21 @@ class Rdf4jAdapterTest {
         assertThrows(IdentifierGenerationException.class, () -> adapter.generateIdentifier(clsUri));
     }
 
+    @Test
+    void generateIdentifierDoesNotVerifyUniquenessWhenStrategyGeneratesUniqueIdentifiers() throws Exception {
+        final OntologyStorageProperties sp = OntologyStorageProperties.driver(Rdf4jDataSource.class.getName())
+                                                                      .physicalUri("memory-store").build();
+        final RuntimeConfiguration config = new RuntimeConfiguration(new DriverConfiguration(sp));
+        config.setIdentifierGenerationStrategy(new TimeOrderedUuidGenerationStrategy());
+        this.adapter = new Rdf4jAdapter(connectorMock, config);
+        final URI clsUri = URI.create("http://someClass.cz/class");
+
+        final URI res = adapter.generateIdentifier(clsUri);
+        assertTrue(res.toString().startsWith(clsUri + "/instance"));
+        verify(connectorMock, never()).containsStatement(any(), any(), any(), anyBoolean(), anySet());
+        verify(connectorMock, never()).begin();
+    }
+
     @Test
     void testRemove() throws Exception {
         final AxiomDescriptor desc = new AxiomDescriptor(SUBJECT);
@@ -23,6 +23,7 @@ import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.query.Rdf4jPreparedStatement;
 import cz.cvut.kbss.ontodriver.rdf4j.query.Rdf4jStatement;
@@ -195,6 +196,17 @@ public class Rdf4jConnectionTest {
         verify(adapterMock, never()).find(any(AxiomDescriptor.class));
     }
 
+    @Test
+    public void findAllDelegatesCallToAdapter() throws Exception {
+        final AxiomDescriptor axDesc = new AxiomDescriptor(NamedResource.create(Generator.generateUri()));
+        final Map<NamedResource, Collection<Axiom<?>>> axioms =
+                Map.of(axDesc.getSubject(), List.of(mock(Axiom.class)));
+        when(adapterMock.findAll(anyCollection())).thenReturn(axioms);
+        final Map<NamedResource, Collection<Axiom<?>>> res = connection.findAll(List.of(axDesc));
+        assertEquals(axioms, res);
+        verify(adapterMock).findAll(List.of(axDesc));
+    }
+
     @Test
     public void testPersist() throws Exception {
         final AxiomValueDescriptor axDesc = mock(AxiomValueDescriptor.class);
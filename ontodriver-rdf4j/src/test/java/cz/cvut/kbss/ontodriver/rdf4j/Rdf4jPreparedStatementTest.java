@@ -19,17 +19,24 @@ package cz.cvut.kbss.ontodriver.rdf4j;
 
 import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
 import cz.cvut.kbss.ontodriver.rdf4j.query.Rdf4jPreparedStatement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.net.URI;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -91,4 +98,62 @@ public class Rdf4jPreparedStatementTest {
         assertFalse(rsOne.isOpen());
         assertNotSame(rsOne, rsTwo);
     }
+
+    @Test
+    void executeQueryPassesNonStringParameterValuesAsNativeBindings() throws Exception {
+        when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
+        final String query = "SELECT ?y WHERE { ?x <http://property> ?y . }";
+        initStatement(query);
+        statement.setObject("x", URI.create("http://subject"));
+        statement.executeQuery();
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        verify(executorMock).executeSelectQuery(
+                QuerySpecification.query(query).bindings(Map.of("x", vf.createIRI("http://subject"))));
+    }
+
+    @Test
+    void executeQueryKeepsQueryStringUnchangedWhenOnlyBindingValuesChange() throws Exception {
+        when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
+        final String query = "SELECT ?x WHERE { ?x <http://property> ?y . }";
+        initStatement(query);
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        statement.setObject("y", 117);
+        statement.executeQuery();
+        statement.setObject("y", NamedResource.create("http://object"));
+        statement.executeQuery();
+        verify(executorMock).executeSelectQuery(
+                QuerySpecification.query(query).bindings(Map.of("y", vf.createLiteral(117))));
+        verify(executorMock).executeSelectQuery(
+                QuerySpecification.query(query).bindings(Map.of("y", vf.createIRI("http://object"))));
+    }
+
+    @Test
+    void executeUpdatePassesNonStringParameterValuesAsNativeBindings() throws Exception {
+        final String update = "INSERT { ?x <http://property> ?value } WHERE { ?x a <http://type> }";
+        initStatement(update);
+        statement.setObject("value", "Bill");
+        statement.setObject("value", false);
+        statement.executeUpdate();
+        verify(executorMock).executeUpdate(
+                QuerySpecification.query(update).bindings(Map.of("value", SimpleValueFactory.getInstance()
+                                                                                              .createLiteral(false))));
+    }
+
+    @Test
+    void setObjectThrowsIllegalArgumentExceptionForUnknownNativeBinding() {
+        initStatement("SELECT ?x WHERE { ?x ?y ?z . }");
+        assertThrows(IllegalArgumentException.class, () -> statement.setObject("unknown", URI.create("http://a")));
+    }
+
+    @Test
+    void clearParametersClearsNativeBindings() throws Exception {
+        when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
+        final String query = "SELECT ?x WHERE { ?x ?y ?z . }";
+        initStatement(query);
+        statement.setObject("y", URI.create("http://property"));
+        statement.clearParameters();
+        statement.executeQuery();
+        statement.executeQuery();
+        verify(executorMock, times(2)).executeSelectQuery(QuerySpecification.query(query));
+    }
 }
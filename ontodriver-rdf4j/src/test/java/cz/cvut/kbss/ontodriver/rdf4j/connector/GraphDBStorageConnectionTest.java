@@ -0,0 +1,177 @@
+/*
+ * JOPA
+ * Copyright (C) 2024 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
+import cz.cvut.kbss.ontodriver.rdf4j.loader.GraphDBStatementLoader;
+import cz.cvut.kbss.ontodriver.rdf4j.util.AxiomBuilder;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.inferencer.fc.SchemaCachingRDFSInferencer;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * GraphDB is not available as an embedded repository, so these tests compare the classification done by
+ * {@link GraphDBStorageConnection} over an in-memory repository which mirrors the GraphDB {@code explicit} and
+ * {@code implicit} pseudo-graphs with the classification of the same data done by an RDFS inferencing repository.
+ */
+class GraphDBStorageConnectionTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final IRI GRAPHDB_EXPLICIT = VF.createIRI("http://www.ontotext.com/explicit");
+    private static final IRI GRAPHDB_IMPLICIT = VF.createIRI("http://www.ontotext.com/implicit");
+
+    private final IRI contextOne = VF.createIRI(Generator.generateUri().toString());
+    private final IRI contextTwo = VF.createIRI(Generator.generateUri().toString());
+    private final IRI instance = VF.createIRI(Generator.generateUri().toString());
+    private final IRI childType = VF.createIRI(Generator.generateUri().toString());
+    private final IRI parentType = VF.createIRI(Generator.generateUri().toString());
+    private final IRI grandParentType = VF.createIRI(Generator.generateUri().toString());
+    private final IRI otherType = VF.createIRI(Generator.generateUri().toString());
+
+    private Repository inferencingRepository;
+    private Repository graphDbLikeRepository;
+
+    private GraphDBStorageConnection sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.inferencingRepository = new SailRepository(new SchemaCachingRDFSInferencer(new MemoryStore()));
+        try (final RepositoryConnection conn = inferencingRepository.getConnection()) {
+            conn.add(childType, RDFS.SUBCLASSOF, parentType);
+            conn.add(parentType, RDFS.SUBCLASSOF, grandParentType);
+            conn.add(instance, RDF.TYPE, childType, contextOne);
+            conn.add(instance, RDFS.LABEL, VF.createLiteral("Default"));
+            conn.add(instance, RDFS.LABEL, VF.createLiteral("Context two"), contextTwo);
+            conn.add(instance, RDF.TYPE, otherType, contextTwo);
+            // Both asserted and inferred
+            conn.add(instance, RDF.TYPE, parentType, contextOne);
+            // Both in the default and a named context
+            conn.add(instance, RDFS.COMMENT, VF.createLiteral("Duplicated"));
+            conn.add(instance, RDFS.COMMENT, VF.createLiteral("Duplicated"), contextOne);
+        }
+        this.graphDbLikeRepository = new SailRepository(new MemoryStore());
+        try (final RepositoryConnection source = inferencingRepository.getConnection();
+             final RepositoryConnection target = graphDbLikeRepository.getConnection()) {
+            final Set<Statement> explicit = explicitTriples(source);
+            source.getStatements(null, null, null, false).forEach(s -> {
+                target.add(s);
+                target.add(s.getSubject(), s.getPredicate(), s.getObject(), GRAPHDB_EXPLICIT);
+            });
+            source.getStatements(null, null, null, true).stream().map(GraphDBStorageConnectionTest::triple)
+                  .filter(s -> !explicit.contains(s)).distinct()
+                  .forEach(s -> target.add(s.getSubject(), s.getPredicate(), s.getObject(), GRAPHDB_IMPLICIT));
+        }
+        final StorageConnector connector = mock(StorageConnector.class);
+        doAnswer(inv -> graphDbLikeRepository.getConnection()).when(connector).acquireConnection();
+        when(connector.getValueFactory()).thenReturn(VF);
+        this.sut = new GraphDBStorageConnection(connector, null);
+    }
+
+    private static Set<Statement> explicitTriples(RepositoryConnection conn) {
+        return conn.getStatements(null, null, null, false).stream().map(GraphDBStorageConnectionTest::triple)
+                   .collect(Collectors.toSet());
+    }
+
+    private static Statement triple(Statement s) {
+        return VF.createStatement(s.getSubject(), s.getPredicate(), s.getObject());
+    }
+
+    @AfterEach
+    void tearDown() {
+        inferencingRepository.shutDown();
+        graphDbLikeRepository.shutDown();
+    }
+
+    @Test
+    void findClassifiedStatementsReturnsSameStatementsAsInferencingRepository() throws Exception {
+        final ClassifiedStatements result = sut.findClassifiedStatements(instance);
+
+        try (final RepositoryConnection conn = inferencingRepository.getConnection()) {
+            final Set<Statement> expectedExplicit =
+                    new HashSet<>(conn.getStatements(instance, null, null, false).stream().toList());
+            final Set<Statement> explicitTriples =
+                    expectedExplicit.stream().map(GraphDBStorageConnectionTest::triple).collect(Collectors.toSet());
+            final Set<Statement> expectedInferred =
+                    conn.getStatements(instance, null, null, true).stream().map(GraphDBStorageConnectionTest::triple)
+                        .filter(s -> !explicitTriples.contains(s)).collect(Collectors.toSet());
+            assertEquals(expectedExplicit.size(), result.explicit().size());
+            assertEquals(expectedExplicit, new HashSet<>(result.explicit()));
+            assertEquals(expectedInferred.size(), result.inferred().size());
+            assertEquals(expectedInferred, new HashSet<>(result.inferred()));
+        }
+    }
+
+    @Test
+    void loadAxiomsFromClassifiedStatementsLoadsValuesOnlyFromAssertionContexts() throws Exception {
+        final Assertion types = Assertion.createClassAssertion(true);
+        final Assertion label = Assertion.createAnnotationPropertyAssertion(URI.create(RDFS.LABEL.stringValue()),
+                false);
+        final NamedResource subject = NamedResource.create(instance.stringValue());
+        final AxiomDescriptor descriptor = new AxiomDescriptor(subject);
+        descriptor.addAssertion(types);
+        descriptor.addAssertion(label);
+        descriptor.addAssertionContext(types, URI.create(contextOne.stringValue()));
+        descriptor.addAssertionContext(label, URI.create(contextTwo.stringValue()));
+        final Map<IRI, Assertion> explicitAssertions = Map.of(RDFS.LABEL, label);
+        final Map<IRI, Assertion> inferredAssertions = Map.of(RDF.TYPE, types);
+        final AxiomBuilder axiomBuilder = new AxiomBuilder(subject, Map.of(RDFS.LABEL, label, RDF.TYPE, types),
+                Assertion.createUnspecifiedPropertyAssertion(false));
+
+        final Collection<Axiom<?>> result =
+                new GraphDBStatementLoader(sut, instance, axiomBuilder).loadAxioms(descriptor, explicitAssertions,
+                        inferredAssertions);
+        // Explicit types from other contexts must not leak into the inferred attribute
+        final Set<String> typeValues = result.stream().filter(a -> a.getAssertion().equals(types))
+                                             .map(a -> a.getValue().stringValue())
+                                             .collect(Collectors.toSet());
+        assertEquals(Set.of(childType.stringValue(), parentType.stringValue(), grandParentType.stringValue(),
+                RDFS.RESOURCE.stringValue()), typeValues);
+        final Set<String> labelValues = result.stream().filter(a -> a.getAssertion().equals(label))
+                                              .map(a -> a.getValue().stringValue())
+                                              .collect(Collectors.toSet());
+        assertEquals(Set.of("Context two"), labelValues);
+    }
+}
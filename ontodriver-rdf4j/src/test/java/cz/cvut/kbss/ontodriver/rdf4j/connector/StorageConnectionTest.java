@@ -21,6 +21,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
@@ -35,9 +36,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -92,6 +98,84 @@ class StorageConnectionTest {
         }
     }
 
+    @Test
+    void findClassifiedStatementsSplitsSubjectStatementsIntoExplicitAndInferred() throws Exception {
+        this.repository = new SailRepository(new SchemaCachingRDFSInferencer(new MemoryStore()));
+        final StorageConnector connector = mock(StorageConnector.class);
+        doAnswer(inv -> repository.getConnection()).when(connector).acquireConnection();
+        this.sut = new StorageConnection(connector, null);
+
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final IRI childType = vf.createIRI(Generator.generateUri().toString());
+        final IRI parentType = vf.createIRI(Generator.generateUri().toString());
+        final IRI instance = vf.createIRI(Generator.generateUri().toString());
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            conn.add(childType, RDFS.SUBCLASSOF, parentType);
+            conn.add(instance, RDF.TYPE, childType);
+        }
+
+        final ClassifiedStatements result = sut.findClassifiedStatements(instance);
+        assertEquals(List.of(vf.createStatement(instance, RDF.TYPE, childType)), List.copyOf(result.explicit()));
+        assertTrue(result.inferred().contains(vf.createStatement(instance, RDF.TYPE, parentType)));
+        assertFalse(result.inferred().contains(vf.createStatement(instance, RDF.TYPE, childType)));
+    }
+
+    @Test
+    void findStatementsOfMultipleSubjectsReturnsSameTriplesAsSubjectLookupsAcrossBatches() throws Exception {
+        this.repository = new SailRepository(new MemoryStore());
+        final StorageConnector connector = mock(StorageConnector.class);
+        doAnswer(inv -> repository.getConnection()).when(connector).acquireConnection();
+        this.sut = new StorageConnection(connector, null);
+
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final IRI context = vf.createIRI(Generator.generateUri().toString());
+        final IRI type = vf.createIRI(Generator.generateUri().toString());
+        final List<IRI> subjects = new ArrayList<>();
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            for (int i = 0; i < StorageConnection.SUBJECT_BATCH_SIZE + 10; i++) {
+                final IRI subject = vf.createIRI(Generator.generateUri().toString());
+                subjects.add(subject);
+                conn.add(subject, RDF.TYPE, type);
+                conn.add(subject, RDFS.LABEL, vf.createLiteral("Subject " + i), context);
+                if (i % 2 == 0) {
+                    // Same triple in the default and a named context
+                    conn.add(subject, RDF.TYPE, type, context);
+                }
+            }
+        }
+
+        final Set<Statement> expected = new HashSet<>();
+        for (IRI subject : subjects) {
+            sut.findStatements(subject, null, null, false)
+               .forEach(s -> expected.add(vf.createStatement(s.getSubject(), s.getPredicate(), s.getObject())));
+        }
+        final Collection<Statement> result = sut.findStatements(subjects, Collections.emptySet(), false);
+        assertEquals(expected, new HashSet<>(result));
+    }
+
+    @Test
+    void findStatementsOfMultipleSubjectsReturnsOnlyStatementsWithSpecifiedProperties() throws Exception {
+        this.repository = new SailRepository(new MemoryStore());
+        final StorageConnector connector = mock(StorageConnector.class);
+        doAnswer(inv -> repository.getConnection()).when(connector).acquireConnection();
+        this.sut = new StorageConnection(connector, null);
+
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final IRI type = vf.createIRI(Generator.generateUri().toString());
+        final List<IRI> subjects = List.of(vf.createIRI(Generator.generateUri().toString()),
+                vf.createIRI(Generator.generateUri().toString()));
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            subjects.forEach(subject -> {
+                conn.add(subject, RDF.TYPE, type);
+                conn.add(subject, RDFS.LABEL, vf.createLiteral("Subject"));
+            });
+        }
+
+        final Collection<Statement> result = sut.findStatements(subjects, Set.of(RDF.TYPE), false);
+        assertEquals(Set.of(vf.createStatement(subjects.get(0), RDF.TYPE, type),
+                vf.createStatement(subjects.get(1), RDF.TYPE, type)), new HashSet<>(result));
+    }
+
     @Test
     void beginUsesConfiguredTransactionIsolationLevel() throws Exception {
         this.repository = new SailRepository(new MemoryStore());
@@ -29,6 +29,7 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Vocabulary;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
@@ -48,9 +49,12 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +68,7 @@ import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.NEXT_NODE
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.OWNER;
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.generateList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -124,6 +129,30 @@ public class ReferencedListHandlerTest {
             removed.addAll(arg);
             return null;
         }).when(connector).removeStatements(anyCollection());
+        when(connector.findStatements(any(QuerySpecification.class))).thenAnswer(inv -> emulateListQuery());
+    }
+
+    /**
+     * Emulates the list loading query by following the list statements stubbed for individual list nodes.
+     */
+    private Collection<Statement> emulateListQuery() throws Exception {
+        final List<Statement> result = new ArrayList<>(
+                connector.findStatements(owner, hasListProperty, null, false, Collections.emptySet()));
+        final Set<Resource> visited = new HashSet<>();
+        final Deque<Statement> toVisit = new ArrayDeque<>(result);
+        while (!toVisit.isEmpty()) {
+            final Value node = toVisit.pop().getObject();
+            if (!node.isResource() || !visited.add((Resource) node)) {
+                continue;
+            }
+            result.addAll(connector.findStatements((Resource) node, nodeContentProperty, null, false,
+                    Collections.emptySet()));
+            final Collection<Statement> next =
+                    connector.findStatements((Resource) node, nextNodeProperty, null, false, Collections.emptySet());
+            result.addAll(next);
+            toVisit.addAll(next);
+        }
+        return result;
     }
 
     @Test
@@ -132,6 +161,7 @@ public class ReferencedListHandlerTest {
         final List<URI> listNodes = initListNodes(refList);
         initStatementsForList(listNodes, refList);
         final Collection<Axiom<?>> res = sut.loadList(listDescriptor);
+        verify(connector).findStatements(any(QuerySpecification.class));
         assertEquals(refList.size(), res.size());
         for (Axiom<?> a : res) {
             assertInstanceOf(NamedResource.class, a.getValue().getValue());
@@ -139,6 +169,18 @@ public class ReferencedListHandlerTest {
         }
     }
 
+    @Test
+    public void loadListQueryRetrievesListNodesAndTheirContent() throws Exception {
+        sut.loadList(listDescriptor);
+
+        final ArgumentCaptor<QuerySpecification> captor = ArgumentCaptor.forClass(QuerySpecification.class);
+        verify(connector).findStatements(captor.capture());
+        final String query = captor.getValue().getQuery();
+        final String listNodes = "<" + OWNER.getIdentifier() + "> <" + LIST_PROPERTY + ">/<" + NEXT_NODE_PROPERTY + ">* ?s";
+        assertThat(query, containsString(listNodes + " . ?s <" + NEXT_NODE_PROPERTY + "> ?o"));
+        assertThat(query, containsString(listNodes + " . ?s <" + ListHandlerTestHelper.NODE_CONTENT_PROPERTY + "> ?o"));
+    }
+
     private List<URI> initListNodes(List<?> content) {
         final List<URI> nodes = new ArrayList<>();
         for (int i = 0; i < content.size(); i++) {
@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.ontodriver.rdf4j.list;
 
+import cz.cvut.kbss.ontodriver.descriptor.ListEdit;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
@@ -24,13 +25,19 @@ import cz.cvut.kbss.ontodriver.model.AxiomImpl;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Vocabulary;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -215,4 +222,89 @@ public class ReferencedListHandlerWithStorageTest extends ListHandlerWithStorage
         }
         updateAndCheck(updated);
     }
+
+    @Test
+    public void updateListAppliesEditsWithoutRewritingUnaffectedNodes() throws Exception {
+        final ReferencedListValueDescriptor<NamedResource> original = persistOriginalList();
+        final List<Axiom<?>> originalNodes = handler.loadList(original);
+
+        final ReferencedListValueDescriptor<NamedResource> updated = initValues(0);
+        final NamedResource prepended = NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Prepended");
+        final NamedResource replacement = NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Replacement");
+        updated.addValue(prepended);
+        for (int i = 0; i < original.getValues().size(); i++) {
+            if (i == 5) {
+                continue;
+            }
+            updated.addValue(i == 2 ? replacement : original.getValues().get(i));
+        }
+        updated.addEdit(ListEdit.insert(0, List.of(prepended)));
+        updated.addEdit(ListEdit.set(3, replacement));
+        updated.addEdit(ListEdit.remove(6));
+
+        handler.updateList(updated);
+        connector.commit();
+        connector.begin();
+        final List<Axiom<?>> result = handler.loadList(updated);
+        assertEquals(updated.getValues(), result.stream().map(ax -> ax.getValue().getValue()).toList());
+        // Nodes of the original elements are preserved, only their order is changed
+        final List<NamedResource> expectedNodes = new ArrayList<>();
+        originalNodes.forEach(ax -> expectedNodes.add(ax.getSubject()));
+        expectedNodes.remove(5);
+        assertEquals(expectedNodes, result.subList(1, result.size()).stream().map(Axiom::getSubject).toList());
+    }
+
+    @Test
+    public void updateListAppliesAppendEditToNilTerminatedList() throws Exception {
+        final ReferencedListValueDescriptor<NamedResource> original = initNilTerminatedValues(5);
+        handler.persistList(original);
+        connector.commit();
+        connector.begin();
+
+        final ReferencedListValueDescriptor<NamedResource> updated = initNilTerminatedValues(5);
+        final NamedResource appended = NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Appended");
+        updated.addValue(appended);
+        updated.addEdit(ListEdit.insert(5, List.of(appended)));
+
+        handler.updateList(updated);
+        connector.commit();
+        connector.begin();
+        final List<Axiom<?>> result = handler.loadList(updated);
+        assertEquals(updated.getValues(), result.stream().map(ax -> ax.getValue().getValue()).toList());
+        final Resource last = connector.getValueFactory().createIRI(result.get(4).getSubject().getIdentifier().toString());
+        final IRI hasNext = connector.getValueFactory().createIRI(NEXT_NODE_PROPERTY);
+        assertFalse(connector.containsStatement(last, hasNext, RDF.NIL, false, Collections.emptySet()));
+        final Resource newLast = connector.getValueFactory().createIRI(result.get(5).getSubject().getIdentifier().toString());
+        assertTrue(connector.containsStatement(newLast, hasNext, RDF.NIL, false, Collections.emptySet()));
+    }
+
+    private ReferencedListValueDescriptor<NamedResource> initNilTerminatedValues(int count) {
+        final ReferencedListValueDescriptor<NamedResource> desc = new ReferencedListValueDescriptor<>(OWNER,
+                Assertion.createObjectPropertyAssertion(URI.create(LIST_PROPERTY), false),
+                Assertion.createObjectPropertyAssertion(URI.create(NEXT_NODE_PROPERTY), false),
+                Assertion.createObjectPropertyAssertion(URI.create(NODE_CONTENT_PROPERTY), false), true);
+        for (int i = 0; i < count; i++) {
+            desc.addValue(NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "EntityA_" + i));
+        }
+        return desc;
+    }
+
+    @Test
+    public void updateListMergesWholeListWhenEditsDoNotCorrespondToStoredList() throws Exception {
+        final ReferencedListValueDescriptor<NamedResource> original = persistOriginalList();
+
+        final ReferencedListValueDescriptor<NamedResource> updated = initValues(0);
+        for (int i = 0; i < original.getValues().size() + 2; i++) {
+            updated.addValue(NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Replacement_" + i));
+        }
+        // Edit log is out of bounds of the stored list
+        updated.addEdit(ListEdit.set(original.getValues().size() + 1, updated.getValues().get(0)));
+        updated.addEdit(ListEdit.insert(0, List.of(updated.getValues().get(1), updated.getValues().get(2))));
+
+        handler.updateList(updated);
+        connector.commit();
+        connector.begin();
+        final List<Axiom<?>> result = handler.loadList(updated);
+        assertEquals(updated.getValues(), result.stream().map(ax -> ax.getValue().getValue()).toList());
+    }
 }
@@ -25,8 +25,10 @@ import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Vocabulary;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
@@ -38,6 +40,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -46,26 +49,27 @@ import org.mockito.quality.Strictness;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.LIST_PROPERTY;
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.NEXT_NODE_PROPERTY;
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.OWNER;
 import static cz.cvut.kbss.ontodriver.rdf4j.list.ListHandlerTestHelper.generateList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anySet;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -136,7 +140,8 @@ public class SimpleListHandlerTest {
         initStatementsForList(simpleList);
 
         final Collection<Axiom<NamedResource>> res = handler.loadList(listDescriptor);
-        verify(connector).findStatements(owner, hasListProperty, null, false, Collections.emptySet());
+        verify(connector).findStatements(any(QuerySpecification.class));
+        verify(connector, never()).findStatements(any(Resource.class), any(), any(), anyBoolean(), anySet());
         assertEquals(simpleList.size(), res.size());
         int i = 0;
         for (Axiom<?> ax : res) {
@@ -158,53 +163,68 @@ public class SimpleListHandlerTest {
             statements.add(stmt);
             subject = value;
         }
+        // Shuffle to verify the list is reassembled regardless of the order of the query results
+        final List<Statement> queryResult = new ArrayList<>(statements);
+        Collections.shuffle(queryResult);
+        when(connector.findStatements(any(QuerySpecification.class))).thenReturn(queryResult);
         return statements;
     }
 
+    @Test
+    public void loadListQueryFollowsListFromOwnerInListContext() throws Exception {
+        final java.net.URI context = Generator.generateUri();
+        listDescriptor.setContext(context);
+        handler.loadList(listDescriptor);
+
+        final ArgumentCaptor<QuerySpecification> captor = ArgumentCaptor.forClass(QuerySpecification.class);
+        verify(connector).findStatements(captor.capture());
+        final String query = captor.getValue().getQuery();
+        assertThat(query, containsString("GRAPH <" + context + ">"));
+        assertThat(query, containsString("<" + OWNER.getIdentifier() + "> <" + LIST_PROPERTY + ">/<" +
+                NEXT_NODE_PROPERTY + ">* ?s"));
+        assertFalse(captor.getValue().isIncludeInference());
+    }
+
     @Test
     public void throwsICViolationExceptionWhenMultipleHasListValuesFound() throws Exception {
-        final Collection<Statement> stmts = new HashSet<>();
-        stmts.add(mock(Statement.class));
-        stmts.add(mock(Statement.class));
-        when(connector.findStatements(owner, hasListProperty, null, false, Collections.emptySet())).thenReturn(stmts);
+        when(connector.findStatements(any(QuerySpecification.class))).thenReturn(List.of(
+                vf.createStatement(owner, hasListProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "a")),
+                vf.createStatement(owner, hasListProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "b"))));
 
         assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(listDescriptor));
-        verify(connector, never())
-                .findStatements(any(Resource.class), eq(nextNodeProperty), any(Value.class), any(Boolean.class),
-                        anySet());
     }
 
     @Test
     public void throwsICViolationExceptionWhenMultipleNodeSuccessorsAreFound() throws Exception {
-        final Collection<Statement> stmts = new HashSet<>();
-        stmts.add(mock(Statement.class));
-        stmts.add(mock(Statement.class));
         final Resource firstElem = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "firstElem");
-        final Statement firstStmt = vf.createStatement(owner, hasListProperty, firstElem);
-
-        when(connector.findStatements(owner, hasListProperty, null, false, Collections.emptySet()))
-                .thenReturn(Collections.singleton(firstStmt));
-        when(connector.findStatements(firstElem, nextNodeProperty, null, false, Collections.emptySet()))
-                .thenReturn(stmts);
+        when(connector.findStatements(any(QuerySpecification.class))).thenReturn(List.of(
+                vf.createStatement(owner, hasListProperty, firstElem),
+                vf.createStatement(firstElem, nextNodeProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "a")),
+                vf.createStatement(firstElem, nextNodeProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "b"))));
 
         assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(listDescriptor));
-        verify(connector).findStatements(owner, hasListProperty, null, false, Collections.emptySet());
     }
 
     @Test
     public void throwsICViolationExceptionWhenLiteralIsFoundInList() throws Exception {
         final Resource firstElem = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "firstElem");
-        final Statement firstStmt = vf.createStatement(owner, hasListProperty, firstElem);
-        when(connector.findStatements(owner, hasListProperty, null, false, Collections.emptySet()))
-                .thenReturn(Collections.singleton(firstStmt));
-        final Statement nextStmt = vf.createStatement(firstElem, nextNodeProperty,
-                vf.createLiteral(System.currentTimeMillis()));
-        when(connector.findStatements(firstElem, nextNodeProperty, null, false, Collections.emptySet()))
-                .thenReturn(Collections.singleton(nextStmt));
+        when(connector.findStatements(any(QuerySpecification.class))).thenReturn(List.of(
+                vf.createStatement(owner, hasListProperty, firstElem),
+                vf.createStatement(firstElem, nextNodeProperty, vf.createLiteral(System.currentTimeMillis()))));
+
+        assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(listDescriptor));
+    }
+
+    @Test
+    public void throwsICViolationExceptionWhenListContainsCycle() throws Exception {
+        final Resource firstElem = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "firstElem");
+        final Resource secondElem = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "secondElem");
+        when(connector.findStatements(any(QuerySpecification.class))).thenReturn(List.of(
+                vf.createStatement(owner, hasListProperty, firstElem),
+                vf.createStatement(firstElem, nextNodeProperty, secondElem),
+                vf.createStatement(secondElem, nextNodeProperty, firstElem)));
 
         assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(listDescriptor));
-        verify(connector).findStatements(owner, hasListProperty, null, false, Collections.emptySet());
-        verify(connector).findStatements(firstElem, nextNodeProperty, null, false, Collections.emptySet());
     }
 
     @Test
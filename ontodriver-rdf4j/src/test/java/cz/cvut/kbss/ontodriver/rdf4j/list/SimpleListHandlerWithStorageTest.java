@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.ontodriver.rdf4j.list;
 
+import cz.cvut.kbss.ontodriver.descriptor.ListEdit;
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -241,4 +243,44 @@ public class SimpleListHandlerWithStorageTest extends ListHandlerWithStorageTest
         sut.updateList(updatedSecond);
         verifyListContent(axioms, sut.loadList(updatedSecond));
     }
+
+    @Test
+    public void updateListAppliesEditsToStoredList() throws Exception {
+        final SimpleListValueDescriptor original = persistOriginalList();
+
+        final SimpleListValueDescriptor updated = initValues(0);
+        final NamedResource added = NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "added");
+        updated.addValue(added);
+        for (int i = 0; i < original.getValues().size(); i++) {
+            if (i != 3) {
+                updated.addValue(original.getValues().get(i));
+            }
+        }
+        updated.addEdit(ListEdit.insert(0, List.of(added)));
+        updated.addEdit(ListEdit.remove(4));
+
+        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(updated);
+        sut.updateList(updated);
+        connector.commit();
+        connector.begin();
+        verifyListContent(axioms, sut.loadList(updated));
+    }
+
+    @Test
+    public void updateListMergesWholeListWhenEditsDoNotCorrespondToStoredList() throws Exception {
+        final SimpleListValueDescriptor original = persistOriginalList();
+
+        final SimpleListValueDescriptor updated = initValues(0);
+        for (int i = 0; i < original.getValues().size() - 2; i++) {
+            updated.addValue(original.getValues().get(i));
+        }
+        // Edit log says only one element was removed
+        updated.addEdit(ListEdit.remove(0));
+
+        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(updated);
+        sut.updateList(updated);
+        connector.commit();
+        connector.begin();
+        verifyListContent(axioms, sut.loadList(updated));
+    }
 }
@@ -20,6 +20,7 @@ package cz.cvut.kbss.ontodriver.rdf4j.loader;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.rdf4j.connector.ClassifiedStatements;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.RepoConnection;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.util.AxiomBuilder;
@@ -37,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URI;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -45,9 +47,12 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -155,6 +160,33 @@ class GraphDBStatementLoaderTest {
                 not(hasItem(VF.createIRI(GraphDBStatementLoader.GRAPHDB_EXPLICIT_CONTEXT.toString()))));
     }
 
+    @Test
+    void loadAxiomsLoadsExplicitAndInferredValuesFromSingleClassifiedStatementsRequest() throws Exception {
+        final IRI subjectIri = VF.createIRI(SUBJECT);
+        final Assertion explicitAssertion = Assertion.createDataPropertyAssertion(Generator.generateUri(), false);
+        final Assertion inferredAssertion = Assertion.createDataPropertyAssertion(Generator.generateUri(), true);
+        final AxiomDescriptor descriptor = new AxiomDescriptor(NamedResource.create(SUBJECT));
+        descriptor.addAssertion(explicitAssertion);
+        descriptor.addAssertion(inferredAssertion);
+        final IRI explicitProperty = VF.createIRI(explicitAssertion.getIdentifier().toString());
+        final IRI inferredProperty = VF.createIRI(inferredAssertion.getIdentifier().toString());
+        final Statement explicitValue = VF.createStatement(subjectIri, explicitProperty, VF.createLiteral(1), null);
+        final Statement inferredExplicitValue =
+                VF.createStatement(subjectIri, explicitProperty, VF.createLiteral(2), null);
+        final Statement inferredValue = VF.createStatement(subjectIri, inferredProperty, VF.createLiteral(3), null);
+        when(connector.findClassifiedStatements(subjectIri)).thenReturn(
+                new ClassifiedStatements(List.of(explicitValue), List.of(inferredExplicitValue, inferredValue)));
+
+        sut.loadAxioms(descriptor, Map.of(explicitProperty, explicitAssertion),
+                Map.of(inferredProperty, inferredAssertion));
+        verify(connector).findClassifiedStatements(subjectIri);
+        verify(connector, never()).findStatements(any(), any(), any(), anyBoolean());
+        verify(connector, never()).findStatements(any(), any(), any(), anyBoolean(), anySet());
+        verify(axiomBuilder).statementToAxiom(explicitValue);
+        verify(axiomBuilder, never()).statementToAxiom(inferredExplicitValue);
+        verify(axiomBuilder).statementToAxiom(inferredValue);
+    }
+
     @Test
     void contextMatchesReturnsTrueForInferredAssertionAndStatementInDefaultContext() {
         final IRI subjectIri = VF.createIRI(SUBJECT);